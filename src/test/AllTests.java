@@ -26,7 +26,12 @@ public class AllTests {
         System.out.println("\n📌 TodoCsvRepository 테스트");
         System.out.println("----------------------------------------");
         TodoCsvRepositoryTest.main(args);
-        
+
+        // TodoShardedRepository 테스트
+        System.out.println("\n📌 TodoShardedRepository 테스트");
+        System.out.println("----------------------------------------");
+        TodoShardedRepositoryTest.main(args);
+
         System.out.println("\n========================================");
         System.out.println("✨ 모든 테스트 실행 완료");
         System.out.println("========================================");
@@ -1,6 +1,7 @@
 package test;
 
 import todo.domain.Todo;
+import todo.domain.TodoChange;
 import todo.domain.TodoFilter;
 import todo.infrastructure.TodoCsvRepository;
 import java.io.File;
@@ -32,6 +33,15 @@ public class TodoCsvRepositoryTest {
         testCsvFormat();
         testFileCorruption();
         testConcurrentAccess();
+        testPollChanges();
+        testPollChangesEditAndAppend();
+        testSaveConflict();
+        testArchiveConflict();
+        testDictionaryMode();
+        testDueDateParsing();
+        testLargeFileScan();
+        testSnapshot();
+        testFlightRecorderEvents();
         
         // 테스트 파일 정리
         cleanupTestFile();
@@ -283,14 +293,375 @@ public class TodoCsvRepositoryTest {
         TestRunner.assertTrue(foundRepo2Todo, "다른 인스턴스의 추가 사항 확인");
     }
     
+    /**
+     * 외부 변경 감지 테스트 (꼬리 증분 파싱과 전체 재로드)
+     */
+    private static void testPollChanges() {
+        TestRunner.startTest("외부 변경 감지");
+        cleanupTestFile();
+        
+        TodoCsvRepository repo = new TodoCsvRepository(TEST_FILE);
+        List<Todo> todos = new java.util.ArrayList<>();
+        todos.add(new Todo("기존", "설명"));
+        repo.save(todos);
+        TestRunner.assertNull(repo.pollChanges(), "자신의 저장은 외부 변경이 아님");
+        
+        repo.save(new Todo("내가 추가", "설명"));
+        TestRunner.assertNull(repo.pollChanges(), "자신의 추가도 외부 변경이 아님");
+        
+        // 다른 인스턴스가 끝에 추가
+        new TodoCsvRepository(TEST_FILE).save(new Todo("외부 추가", "설명"));
+        TodoChange appended = repo.pollChanges();
+        TestRunner.assertNotNull(appended, "외부 추가 감지");
+        TestRunner.assertFalse(appended.isReloaded(), "추가만 된 경우 꼬리만 파싱");
+        TestRunner.assertEquals(1, appended.getTodos().size(), "추가된 줄만 반환");
+        TestRunner.assertEquals("외부 추가", appended.getTodos().get(0).getTitle(), "추가된 Todo 확인");
+        TestRunner.assertNull(repo.pollChanges(), "반영 후에는 변경 없음");
+        
+        // 다른 인스턴스가 파일 전체를 다시 씀
+        List<Todo> rewritten = new java.util.ArrayList<>();
+        rewritten.add(new Todo("새 목록", "설명"));
+        new TodoCsvRepository(TEST_FILE).save(rewritten);
+        TodoChange reloaded = repo.pollChanges();
+        TestRunner.assertNotNull(reloaded, "다시 쓰기 감지");
+        TestRunner.assertTrue(reloaded.isReloaded(), "다시 쓴 경우 전체 재로드");
+        TestRunner.assertEquals(1, reloaded.getTodos().size(), "새 목록 전체 반환");
+    }
+    
+    /**
+     * 같은 길이로 앞부분을 고치고 끝에 줄을 덧붙인 변경은 꼬리만 파싱하지 않고 전체 재로드
+     */
+    private static void testPollChangesEditAndAppend() {
+        TestRunner.startTest("앞부분 수정과 추가가 함께 일어난 외부 변경");
+        cleanupTestFile();
+        
+        TodoCsvRepository repo = new TodoCsvRepository(TEST_FILE);
+        List<Todo> todos = new java.util.ArrayList<>();
+        todos.add(new Todo("teh first", "desc"));
+        for (int i = 0; i < 5; i++) {
+            todos.add(new Todo("row " + i, "a description long enough to push the first row out of the tail"));
+        }
+        repo.save(todos);
+        
+        // 다른 프로세스가 첫 줄을 같은 길이로 고치고 한 줄을 덧붙임
+        writeFile(TEST_FILE, readFile(TEST_FILE).replace("teh", "the") + "\"third\",\"desc\",false\n");
+        TodoChange change = repo.pollChanges();
+        TestRunner.assertNotNull(change, "외부 변경 감지");
+        TestRunner.assertTrue(change.isReloaded(), "앞부분이 바뀌었으면 전체 재로드");
+        TestRunner.assertEquals(7, change.getTodos().size(), "새 목록 전체 반환");
+        TestRunner.assertEquals("the first", change.getTodos().get(0).getTitle(), "고친 첫 줄 반영");
+        
+        // 재로드한 목록으로 저장해도 외부 수정이 보존됨
+        TestRunner.assertTrue(repo.save(change.getTodos()), "재로드 후 저장 성공");
+        TestRunner.assertEquals("the first", new TodoCsvRepository(TEST_FILE).load().get(0).getTitle(), "외부 수정 보존");
+    }
+    
+    /**
+     * 버전 스탬프 충돌 테스트
+     */
+    private static void testSaveConflict() {
+        TestRunner.startTest("저장 충돌 감지");
+        cleanupTestFile();
+        
+        TodoCsvRepository repoA = new TodoCsvRepository(TEST_FILE);
+        TodoCsvRepository repoB = new TodoCsvRepository(TEST_FILE);
+        List<Todo> initial = new java.util.ArrayList<>();
+        initial.add(new Todo("공통", "설명"));
+        TestRunner.assertTrue(repoA.save(initial), "첫 저장 성공");
+        repoB.load();
+        
+        List<Todo> fromB = new java.util.ArrayList<>(initial);
+        fromB.add(new Todo("B의 변경", "설명"));
+        TestRunner.assertTrue(repoB.save(fromB), "최신 상태에서 저장 성공");
+        
+        List<Todo> fromA = new java.util.ArrayList<>(initial);
+        fromA.add(new Todo("A의 변경", "설명"));
+        TestRunner.assertFalse(repoA.save(fromA), "오래된 스탬프로 덮어쓰기 거부");
+        TestRunner.assertEquals("B의 변경", repoA.load().get(1).getTitle(), "B의 변경이 보존됨");
+        
+        // 한 줄 추가는 충돌 없이 덧붙여짐
+        repoA.save(new Todo("A의 추가", "설명"));
+        repoB.save(new Todo("B의 추가", "설명"));
+        TestRunner.assertEquals(4, repoA.load().size(), "동시 추가는 모두 보존됨");
+    }
+    
     /**
      * 테스트용 CSV 파일 정리
      */
+    /**
+     * 충돌로 저장하지 못한 보관은 보관 파일에도 남지 않는지 테스트
+     */
+    private static void testArchiveConflict() {
+        TestRunner.startTest("보관 충돌 시 중복 보관 없음");
+        cleanupTestFile();
+        
+        TodoCsvRepository repoA = new TodoCsvRepository(TEST_FILE);
+        TodoCsvRepository repoB = new TodoCsvRepository(TEST_FILE);
+        Todo done = new Todo("끝난 일", "설명");
+        done.setCompleted(true);
+        Todo open = new Todo("남은 일", "설명");
+        TestRunner.assertTrue(repoA.save(List.of(done, open)), "첫 저장 성공");
+        List<Todo> fromB = repoB.load();
+        fromB.add(new Todo("B의 변경", "설명"));
+        TestRunner.assertTrue(repoB.save(fromB), "다른 저장소가 먼저 저장");
+        
+        TestRunner.assertFalse(repoA.archive(List.of(done), List.of(open)), "오래된 스탬프로 보관 거부");
+        TestRunner.assertEquals(3, repoA.load(TodoFilter.ALL, true).size(), "충돌한 보관은 보관 파일에 남지 않음");
+        
+        List<Todo> latest = repoA.load();
+        TestRunner.assertTrue(repoA.archive(List.of(latest.get(0)), latest.subList(1, latest.size())), "다시 로드 후 보관 성공");
+        List<Todo> all = repoA.load(TodoFilter.ALL, true);
+        TestRunner.assertEquals(3, all.size(), "보관 후에도 중복 없음");
+        TestRunner.assertEquals("끝난 일", all.get(2).getTitle(), "보관된 항목은 뒤에 붙음");
+    }
+    
+    /**
+     * 사전 모드 저장 및 로드 테스트
+     */
+    private static void testDictionaryMode() {
+        TestRunner.startTest("사전 모드 저장 및 로드");
+        cleanupTestFile();
+        
+        TodoCsvRepository repo = new TodoCsvRepository(TEST_FILE, true);
+        List<Todo> todos = new java.util.ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Todo todo = new Todo("작업" + i, "설명");
+            todo.setMetadataField("owner", "kim");
+            todo.setMetadataField("note", "@별명" + i);
+            todos.add(todo);
+        }
+        TestRunner.assertTrue(repo.save(todos), "사전 모드 저장 성공");
+        
+        String content = readFile(TEST_FILE);
+        TestRunner.assertTrue(content.contains("#d,"), "사전 정의 줄이 기록됨");
+        TestRunner.assertEquals(content.indexOf("owner"), content.lastIndexOf("owner"), "반복되는 키는 한 번만 기록");
+        TestRunner.assertEquals(content.indexOf("kim"), content.lastIndexOf("kim"), "반복되는 값은 한 번만 기록");
+        
+        Todo appended = new Todo("추가", "설명");
+        appended.setMetadataField("owner", "lee");
+        repo.save(appended);
+        
+        List<Todo> loaded = new TodoCsvRepository(TEST_FILE).load();
+        TestRunner.assertEquals(4, loaded.size(), "정의 줄은 Todo로 읽지 않음");
+        TestRunner.assertEquals("kim", loaded.get(2).getMetadataField("owner"), "코드로 기록된 값 복원");
+        TestRunner.assertEquals("@별명1", loaded.get(1).getMetadataField("note"), "'@'로 시작하는 값 복원");
+        TestRunner.assertEquals("lee", loaded.get(3).getMetadataField("owner"), "추가된 줄의 값 복원");
+        TestRunner.assertTrue(loaded.get(0).getMetadataField("owner") == loaded.get(2).getMetadataField("owner"),
+                "같은 값은 하나의 인스턴스를 공유");
+    }
+    
+    /**
+     * 마감일 파싱 경계값 테스트
+     */
+    private static void testDueDateParsing() {
+        TestRunner.startTest("마감일 파싱");
+        cleanupTestFile();
+        
+        writeFile(TEST_FILE, "\"윤년\",\"설명\",false,due=2024-02-29\n"
+                + "\"없는 날짜\",\"설명\",false,due=2023-02-29;owner=kim\n"
+                + "\"잘못된 형식\",\"설명\",false,due=2024-1-05\n"
+                + "\"먼 미래\",\"설명\",false,due=+10000-01-01\n");
+        TodoCsvRepository repo = new TodoCsvRepository(TEST_FILE);
+        List<Todo> todos = repo.load();
+        TestRunner.assertEquals(LocalDate.of(2024, 2, 29), todos.get(0).getDueDate(), "윤년 2월 29일");
+        TestRunner.assertNull(todos.get(1).getDueDate(), "존재하지 않는 날짜는 무시");
+        TestRunner.assertEquals("kim", todos.get(1).getMetadataField("owner"), "마감일 뒤 메타데이터 유지");
+        TestRunner.assertNull(todos.get(2).getDueDate(), "형식이 다르면 무시");
+        TestRunner.assertEquals(LocalDate.of(10000, 1, 1), todos.get(3).getDueDate(), "다섯 자리 연도");
+        
+        TestRunner.assertTrue(repo.save(todos), "저장 성공");
+        String content = readFile(TEST_FILE);
+        TestRunner.assertTrue(content.contains("due=2024-02-29"), "마감일 형식 유지");
+        TestRunner.assertTrue(content.contains("due=+10000-01-01"), "다섯 자리 연도 형식 유지");
+    }
+    
+    /**
+     * 큰 파일의 구조 문자 색인 경로가 스칼라 경로와 같은 결과를 내는지 테스트
+     */
+    private static void testLargeFileScan() {
+        TestRunner.startTest("큰 파일 스캔 경로 일치");
+        cleanupTestFile();
+        
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 200_000; i++) {
+            switch (i % 5) {
+                case 0: sb.append("\"장보기, 우유 ").append(i).append("\",\"\"\"따옴표\"\" 설명\",true,due=2026-03-0").append(1 + i % 9).append(";owner=김\n"); break;
+                case 1: sb.append("\"회의 ").append(i).append("\",\"쉼표,가 있는 설명\",false\r\n"); break;
+                case 2: sb.append("\n   \n"); break;
+                case 3: sb.append("\"필드 부족 ").append(i).append("\"\n"); break;
+                default: sb.append("\"메타 ").append(i).append("\",\"설명\",FALSE,tag=a,b;note=x=y\n");
+            }
+        }
+        sb.append("\"마지막 줄\",\"줄바꿈 없음\",true");
+        writeFile(TEST_FILE, sb.toString());
+        
+        TodoCsvRepository repo = new TodoCsvRepository(TEST_FILE);
+        List<Todo> structural = repo.load();
+        List<Todo> structuralCompleted = repo.load(TodoFilter.COMPLETED);
+        System.setProperty("todo.csv.scalar", "true");
+        List<Todo> scalar;
+        List<Todo> scalarCompleted;
+        try {
+            scalar = repo.load();
+            scalarCompleted = repo.load(TodoFilter.COMPLETED);
+        } finally {
+            System.clearProperty("todo.csv.scalar");
+        }
+        TestRunner.assertTrue(structural.size() > 1000, "큰 파일 로드");
+        TestRunner.assertEquals(describe(scalar), describe(structural), "전체 로드 결과 일치");
+        TestRunner.assertEquals(describe(scalarCompleted), describe(structuralCompleted), "필터 로드 결과 일치");
+        TestRunner.assertEquals("줄바꿈 없음", structural.get(structural.size() - 1).getDescription(), "마지막 줄 파싱");
+    }
+    
+    /**
+     * 시작용 스냅샷 테스트
+     */
+    private static void testSnapshot() {
+        TestRunner.startTest("시작용 스냅샷");
+        cleanupTestFile();
+        
+        List<Todo> todos = new java.util.ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Todo todo = new Todo("작업" + i, "설명" + i, LocalDate.of(2026, 1, 1 + i));
+            todo.setMetadataField("owner", "kim");
+            todo.setCompleted(i % 2 == 0);
+            todos.add(todo);
+        }
+        TodoCsvRepository saver = new TodoCsvRepository(TEST_FILE, false, true);
+        TestRunner.assertTrue(saver.save(todos), "저장 성공");
+        todos.get(1).setCompleted(true);  // 저장 뒤에 바뀐 목록은 스냅샷에 들어가지 않음
+        saver.flushSnapshot();
+        TestRunner.assertTrue(new File(TEST_FILE + ".snapshot").exists(), "저장 후 스냅샷 기록");
+        todos.get(1).setCompleted(false);
+        
+        List<Todo> restored = new TodoCsvRepository(TEST_FILE, false, true).load();
+        TestRunner.assertEquals(describe(todos), describe(restored), "스냅샷에서 같은 목록 복원");
+        
+        // 스냅샷 이후 덧붙인 줄은 꼬리만 파싱하여 반영
+        new TodoCsvRepository(TEST_FILE).save(new Todo("추가", "설명"));
+        TodoCsvRepository withTail = new TodoCsvRepository(TEST_FILE, false, true);
+        TestRunner.assertEquals(6, withTail.load().size(), "덧붙인 줄 반영");
+        TestRunner.assertNull(withTail.pollChanges(), "복원 후 기준점이 현재 파일과 일치");
+        
+        // 다른 프로세스가 다시 쓴 파일은 스냅샷을 쓰지 않고 전체 파싱
+        TodoCsvRepository other = new TodoCsvRepository(TEST_FILE);
+        other.load();
+        List<Todo> replaced = new java.util.ArrayList<>();
+        replaced.add(new Todo("새 목록", "설명"));
+        other.save(replaced);
+        List<Todo> reloaded = new TodoCsvRepository(TEST_FILE, false, true).load();
+        TestRunner.assertEquals(1, reloaded.size(), "다시 쓰인 파일은 전체 파싱");
+        TestRunner.assertEquals("새 목록", reloaded.get(0).getTitle(), "다시 쓰인 내용 반영");
+        
+        // 앞부분을 고치고 뒤에 덧붙인 파일은 끝부분이 그대로여도 스냅샷을 쓰지 않음
+        List<Todo> rows = new java.util.ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rows.add(new Todo(i == 0 ? "teh first" : "행" + i, "아주 긴 설명으로 끝부분 지문 범위를 벗어나게 함 " + i));
+        }
+        TodoCsvRepository edited = new TodoCsvRepository(TEST_FILE, false, true);
+        edited.load();
+        edited.save(rows);
+        edited.flushSnapshot();
+        try {
+            String content = new String(java.nio.file.Files.readAllBytes(new File(TEST_FILE).toPath()),
+                    java.nio.charset.StandardCharsets.UTF_8);
+            java.nio.file.Files.write(new File(TEST_FILE).toPath(),
+                    (content.replace("teh", "the") + "\"추가\",\"설명\",false\n").getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        } catch (java.io.IOException e) {
+            throw new RuntimeException(e);
+        }
+        List<Todo> fixed = new TodoCsvRepository(TEST_FILE, false, true).load();
+        TestRunner.assertEquals(6, fixed.size(), "덧붙인 줄 포함");
+        TestRunner.assertEquals("the first", fixed.get(0).getTitle(), "앞부분 수정이 반영됨 (오래된 스냅샷 무시)");
+    }
+    
+    /**
+     * JFR 이벤트 기록 테스트
+     */
+    private static void testFlightRecorderEvents() {
+        TestRunner.startTest("JFR 이벤트 기록");
+        cleanupTestFile();
+        
+        java.nio.file.Path dump = java.nio.file.Paths.get(TEST_FILE + ".jfr");
+        List<jdk.jfr.consumer.RecordedEvent> events;
+        try (jdk.jfr.Recording recording = new jdk.jfr.Recording()) {
+            recording.enable("todo.Load").withoutThreshold();
+            recording.enable("todo.Save").withoutThreshold();
+            recording.start();
+            
+            TodoCsvRepository repo = new TodoCsvRepository(TEST_FILE);
+            List<Todo> todos = new java.util.ArrayList<>();
+            todos.add(new Todo("제목1", "설명1"));
+            todos.add(new Todo("제목2", "설명2"));
+            repo.save(todos);
+            repo.save(new Todo("제목3", "설명3"));
+            new TodoCsvRepository(TEST_FILE).load();
+            
+            recording.stop();
+            recording.dump(dump);
+            events = jdk.jfr.consumer.RecordingFile.readAllEvents(dump);
+        } catch (java.io.IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        } finally {
+            new File(dump.toString()).delete();
+        }
+        
+        List<jdk.jfr.consumer.RecordedEvent> saves = new java.util.ArrayList<>();
+        List<jdk.jfr.consumer.RecordedEvent> loads = new java.util.ArrayList<>();
+        for (jdk.jfr.consumer.RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("todo.Save")) {
+                saves.add(event);
+            } else if (event.getEventType().getName().equals("todo.Load")) {
+                loads.add(event);
+            }
+        }
+        TestRunner.assertEquals(2, saves.size(), "저장마다 todo.Save 이벤트");
+        TestRunner.assertEquals("full", saves.get(0).getString("kind"), "전체 저장 종류");
+        TestRunner.assertEquals(2, saves.get(0).getInt("rows"), "전체 저장 줄 수");
+        TestRunner.assertEquals("append", saves.get(1).getString("kind"), "덧붙이기 종류");
+        TestRunner.assertTrue(saves.get(1).getLong("bytesWritten") > 0, "덧붙인 바이트 수 기록");
+        TestRunner.assertEquals(1, loads.size(), "로드마다 todo.Load 이벤트");
+        TestRunner.assertEquals(3, loads.get(0).getInt("rows"), "로드한 줄 수");
+        TestRunner.assertEquals(new File(TEST_FILE).length(), loads.get(0).getLong("fileSize"), "로드한 파일 크기");
+    }
+    
+    private static String describe(List<Todo> todos) {
+        StringBuilder sb = new StringBuilder();
+        for (Todo todo : todos) {
+            sb.append(todo).append(new java.util.TreeMap<>(todo.getMetadata())).append('\n');
+        }
+        return sb.toString();
+    }
+    
+    private static void writeFile(String path, String content) {
+        try {
+            java.nio.file.Files.write(java.nio.file.Paths.get(path), content.getBytes());
+        } catch (java.io.IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        }
+    }
+    
+    private static String readFile(String path) {
+        try {
+            return new String(java.nio.file.Files.readAllBytes(java.nio.file.Paths.get(path)));
+        } catch (java.io.IOException e) {
+            return "";
+        }
+    }
+    
     private static void cleanupTestFile() {
         File testFile = new File(TEST_FILE);
         if (testFile.exists()) {
             testFile.delete();
         }
+        File snapshotFile = new File(TEST_FILE + ".snapshot");
+        if (snapshotFile.exists()) {
+            snapshotFile.delete();
+        }
+        File archiveFile = new File(TEST_FILE + ".archive.gz");
+        if (archiveFile.exists()) {
+            archiveFile.delete();
+        }
     }
     
     /**
@@ -0,0 +1,90 @@
+package test;
+
+import todo.domain.Todo;
+import todo.domain.TodoFilter;
+import todo.infrastructure.TodoCsvRepository;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 큰 CSV 로드 속도 벤치마크
+ *
+ * 한글 제목/설명으로 된 합성 CSV 파일을 만들고, 구조 문자 색인(SWAR) 경로와
+ * 바이트 단위 스칼라 경로의 로드 처리량(GB/s)을 비교합니다.
+ * 완료 항목이 10%뿐이므로 COMPLETED 필터 로드는 대부분의 행을 디코딩하지 않아 스캔 비용이 두드러집니다.
+ *
+ * 사용법: java test.TodoCsvScanBenchmark [파일 크기(MB)] [반복 횟수]
+ */
+public class TodoCsvScanBenchmark {
+    private static final String SCALAR_PROPERTY = "todo.csv.scalar";
+
+    public static void main(String[] args) throws IOException {
+        int megabytes = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Path file = Files.createTempFile("todo-scan", ".csv");
+        try {
+            long size = generate(file, megabytes * 1024L * 1024L);
+            System.out.println("========================================");
+            System.out.printf("합성 파일: %.1f MB%n", size / 1048576.0);
+            for (TodoFilter filter : new TodoFilter[] {TodoFilter.ALL, TodoFilter.COMPLETED}) {
+                measure(file, size, filter, false, 1);  // 두 경로 모두 JIT 워밍업
+                measure(file, size, filter, true, 1);
+                double structural = measure(file, size, filter, false, rounds);
+                double scalar = measure(file, size, filter, true, rounds);
+                System.out.printf("%-10s 스칼라 %.2f GB/s, 구조 색인 %.2f GB/s (%.2fx)%n",
+                        filter, scalar, structural, structural / scalar);
+            }
+            System.out.println("========================================");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * 한 경로로 여러 번 로드하여 가장 좋은 처리량을 반환
+     */
+    private static double measure(Path file, long size, TodoFilter filter, boolean scalar, int rounds) {
+        if (scalar) {
+            System.setProperty(SCALAR_PROPERTY, "true");
+        }
+        try {
+            TodoCsvRepository repository = new TodoCsvRepository(file.toString());
+            long best = Long.MAX_VALUE;
+            int count = 0;
+            for (int i = 0; i < rounds; i++) {
+                long start = System.nanoTime();
+                List<Todo> todos = repository.load(filter);
+                best = Math.min(best, System.nanoTime() - start);
+                count = todos.size();
+            }
+            if (count == 0 && filter == TodoFilter.ALL) {
+                throw new IllegalStateException("로드된 Todo가 없습니다");
+            }
+            return size / (double) best;  // 바이트/ns = GB/s
+        } finally {
+            System.clearProperty(SCALAR_PROPERTY);
+        }
+    }
+
+    private static long generate(Path file, long targetBytes) throws IOException {
+        String[] titles = {"장보기", "보고서 작성", "운동하기", "치과 예약", "책 반납", "회의 준비, 자료 정리"};
+        String[] owners = {"김철수", "이영희", "박민수"};
+        long written = 0;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                Files.newOutputStream(file), StandardCharsets.UTF_8), 1 << 16)) {
+            for (int i = 0; written < targetBytes; i++) {
+                String line = "\"" + titles[i % titles.length] + " " + i + "\","
+                        + "\"한글로 된 조금 긴 설명 문장입니다 \"\"중요\"\" 표시 포함\","
+                        + (i % 10 == 0) + ",due=2026-" + String.format("%02d-%02d", 1 + i % 12, 1 + i % 28)
+                        + ";owner=" + owners[i % owners.length] + ";id=" + i + "\n";
+                writer.write(line);
+                written += line.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        return Files.size(file);
+    }
+}
@@ -0,0 +1,108 @@
+package test;
+
+import todo.infrastructure.TodoProtocol;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 서버 모드 부하 테스트 클라이언트
+ *
+ * 실행 중인 TodoServer에 여러 연결을 열고, 요청을 파이프라이닝하여 보낸 뒤
+ * 초당 처리량(ops/sec)과 p50/p99 지연 시간을 출력합니다.
+ *
+ * 사용법: java test.TodoLoadTest [포트] [연결 수] [연결당 요청 수] [파이프라인 깊이]
+ * 읽기(COUNT, GET) 요청만 보내므로 서버의 데이터는 변경되지 않습니다.
+ */
+public class TodoLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : TodoProtocol.DEFAULT_PORT;
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        int depth = args.length > 3 ? Integer.parseInt(args[3]) : 16;
+
+        long[][] latencies = new long[connections][];
+        CountDownLatch done = new CountDownLatch(connections);
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < connections; c++) {
+                int id = c;
+                executor.submit(() -> {
+                    try {
+                        latencies[id] = runConnection(port, requests, depth);
+                    } catch (IOException e) {
+                        System.err.println("연결 " + id + " 실패: " + e.getMessage());
+                        latencies[id] = new long[0];
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        if (all.length == 0) {
+            System.out.println("완료된 요청이 없습니다.");
+            return;
+        }
+        System.out.println("========================================");
+        System.out.printf("연결 %d개, 연결당 요청 %d개, 파이프라인 깊이 %d%n", connections, requests, depth);
+        System.out.printf("처리량: %.0f ops/sec%n", all.length / (elapsed / 1e9));
+        System.out.printf("p50: %.3f ms%n", percentile(all, 0.50) / 1e6);
+        System.out.printf("p99: %.3f ms%n", percentile(all, 0.99) / 1e6);
+        System.out.printf("max: %.3f ms%n", all[all.length - 1] / 1e6);
+        System.out.println("========================================");
+    }
+
+    /**
+     * 연결 하나에서 depth개씩 요청을 묶어 보내고 요청별 지연 시간을 기록
+     */
+    private static long[] runConnection(int port, int requests, int depth) throws IOException {
+        long[] result = new long[requests];
+        long[] sentAt = new long[depth];
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            BufferedWriter out = new BufferedWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            int sent = 0;
+            while (sent < requests) {
+                int batch = Math.min(depth, requests - sent);
+                for (int i = 0; i < batch; i++) {
+                    String req = (sent + i) % 2 == 0
+                            ? TodoProtocol.request(TodoProtocol.COUNT)
+                            : TodoProtocol.request(TodoProtocol.GET, "0");
+                    sentAt[i] = System.nanoTime();
+                    out.write(req);
+                    out.write('\n');
+                }
+                out.flush();
+                for (int i = 0; i < batch; i++) {
+                    if (in.readLine() == null) {
+                        throw new EOFException("서버가 연결을 종료했습니다");
+                    }
+                    result[sent + i] = System.nanoTime() - sentAt[i];
+                }
+                sent += batch;
+            }
+            out.write(TodoProtocol.QUIT);
+            out.write('\n');
+            out.flush();
+        }
+        return result;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
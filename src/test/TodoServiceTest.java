@@ -1,13 +1,38 @@
 package test;
 
+import todo.application.ArchivePolicy;
+import todo.application.InstrumentedTodoRepository;
+import todo.application.InstrumentedTodoService;
+import todo.application.LatencyHistogram;
+import todo.application.Recurrence;
+import todo.application.Reminder;
+import todo.application.ReminderScheduler;
+import todo.application.TodoDependencies;
+import todo.application.SlowOperationLog;
+import todo.application.TodoMetrics;
+import todo.application.TodoOrder;
+import todo.application.TodoOutline;
+import todo.application.TodoPage;
+import todo.application.TodoStats;
+import todo.application.TodoListSnapshot;
 import todo.application.TodoService;
 import todo.application.TodoServiceImpl;
 import todo.domain.Todo;
 import todo.domain.TodoRepository;
+import todo.infrastructure.RemoteTodoService;
 import todo.infrastructure.TodoCsvRepository;
+import todo.infrastructure.TodoProtocol;
+import todo.infrastructure.TodoServer;
+import todo.infrastructure.TodoShardedRepository;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * TodoService 구현체 테스트
@@ -38,6 +63,23 @@ public class TodoServiceTest {
         testInvalidIndex();
         testMultipleTodos();
         testPersistence();
+        testRemoteService();
+        testProtocolRoundTrip();
+        testExternalChangeConflict();
+        testArchiveCompleted();
+        testBackgroundLoading();
+        testSnapshotVersions();
+        testBulkOperations();
+        testInstrumentation();
+        testSlowOperationLog();
+        testSortedViews();
+        testAgenda();
+        testStats();
+        testReminders();
+        testRecurring();
+        testSubtasks();
+        testSubtaskIds();
+        testDependencies();
         
         // 결과 출력
         TestRunner.printSummary();
@@ -292,6 +334,1277 @@ public class TodoServiceTest {
         TestRunner.assertNotNull(loaded.getDueDate(), "마감일 확인");
     }
     
+    /**
+     * 서버 모드 원격 서비스 테스트
+     */
+    private static void testRemoteService() {
+        TestRunner.startTest("서버 모드 원격 서비스");
+        cleanupTestFile();
+        
+        TodoService shared = createService();
+        try (TodoServer server = new TodoServer(shared, 0)) {
+            Thread.ofVirtual().start(server::serve);
+            try (RemoteTodoService remote1 = new RemoteTodoService(server.getPort());
+                 RemoteTodoService remote2 = new RemoteTodoService(server.getPort())) {
+                remote1.addTodo("원격\t탭", "설명\n줄바꿈", LocalDate.of(2025, 3, 1));
+                remote1.addTodo("두번째", "", null);
+                
+                TestRunner.assertEquals(2, remote2.getTodoCount(), "다른 연결에서 같은 저장소 공유");
+                TestRunner.assertTrue(remote2.toggleTodo(1), "원격 토글 성공");
+                TestRunner.assertFalse(remote2.toggleTodo(5), "원격 범위 초과 토글 실패");
+                
+                Todo first = remote1.getTodoAt(0);
+                TestRunner.assertEquals("원격\t탭", first.getTitle(), "이스케이프된 제목 복원");
+                TestRunner.assertEquals("설명\n줄바꿈", first.getDescription(), "이스케이프된 설명 복원");
+                TestRunner.assertEquals(LocalDate.of(2025, 3, 1), first.getDueDate(), "마감일 전달");
+                TestRunner.assertNull(remote1.getTodoAt(9), "없는 인덱스는 null");
+                TestRunner.assertEquals(1, remote1.getCompletedTodos().size(), "완료 목록 조회");
+                TestRunner.assertTrue(shared.getTodoAt(1).isCompleted(), "서버 메모리에 반영됨");
+            }
+        } catch (java.io.IOException e) {
+            TestRunner.assertTrue(false, "서버 통신 오류: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 다른 인스턴스의 변경과 충돌하는 경우 테스트
+     */
+    /**
+     * 프로토콜 Todo 줄 왕복 테스트: null 필드와 '='가 들어간 메타데이터 키
+     */
+    private static void testProtocolRoundTrip() {
+        TestRunner.startTest("프로토콜 Todo 줄 왕복");
+        
+        Todo todo = new Todo(null, "", LocalDate.of(2025, 1, 2));
+        todo.setMetadataField("a=b", "c=d");
+        todo.setMetadataField("역\\슬래시", "값");
+        todo.setMetadataField("빈값", null);
+        Todo decoded = TodoProtocol.decodeTodo(TodoProtocol.encodeTodo(todo));
+        TestRunner.assertNull(decoded.getTitle(), "null 제목은 null로 복원");
+        TestRunner.assertEquals("", decoded.getDescription(), "빈 설명은 빈 문자열로 복원");
+        TestRunner.assertEquals("c=d", decoded.getMetadataField("a=b"), "키 안의 '='");
+        TestRunner.assertEquals("값", decoded.getMetadataField("역\\슬래시"), "키 안의 역슬래시");
+        TestRunner.assertTrue(decoded.getMetadata().containsKey("빈값") && decoded.getMetadataField("빈값") == null,
+                "null 값 항목");
+        TestRunner.assertEquals(3, decoded.getMetadata().size(), "항목 수 유지");
+        
+        // 요청 인자로 한 번 더 감싸도 같은 Todo
+        String[] request = TodoProtocol.split(TodoProtocol.request(TodoProtocol.ADD_ALL, TodoProtocol.encodeTodo(todo)));
+        TestRunner.assertNull(TodoProtocol.decodeTodo(request[1]).getTitle(), "중첩된 줄의 null 제목");
+    }
+    
+    private static void testExternalChangeConflict() {
+        TestRunner.startTest("다른 인스턴스와의 변경 충돌");
+        cleanupTestFile();
+        
+        TodoService first = createService();
+        first.addTodo("첫째", "설명", null);
+        first.addTodo("둘째", "설명", null);
+        
+        TodoService second = createService();
+        second.addTodo("셋째", "설명", null);
+        TestRunner.assertEquals(3, second.getTodoCount(), "두 번째 인스턴스는 기존 목록을 로드");
+        
+        // 추가만 된 변경은 다음 작업 전에 흡수됨
+        TestRunner.assertTrue(first.toggleTodo(0), "추가만 된 경우 토글 성공");
+        TestRunner.assertEquals(3, first.getTodoCount(), "외부 추가가 반영됨");
+        
+        // 파일이 다시 쓰인 경우 인덱스 작업은 거부되고 최신 목록으로 교체
+        TestRunner.assertFalse(second.deleteTodo(2), "토글로 다시 쓰인 파일과 충돌하면 실패");
+        TestRunner.assertTrue(second.deleteTodo(2), "최신 목록에서 다시 시도하면 성공");
+        TestRunner.assertFalse(first.deleteTodo(0), "다시 쓰인 파일과 충돌하면 실패");
+        TestRunner.assertEquals(2, first.getTodoCount(), "최신 목록으로 교체됨");
+        TestRunner.assertTrue(first.getTodoAt(0).isCompleted(), "충돌 전 저장된 토글은 유지됨");
+    }
+    
+    /**
+     * 완료 Todo 보관 테스트
+     */
+    private static void testArchiveCompleted() {
+        TestRunner.startTest("완료 Todo 보관");
+        cleanupTestFile();
+        
+        TodoService plain = createService();
+        plain.addTodo("오래된 완료", "설명", null);
+        plain.addTodo("진행 중", "설명", null);
+        plain.addTodo("방금 완료", "설명", null);
+        plain.toggleTodo(0);
+        plain.getTodoAt(0).getMetadata().remove(ArchivePolicy.COMPLETED_AT_KEY);  // 완료 시각이 없는 이전 데이터
+        plain.toggleTodo(2);
+        TestRunner.assertNotNull(plain.getTodoAt(2).getMetadataField(ArchivePolicy.COMPLETED_AT_KEY), "완료 시각 기록");
+        
+        TodoService service = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE), new ArchivePolicy(7));
+        TestRunner.assertEquals(2, service.getTodoCount(), "오래된 완료 항목은 작업 목록에서 제외");
+        TestRunner.assertEquals(1, service.getCompletedTodos().size(), "작업 목록의 완료 항목");
+        TestRunner.assertEquals(2, service.getCompletedTodos(true).size(), "보관 항목 포함 조회");
+        TestRunner.assertEquals(2, createService().getTodoCount(), "보관 결과가 파일에 저장됨");
+        
+        service.toggleTodo(1);
+        TestRunner.assertNull(service.getTodoAt(1).getMetadataField(ArchivePolicy.COMPLETED_AT_KEY), "완료 취소 시 완료 시각 제거");
+    }
+    
+    /**
+     * 백그라운드 로드 테스트: 로드 중 추가는 대기열에 쌓였다가 로드 후 저장
+     */
+    private static void testBackgroundLoading() {
+        TestRunner.startTest("백그라운드 로드");
+        cleanupTestFile();
+        
+        TodoService existing = createService();
+        existing.addTodo("기존 1", "설명", null);
+        existing.addTodo("기존 2", "설명", null);
+        
+        CountDownLatch release = new CountDownLatch(1);
+        TodoRepository slow = new TodoCsvRepository(TEST_FILE) {
+            @Override
+            public List<Todo> load() {
+                try {
+                    release.await();  // 테스트가 풀어줄 때까지 로드를 붙잡아 둠
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.load();
+            }
+        };
+        TodoService service = TodoServiceImpl.loadInBackground(slow, null);
+        TestRunner.assertFalse(service.isReady(), "생성 직후에는 로드 중");
+        TestRunner.assertFalse(service.awaitReady(50), "로드가 끝나기 전에는 대기 시간 초과");
+        
+        service.addTodo("로드 중 추가", "설명", null);
+        TestRunner.assertEquals(2, createService().getTodoCount(), "로드 전 추가는 아직 저장되지 않음");
+        
+        release.countDown();
+        TestRunner.assertEquals(3, service.getTodoCount(), "목록이 필요한 작업은 로드를 기다림");
+        TestRunner.assertTrue(service.isReady(), "로드 완료");
+        TestRunner.assertEquals("로드 중 추가", service.getTodoAt(2).getTitle(), "대기열의 Todo가 로드된 목록 뒤에 추가됨");
+        TestRunner.assertEquals(3, createService().getTodoCount(), "대기열의 Todo가 파일에 저장됨");
+    }
+    
+    /**
+     * 목록 스냅샷 테스트: 같은 버전은 같은 스냅샷, 변경 후에도 이전 스냅샷은 그대로
+     */
+    private static void testSnapshotVersions() {
+        TestRunner.startTest("버전 붙은 목록 스냅샷");
+        cleanupTestFile();
+        
+        TodoService service = createService();
+        service.addTodo("첫번째", "설명", null);
+        TodoListSnapshot first = service.getSnapshot();
+        TestRunner.assertTrue(first == service.getSnapshot(), "변경이 없으면 같은 스냅샷 재사용");
+        TestRunner.assertTrue(first.asList() == service.getAllTodos(), "getAllTodos는 복사하지 않음");
+        
+        service.addTodo("두번째", "설명", null);
+        TodoListSnapshot second = service.getSnapshot();
+        TestRunner.assertTrue(second.getVersion() > first.getVersion(), "추가하면 버전 증가");
+        TestRunner.assertEquals(1, first.size(), "이전 스냅샷은 바뀌지 않음");
+        TestRunner.assertEquals(2, second.size(), "새 스냅샷에 추가 반영");
+        
+        service.toggleTodo(0);
+        TodoListSnapshot third = service.getSnapshot();
+        TestRunner.assertTrue(third.getVersion() > second.getVersion(), "토글해도 버전 증가");
+        TestRunner.assertFalse(second.get(0).isCompleted(), "이전 스냅샷의 Todo 내용도 바뀌지 않음");
+        TestRunner.assertTrue(third.get(0).isCompleted(), "새 스냅샷에 토글 반영");
+        TestRunner.assertTrue(third.get(1) == second.get(1), "바뀌지 않은 Todo의 복사본은 재사용");
+        
+        boolean frozen = false;
+        try {
+            third.get(1).setCompleted(true);
+        } catch (UnsupportedOperationException e) {
+            frozen = true;
+        }
+        TestRunner.assertTrue(frozen, "스냅샷의 Todo는 수정할 수 없음");
+        
+        boolean rejected = false;
+        try {
+            service.getAllTodos().add(new Todo("외부", "설명"));
+        } catch (UnsupportedOperationException e) {
+            rejected = true;
+        }
+        TestRunner.assertTrue(rejected, "스냅샷 목록은 수정할 수 없음");
+        
+        try (TodoServer server = new TodoServer(service, 0)) {
+            Thread.ofVirtual().start(server::serve);
+            try (RemoteTodoService remote = new RemoteTodoService(server.getPort())) {
+                TodoListSnapshot remoteSnapshot = remote.getSnapshot();
+                TestRunner.assertEquals(service.getSnapshot().getVersion(), remoteSnapshot.getVersion(), "원격 스냅샷 버전 일치");
+                TestRunner.assertEquals("두번째", remoteSnapshot.get(1).getTitle(), "원격 스냅샷 내용");
+                TestRunner.assertTrue(remoteSnapshot == remote.getSnapshot(), "버전이 같으면 원격 스냅샷 재사용");
+                remote.deleteTodo(0);
+                TestRunner.assertEquals(1, remote.getSnapshot().size(), "버전이 바뀌면 다시 받아옴");
+            }
+        } catch (java.io.IOException e) {
+            TestRunner.assertTrue(false, "서버 통신 오류: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 일괄 작업 테스트: 여러 Todo를 한 번에 처리하고 저장은 한 번만
+     */
+    private static void testBulkOperations() {
+        TestRunner.startTest("일괄 작업");
+        cleanupTestFile();
+        
+        int[] writes = new int[2];  // [전체 저장, 덧붙이기]
+        TodoRepository counting = new TodoCsvRepository(TEST_FILE) {
+            @Override
+            public boolean save(List<Todo> todos) {
+                writes[0]++;
+                return super.save(todos);
+            }
+            
+            @Override
+            public void saveAll(List<Todo> todos) {
+                writes[1]++;
+                super.saveAll(todos);
+            }
+        };
+        TodoServiceImpl service = new TodoServiceImpl(counting);
+        List<Todo> batch = new java.util.ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            batch.add(new Todo("일괄 " + i, "설명"));
+        }
+        TestRunner.assertEquals(6, service.addAll(batch), "여러 Todo 추가");
+        TestRunner.assertEquals(1, writes[1], "추가는 한 번에 덧붙임");
+        TestRunner.assertEquals(6, createService().getTodoCount(), "추가한 Todo가 파일에 저장됨");
+        
+        TestRunner.assertEquals(3, service.toggleAll(List.of(0, 2, 4, 99)), "선택한 Todo 토글 (범위 밖은 무시)");
+        TestRunner.assertEquals(1, writes[0], "토글은 한 번만 저장");
+        TestRunner.assertNotNull(service.getTodoAt(2).getMetadataField(ArchivePolicy.COMPLETED_AT_KEY), "일괄 완료도 완료 시각 기록");
+        
+        TestRunner.assertEquals(1, service.deleteWhere(todo -> todo.getTitle().equals("일괄 5")), "조건으로 삭제");
+        TestRunner.assertEquals(1, service.completeAll(todo -> !todo.getTitle().equals("일괄 1")), "조건에 맞는 미완료만 완료");
+        TestRunner.assertEquals(4, service.deleteCompleted(), "완료 항목 정리");
+        TestRunner.assertEquals(4, writes[0], "작업마다 저장은 한 번");
+        TestRunner.assertEquals(1, service.getTodoCount(), "남은 Todo");
+        TestRunner.assertEquals(0, service.deleteCompleted(), "바뀐 것이 없으면 0");
+        TestRunner.assertEquals(4, writes[0], "바뀐 것이 없으면 저장하지 않음");
+        
+        try (TodoServer server = new TodoServer(service, 0)) {
+            Thread.ofVirtual().start(server::serve);
+            try (RemoteTodoService remote = new RemoteTodoService(server.getPort())) {
+                TestRunner.assertEquals(2, remote.addAll(List.of(new Todo("원격\t1", "설명"), new Todo("원격 2", "설명"))), "원격 일괄 추가");
+                TestRunner.assertEquals(2, remote.toggleAll(List.of(1, 2)), "원격 일괄 토글");
+                TestRunner.assertEquals(2, remote.deleteAll(List.of(1, 2)), "원격 일괄 삭제");
+                TestRunner.assertEquals(1, remote.completeAll(), "원격 전체 완료");
+                TestRunner.assertEquals(1, remote.deleteCompleted(), "원격 완료 항목 정리");
+                TestRunner.assertEquals(0, service.getTodoCount(), "서버 목록에 반영됨");
+            }
+        } catch (java.io.IOException e) {
+            TestRunner.assertTrue(false, "서버 통신 오류: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 계측 테스트: 데코레이터가 작업별 호출 수/지연 시간과 입출력 바이트를 기록
+     */
+    private static void testInstrumentation() {
+        TestRunner.startTest("작업 계측과 지연 시간 히스토그램");
+        cleanupTestFile();
+        
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 10_000; v++) {
+            histogram.record(v * 1000);  // 1us ~ 10ms 균등 분포
+        }
+        TestRunner.assertEquals(10_000L, histogram.getCount(), "기록 개수");
+        TestRunner.assertEquals(10_000_000L, histogram.getMax(), "최댓값");
+        long p50 = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+        TestRunner.assertTrue(Math.abs(p50 - 5_000_000) <= 5_000_000 / 16, "p50 상대 오차 1/16 이내: " + p50);
+        TestRunner.assertTrue(Math.abs(p99 - 9_900_000) <= 9_900_000 / 16, "p99 상대 오차 1/16 이내: " + p99);
+        
+        TodoMetrics metrics = new TodoMetrics();
+        TodoCsvRepository csv = new TodoCsvRepository(TEST_FILE);
+        TodoService service = new InstrumentedTodoService(
+                new TodoServiceImpl(new InstrumentedTodoRepository(csv, metrics)), metrics);
+        service.addTodo("계측", "설명", null);
+        service.addTodo("계측 2", "설명", null);
+        service.toggleTodo(0);
+        service.getAllTodos();
+        
+        TestRunner.assertEquals(2L, metrics.operation("service.addTodo").getCount(), "서비스 작업 호출 수");
+        TestRunner.assertEquals(2L, metrics.operation("repository.append").getCount(), "추가는 덧붙이기로 기록");
+        TestRunner.assertEquals(1L, metrics.operation("repository.save").getCount(), "토글은 전체 저장으로 기록");
+        TestRunner.assertEquals(1L, metrics.operation("repository.load").getCount(), "초기 로드 기록");
+        TestRunner.assertTrue(metrics.operation("service.toggleTodo").getMaxMicros() > 0, "지연 시간 기록");
+        TestRunner.assertTrue(csv.getBytesWritten() > 0, "쓴 바이트 수 집계");
+        
+        new TodoServiceImpl(csv);
+        TestRunner.assertEquals(2L, csv.getRowsParsed(), "파싱한 행 수 집계");
+        TestRunner.assertEquals(new java.io.File(TEST_FILE).length(), csv.getBytesRead(), "읽은 바이트 수 집계");
+        
+        boolean failed = false;
+        try {
+            metrics.time("test.failure", () -> {
+                throw new IllegalStateException("실패");
+            });
+        } catch (IllegalStateException e) {
+            failed = true;
+        }
+        TestRunner.assertTrue(failed, "예외는 그대로 전달");
+        TestRunner.assertEquals(1L, metrics.operation("test.failure").getErrors(), "실패 수 기록");
+        
+        metrics.gauge("io.bytesWritten", csv::getBytesWritten);
+        metrics.registerMBeans();
+        try {
+            javax.management.MBeanServer server = java.lang.management.ManagementFactory.getPlatformMBeanServer();
+            Object count = server.getAttribute(
+                    new javax.management.ObjectName("todo:type=Operation,name=\"service.addTodo\""), "Count");
+            TestRunner.assertEquals(2L, count, "JMX로 호출 수 조회");
+            Object written = server.getAttribute(
+                    new javax.management.ObjectName("todo:type=Gauge,name=\"io.bytesWritten\""), "Value");
+            TestRunner.assertEquals(csv.getBytesWritten(), written, "JMX로 게이지 조회");
+        } catch (javax.management.JMException e) {
+            TestRunner.assertTrue(false, "JMX 조회 실패: " + e.getMessage());
+        }
+        TestRunner.assertTrue(metrics.report().length >= 6, "stats 보고서 줄");
+    }
+    
+    /**
+     * 느린 작업 로그와 입출력 오류 집계 테스트
+     */
+    private static void testSlowOperationLog() {
+        TestRunner.startTest("느린 작업 로그");
+        cleanupTestFile();
+        
+        java.nio.file.Path logFile = java.nio.file.Paths.get(TEST_FILE + ".slow.log");
+        java.nio.file.Path brokenPath = java.nio.file.Paths.get(TEST_FILE + ".broken");
+        try {
+            deleteSlowLogs(logFile);
+            // 기본 임계값은 매우 크게, 전체 저장만 0ms로 두어 저장만 기록되게 함
+            SlowOperationLog slowLog = new SlowOperationLog(logFile, 60_000).threshold("repository.save", 0);
+            TodoMetrics metrics = new TodoMetrics();
+            metrics.setSlowLog(slowLog);
+            TodoService service = new InstrumentedTodoService(
+                    new TodoServiceImpl(new InstrumentedTodoRepository(new TodoCsvRepository(TEST_FILE), metrics)), metrics);
+            service.addTodo("느린", "설명", null);
+            service.addTodo("느린 2", "설명", null);
+            service.toggleTodo(0);
+            
+            List<String> lines = java.nio.file.Files.readAllLines(logFile);
+            TestRunner.assertEquals(1, lines.size(), "임계값을 넘은 작업만 기록");
+            String line = lines.get(0);
+            TestRunner.assertTrue(line.contains(" op=repository.save "), "작업 이름 기록: " + line);
+            TestRunner.assertTrue(line.contains(" rows=2 "), "행 수 기록");
+            TestRunner.assertTrue(line.contains(" bytes=" + new File(TEST_FILE).length()), "바이트 수 기록");
+            TestRunner.assertTrue(line.contains(" encode=") && line.contains(" write="), "단계별 시간 기록");
+            
+            // 입출력 오류는 삼키지 않고 세어 임계값과 관계없이 기록
+            java.nio.file.Files.createDirectories(brokenPath);
+            TodoCsvRepository broken = new TodoCsvRepository(brokenPath.toString());
+            TodoServiceImpl brokenService = new TodoServiceImpl(new InstrumentedTodoRepository(broken, metrics));
+            TestRunner.assertEquals(0, brokenService.getTodoCount(), "읽기 오류는 빈 목록");
+            TestRunner.assertEquals(1L, broken.getIoErrors(), "입출력 오류 집계");
+            TestRunner.assertEquals(1L, metrics.operation("repository.load").getErrors(), "삼킨 오류도 작업 실패로 집계");
+            lines = java.nio.file.Files.readAllLines(logFile);
+            TestRunner.assertTrue(lines.get(lines.size() - 1).contains(" op=repository.load ")
+                    && lines.get(lines.size() - 1).contains(" error=\""), "오류 작업 기록: " + lines.get(lines.size() - 1));
+            
+            // 최대 크기를 넘으면 순환
+            SlowOperationLog small = new SlowOperationLog(logFile, 0, 200, 2);
+            TodoMetrics rotating = new TodoMetrics();
+            rotating.setSlowLog(small);
+            for (int i = 0; i < 10; i++) {
+                rotating.time("test.rotate", () -> { });
+            }
+            TestRunner.assertEquals(10L, small.getWritten(), "모든 줄 기록");
+            TestRunner.assertTrue(java.nio.file.Files.exists(logFile.resolveSibling(logFile.getFileName() + ".1")), "이전 파일로 순환");
+            TestRunner.assertFalse(java.nio.file.Files.exists(logFile.resolveSibling(logFile.getFileName() + ".2")), "파일 수 제한");
+            TestRunner.assertTrue(java.nio.file.Files.size(logFile) <= 200, "파일 크기 제한");
+        } catch (java.io.IOException e) {
+            TestRunner.assertTrue(false, "로그 파일 읽기 실패: " + e.getMessage());
+        } finally {
+            deleteSlowLogs(logFile);
+            new File(brokenPath.toString()).delete();
+        }
+    }
+    
+    /**
+     * 정렬된 목록 조회 테스트
+     */
+    private static void testSortedViews() {
+        TestRunner.startTest("정렬된 목록 조회");
+        cleanupTestFile();
+        
+        TodoServiceImpl service = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE));
+        service.addTodo("다람쥐", "", LocalDate.of(2025, 3, 1));
+        service.addTodo("가방", "", null);
+        service.addTodo("banana", "", LocalDate.of(2025, 1, 1));
+        service.addTodo("나무", "", LocalDate.of(2025, 2, 1));
+        
+        TodoPage byTitle = service.getSortedTodos(TodoOrder.TITLE, 0, 10);
+        TestRunner.assertEquals("banana", byTitle.get(0).getTitle(), "영문 제목이 한글보다 앞");
+        TestRunner.assertEquals("가방", byTitle.get(1).getTitle(), "한국어 사전 순 (가)");
+        TestRunner.assertEquals("나무", byTitle.get(2).getTitle(), "한국어 사전 순 (나)");
+        TestRunner.assertEquals("다람쥐", byTitle.get(3).getTitle(), "한국어 사전 순 (다)");
+        TestRunner.assertEquals(1, byTitle.getIndex(1), "원래 인덱스 제공");
+        TestRunner.assertTrue(byTitle.get(1) != service.getTodoAt(1), "페이지는 목록의 Todo를 내주지 않음");
+        boolean readOnly;
+        try {
+            byTitle.get(1).setCompleted(true);
+            readOnly = false;
+        } catch (UnsupportedOperationException e) {
+            readOnly = true;
+        }
+        TestRunner.assertTrue(readOnly, "페이지의 Todo는 수정할 수 없음");
+        
+        TodoPage byDue = service.getSortedTodos(TodoOrder.DUE_DATE, 0, 2);
+        TestRunner.assertEquals("banana", byDue.get(0).getTitle(), "마감일이 빠른 순");
+        TestRunner.assertEquals(2, byDue.size(), "페이지 크기 제한");
+        TestRunner.assertTrue(byDue.hasNext(), "다음 페이지 있음");
+        TodoPage lastDue = service.getSortedTodos(TodoOrder.DUE_DATE, 2, 2);
+        TestRunner.assertEquals("가방", lastDue.get(1).getTitle(), "마감일 없는 Todo는 맨 뒤");
+        TestRunner.assertFalse(lastDue.hasNext(), "마지막 페이지");
+        
+        // 변경 후에도 색인이 갱신됨
+        service.getSortedTodos(TodoOrder.STATUS, 0, 10);
+        service.toggleTodo(0);
+        service.deleteTodo(1);
+        TodoPage byStatus = service.getSortedTodos(TodoOrder.STATUS, 0, 10);
+        TestRunner.assertEquals("다람쥐", byStatus.get(2).getTitle(), "완료된 Todo는 뒤로 이동");
+        TestRunner.assertEquals(0, byStatus.getIndex(2), "완료 Todo의 원래 인덱스");
+        TestRunner.assertEquals(2, byStatus.getIndex(1), "삭제 후 당겨진 인덱스");
+        
+        // 임의의 변경을 섞은 뒤 전체 정렬 결과와 비교
+        java.util.Random random = new java.util.Random(42);
+        boolean consistent = true;
+        for (int step = 0; step < 300 && consistent; step++) {
+            int size = service.getTodoCount();
+            int op = random.nextInt(10);
+            if (op < 4 || size == 0) {
+                LocalDate due = random.nextInt(4) == 0 ? null : LocalDate.of(2025, 1, 1).plusDays(random.nextInt(60));
+                service.addTodo("항목" + (char) ('가' + random.nextInt(200)), "", due);
+            } else if (op < 6) {
+                service.toggleTodo(random.nextInt(size));
+            } else if (op < 8) {
+                service.deleteTodo(random.nextInt(size));
+            } else if (op == 8) {
+                service.toggleAll(List.of(random.nextInt(size), random.nextInt(size)));
+            } else {
+                service.deleteWhere(todo -> todo.isCompleted() && todo.getDueDate() == null);
+            }
+            consistent = matchesFullSort(service);
+        }
+        TestRunner.assertTrue(consistent, "임의 변경 후 전체 정렬과 같은 결과");
+        
+        // 원격 서비스도 정렬된 페이지 제공
+        try (TodoServer server = new TodoServer(service, 0)) {
+            Thread.ofVirtual().start(server::serve);
+            try (RemoteTodoService remote = new RemoteTodoService(server.getPort())) {
+                TodoPage local = service.getSortedTodos(TodoOrder.TITLE, 1, 3);
+                TodoPage remotePage = remote.getSortedTodos(TodoOrder.TITLE, 1, 3);
+                TestRunner.assertEquals(local.getTotal(), remotePage.getTotal(), "원격 전체 개수");
+                TestRunner.assertEquals(local.getIndex(2), remotePage.getIndex(2), "원격 원래 인덱스");
+                TestRunner.assertEquals(local.get(2).getTitle(), remotePage.get(2).getTitle(), "원격 정렬 순서");
+            }
+        } catch (java.io.IOException e) {
+            TestRunner.assertTrue(false, "서버 통신 오류: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 마감 임박 일정(top-K) 테스트
+     */
+    private static void testAgenda() {
+        TestRunner.startTest("마감 임박 일정");
+        cleanupTestFile();
+        
+        TodoServiceImpl service = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE));
+        service.addTodo("3월", "", LocalDate.of(2025, 3, 1));
+        service.addTodo("마감 없음", "", null);
+        service.addTodo("1월", "", LocalDate.of(2025, 1, 1));
+        service.addTodo("2월", "", LocalDate.of(2025, 2, 1));
+        
+        TodoPage agenda = service.getAgenda(2);
+        TestRunner.assertEquals(3, agenda.getTotal(), "마감일이 있는 미완료 Todo만 대상");
+        TestRunner.assertEquals("1월", agenda.get(0).getTitle(), "가장 가까운 마감일");
+        TestRunner.assertEquals(2, agenda.getIndex(0), "원래 인덱스 제공");
+        TestRunner.assertEquals("2월", agenda.get(1).getTitle(), "두 번째 마감일");
+        
+        // 완료하면 빠지고, 되돌리면 다시 들어감
+        service.toggleTodo(2);
+        TestRunner.assertEquals("2월", service.getAgenda(1).get(0).getTitle(), "완료된 Todo는 일정에서 빠짐");
+        service.addTodo("12월", "", LocalDate.of(2024, 12, 1));
+        TestRunner.assertEquals("12월", service.getAgenda(1).get(0).getTitle(), "추가된 Todo가 맨 앞으로");
+        service.toggleTodo(2);
+        service.deleteTodo(4);
+        TodoPage restored = service.getAgenda(10);
+        TestRunner.assertEquals("1월", restored.get(0).getTitle(), "미완료로 되돌리면 다시 들어감");
+        TestRunner.assertEquals(3, restored.size(), "삭제된 Todo는 일정에서 빠짐");
+        
+        // 임의의 변경을 섞은 뒤 미완료 Todo를 직접 정렬한 결과와 비교
+        java.util.Random random = new java.util.Random(7);
+        boolean consistent = true;
+        for (int step = 0; step < 300 && consistent; step++) {
+            int size = service.getTodoCount();
+            int op = random.nextInt(10);
+            if (op < 4 || size == 0) {
+                LocalDate due = random.nextInt(4) == 0 ? null : LocalDate.of(2025, 1, 1).plusDays(random.nextInt(30));
+                service.addTodo("항목" + step, "", due);
+            } else if (op < 6) {
+                service.toggleTodo(random.nextInt(size));
+            } else if (op < 8) {
+                service.deleteTodo(random.nextInt(size));
+            } else if (op == 8) {
+                service.completeAll(todo -> random.nextInt(8) == 0);
+            } else {
+                service.deleteWhere(todo -> todo.isCompleted() && random.nextBoolean());
+            }
+            consistent = matchesAgenda(service, 1 + random.nextInt(12));
+        }
+        TestRunner.assertTrue(consistent, "임의 변경 후 직접 정렬한 결과와 같은 일정");
+        
+        // 원격 서비스도 일정 제공
+        try (TodoServer server = new TodoServer(service, 0)) {
+            Thread.ofVirtual().start(server::serve);
+            try (RemoteTodoService remote = new RemoteTodoService(server.getPort())) {
+                TodoPage local = service.getAgenda(5);
+                TodoPage remotePage = remote.getAgenda(5);
+                TestRunner.assertEquals(local.getTotal(), remotePage.getTotal(), "원격 일정 전체 개수");
+                TestRunner.assertEquals(local.getIndex(4), remotePage.getIndex(4), "원격 일정 원래 인덱스");
+            }
+        } catch (java.io.IOException e) {
+            TestRunner.assertTrue(false, "서버 통신 오류: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 일정의 앞 limit개가 마감일 있는 미완료 Todo를 (마감일, 인덱스) 순으로 정렬한 결과와 같은지 확인
+     */
+    private static boolean matchesAgenda(TodoService service, int limit) {
+        List<Todo> all = service.getAllTodos();
+        List<Integer> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < all.size(); i++) {
+            if (!all.get(i).isCompleted() && all.get(i).getDueDate() != null) {
+                expected.add(i);
+            }
+        }
+        expected.sort(java.util.Comparator.comparing((Integer i) -> all.get(i).getDueDate())
+                .thenComparing(java.util.Comparator.naturalOrder()));
+        TodoPage agenda = service.getAgenda(limit);
+        if (agenda.getTotal() != expected.size() || agenda.size() != Math.min(limit, expected.size())) {
+            return false;
+        }
+        for (int i = 0; i < agenda.size(); i++) {
+            if (agenda.getIndex(i) != expected.get(i) || !agenda.get(i).toString().equals(all.get(expected.get(i)).toString())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 변경마다 갱신되는 집계 테스트
+     */
+    private static void testStats() {
+        TestRunner.startTest("집계 카운터");
+        cleanupTestFile();
+        
+        LocalDate today = LocalDate.now();
+        TodoServiceImpl service = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE));
+        service.addTodo("지난 일", "", today.minusDays(2));
+        service.addTodo("이번 주", "", today.plusDays(3));
+        service.addTodo("다음 달", "", today.plusDays(30));
+        Todo tagged = new Todo("태그", "", null);
+        tagged.setMetadataField("tag", "work, home");
+        tagged.setMetadataField("owner", "kim");
+        service.addAll(List.of(tagged));
+        
+        TodoStats stats = service.getStats();
+        TestRunner.assertEquals(4, stats.getTotal(), "전체 개수");
+        TestRunner.assertEquals(1, stats.getOverdue(), "마감 지남");
+        TestRunner.assertEquals(1, stats.getDueThisWeek(), "이번 주 마감");
+        TestRunner.assertEquals(1, stats.getGroup("tag").get("home").getTotal(), "쉼표로 나눈 태그별 개수");
+        TestRunner.assertEquals(1, stats.getGroup("owner").get("kim").getIncomplete(), "담당자별 미완료 개수");
+        
+        service.toggleTodo(0);
+        service.toggleTodo(3);
+        stats = service.getStats();
+        TestRunner.assertEquals(2, stats.getCompleted(), "토글 후 완료 개수");
+        TestRunner.assertEquals(0, stats.getOverdue(), "완료된 Todo는 마감 지남에서 빠짐");
+        TestRunner.assertEquals(2, stats.getCompletedPerDay()[TodoStats.SERIES_DAYS - 1], "오늘 완료 수");
+        TestRunner.assertEquals(1, stats.getGroup("tag").get("work").getCompleted(), "태그별 완료 개수");
+        service.deleteTodo(3);
+        TestRunner.assertTrue(service.getStats().getGroup("owner").isEmpty(), "삭제하면 담당자 항목도 빠짐");
+        
+        // 임의의 변경을 섞은 뒤 목록을 직접 센 결과와 비교
+        java.util.Random random = new java.util.Random(11);
+        String[] owners = {"kim", "lee", "park"};
+        boolean consistent = true;
+        for (int step = 0; step < 300 && consistent; step++) {
+            int size = service.getTodoCount();
+            int op = random.nextInt(10);
+            if (op < 4 || size == 0) {
+                LocalDate due = random.nextInt(4) == 0 ? null : today.plusDays(random.nextInt(20) - 10);
+                Todo todo = new Todo("항목" + step, "", due);
+                todo.setMetadataField("owner", owners[random.nextInt(owners.length)]);
+                service.addAll(List.of(todo));
+            } else if (op < 6) {
+                service.toggleTodo(random.nextInt(size));
+            } else if (op < 8) {
+                service.deleteTodo(random.nextInt(size));
+            } else if (op == 8) {
+                service.completeAll(todo -> random.nextInt(4) == 0);
+            } else {
+                service.deleteWhere(todo -> todo.isCompleted() && random.nextBoolean());
+            }
+            consistent = matchesStats(service, today);
+        }
+        TestRunner.assertTrue(consistent, "임의 변경 후 직접 센 결과와 같은 집계");
+        
+        // 원격 서비스도 집계 제공
+        try (TodoServer server = new TodoServer(service, 0)) {
+            Thread.ofVirtual().start(server::serve);
+            try (RemoteTodoService remote = new RemoteTodoService(server.getPort())) {
+                TodoStats local = service.getStats();
+                TodoStats remoteStats = remote.getStats();
+                TestRunner.assertEquals(local.getCompleted(), remoteStats.getCompleted(), "원격 완료 개수");
+                TestRunner.assertEquals(local.getOverdue(), remoteStats.getOverdue(), "원격 마감 지남");
+                TestRunner.assertEquals(local.getGroup("owner").keySet(), remoteStats.getGroup("owner").keySet(),
+                        "원격 담당자 목록");
+                TestRunner.assertTrue(java.util.Arrays.equals(local.getCompletedPerDay(), remoteStats.getCompletedPerDay()),
+                        "원격 완료 추이");
+            }
+        } catch (java.io.IOException e) {
+            TestRunner.assertTrue(false, "서버 통신 오류: " + e.getMessage());
+        }
+    }
+    
+    private static void testReminders() {
+        TestRunner.startTest("마감일 알림");
+        cleanupTestFile();
+        
+        LocalDate today = LocalDate.of(2030, 3, 14);
+        ManualClock clock = new ManualClock(today.atTime(8, 0).toInstant(ZoneOffset.UTC));
+        ReminderScheduler reminders = new ReminderScheduler(clock, LocalTime.of(9, 0));
+        List<Reminder> received = new java.util.ArrayList<>();
+        reminders.addListener(received::add);
+        reminders.addListener(reminder -> {
+            throw new IllegalStateException("실패하는 리스너");
+        });
+        
+        TodoServiceImpl service = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE));
+        service.addTodo("오늘", "", today);
+        service.addTodo("내일", "", today.plusDays(1));
+        service.addTodo("어제", "", today.minusDays(1));
+        service.addTodo("지난주", "", today.minusDays(7));
+        service.addTodo("날짜 없음", "", null);
+        service.setReminders(reminders);
+        TestRunner.assertEquals(3, reminders.getPending(), "마감일이 가까운 미완료 Todo만 예약");
+        
+        clock.advance(30 * 60);
+        TestRunner.assertEquals(0, reminders.runDue(), "알림 시각 전에는 전달하지 않음");
+        clock.advance(30 * 60);
+        TestRunner.assertEquals(2, reminders.runDue(), "알림 시각에 오늘/어제 마감 알림 전달");
+        TestRunner.assertEquals(Reminder.Kind.DUE, find(received, "오늘").getKind(), "오늘 마감은 DUE");
+        TestRunner.assertEquals(Reminder.Kind.OVERDUE, find(received, "어제").getKind(), "어제 마감은 OVERDUE");
+        TestRunner.assertEquals(2L, reminders.getFailures(), "리스너 예외는 세기만 하고 다른 리스너에 전달");
+        TestRunner.assertEquals(2, reminders.getPending(), "DUE를 보낸 Todo는 다음 날 OVERDUE 예약");
+        
+        service.toggleTodo(1);
+        TestRunner.assertEquals(1, reminders.getPending(), "완료하면 알림 취소");
+        service.addTodo("방금 추가", "", today);
+        clock.advance(1);
+        TestRunner.assertEquals(1, reminders.runDue(), "알림 시각 뒤에 추가한 오늘 마감은 바로 전달");
+        service.deleteTodo(0);
+        TestRunner.assertEquals(1, reminders.getPending(), "삭제하면 알림 취소");
+        clock.advance(24 * 60 * 60);
+        reminders.runDue();
+        TestRunner.assertEquals(Reminder.Kind.OVERDUE, received.get(received.size() - 1).getKind(), "다음 날 OVERDUE 전달");
+        TestRunner.assertEquals(0, reminders.getPending(), "OVERDUE 뒤에는 예약 없음");
+        
+        // 임의의 마감일과 시간 간격으로 진행해도 각 Todo가 제시각 이후 첫 진행에서 DUE, OVERDUE 순으로 한 번씩 알림
+        java.util.Random random = new java.util.Random(47);
+        for (int i = 0; i < 500; i++) {
+            service.addTodo("무작위" + i, "", today.plusDays(2 + random.nextInt(60)));
+        }
+        received.clear();
+        boolean onTime = true;
+        Instant previous = clock.instant();
+        while (reminders.getPending() > 0 && onTime) {
+            clock.advance(1 + random.nextInt(6 * 60 * 60));
+            int before = received.size();
+            reminders.runDue();
+            for (Reminder reminder : received.subList(before, received.size())) {
+                Instant at = reminder.getTime().toInstant(ZoneOffset.UTC);
+                onTime &= at.isAfter(previous) && !at.isAfter(clock.instant());
+            }
+            previous = clock.instant();
+        }
+        java.util.Map<String, List<Reminder.Kind>> kinds = new java.util.HashMap<>();
+        received.forEach(reminder -> kinds.computeIfAbsent(reminder.getTodo().getTitle(), k -> new java.util.ArrayList<>())
+                .add(reminder.getKind()));
+        TestRunner.assertTrue(onTime, "예약 시각 이후 첫 진행에서 전달");
+        TestRunner.assertEquals(500, kinds.size(), "모든 Todo에 알림");
+        TestRunner.assertTrue(kinds.values().stream()
+                .allMatch(list -> list.equals(List.of(Reminder.Kind.DUE, Reminder.Kind.OVERDUE))), "DUE 다음 OVERDUE");
+    }
+    
+    private static void testRecurring() {
+        TestRunner.startTest("반복 Todo");
+        cleanupTestFile();
+        
+        LocalDate today = LocalDate.now();
+        TodoServiceImpl service = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE));
+        service.addAll(List.of(
+                recurring("주간 청소", today, "weekly", null),
+                recurring("월말 정산", LocalDate.of(2040, 1, 31), "monthly", null),
+                recurring("밀린 운동", today.minusDays(10), "daily", null),
+                recurring("마지막 회차", today, "daily", today)));
+        service.addTodo("한 번", "", today.plusDays(3));
+        
+        TodoPage window = service.getOccurrences(today, today.plusDays(27), 100);
+        TestRunner.assertEquals(34, window.getTotal(), "기간 안의 회차 수 (주간 4 + 매일 28 + 마지막 1 + 한 번 1)");
+        TestRunner.assertEquals(34, window.size(), "회차를 모두 만듦");
+        boolean ordered = true;
+        int weekly = 0;
+        for (int i = 0; i < window.size(); i++) {
+            ordered &= i == 0 || !window.get(i).getDueDate().isBefore(window.get(i - 1).getDueDate());
+            weekly += window.getIndex(i) == 0 ? 1 : 0;
+        }
+        TestRunner.assertTrue(ordered, "날짜 순");
+        TestRunner.assertEquals(4, weekly, "주간 회차는 모두 원래 줄을 가리킴");
+        TestRunner.assertEquals(5, service.getTodoCount(), "회차는 목록에 들어가지 않음");
+        
+        TestRunner.assertTrue(service.toggleTodo(0), "주간 회차 완료");
+        Todo cleaning = service.getTodoAt(0);
+        TestRunner.assertTrue(!cleaning.isCompleted(), "반복 Todo는 미완료로 남음");
+        TestRunner.assertEquals(today.plusDays(7), cleaning.getDueDate(), "다음 회차로 이동");
+        TestRunner.assertEquals(3L, service.getOccurrences(today, today.plusDays(27), 100).getTodos().stream()
+                .filter(todo -> todo.getTitle().equals("주간 청소")).count(), "완료한 회차는 기간 조회에서 빠짐");
+        
+        service.toggleTodo(1);
+        TestRunner.assertEquals(LocalDate.of(2040, 2, 29), service.getTodoAt(1).getDueDate(), "짧은 달은 말일로");
+        service.toggleTodo(1);
+        TestRunner.assertEquals(LocalDate.of(2040, 3, 31), service.getTodoAt(1).getDueDate(), "기준일로 세어 다시 31일");
+        service.toggleTodo(2);
+        TestRunner.assertEquals(today, service.getTodoAt(2).getDueDate(), "놓친 회차는 건너뛰고 오늘 회차로");
+        service.toggleTodo(3);
+        TestRunner.assertTrue(service.getTodoAt(3).isCompleted(), "마지막 회차를 끝내면 완료");
+        TestRunner.assertEquals(5, service.getStats().getCompletedPerDay()[TodoStats.SERIES_DAYS - 1],
+                "완료한 회차마다 오늘 완료 수에 셈");
+        service.toggleTodo(3);
+        TestRunner.assertEquals(4, service.getStats().getCompletedPerDay()[TodoStats.SERIES_DAYS - 1],
+                "되돌린 마지막 회차는 빠짐");
+        service.toggleTodo(3);
+        
+        TodoPage lazy = service.getOccurrences(today, today.plusYears(100), 3);
+        TestRunner.assertEquals(3, lazy.size(), "긴 기간도 limit개만 만듦");
+        TestRunner.assertTrue(lazy.getTotal() > 36500, "전체 회차 수는 만들지 않고 셈");
+        
+        TodoServiceImpl reloaded = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE));
+        TestRunner.assertEquals(5, reloaded.getTodoCount(), "저장된 줄 수는 그대로");
+        TestRunner.assertEquals("2040-01-31", reloaded.getTodoAt(1).getMetadataField(Recurrence.START_KEY), "기준일 저장");
+        TestRunner.assertEquals(LocalDate.of(2040, 3, 31), reloaded.getTodoAt(1).getDueDate(), "다음 회차 저장");
+        TestRunner.assertEquals(5, reloaded.getStats().getCompletedPerDay()[TodoStats.SERIES_DAYS - 1],
+                "다시 읽어도 회차별 완료 수 유지");
+        
+        // 회차 수 계산이 하나씩 센 결과와 같은지 확인
+        java.util.Random random = new java.util.Random(48);
+        String[] rules = {"daily", "weekly", "monthly", "yearly", "3d", "2w", "5m"};
+        boolean counted = true;
+        for (int i = 0; i < 200 && counted; i++) {
+            LocalDate start = LocalDate.of(2030, 1, 1).plusDays(random.nextInt(400));
+            LocalDate until = random.nextBoolean() ? null : start.plusDays(random.nextInt(2000));
+            Recurrence repeat = Recurrence.of(recurring("", start, rules[random.nextInt(rules.length)], until));
+            LocalDate from = start.plusDays(random.nextInt(800) - 100);
+            LocalDate to = from.plusDays(random.nextInt(1500));
+            long expected = 0;
+            for (LocalDate d = repeat.firstOnOrAfter(from); d != null && !d.isAfter(to); d = repeat.firstAfter(d)) {
+                expected++;
+            }
+            counted = expected == repeat.count(from, to);
+        }
+        TestRunner.assertTrue(counted, "회차 수 계산");
+        
+        // LocalDate.MAX를 넘는 회차에서 예외 없이 끝남
+        Recurrence huge = Recurrence.of(recurring("", today, Integer.MAX_VALUE + "y", null));
+        TestRunner.assertEquals(null, huge.firstAfter(today), "간격이 너무 크면 다음 회차 없음");
+        TestRunner.assertEquals(1L, huge.count(today, LocalDate.MAX), "간격이 너무 크면 첫 회차만 셈");
+        Recurrence daily = Recurrence.of(recurring("", LocalDate.MAX.minusDays(2), "daily", null));
+        TestRunner.assertEquals(3L, daily.count(LocalDate.MIN, LocalDate.MAX), "LocalDate.MAX까지의 회차 수");
+        TestRunner.assertEquals(null, daily.firstAfter(LocalDate.MAX), "LocalDate.MAX 다음 회차 없음");
+        TodoServiceImpl edge = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE + ".edge"));
+        edge.addAll(List.of(recurring("먼 반복", today, "999999999y", null),
+                recurring("끝 반복", LocalDate.MAX.minusDays(1), "daily", null)));
+        TestRunner.assertEquals(3, edge.getOccurrences(today, LocalDate.MAX, 10).size(), "먼 기간 회차 조회");
+        TestRunner.assertTrue(edge.toggleTodo(1) && edge.toggleTodo(1), "LocalDate.MAX 회차까지 완료");
+        TestRunner.assertTrue(edge.getTodoAt(1).isCompleted(), "LocalDate.MAX 다음 회차가 없으면 완료");
+        new java.io.File(TEST_FILE + ".edge").delete();
+        TestRunner.assertTrue(Recurrence.isValid("2W") && !Recurrence.isValid("0d") && !Recurrence.isValid("often"),
+                "반복 규칙 검사");
+        
+        try (TodoServer server = new TodoServer(service, 0)) {
+            Thread.ofVirtual().start(server::serve);
+            try (RemoteTodoService remote = new RemoteTodoService(server.getPort())) {
+                TodoPage local = service.getOccurrences(today, today.plusDays(13), 50);
+                TodoPage remotePage = remote.getOccurrences(today, today.plusDays(13), 50);
+                boolean same = local.size() == remotePage.size() && local.getTotal() == remotePage.getTotal();
+                for (int i = 0; same && i < local.size(); i++) {
+                    same = local.getIndex(i) == remotePage.getIndex(i)
+                            && local.get(i).getDueDate().equals(remotePage.get(i).getDueDate());
+                }
+                TestRunner.assertTrue(same, "원격 회차 조회");
+            }
+        } catch (java.io.IOException e) {
+            TestRunner.assertTrue(false, "서버 통신 오류: " + e.getMessage());
+        }
+    }
+    
+    private static void testSubtasks() {
+        TestRunner.startTest("하위 작업");
+        cleanupTestFile();
+        
+        TodoServiceImpl service = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE));
+        service.addTodo("프로젝트", "", null);
+        TestRunner.assertTrue(service.addSubtask(0, new Todo("설계", "")), "하위 작업 추가");
+        service.addSubtask(0, new Todo("구현", ""));
+        service.addSubtask(2, new Todo("테스트", ""));
+        service.addTodo("따로", "", null);
+        TestRunner.assertTrue(!service.addSubtask(9, new Todo("없는 부모", "")), "없는 부모에는 추가하지 않음");
+        TestRunner.assertEquals(service.getTodoAt(0).getMetadataField(TodoOutline.ID_KEY),
+                service.getTodoAt(1).getMetadataField(TodoOutline.PARENT_KEY), "부모 ID를 메타데이터에 기록");
+        
+        TodoOutline outline = service.getOutline();
+        TestRunner.assertEquals("[0, 1, 2, 3, 4]", indicesOf(outline), "부모 다음에 자식");
+        TestRunner.assertEquals(2, outline.getDepth(3), "손자 깊이");
+        TestRunner.assertEquals(3, outline.getTotal(0), "모든 자손 수");
+        
+        service.toggleTodo(3);
+        outline = service.getOutline();
+        TestRunner.assertEquals(1, outline.getDone(0), "손자 완료가 조상까지 반영");
+        TestRunner.assertEquals(1, outline.getDone(2), "자식 완료 수");
+        service.toggleTodo(3);
+        TestRunner.assertEquals(0, service.getOutline().getDone(0), "되돌리면 다시 뺌");
+        service.toggleTodo(1);
+        
+        TodoServiceImpl reloaded = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE));
+        TestRunner.assertEquals(1, reloaded.getOutline().getDone(0), "다시 읽어도 같은 트리");
+        TestRunner.assertEquals(3, reloaded.getOutline().getTotal(0), "다시 읽은 자손 수");
+        
+        TestRunner.assertTrue(service.deleteTodo(2), "부모 삭제");
+        TestRunner.assertEquals(3, service.getTodoCount(), "자손도 함께 삭제");
+        TestRunner.assertEquals(1, service.getOutline().getTotal(0), "삭제 후 자손 수");
+        TestRunner.assertEquals(3, new TodoServiceImpl(new TodoCsvRepository(TEST_FILE)).getTodoCount(), "자손까지 지운 목록이 저장됨");
+        
+        // 임의의 변경을 섞은 뒤 부모 링크를 직접 따라가 센 결과와 비교
+        java.util.Random random = new java.util.Random(49);
+        boolean consistent = true;
+        for (int step = 0; step < 300 && consistent; step++) {
+            int size = service.getTodoCount();
+            int op = random.nextInt(10);
+            if (op < 2 || size == 0) {
+                service.addTodo("항목" + step, "", null);
+            } else if (op < 5) {
+                service.addSubtask(random.nextInt(size), new Todo("하위" + step, ""));
+            } else if (op < 7) {
+                service.toggleTodo(random.nextInt(size));
+            } else if (op < 8) {
+                service.deleteTodo(random.nextInt(size));
+            } else if (op < 9) {
+                service.deleteAll(List.of(random.nextInt(size), random.nextInt(size)));
+            } else {
+                service.deleteWhere(todo -> todo.isCompleted() && random.nextInt(3) == 0);
+            }
+            consistent = matchesOutline(service);
+        }
+        TestRunner.assertTrue(consistent, "임의 변경 후 직접 센 결과와 같은 트리");
+        
+        try (TodoServer server = new TodoServer(service, 0)) {
+            Thread.ofVirtual().start(server::serve);
+            try (RemoteTodoService remote = new RemoteTodoService(server.getPort())) {
+                TestRunner.assertTrue(remote.addSubtask(0, new Todo("원격 하위", "")), "원격 하위 작업 추가");
+                TodoOutline local = service.getOutline();
+                TodoOutline remoteOutline = remote.getOutline();
+                TestRunner.assertEquals(indicesOf(local), indicesOf(remoteOutline), "원격 트리 순서");
+                TestRunner.assertEquals(local.getTotal(0), remoteOutline.getTotal(0), "원격 자손 수");
+            }
+        } catch (java.io.IOException e) {
+            TestRunner.assertTrue(false, "서버 통신 오류: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 하위 작업 ID 테스트: 보관된 부모의 ID를 다시 쓰지 않고, 샤드 저장소가 부여한 ID를 그대로 씀
+     */
+    private static void testSubtaskIds() {
+        TestRunner.startTest("하위 작업 ID");
+        cleanupTestFile();
+        
+        TodoServiceImpl service = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE));
+        service.addTodo("부모", "", null);
+        service.addSubtask(0, new Todo("자식", ""));
+        service.toggleTodo(0);
+        TestRunner.assertEquals(1, new TodoServiceImpl(new TodoCsvRepository(TEST_FILE), new ArchivePolicy(0))
+                .getTodoCount(), "완료한 부모를 보관");
+        TodoServiceImpl restarted = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE));
+        restarted.addTodo("새 부모", "", null);
+        restarted.addSubtask(1, new Todo("새 자식", ""));
+        TodoOutline outline = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE)).getOutline();
+        TestRunner.assertEquals("[0, 1, 2]", indicesOf(outline), "남은 자식은 새 부모에 붙지 않음");
+        TestRunner.assertEquals(0, outline.getDepth(0), "보관된 부모의 자식은 최상위");
+        TestRunner.assertEquals(1, outline.getTotal(1), "새 부모의 자손은 새 자식뿐");
+        
+        String dir = "test_subtask_ids.d";
+        deleteDirectory(new File(dir));
+        TodoServiceImpl sharded = new TodoServiceImpl(
+                new TodoShardedRepository(dir, TodoShardedRepository.Strategy.ID_HASH, 2));
+        sharded.addTodo("앞", "", null);
+        sharded.addTodo("부모", "", null);
+        TestRunner.assertTrue(sharded.addSubtask(1, new Todo("자식", "")), "샤드 저장소에 하위 작업 추가");
+        TodoServiceImpl reloaded = new TodoServiceImpl(
+                new TodoShardedRepository(dir, TodoShardedRepository.Strategy.ID_HASH, 2));
+        TestRunner.assertEquals(reloaded.getTodoAt(1).getMetadataField(TodoOutline.ID_KEY),
+                reloaded.getTodoAt(2).getMetadataField(TodoOutline.PARENT_KEY), "저장소가 부여한 부모 ID를 가리킴");
+        TestRunner.assertEquals(1, reloaded.getOutline().getDepth(2), "다시 읽어도 부모 아래");
+        deleteDirectory(new File(dir));
+    }
+    
+    private static void deleteDirectory(File dir) {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+    
+    private static void testDependencies() {
+        TestRunner.startTest("선후 관계와 시작 가능 목록");
+        cleanupTestFile();
+        
+        TodoServiceImpl service = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE));
+        for (String title : new String[] {"설계", "구현", "배포", "회의"}) {
+            service.addTodo(title, "", null);
+        }
+        TestRunner.assertTrue(service.addDependency(0, 1), "설계 다음 구현");
+        TestRunner.assertTrue(service.addDependency(1, 2), "구현 다음 배포");
+        TestRunner.assertEquals("[0, 3]", indicesOf(service.getReady(10)), "선행 Todo가 없는 Todo만 시작 가능");
+        TestRunner.assertEquals(TodoOrder.TOPOLOGICAL, service.getReady(10).getOrder(), "위상 순서 페이지로 표시");
+        TestRunner.assertTrue(!service.addDependency(2, 0), "순환이 생기는 관계는 거부");
+        TestRunner.assertTrue(service.getTodoAt(0).getMetadataField(TodoDependencies.BLOCKED_BY_KEY) == null,
+                "거부한 관계는 기록하지 않음");
+        TestRunner.assertTrue(service.addDependency(3, 0), "순서를 거스르는 관계는 위상 순서를 고쳐 추가");
+        TestRunner.assertEquals("[3]", indicesOf(service.getReady(10)), "회의가 먼저");
+        TestRunner.assertTrue(!service.addDependency(2, 3), "고친 순서에서도 순환 검사");
+        
+        service.toggleTodo(3);
+        TestRunner.assertEquals("[0]", indicesOf(service.getReady(10)), "선행 Todo를 완료하면 바로 시작 가능");
+        service.toggleTodo(0);
+        service.toggleTodo(0);
+        TestRunner.assertEquals("[0]", indicesOf(service.getReady(10)), "완료를 되돌리면 후행 Todo는 다시 대기");
+        service.toggleTodo(0);
+        TestRunner.assertEquals("[1]", indicesOf(service.getReady(10)), "구현 시작 가능");
+        
+        TodoServiceImpl reloaded = new TodoServiceImpl(new TodoCsvRepository(TEST_FILE));
+        TestRunner.assertEquals("[1]", indicesOf(reloaded.getReady(10)), "다시 읽어도 같은 관계");
+        
+        Todo hotfix = new Todo("핫픽스", "");
+        hotfix.setMetadataField(TodoDependencies.BLOCKS_KEY, service.getTodoAt(2).getMetadataField(TodoOutline.ID_KEY));
+        service.addAll(List.of(hotfix));
+        service.deleteTodo(1);
+        TestRunner.assertEquals("[3]", indicesOf(service.getReady(10)), "blocks로 선언한 관계도 반영, 삭제된 선행 Todo는 풀림");
+        service.toggleTodo(3);
+        TestRunner.assertEquals("[1]", indicesOf(service.getReady(10)), "모든 선행 Todo가 끝나면 시작 가능");
+        
+        // 임의의 관계 추가/토글/삭제 뒤 메타데이터로 직접 만든 그래프와 비교
+        java.util.Random random = new java.util.Random(50);
+        boolean consistent = true;
+        for (int step = 0; step < 400 && consistent; step++) {
+            int size = service.getTodoCount();
+            int op = random.nextInt(10);
+            if (op < 2 || size < 2) {
+                service.addTodo("항목" + step, "", null);
+            } else if (op < 6) {
+                int blocker = random.nextInt(size);
+                int blocked = random.nextInt(size);
+                boolean cycle = blocker == blocked || reaches(service.getAllTodos(), blocked, blocker);
+                consistent = service.addDependency(blocker, blocked) != cycle;
+            } else if (op < 8) {
+                service.toggleTodo(random.nextInt(size));
+            } else {
+                service.deleteTodo(random.nextInt(size));
+            }
+            consistent &= matchesReady(service);
+        }
+        TestRunner.assertTrue(consistent, "임의 변경 후 순환 검사와 시작 가능 목록이 직접 계산한 결과와 같음");
+        
+        try (TodoServer server = new TodoServer(service, 0)) {
+            Thread.ofVirtual().start(server::serve);
+            try (RemoteTodoService remote = new RemoteTodoService(server.getPort())) {
+                remote.addDependency(0, 1);
+                TestRunner.assertEquals(indicesOf(service.getReady(50)), indicesOf(remote.getReady(50)), "원격 시작 가능 목록");
+            }
+        } catch (java.io.IOException e) {
+            TestRunner.assertTrue(false, "서버 통신 오류: " + e.getMessage());
+        }
+    }
+    
+    private static String indicesOf(TodoPage page) {
+        int[] indices = new int[page.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = page.getIndex(i);
+        }
+        return java.util.Arrays.toString(indices);
+    }
+    
+    /**
+     * 메타데이터의 blockedBy/blocks를 따라 from에서 to로 가는 길이 있는지 (from을 끝내야 ... to를 시작할 수 있음)
+     */
+    private static boolean reaches(List<Todo> all, int from, int to) {
+        List<List<Integer>> blockers = blockersOf(all);
+        java.util.Deque<Integer> stack = new java.util.ArrayDeque<>(List.of(from));
+        boolean[] seen = new boolean[all.size()];
+        while (!stack.isEmpty()) {
+            int node = stack.pop();
+            if (node == to) {
+                return true;
+            }
+            if (seen[node]) {
+                continue;
+            }
+            seen[node] = true;
+            for (int i = 0; i < all.size(); i++) {
+                if (blockers.get(i).contains(node)) {
+                    stack.push(i);
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Todo마다 목록에 남은 선행 Todo의 인덱스 (blockedBy와 다른 Todo의 blocks를 모두 봄)
+     */
+    private static List<List<Integer>> blockersOf(List<Todo> all) {
+        java.util.Map<String, Integer> byId = new java.util.HashMap<>();
+        for (int i = 0; i < all.size(); i++) {
+            String id = all.get(i).getMetadataField(TodoOutline.ID_KEY);
+            if (id != null) {
+                byId.putIfAbsent(id, i);
+            }
+        }
+        List<List<Integer>> blockers = new java.util.ArrayList<>();
+        for (int i = 0; i < all.size(); i++) {
+            blockers.add(new java.util.ArrayList<>());
+        }
+        for (int i = 0; i < all.size(); i++) {
+            for (String id : ids(all.get(i).getMetadataField(TodoDependencies.BLOCKED_BY_KEY))) {
+                Integer blocker = byId.get(id);
+                if (blocker != null) {
+                    blockers.get(i).add(blocker);
+                }
+            }
+            for (String id : ids(all.get(i).getMetadataField(TodoDependencies.BLOCKS_KEY))) {
+                Integer blocked = byId.get(id);
+                if (blocked != null) {
+                    blockers.get(blocked).add(i);
+                }
+            }
+        }
+        return blockers;
+    }
+    
+    private static List<String> ids(String value) {
+        return value == null ? List.of() : List.of(value.split(","));
+    }
+    
+    /**
+     * 시작 가능 목록이 "미완료이고 목록에 남은 선행 Todo가 모두 완료"인 Todo와 같은지 확인
+     */
+    private static boolean matchesReady(TodoService service) {
+        List<Todo> all = service.getAllTodos();
+        List<List<Integer>> blockers = blockersOf(all);
+        java.util.Set<Integer> expected = new java.util.TreeSet<>();
+        for (int i = 0; i < all.size(); i++) {
+            Todo todo = all.get(i);
+            boolean waiting = blockers.get(i).stream().anyMatch(blocker -> !all.get(blocker).isCompleted());
+            if (!todo.isCompleted() && !waiting) {
+                expected.add(i);
+            }
+        }
+        TodoPage ready = service.getReady(all.size());
+        java.util.Set<Integer> actual = new java.util.TreeSet<>();
+        for (int i = 0; i < ready.size(); i++) {
+            actual.add(ready.getIndex(i));
+        }
+        return ready.getTotal() == expected.size() && actual.equals(expected);
+    }
+    
+    private static String indicesOf(TodoOutline outline) {
+        int[] indices = new int[outline.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = outline.getIndex(i);
+        }
+        return java.util.Arrays.toString(indices);
+    }
+    
+    /**
+     * 트리의 깊이와 자손 개수가 목록의 부모 링크를 직접 따라가 센 결과와 같은지 확인
+     * (삭제가 자손까지 지우므로 부모를 잃은 하위 작업도 없어야 함)
+     */
+    private static boolean matchesOutline(TodoService service) {
+        List<Todo> all = service.getAllTodos();
+        java.util.Map<String, Integer> byId = new java.util.HashMap<>();
+        for (int i = 0; i < all.size(); i++) {
+            String id = all.get(i).getMetadataField(TodoOutline.ID_KEY);
+            if (id != null) {
+                byId.putIfAbsent(id, i);
+            }
+        }
+        int[] total = new int[all.size()];
+        int[] done = new int[all.size()];
+        int[] depth = new int[all.size()];
+        for (int i = 0; i < all.size(); i++) {
+            String parentId = all.get(i).getMetadataField(TodoOutline.PARENT_KEY);
+            while (parentId != null) {
+                Integer parent = byId.get(parentId);
+                if (parent == null) {
+                    return false;  // 부모 없이 남은 하위 작업
+                }
+                total[parent]++;
+                done[parent] += all.get(i).isCompleted() ? 1 : 0;
+                depth[i]++;
+                parentId = all.get(parent).getMetadataField(TodoOutline.PARENT_KEY);
+            }
+        }
+        TodoOutline outline = service.getOutline();
+        if (outline.size() != all.size()) {
+            return false;
+        }
+        for (int i = 0; i < outline.size(); i++) {
+            int index = outline.getIndex(i);
+            if (outline.getTotal(i) != total[index] || outline.getDone(i) != done[index]
+                    || outline.getDepth(i) != depth[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static Todo recurring(String title, LocalDate due, String rule, LocalDate until) {
+        Todo todo = new Todo(title, "", due);
+        todo.setMetadataField(Recurrence.KEY, rule);
+        if (until != null) {
+            todo.setMetadataField(Recurrence.UNTIL_KEY, until.toString());
+        }
+        return todo;
+    }
+    
+    private static Reminder find(List<Reminder> reminders, String title) {
+        return reminders.stream().filter(reminder -> reminder.getTodo().getTitle().equals(title)).findFirst().orElse(null);
+    }
+    
+    /**
+     * 테스트에서 직접 움직이는 UTC 시계
+     */
+    private static final class ManualClock extends Clock {
+        private Instant now;
+        
+        ManualClock(Instant now) {
+            this.now = now;
+        }
+        
+        void advance(long seconds) {
+            now = now.plusSeconds(seconds);
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+    
+    /**
+     * 집계가 목록을 직접 훑어 센 결과와 같은지 확인
+     */
+    private static boolean matchesStats(TodoService service, LocalDate today) {
+        int completed = 0;
+        int overdue = 0;
+        int dueThisWeek = 0;
+        java.util.Map<String, Integer> owners = new java.util.HashMap<>();
+        List<Todo> all = service.getAllTodos();
+        for (Todo todo : all) {
+            owners.merge(todo.getMetadataField("owner"), 1, Integer::sum);
+            if (todo.isCompleted()) {
+                completed++;
+            } else if (todo.getDueDate() != null && todo.getDueDate().isBefore(today)) {
+                overdue++;
+            } else if (todo.getDueDate() != null && todo.getDueDate().isBefore(today.plusDays(TodoStats.WEEK_DAYS))) {
+                dueThisWeek++;
+            }
+        }
+        owners.remove(null);
+        TodoStats stats = service.getStats();
+        java.util.Map<String, Integer> counted = new java.util.HashMap<>();
+        stats.getGroup("owner").forEach((owner, count) -> counted.put(owner, count.getTotal()));
+        return stats.getTotal() == all.size() && stats.getCompleted() == completed
+                && stats.getOverdue() == overdue && stats.getDueThisWeek() == dueThisWeek
+                && counted.equals(owners)
+                && stats.getCompletedPerDay()[TodoStats.SERIES_DAYS - 1] == completed;
+    }
+    
+    /**
+     * 모든 정렬 기준의 전체 페이지가 목록을 직접 정렬한 결과와 같은지 확인
+     */
+    private static boolean matchesFullSort(TodoService service) {
+        List<Todo> all = service.getAllTodos();
+        java.text.Collator collator = java.text.Collator.getInstance(java.util.Locale.KOREAN);
+        for (TodoOrder order : List.of(TodoOrder.DUE_DATE, TodoOrder.TITLE, TodoOrder.STATUS)) {
+            java.util.Comparator<Integer> comparator;
+            switch (order) {
+                case DUE_DATE:
+                    comparator = java.util.Comparator.comparing((Integer i) -> all.get(i).getDueDate(),
+                            java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder()));
+                    break;
+                case TITLE:
+                    comparator = (a, b) -> collator.compare(all.get(a).getTitle(), all.get(b).getTitle());
+                    break;
+                default:
+                    comparator = java.util.Comparator.comparing((Integer i) -> all.get(i).isCompleted());
+            }
+            List<Integer> expected = new java.util.ArrayList<>();
+            for (int i = 0; i < all.size(); i++) {
+                expected.add(i);
+            }
+            expected.sort(comparator.thenComparing(java.util.Comparator.naturalOrder()));
+            TodoPage page = service.getSortedTodos(order, 0, all.size());
+            if (page.getTotal() != all.size() || page.size() != all.size()) {
+                return false;
+            }
+            for (int i = 0; i < all.size(); i++) {
+                if (page.getIndex(i) != expected.get(i) || !page.get(i).toString().equals(all.get(expected.get(i)).toString())) {
+                    return false;
+                }
+            }
+            // 뒤쪽 절반의 페이지는 끝에서부터 거꾸로 세어 찾음
+            int offset = all.size() * 2 / 3;
+            TodoPage tail = service.getSortedTodos(order, offset, 5);
+            for (int i = 0; i < tail.size(); i++) {
+                if (tail.getIndex(i) != expected.get(offset + i)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    private static void deleteSlowLogs(java.nio.file.Path logFile) {
+        for (String suffix : new String[] {"", ".1", ".2"}) {
+            new File(logFile + suffix).delete();
+        }
+    }
+    
     private static TodoService createService() {
         TodoRepository repository = new TodoCsvRepository(TEST_FILE);
         return new TodoServiceImpl(repository);
@@ -302,5 +1615,9 @@ public class TodoServiceTest {
         if (file.exists()) {
             file.delete();
         }
+        File archive = new File(TEST_FILE + ".archive.gz");
+        if (archive.exists()) {
+            archive.delete();
+        }
     }
 }
\ No newline at end of file
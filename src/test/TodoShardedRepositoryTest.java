@@ -0,0 +1,304 @@
+package test;
+
+import todo.domain.Todo;
+import todo.domain.TodoChange;
+import todo.domain.TodoFilter;
+import todo.infrastructure.TodoShardedRepository;
+import java.io.File;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TodoShardedRepository 클래스 테스트
+ *
+ * 여러 샤드 파일로 나누어 저장하는 저장소의 동작을 검증합니다.
+ */
+public class TodoShardedRepositoryTest {
+    private static final String TEST_DIR = "test_todos.d";
+
+    public static void main(String[] args) {
+        TestRunner.reset();
+
+        // 테스트 디렉터리 정리
+        cleanupTestDir();
+
+        // 테스트 실행
+        testSaveAndLoadKeepsOrder();
+        testFilteredLoad();
+        testOnlyTouchedShardsRewritten();
+        testAppendAndReopen();
+        testDueMonthStrategy();
+        testDictionaryShards();
+        testConflictWritesNoShard();
+        testPollChanges();
+
+        // 테스트 디렉터리 정리
+        cleanupTestDir();
+
+        // 결과 출력
+        TestRunner.printSummary();
+    }
+
+    /**
+     * 저장 후 로드 시 추가 순서 유지 테스트
+     */
+    private static void testSaveAndLoadKeepsOrder() {
+        TestRunner.startTest("샤드 저장 및 순서 유지");
+        cleanupTestDir();
+
+        TodoShardedRepository repo = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 4);
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            todos.add(new Todo("할 일 " + i, "설명 " + i));
+        }
+        TestRunner.assertTrue(repo.save(todos), "저장 성공");
+
+        List<Todo> loaded = repo.load();
+        TestRunner.assertEquals(20, loaded.size(), "모든 Todo 로드됨");
+        TestRunner.assertEquals("할 일 0", loaded.get(0).getTitle(), "첫 번째 순서 유지");
+        TestRunner.assertEquals("할 일 19", loaded.get(19).getTitle(), "마지막 순서 유지");
+        TestRunner.assertTrue(shardFileCount() > 1, "여러 샤드 파일로 분산됨");
+    }
+
+    /**
+     * 사전 모드 샤드 저장 및 로드 테스트
+     */
+    private static void testDictionaryShards() {
+        TestRunner.startTest("사전 모드 샤드");
+        cleanupTestDir();
+
+        TodoShardedRepository repo = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 2, true);
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Todo todo = new Todo("할 일 " + i, "");
+            todo.setMetadataField("owner", "kim");
+            todos.add(todo);
+        }
+        TestRunner.assertTrue(repo.save(todos), "사전 모드 저장 성공");
+        boolean coded = false;
+        for (File file : new File(TEST_DIR).listFiles((dir, name) -> name.endsWith(".csv"))) {
+            try {
+                coded |= java.nio.file.Files.readString(file.toPath()).contains("#d,");
+            } catch (java.io.IOException e) {
+                TestRunner.assertTrue(false, "샤드 읽기 오류: " + e.getMessage());
+            }
+        }
+        TestRunner.assertTrue(coded, "샤드에 사전 정의 줄이 기록됨");
+
+        List<Todo> loaded = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 2).load();
+        TestRunner.assertEquals(10, loaded.size(), "모든 Todo 로드됨");
+        TestRunner.assertEquals("kim", loaded.get(9).getMetadataField("owner"), "사전 코드로 기록한 값 복원");
+    }
+
+    /**
+     * 필터 의미가 단일 파일 저장소와 같은지 테스트
+     */
+    private static void testFilteredLoad() {
+        TestRunner.startTest("샤드 필터링 로드");
+        cleanupTestDir();
+
+        TodoShardedRepository repo = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 3);
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            Todo todo = new Todo("할 일 " + i, "설명");
+            todo.setCompleted(i % 3 == 0);
+            todos.add(todo);
+        }
+        repo.save(todos);
+
+        List<Todo> completed = repo.load(TodoFilter.COMPLETED);
+        TestRunner.assertEquals(3, completed.size(), "완료 필터: 3개");
+        TestRunner.assertEquals("할 일 3", completed.get(1).getTitle(), "완료 목록도 순서 유지");
+        TestRunner.assertEquals(6, repo.load(TodoFilter.INCOMPLETE).size(), "미완료 필터: 6개");
+    }
+
+    /**
+     * 변경된 샤드만 다시 쓰는지 테스트
+     */
+    private static void testOnlyTouchedShardsRewritten() {
+        TestRunner.startTest("변경된 샤드만 다시 쓰기");
+        cleanupTestDir();
+
+        TodoShardedRepository repo = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 8);
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            todos.add(new Todo("할 일 " + i, "설명"));
+        }
+        repo.save(todos);
+        Map<String, Long> before = shardModifiedTimes();
+
+        sleepQuietly(50);
+        todos.get(7).setCompleted(true);
+        repo.save(todos);
+
+        Map<String, Long> after = shardModifiedTimes();
+        int rewritten = 0;
+        for (Map.Entry<String, Long> e : after.entrySet()) {
+            if (!e.getValue().equals(before.get(e.getKey()))) {
+                rewritten++;
+            }
+        }
+        TestRunner.assertEquals(1, rewritten, "토글한 Todo의 샤드 하나만 다시 씀");
+        TestRunner.assertTrue(repo.load().get(7).isCompleted(), "변경 내용 저장됨");
+
+        List<Todo> loaded = repo.load();
+        for (int i = 0; i < 12; i++) {
+            loaded.get(3).setMetadataField("key" + i, "value" + i);  // 평평한 배열에서 HashMap으로 승격
+        }
+        repo.save(loaded);
+        long written = repo.getBytesWritten();
+        loaded.forEach(todo -> todo.getMetadata().entrySet().forEach(e -> e.getValue()));
+        TestRunner.assertTrue(repo.save(loaded), "읽기만 한 뒤 저장");
+        TestRunner.assertEquals(written, repo.getBytesWritten(), "메타데이터를 읽기만 하면 샤드를 다시 쓰지 않음");
+    }
+
+    /**
+     * 단일 추가와 manifest를 통한 재오픈 테스트
+     */
+    private static void testAppendAndReopen() {
+        TestRunner.startTest("샤드 추가 및 재오픈");
+        cleanupTestDir();
+
+        TodoShardedRepository repo = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 4);
+        repo.save(new Todo("첫째", "설명"));
+        repo.save(new Todo("둘째", "설명"));
+
+        // manifest에 기록된 샤드 수가 생성자 인자보다 우선
+        TodoShardedRepository reopened = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 16);
+        reopened.save(new Todo("셋째", "설명"));
+        List<Todo> loaded = reopened.load();
+        TestRunner.assertEquals(3, loaded.size(), "재오픈 후 모든 Todo 로드됨");
+        TestRunner.assertEquals("셋째", loaded.get(2).getTitle(), "새 ID가 이어서 부여됨");
+        TestRunner.assertEquals("3", loaded.get(2).getMetadataField(TodoShardedRepository.ID_KEY), "ID 3 부여");
+    }
+
+    /**
+     * 마감월 분배 방식 테스트
+     */
+    private static void testDueMonthStrategy() {
+        TestRunner.startTest("마감월 분배");
+        cleanupTestDir();
+
+        TodoShardedRepository repo = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.DUE_MONTH, 1);
+        List<Todo> todos = new ArrayList<>();
+        todos.add(new Todo("1월", "설명", LocalDate.of(2025, 1, 10)));
+        todos.add(new Todo("마감 없음", "설명"));
+        todos.add(new Todo("1월 또", "설명", LocalDate.of(2025, 1, 20)));
+        todos.add(new Todo("2월", "설명", LocalDate.of(2025, 2, 1)));
+        repo.save(todos);
+
+        TestRunner.assertTrue(new File(TEST_DIR, "due-2025-01.csv").exists(), "1월 샤드 생성");
+        TestRunner.assertTrue(new File(TEST_DIR, "due-2025-02.csv").exists(), "2월 샤드 생성");
+        TestRunner.assertTrue(new File(TEST_DIR, "no-due.csv").exists(), "마감일 없는 샤드 생성");
+        TestRunner.assertEquals("마감 없음", repo.load().get(1).getTitle(), "월별 분배 후에도 순서 유지");
+    }
+
+    /**
+     * 한 샤드라도 충돌하면 어느 샤드도 쓰지 않는지 테스트
+     */
+    private static void testConflictWritesNoShard() {
+        TestRunner.startTest("샤드 충돌 시 모두 쓰지 않음");
+        cleanupTestDir();
+
+        TodoShardedRepository writer = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 4);
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            todos.add(new Todo("할 일 " + i, "설명"));
+        }
+        writer.save(todos);
+
+        TodoShardedRepository mine = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 4);
+        List<Todo> loaded = mine.load();
+        TodoShardedRepository other = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 4);
+        List<Todo> theirs = other.load();
+        theirs.get(5).setCompleted(true);
+        TestRunner.assertTrue(other.save(theirs), "다른 프로세스 저장 성공");
+
+        for (Todo todo : loaded) {
+            todo.setCompleted(true);  // 모든 샤드를 다시 써야 하는 변경
+        }
+        TestRunner.assertFalse(mine.save(loaded), "한 샤드가 바뀌었으므로 충돌");
+
+        List<Todo> onDisk = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 4).load();
+        long completed = onDisk.stream().filter(Todo::isCompleted).count();
+        TestRunner.assertEquals(1L, completed, "충돌하지 않은 샤드도 쓰이지 않음");
+    }
+
+    /**
+     * 다른 프로세스의 추가/다시 쓰기를 샤드별로 감지하는지 테스트
+     */
+    private static void testPollChanges() {
+        TestRunner.startTest("샤드 외부 변경 감지");
+        cleanupTestDir();
+
+        TodoShardedRepository mine = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 2);
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            todos.add(new Todo("할 일 " + i, "설명"));
+        }
+        mine.save(todos);
+        TestRunner.assertNull(mine.pollChanges(), "자기 저장은 변경이 아님");
+
+        TodoShardedRepository other = new TodoShardedRepository(TEST_DIR, TodoShardedRepository.Strategy.ID_HASH, 2);
+        other.load();
+        other.saveAll(List.of(new Todo("추가 1", "설명"), new Todo("추가 2", "설명")));
+
+        TodoChange change = mine.pollChanges();
+        TestRunner.assertTrue(change != null && !change.isReloaded(), "덧붙은 줄만 가져옴");
+        TestRunner.assertEquals(2, change.getTodos().size(), "추가된 Todo 2개");
+        TestRunner.assertEquals("추가 1", change.getTodos().get(0).getTitle(), "ID 순으로 합침");
+        todos.addAll(change.getTodos());
+
+        List<Todo> theirs = other.load();
+        theirs.get(3).setCompleted(true);
+        other.save(theirs);
+        change = mine.pollChanges();
+        TestRunner.assertTrue(change != null && change.isReloaded(), "다시 쓰인 샤드는 전체 다시 로드");
+        TestRunner.assertEquals(12, change.getTodos().size(), "다시 로드한 전체 목록");
+        TestRunner.assertTrue(change.getTodos().get(3).isCompleted(), "다른 프로세스의 변경 반영");
+
+        Todo next = new Todo("이어서", "설명");
+        mine.save(next);
+        TestRunner.assertEquals("13", next.getMetadataField(TodoShardedRepository.ID_KEY), "다른 프로세스가 쓴 ID 뒤에서 이어 감");
+    }
+
+    private static int shardFileCount() {
+        return shardModifiedTimes().size();
+    }
+
+    private static Map<String, Long> shardModifiedTimes() {
+        Map<String, Long> times = new HashMap<>();
+        File[] files = new File(TEST_DIR).listFiles((dir, name) -> name.endsWith(".csv"));
+        if (files != null) {
+            for (File file : files) {
+                times.put(file.getName(), file.lastModified());
+            }
+        }
+        return times;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 테스트용 샤드 디렉터리 정리
+     */
+    private static void cleanupTestDir() {
+        File dir = new File(TEST_DIR);
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+}
@@ -20,6 +20,7 @@ public class TodoTest {
         testTodoCompletion();
         testTodoWithDueDate();
         testTodoWithMetadata();
+        testTodoWithManyMetadata();
         testTodoToString();
         
         // 엣지 케이스 테스트
@@ -101,6 +102,44 @@ public class TodoTest {
         TestRunner.assertEquals("in-progress", todo.getMetadataField("status"), "새 메타데이터 추가됨");
     }
     
+    /**
+     * 메타데이터가 많아지거나 줄어드는 경우 테스트
+     */
+    private static void testTodoWithManyMetadata() {
+        TestRunner.startTest("메타데이터 추가/삭제");
+        
+        Todo todo = new Todo("제목", "설명");
+        TestRunner.assertTrue(todo.getMetadata().isEmpty(), "처음에는 비어 있음");
+        
+        for (int i = 0; i < 20; i++) {
+            todo.setMetadataField("key" + i, "value" + i);
+        }
+        TestRunner.assertEquals(20, todo.getMetadata().size(), "많은 메타데이터 저장");
+        TestRunner.assertEquals("value13", todo.getMetadataField("key13"), "많은 메타데이터 조회");
+        long revision = todo.getRevision();
+        todo.getMetadata().entrySet().forEach(e -> e.getValue());
+        todo.getMetadata().remove("missing");
+        todo.setMetadataField("key3", "value3");
+        TestRunner.assertEquals(revision, todo.getRevision(), "조회, 없는 키 삭제, 같은 값 쓰기는 수정이 아님");
+        todo.getMetadata().entrySet().iterator().next().setValue("changed");
+        TestRunner.assertTrue(todo.getRevision() > revision, "항목을 통한 값 변경은 수정");
+        revision = todo.getRevision();
+        todo.getMetadata().remove("key0");
+        TestRunner.assertEquals(revision + 1, todo.getRevision(), "삭제는 한 번만 셈");
+        
+        Todo small = new Todo("제목", "설명");
+        small.setMetadataField("a", "1");
+        small.setMetadataField("b", "2");
+        small.setMetadataField("c", "3");
+        small.setMetadataField("b", "22");
+        TestRunner.assertEquals(3, small.getMetadata().size(), "같은 키는 덮어씀");
+        small.getMetadata().remove("a");
+        TestRunner.assertNull(small.getMetadataField("a"), "삭제된 키는 조회되지 않음");
+        TestRunner.assertEquals("22", small.getMetadataField("b"), "삭제 후 다른 키 유지");
+        small.getMetadata().entrySet().removeIf(e -> e.getKey().equals("c"));
+        TestRunner.assertEquals(1, small.getMetadata().size(), "반복자로 삭제");
+    }
+    
     /**
      * Todo toString 메서드 테스트
      */
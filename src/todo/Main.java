@@ -1,38 +1,242 @@
 package todo;
 
+import todo.application.ArchivePolicy;
+import todo.application.InstrumentedTodoRepository;
+import todo.application.InstrumentedTodoService;
+import todo.application.ReminderScheduler;
+import todo.application.SlowOperationLog;
+import todo.application.TodoMetrics;
 import todo.application.TodoService;
 import todo.application.TodoServiceImpl;
 import todo.domain.TodoRepository;
+import todo.infrastructure.IoStatistics;
+import todo.infrastructure.ReminderHook;
+import todo.infrastructure.RemoteTodoService;
 import todo.infrastructure.TodoCsvRepository;
+import todo.infrastructure.TodoFileWatcher;
+import todo.infrastructure.TodoProtocol;
+import todo.infrastructure.TodoServer;
+import todo.infrastructure.TodoShardedRepository;
 import todo.presentation.*;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Todo 애플리케이션의 진입점 클래스
- * 
+ *
  * 간소화된 아키텍처: UI → Service → Repository
  * Controller 없이 UI가 직접 Service를 호출합니다.
- * 
+ *
  * 사용법: java todo.Main [fancy]
  * - 인자 없이 실행: 기본 UI 모드
  * - "fancy" 인자로 실행: 화려한 UI 모드
+ *
+ * 서버 모드: java todo.Main server [포트]
+ * - todos.csv를 한 번만 로드하고 localhost 소켓으로 서비스를 제공
+ * 원격 모드: java todo.Main remote [포트] [fancy]
+ * - 실행 중인 서버에 접속하여 같은 저장소를 공유
+ *
+ * 옵션: --watch
+ * - 다른 프로세스가 todos.csv를 변경하면 실행 중에 자동으로 반영
+ * 옵션: --shards=N 또는 --shards=month
+ * - todos.csv 대신 todos.d 디렉터리의 샤드 파일에 저장 (ID 해시 N개 또는 마감월별)
+ * 옵션: --archive-days=N
+ * - 완료된 지 N일이 지난 Todo를 시작 시 압축 보관 파일로 옮겨 작업 목록을 가볍게 유지
+ * 옵션: --dict
+ * - todos.csv(--shards와 함께 쓰면 각 샤드 파일)에 반복되는 메타데이터 키/값을 사전 코드로 한 번만 기록
+ * 옵션: --slow-log=MS[,작업=MS...]
+ * - MS보다 오래 걸린 작업과 입출력 오류를 todos.slow.log에 기록 (작업별 임계값 지정 가능)
+ * 옵션: --remind 또는 --remind=HH:MM
+ * - 마감일 당일과 다음 날 지정 시각(기본 09:00)에 미완료 Todo 알림을 화면에 표시 (원격 모드에서는 서버가 알림)
+ * 옵션: --remind-hook=명령
+ * - 알림마다 명령을 실행 (종류, 마감일, 제목을 인자로 전달, --remind 없이도 알림을 켬)
+ *
+ * 작업별 호출 수와 지연 시간은 메뉴의 통계(또는 "stats" 입력)와 JMX의 todo 도메인에서 볼 수 있습니다.
  */
 public class Main {
-    public static void main(String[] args) {
+    private static final String CSV_FILE = "todos.csv";
+    private static final String SHARD_DIR = "todos.d";
+    private static final String SLOW_LOG = "todos.slow.log";
+
+    public static void main(String[] rawArgs) throws IOException {
+        boolean watch = false;
+        String shards = null;  // --shards 옵션 값 (없으면 단일 CSV)
+        ArchivePolicy archivePolicy = null;  // --archive-days 옵션 (없으면 보관하지 않음)
+        boolean dictionary = false;  // --dict 옵션
+        String slowLog = null;  // --slow-log 옵션 값 (없으면 기록하지 않음)
+        LocalTime remindAt = null;  // --remind 옵션 값 (없으면 알리지 않음)
+        String remindHook = null;  // --remind-hook 옵션 값
+        List<String> positional = new ArrayList<>();
+        for (String arg : rawArgs) {
+            if ("--watch".equalsIgnoreCase(arg)) {
+                watch = true;
+            } else if (arg.startsWith("--shards=")) {
+                shards = arg.substring("--shards=".length());
+            } else if (arg.startsWith("--slow-log=")) {
+                slowLog = arg.substring("--slow-log=".length());
+            } else if ("--remind".equalsIgnoreCase(arg)) {
+                remindAt = ReminderScheduler.DEFAULT_TIME;
+            } else if (arg.startsWith("--remind=")) {
+                remindAt = LocalTime.parse(arg.substring("--remind=".length()));
+            } else if (arg.startsWith("--remind-hook=")) {
+                remindHook = arg.substring("--remind-hook=".length());
+            } else if ("--dict".equalsIgnoreCase(arg)) {
+                dictionary = true;
+            } else if (arg.startsWith("--archive-days=")) {
+                archivePolicy = new ArchivePolicy(Integer.parseInt(arg.substring("--archive-days=".length())));
+            } else {
+                positional.add(arg);
+            }
+        }
+        String[] args = positional.toArray(new String[0]);
+        if (remindHook != null && remindAt == null) {
+            remindAt = ReminderScheduler.DEFAULT_TIME;
+        }
+
+        // 작업 통계: JMX(todo 도메인)와 UI의 통계 메뉴로 확인
+        TodoMetrics metrics = new TodoMetrics();
+        metrics.registerMBeans();
+        if (slowLog != null) {
+            metrics.setSlowLog(createSlowLog(slowLog));
+        }
+
+        if (args.length > 0 && "server".equalsIgnoreCase(args[0])) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : TodoProtocol.DEFAULT_PORT;
+            TodoServiceImpl service = new TodoServiceImpl(createRepository(shards, dictionary, metrics), archivePolicy);
+            if (remindAt != null) {
+                // 서버에는 화면이 없으므로 콘솔 로그와 훅 명령으로만 알림
+                ReminderScheduler reminders = startReminders(service, remindAt, remindHook, metrics);
+                reminders.addListener(reminder -> System.out.println("🔔 " + reminder));
+            }
+            runServer(port, service, new InstrumentedTodoService(service, metrics), watch ? watchPath(shards) : null);
+            return;
+        }
+        if (args.length > 0 && "remote".equalsIgnoreCase(args[0])) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : TodoProtocol.DEFAULT_PORT;
+            boolean fancy = args.length > 2 && "fancy".equalsIgnoreCase(args[2]);
+            try (RemoteTodoService service = new RemoteTodoService(port)) {
+                // 원격 모드의 통계는 서버 왕복 시간
+                createUI(new InstrumentedTodoService(service, metrics), metrics, fancy).start();
+            }
+            return;
+        }
+
         // 1. Repository 생성 (Infrastructure Layer)
-        TodoRepository repository = new TodoCsvRepository("todos.csv");
-        
-        // 2. Service 생성 (Application Layer)
-        TodoService service = new TodoServiceImpl(repository);
-        
+        TodoRepository repository = createRepository(shards, dictionary, metrics);
+
+        // 2. Service 생성 (Application Layer) - 환영 화면을 보여주는 동안 백그라운드에서 로드
+        TodoServiceImpl service = TodoServiceImpl.loadInBackground(repository, archivePolicy);
+        if (watch) {
+            startWatcher(service, watchPath(shards));
+        }
+
         // 3. UI 생성 및 Service 주입 (Presentation Layer)
-        ITodoUI ui;
-        if (args.length > 0 && "fancy".equalsIgnoreCase(args[0])) {
-            ui = new FancyTodoUI(service);
-        } else {
-            ui = new BasicTodoUI(service);
+        ITodoUI ui = createUI(new InstrumentedTodoService(service, metrics), metrics,
+                args.length > 0 && "fancy".equalsIgnoreCase(args[0]));
+
+        // 4. 마감일 알림 (스케줄러 스레드에서 UI로 바로 출력)
+        if (remindAt != null) {
+            startReminders(service, remindAt, remindHook, metrics).addListener(ui::showReminder);
         }
-        
-        // 4. 애플리케이션 시작
+
+        // 5. 애플리케이션 시작
         ui.start();
     }
+
+    /**
+     * 저장소를 만들고 계측 데코레이터로 감쌈 (입출력 바이트/행 수는 게이지로 등록)
+     */
+    private static TodoRepository createRepository(String shards, boolean dictionary, TodoMetrics metrics) {
+        TodoRepository repository;
+        if (shards == null) {
+            repository = new TodoCsvRepository(CSV_FILE, dictionary, true);  // 시작용 스냅샷 사용
+        } else if ("month".equalsIgnoreCase(shards)) {
+            repository = new TodoShardedRepository(SHARD_DIR, TodoShardedRepository.Strategy.DUE_MONTH, 1, dictionary);
+        } else {
+            repository = new TodoShardedRepository(SHARD_DIR, TodoShardedRepository.Strategy.ID_HASH, Integer.parseInt(shards),
+                    dictionary);
+        }
+        if (repository instanceof IoStatistics io) {
+            metrics.gauge("io.bytesRead", io::getBytesRead);
+            metrics.gauge("io.bytesWritten", io::getBytesWritten);
+            metrics.gauge("io.rowsParsed", io::getRowsParsed);
+            metrics.gauge("io.errors", io::getIoErrors);
+        }
+        return new InstrumentedTodoRepository(repository, metrics);
+    }
+
+    /**
+     * --slow-log 값으로 느린 작업 로그 생성
+     * @param spec "기본임계값" 뒤에 콤마로 "작업이름=임계값"을 이어 붙인 문자열 (밀리초)
+     */
+    private static SlowOperationLog createSlowLog(String spec) {
+        String[] parts = spec.split(",");
+        SlowOperationLog log = new SlowOperationLog(Paths.get(SLOW_LOG), Long.parseLong(parts[0].trim()));
+        for (int i = 1; i < parts.length; i++) {
+            int eq = parts[i].indexOf('=');
+            if (eq > 0) {
+                log.threshold(parts[i].substring(0, eq).trim(), Long.parseLong(parts[i].substring(eq + 1).trim()));
+            }
+        }
+        return log;
+    }
+
+    /**
+     * 알림 스케줄러를 만들어 서비스에 연결하고 시작 (훅 명령이 있으면 리스너로 추가)
+     */
+    private static ReminderScheduler startReminders(TodoServiceImpl service, LocalTime remindAt, String hook, TodoMetrics metrics) {
+        ReminderScheduler reminders = new ReminderScheduler(Clock.systemDefaultZone(), remindAt);
+        if (hook != null) {
+            ReminderHook command = new ReminderHook(hook);
+            reminders.addListener(command);
+            metrics.gauge("reminders.hookFailures", command::getFailures);
+        }
+        metrics.gauge("reminders.pending", reminders::getPending);
+        metrics.gauge("reminders.delivered", reminders::getDelivered);
+        service.setReminders(reminders);
+        reminders.start();
+        return reminders;
+    }
+
+    private static ITodoUI createUI(TodoService service, TodoMetrics metrics, boolean fancy) {
+        if (fancy) {
+            return new FancyTodoUI(service, metrics);
+        }
+        return new BasicTodoUI(service, metrics);
+    }
+
+    /**
+     * 서버 모드 실행: 저장소를 한 번 로드하고 연결을 계속 수락
+     * @param service 감시자가 새로 고칠 실제 서비스
+     * @param served 연결에 제공할 (계측된) 서비스
+     * @param watched 감시할 경로 (null이면 감시하지 않음)
+     */
+    private static void runServer(int port, TodoServiceImpl service, TodoService served, String watched) throws IOException {
+        if (watched != null) {
+            startWatcher(service, watched);
+        }
+        try (TodoServer server = new TodoServer(served, port)) {
+            System.out.println("📡 Todo server listening on localhost:" + server.getPort());
+            server.serve();
+        }
+    }
+
+    /**
+     * 저장소 파일이 있는 곳: 샤드를 쓰면 샤드 디렉터리, 아니면 todos.csv
+     */
+    private static String watchPath(String shards) {
+        return shards == null ? CSV_FILE : SHARD_DIR;
+    }
+
+    /**
+     * 저장소 파일 감시 시작: 외부 변경이 감지되면 서비스가 저장소에서 변경분을 가져감
+     */
+    private static void startWatcher(TodoServiceImpl service, String watched) throws IOException {
+        TodoFileWatcher watcher = new TodoFileWatcher(watched, service::refresh);
+        watcher.start();
+    }
 }
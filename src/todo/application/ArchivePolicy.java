@@ -0,0 +1,50 @@
+package todo.application;
+
+import todo.domain.Todo;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 완료된 Todo를 작업 목록에서 보관 파일로 옮길지 결정하는 정책
+ *
+ * 완료 시각은 서비스가 토글할 때 메타데이터 "completedAt"(yyyy-MM-dd)에 기록합니다.
+ * 완료된 지 지정한 일수가 지난 항목을 보관 대상으로 봅니다.
+ * 이 기능 이전에 완료되어 완료 시각이 없는 항목은 이미 오래된 것으로 보고 바로 보관합니다.
+ */
+public class ArchivePolicy {
+    public static final String COMPLETED_AT_KEY = "completedAt";
+
+    private final int days;
+
+    /**
+     * 보관 정책 생성
+     * @param days 완료 후 작업 목록에 남겨 둘 일수 (0이면 완료 즉시 보관 대상)
+     */
+    public ArchivePolicy(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("보관 기준 일수는 0 이상이어야 합니다: " + days);
+        }
+        this.days = days;
+    }
+
+    /**
+     * Todo가 보관 대상인지 확인
+     * @param todo 확인할 Todo
+     * @param today 기준 날짜
+     * @return 완료된 지 기준 일수가 지났으면 true
+     */
+    public boolean isArchivable(Todo todo, LocalDate today) {
+        if (!todo.isCompleted()) {
+            return false;
+        }
+        String completedAt = todo.getMetadataField(COMPLETED_AT_KEY);
+        if (completedAt == null) {
+            return true;
+        }
+        try {
+            return !LocalDate.parse(completedAt).plusDays(days).isAfter(today);
+        } catch (DateTimeParseException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package todo.application;
+
+import todo.domain.Todo;
+import todo.domain.TodoChange;
+import todo.domain.TodoFilter;
+import todo.domain.TodoRepository;
+import java.util.List;
+
+/**
+ * 모든 TodoRepository 작업의 호출 수와 지연 시간을 TodoMetrics에 기록하는 데코레이터
+ *
+ * 작업 이름은 "repository.메서드이름"이며, 전체 저장(save(List))과 한 줄 추가(save(Todo))는
+ * 비용이 크게 다르므로 "repository.save"와 "repository.append"로 나누어 기록합니다.
+ * 바이트 수와 파싱한 행 수는 저장소가 직접 세므로 게이지로 따로 등록합니다.
+ */
+public class InstrumentedTodoRepository implements TodoRepository {
+    private final TodoRepository delegate;
+    private final TodoMetrics metrics;
+
+    /**
+     * @param delegate 실제 저장소
+     * @param metrics 계측 결과를 모을 레지스트리
+     */
+    public InstrumentedTodoRepository(TodoRepository delegate, TodoMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public List<Todo> load() {
+        return metrics.time("repository.load", () -> delegate.load());
+    }
+
+    @Override
+    public List<Todo> load(TodoFilter filter) {
+        return metrics.time("repository.load", () -> delegate.load(filter));
+    }
+
+    @Override
+    public List<Todo> load(TodoFilter filter, boolean includeArchived) {
+        return metrics.time(includeArchived ? "repository.loadWithArchive" : "repository.load",
+                () -> delegate.load(filter, includeArchived));
+    }
+
+    @Override
+    public boolean archive(List<Todo> archived, List<Todo> remaining) {
+        return metrics.time("repository.archive", () -> delegate.archive(archived, remaining));
+    }
+
+    @Override
+    public Todo get(int index) {
+        return metrics.time("repository.get", () -> delegate.get(index));
+    }
+
+    @Override
+    public boolean save(List<Todo> todos) {
+        return metrics.time("repository.save", () -> delegate.save(todos));
+    }
+
+    @Override
+    public void save(Todo todo) {
+        metrics.time("repository.append", () -> delegate.save(todo));
+    }
+
+    @Override
+    public void saveAll(List<Todo> todos) {
+        metrics.time("repository.append", () -> delegate.saveAll(todos));
+    }
+
+    @Override
+    public String newId() {
+        return delegate.newId();
+    }
+
+    @Override
+    public TodoChange pollChanges() {
+        return metrics.time("repository.pollChanges", () -> delegate.pollChanges());
+    }
+}
@@ -0,0 +1,158 @@
+package todo.application;
+
+import todo.domain.Todo;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 모든 TodoService 작업의 호출 수와 지연 시간을 TodoMetrics에 기록하는 데코레이터
+ *
+ * 작업 이름은 "service.메서드이름"입니다. 원격 서비스를 감싸면 서버 왕복 시간이 기록됩니다.
+ * 로드 대기 확인(isReady/awaitReady)은 UI 진행 표시용이므로 기록하지 않습니다.
+ */
+public class InstrumentedTodoService implements TodoService {
+    private final TodoService delegate;
+    private final TodoMetrics metrics;
+
+    /**
+     * @param delegate 실제 서비스
+     * @param metrics 계측 결과를 모을 레지스트리
+     */
+    public InstrumentedTodoService(TodoService delegate, TodoMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return 계측 결과 레지스트리
+     */
+    public TodoMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void addTodo(String title, String description, LocalDate dueDate) {
+        metrics.time("service.addTodo", () -> delegate.addTodo(title, description, dueDate));
+    }
+
+    @Override
+    public List<Todo> getAllTodos() {
+        return metrics.time("service.getAllTodos", () -> delegate.getAllTodos());
+    }
+
+    @Override
+    public TodoListSnapshot getSnapshot() {
+        return metrics.time("service.getSnapshot", () -> delegate.getSnapshot());
+    }
+
+    @Override
+    public TodoPage getSortedTodos(TodoOrder order, int offset, int limit) {
+        return metrics.time("service.getSortedTodos", () -> delegate.getSortedTodos(order, offset, limit));
+    }
+
+    @Override
+    public TodoPage getAgenda(int limit) {
+        return metrics.time("service.getAgenda", () -> delegate.getAgenda(limit));
+    }
+
+    @Override
+    public boolean addSubtask(int parentIndex, Todo subtask) {
+        return metrics.time("service.addSubtask", () -> delegate.addSubtask(parentIndex, subtask));
+    }
+
+    @Override
+    public boolean addDependency(int blockerIndex, int blockedIndex) {
+        return metrics.time("service.addDependency", () -> delegate.addDependency(blockerIndex, blockedIndex));
+    }
+
+    @Override
+    public TodoPage getReady(int limit) {
+        return metrics.time("service.getReady", () -> delegate.getReady(limit));
+    }
+
+    @Override
+    public TodoOutline getOutline() {
+        return metrics.time("service.getOutline", delegate::getOutline);
+    }
+
+    @Override
+    public TodoPage getOccurrences(LocalDate from, LocalDate to, int limit) {
+        return metrics.time("service.getOccurrences", () -> delegate.getOccurrences(from, to, limit));
+    }
+
+    @Override
+    public TodoStats getStats() {
+        return metrics.time("service.getStats", () -> delegate.getStats());
+    }
+
+    @Override
+    public List<Todo> getCompletedTodos() {
+        return metrics.time("service.getCompletedTodos", () -> delegate.getCompletedTodos());
+    }
+
+    @Override
+    public List<Todo> getCompletedTodos(boolean includeArchived) {
+        return metrics.time("service.getCompletedTodos", () -> delegate.getCompletedTodos(includeArchived));
+    }
+
+    @Override
+    public List<Todo> getIncompleteTodos() {
+        return metrics.time("service.getIncompleteTodos", () -> delegate.getIncompleteTodos());
+    }
+
+    @Override
+    public boolean toggleTodo(int index) {
+        return metrics.time("service.toggleTodo", () -> delegate.toggleTodo(index));
+    }
+
+    @Override
+    public boolean deleteTodo(int index) {
+        return metrics.time("service.deleteTodo", () -> delegate.deleteTodo(index));
+    }
+
+    @Override
+    public int addAll(List<Todo> todos) {
+        return metrics.time("service.addAll", () -> delegate.addAll(todos));
+    }
+
+    @Override
+    public int toggleAll(Collection<Integer> indices) {
+        return metrics.time("service.toggleAll", () -> delegate.toggleAll(indices));
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> indices) {
+        return metrics.time("service.deleteAll", () -> delegate.deleteAll(indices));
+    }
+
+    @Override
+    public int completeAll() {
+        return metrics.time("service.completeAll", () -> delegate.completeAll());
+    }
+
+    @Override
+    public int deleteCompleted() {
+        return metrics.time("service.deleteCompleted", () -> delegate.deleteCompleted());
+    }
+
+    @Override
+    public int getTodoCount() {
+        return metrics.time("service.getTodoCount", () -> delegate.getTodoCount());
+    }
+
+    @Override
+    public Todo getTodoAt(int index) {
+        return metrics.time("service.getTodoAt", () -> delegate.getTodoAt(index));
+    }
+
+    @Override
+    public boolean isReady() {
+        return delegate.isReady();
+    }
+
+    @Override
+    public boolean awaitReady(long timeoutMillis) {
+        return delegate.awaitReady(timeoutMillis);
+    }
+}
@@ -0,0 +1,128 @@
+package todo.application;
+
+import todo.domain.RepositoryTrace;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 진행 중인 계측 작업의 세부 내용 (느린 작업 로그용)
+ *
+ * TodoMetrics.time()이 작업마다 하나씩 시작하고, 저장소가 도메인 계층의 RepositoryTrace로 알린
+ * 단계별 소요 시간(read/parse/encode/write/snapshot), 처리한 행 수와 바이트 수, 삼킨 입출력 오류를 보탭니다.
+ * (이 클래스를 처음 쓸 때 RepositoryTrace에 Listener를 연결하므로 저장소는 응용 계층을 알지 않음)
+ * 계측 작업 밖에서 알린 내용은 버립니다.
+ * 안쪽 작업(예: service.toggleTodo 안의 repository.save)이 끝나면 그 내용이 바깥 작업에 합쳐집니다.
+ */
+public final class OperationTrace {
+    private static final ThreadLocal<OperationTrace> CURRENT = new ThreadLocal<>();
+
+    static {
+        RepositoryTrace.install(new RepositoryTrace.Listener() {
+            @Override
+            public void phase(String name, long nanos) {
+                OperationTrace trace = CURRENT.get();
+                if (trace != null) {
+                    trace.addPhase(name, nanos);
+                }
+            }
+
+            @Override
+            public void rows(long count) {
+                OperationTrace trace = CURRENT.get();
+                if (trace != null) {
+                    trace.rows += count;
+                }
+            }
+
+            @Override
+            public void bytes(long count) {
+                OperationTrace trace = CURRENT.get();
+                if (trace != null) {
+                    trace.bytes += count;
+                }
+            }
+
+            @Override
+            public void error(Exception e) {
+                OperationTrace trace = CURRENT.get();
+                if (trace != null && trace.error == null) {
+                    trace.error = e;
+                }
+            }
+        });
+    }
+
+    private final OperationTrace parent;
+    private Map<String, Long> phases;  // 단계 이름 → 나노초 (기록 순서 유지, 처음 기록할 때 생성)
+    private long rows;
+    private long bytes;
+    private Exception error;  // 처음 삼킨 오류
+
+    private OperationTrace(OperationTrace parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * 현재 스레드에서 새 작업을 시작 (진행 중인 작업이 있으면 그 안쪽 작업)
+     */
+    static OperationTrace start() {
+        OperationTrace trace = new OperationTrace(CURRENT.get());
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * 작업을 끝내고 내용을 바깥 작업에 합침
+     */
+    void finish() {
+        if (parent == null) {
+            CURRENT.remove();
+            return;
+        }
+        CURRENT.set(parent);
+        if (phases != null) {
+            phases.forEach(parent::addPhase);
+        }
+        parent.rows += rows;
+        parent.bytes += bytes;
+        if (parent.error == null) {
+            parent.error = error;
+        }
+    }
+
+    private void addPhase(String name, long nanos) {
+        if (phases == null) {
+            phases = new LinkedHashMap<>();
+        }
+        phases.merge(name, nanos, Long::sum);
+    }
+
+    /**
+     * @return 단계 이름별 소요 시간 (나노초)
+     */
+    public Map<String, Long> getPhases() {
+        return phases == null ? Collections.emptyMap() : Collections.unmodifiableMap(phases);
+    }
+
+    /**
+     * @return 처리한 행 수
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * @return 읽거나 쓴 바이트 수
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return 삼킨 오류, 없으면 null
+     */
+    public Exception getError() {
+        return error;
+    }
+}
@@ -0,0 +1,242 @@
+package todo.application;
+
+import todo.domain.Todo;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * 반복 Todo의 반복 규칙
+ *
+ * 반복은 회차마다 줄을 만들지 않고 Todo 하나의 메타데이터로 저장합니다.
+ * - "repeat": daily, weekly, monthly, yearly 또는 간격을 붙인 2d, 3w, 6m, 1y
+ * - "repeatStart": 회차를 셀 기준일 (처음 완료할 때 그때의 마감일로 기록, 없으면 마감일)
+ * - "repeatUntil": 마지막 회차를 넘지 않는 날짜 (선택사항)
+ * - "repeatDone": 최근 TodoStats.SERIES_DAYS일 동안 회차를 완료한 날짜들 (쉼표로 구분, 회차마다 하나씩)
+ *
+ * Todo의 마감일이 지금 열려 있는 회차입니다. n번째 회차는 기준일에 간격의 n배를 더한 날짜이므로,
+ * 31일에 시작한 월간 반복도 짧은 달 다음에 다시 31일로 돌아옵니다.
+ * 특정 날짜의 회차는 간격 수를 나눗셈으로 바로 구하므로 기준일에서 하나씩 세지 않습니다.
+ * LocalDate.MAX를 넘는 회차는 없는 것으로 보므로, 간격이 아주 크거나 기간이 아주 멀어도 예외 없이 거기서 끝납니다.
+ */
+public final class Recurrence {
+    public static final String KEY = "repeat";
+    public static final String START_KEY = "repeatStart";
+    public static final String UNTIL_KEY = "repeatUntil";
+    public static final String DONE_KEY = "repeatDone";
+
+    private final String rule;
+    private final int interval;
+    private final ChronoUnit unit;
+    private final LocalDate start;
+    private final LocalDate until;  // null이면 끝없음
+
+    private Recurrence(String rule, int interval, ChronoUnit unit, LocalDate start, LocalDate until) {
+        this.rule = rule;
+        this.interval = interval;
+        this.unit = unit;
+        this.start = start;
+        this.until = until;
+    }
+
+    /**
+     * Todo의 반복 규칙 조회
+     * @return 반복 규칙, 반복하지 않거나 마감일이 없거나 규칙을 읽을 수 없으면 null
+     */
+    public static Recurrence of(Todo todo) {
+        String rule = todo.getMetadataField(KEY);
+        if (rule == null || todo.getDueDate() == null) {
+            return null;
+        }
+        String normalized = rule.trim().toLowerCase(Locale.ROOT);
+        int interval;
+        ChronoUnit unit;
+        switch (normalized) {
+            case "daily": interval = 1; unit = ChronoUnit.DAYS; break;
+            case "weekly": interval = 1; unit = ChronoUnit.WEEKS; break;
+            case "monthly": interval = 1; unit = ChronoUnit.MONTHS; break;
+            case "yearly": interval = 1; unit = ChronoUnit.YEARS; break;
+            default:
+                unit = unitOf(normalized.isEmpty() ? ' ' : normalized.charAt(normalized.length() - 1));
+                try {
+                    interval = Integer.parseInt(normalized.substring(0, Math.max(0, normalized.length() - 1)));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                if (unit == null || interval <= 0) {
+                    return null;
+                }
+        }
+        LocalDate start = parseDate(todo.getMetadataField(START_KEY));
+        if (start == null || start.isAfter(todo.getDueDate())) {
+            start = todo.getDueDate();
+        }
+        return new Recurrence(normalized, interval, unit, start, parseDate(todo.getMetadataField(UNTIL_KEY)));
+    }
+
+    /**
+     * 반복 규칙 문자열이 올바른지 확인 (UI 입력 검사용)
+     */
+    public static boolean isValid(String rule) {
+        Todo probe = new Todo("", "", LocalDate.EPOCH);
+        probe.setMetadataField(KEY, rule);
+        return of(probe) != null;
+    }
+
+    /**
+     * @return 메타데이터에 적힌 반복 규칙 (소문자)
+     */
+    public String getRule() {
+        return rule;
+    }
+
+    /**
+     * 지정한 날짜 이후(당일 포함)의 첫 회차
+     * @return 회차 날짜, 마지막 회차를 지났거나 LocalDate.MAX 안에 회차가 없으면 null
+     */
+    public LocalDate firstOnOrAfter(LocalDate date) {
+        if (!date.isAfter(start)) {
+            return withinUntil(start);
+        }
+        long n = unit.between(start, date) / interval;  // 말일 보정 때문에 한두 회차 모자랄 수 있음
+        LocalDate occurrence = occurrence(n);
+        while (occurrence != null && occurrence.isBefore(date)) {
+            occurrence = occurrence(++n);
+        }
+        return occurrence == null ? null : withinUntil(occurrence);
+    }
+
+    /**
+     * 지정한 날짜 다음 날부터의 첫 회차
+     * @return 회차 날짜, 마지막 회차를 지났거나 LocalDate.MAX 안에 회차가 없으면 null
+     */
+    public LocalDate firstAfter(LocalDate date) {
+        return date.equals(LocalDate.MAX) ? null : firstOnOrAfter(date.plusDays(1));
+    }
+
+    /**
+     * 기간 안의 회차 수 (회차를 만들지 않고 셈)
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     */
+    public long count(LocalDate from, LocalDate to) {
+        LocalDate first = firstOnOrAfter(from);
+        if (first == null || first.isAfter(to)) {
+            return 0;
+        }
+        LocalDate last = until != null && until.isBefore(to) ? until : to;
+        long firstIndex = index(first);
+        long n = unit.between(start, last) / interval;
+        while (!after(occurrence(n + 1), last)) {
+            n++;
+        }
+        while (after(occurrence(n), last)) {
+            n--;
+        }
+        return n - firstIndex + 1;
+    }
+
+    /**
+     * 처음 완료할 때 회차 기준일을 메타데이터에 남김 (이후 마감일이 바뀌어도 회차가 밀리지 않도록)
+     */
+    void anchor(Todo todo) {
+        if (todo.getMetadataField(START_KEY) == null) {
+            todo.setMetadataField(START_KEY, start.toString());
+        }
+    }
+
+    /**
+     * 회차 하나를 완료한 날짜를 메타데이터에 남김 (완료 추이가 회차마다 한 번씩 세도록)
+     * 완료 추이에 보이지 않는 날짜와 읽을 수 없는 날짜는 버리므로 항목 수는 회차 수가 아니라 날 수로 제한됩니다.
+     * @param today 완료한 날짜 (yyyy-MM-dd)
+     */
+    static void recordDone(Todo todo, String today) {
+        StringBuilder done = new StringBuilder();
+        String recorded = todo.getMetadataField(DONE_KEY);
+        if (recorded != null) {
+            LocalDate first = LocalDate.parse(today).minusDays(TodoStats.SERIES_DAYS - 1);
+            for (String part : recorded.split(",")) {
+                String day = part.trim();
+                try {
+                    if (!LocalDate.parse(day).isBefore(first)) {
+                        done.append(day).append(',');
+                    }
+                } catch (DateTimeParseException e) {
+                    // 직접 고친 파일의 잘못된 날짜는 버림
+                }
+            }
+        }
+        todo.setMetadataField(DONE_KEY, done.append(today).toString());
+    }
+
+    /**
+     * 마지막으로 남긴 회차 완료 날짜를 지움 (완료한 마지막 회차를 미완료로 되돌릴 때)
+     */
+    static void forgetDone(Todo todo) {
+        String recorded = todo.getMetadataField(DONE_KEY);
+        if (recorded == null) {
+            return;
+        }
+        int last = recorded.lastIndexOf(',');
+        if (last < 0) {
+            todo.getMetadata().remove(DONE_KEY);
+        } else {
+            todo.setMetadataField(DONE_KEY, recorded.substring(0, last));
+        }
+    }
+
+    /**
+     * n번째 회차
+     * @return 회차 날짜, LocalDate.MAX를 넘으면 null
+     */
+    private LocalDate occurrence(long n) {
+        try {
+            return start.plus(Math.multiplyExact(n, (long) interval), unit);
+        } catch (DateTimeException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 회차가 날짜보다 뒤인지 (LocalDate.MAX를 넘은 회차는 모든 날짜보다 뒤)
+     */
+    private static boolean after(LocalDate occurrence, LocalDate date) {
+        return occurrence == null || occurrence.isAfter(date);
+    }
+
+    private long index(LocalDate occurrence) {
+        long n = unit.between(start, occurrence) / interval;
+        LocalDate current = occurrence(n);
+        while (current != null && current.isBefore(occurrence)) {
+            current = occurrence(++n);
+        }
+        return n;
+    }
+
+    private LocalDate withinUntil(LocalDate occurrence) {
+        return until != null && occurrence.isAfter(until) ? null : occurrence;
+    }
+
+    private static ChronoUnit unitOf(char suffix) {
+        switch (suffix) {
+            case 'd': return ChronoUnit.DAYS;
+            case 'w': return ChronoUnit.WEEKS;
+            case 'm': return ChronoUnit.MONTHS;
+            case 'y': return ChronoUnit.YEARS;
+            default: return null;
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            return null;  // 직접 고친 파일의 잘못된 날짜는 없는 것으로 봄
+        }
+    }
+}
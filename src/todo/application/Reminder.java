@@ -0,0 +1,60 @@
+package todo.application;
+
+import todo.domain.Todo;
+import java.time.LocalDateTime;
+
+/**
+ * ReminderScheduler가 전달하는 알림 하나
+ */
+public final class Reminder {
+    /**
+     * 알림 종류
+     */
+    public enum Kind {
+        /** 마감일 당일 */
+        DUE,
+        /** 마감일이 지남 */
+        OVERDUE
+    }
+
+    private final Todo todo;
+    private final Kind kind;
+    private final LocalDateTime time;
+
+    /**
+     * @param todo 알림 대상 Todo
+     * @param kind 알림 종류
+     * @param time 알림이 예약된 시각
+     */
+    public Reminder(Todo todo, Kind kind, LocalDateTime time) {
+        this.todo = todo;
+        this.kind = kind;
+        this.time = time;
+    }
+
+    /**
+     * @return 알림 대상 Todo
+     */
+    public Todo getTodo() {
+        return todo;
+    }
+
+    /**
+     * @return 알림 종류
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return 알림이 예약된 시각
+     */
+    public LocalDateTime getTime() {
+        return time;
+    }
+
+    @Override
+    public String toString() {
+        return (kind == Kind.DUE ? "Due today: " : "Overdue: ") + todo.getTitle() + " (" + todo.getDueDate() + ")";
+    }
+}
@@ -0,0 +1,234 @@
+package todo.application;
+
+import todo.domain.Todo;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 마감일 알림 스케줄러
+ *
+ * 미완료 Todo마다 다음 알림 하나를 1초 틱의 계층형 타이밍 휠(TimingWheel)에 예약합니다.
+ * 마감일 당일 알림 시각(기본 09:00)에 DUE, 다음 날 같은 시각에 OVERDUE를 보내며,
+ * 당일 알림 시각이 지난 뒤 알게 된 Todo(오늘 추가되었거나 시작할 때 오늘 마감)는 바로 DUE를 보냅니다.
+ * 이미 하루 넘게 지난 Todo는 예약하지 않습니다. (목록과 통계 화면에서 볼 수 있음)
+ *
+ * TodoServiceImpl이 추가/토글/삭제 때 schedule/cancel을 호출하며 둘 다 O(1)입니다.
+ * 백그라운드 스레드가 틱마다 시간을 진행하고, 만료된 알림은 락 밖에서 리스너(UI, 훅 명령)에 전달합니다.
+ * 리스너의 예외는 실패 수만 세고 다음 알림 전달을 막지 않습니다.
+ */
+public final class ReminderScheduler implements AutoCloseable {
+    public static final LocalTime DEFAULT_TIME = LocalTime.of(9, 0);
+    private static final long TICK_MILLIS = 1000;
+
+    private final Clock clock;
+    private final LocalTime remindAt;
+    private final ReentrantLock lock = new ReentrantLock();  // 가상 스레드 고정을 피하려고 synchronized 대신 사용
+    private final TimingWheel<Reminder> wheel;
+    private final Map<Todo, TimingWheel.Timer<Reminder>> pending = new IdentityHashMap<>();  // Todo별 다음 알림
+    private final List<Consumer<Reminder>> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private Thread ticker;
+
+    /**
+     * 시스템 시계와 기본 알림 시각(09:00)을 쓰는 스케줄러
+     */
+    public ReminderScheduler() {
+        this(Clock.systemDefaultZone(), DEFAULT_TIME);
+    }
+
+    /**
+     * @param clock 현재 시각과 시간대 (테스트에서는 직접 움직이는 시계)
+     * @param remindAt 마감일 당일과 다음 날 알림을 보낼 시각
+     */
+    public ReminderScheduler(Clock clock, LocalTime remindAt) {
+        this.clock = clock;
+        this.remindAt = remindAt;
+        this.wheel = new TimingWheel<>(clock.millis() / TICK_MILLIS);
+    }
+
+    /**
+     * 알림을 받을 리스너 추가 (스케줄러 스레드에서 호출됨)
+     */
+    public void addListener(Consumer<Reminder> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 틱마다 runDue를 호출하는 데몬 스레드 시작
+     */
+    public void start() {
+        Thread thread = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(TICK_MILLIS - clock.millis() % TICK_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                runDue();
+            }
+        }, "todo-reminders");
+        thread.setDaemon(true);
+        thread.start();
+        ticker = thread;
+    }
+
+    /**
+     * 스레드 정지 (예약된 알림은 그대로 남음)
+     */
+    @Override
+    public void close() {
+        if (ticker != null) {
+            ticker.interrupt();
+        }
+    }
+
+    /**
+     * Todo의 다음 알림을 다시 예약 (이전 예약은 취소, 완료되었거나 마감일이 없으면 취소만 함)
+     */
+    public void schedule(Todo todo) {
+        lock.lock();
+        try {
+            wheel.cancel(pending.remove(todo));
+            Reminder next = next(todo, now(), false);
+            if (next != null) {
+                pending.put(todo, wheel.schedule(tick(next.getTime()), next));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Todo의 알림 취소
+     */
+    public void cancel(Todo todo) {
+        lock.lock();
+        try {
+            wheel.cancel(pending.remove(todo));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 예약을 지우고 목록 전체를 다시 예약 (목록이 통째로 바뀌었을 때, O(N))
+     */
+    public void reset(Iterable<Todo> todos) {
+        lock.lock();
+        try {
+            pending.values().forEach(wheel::cancel);
+            pending.clear();
+            LocalDateTime now = now();
+            for (Todo todo : todos) {
+                Reminder next = next(todo, now, false);
+                if (next != null) {
+                    pending.put(todo, wheel.schedule(tick(next.getTime()), next));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 시각까지 만료된 알림을 리스너에 전달하고, DUE를 보낸 Todo는 OVERDUE를 예약
+     * @return 전달한 알림 수
+     */
+    public int runDue() {
+        List<Reminder> due = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.advance(clock.millis() / TICK_MILLIS, due::add);
+            LocalDateTime now = now();
+            for (Reminder reminder : due) {
+                Todo todo = reminder.getTodo();
+                pending.remove(todo);
+                Reminder next = reminder.getKind() == Reminder.Kind.DUE ? next(todo, now, true) : null;
+                if (next != null) {
+                    pending.put(todo, wheel.schedule(tick(next.getTime()), next));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Reminder reminder : due) {
+            for (Consumer<Reminder> listener : listeners) {
+                try {
+                    listener.accept(reminder);
+                } catch (RuntimeException e) {
+                    failures.increment();  // 알림 하나의 실패가 다른 알림을 막지 않음
+                }
+            }
+            delivered.increment();
+        }
+        return due.size();
+    }
+
+    /**
+     * @return 예약된 알림 수
+     */
+    public int getPending() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 지금까지 전달한 알림 수
+     */
+    public long getDelivered() {
+        return delivered.sum();
+    }
+
+    /**
+     * @return 리스너가 예외를 던진 횟수
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Todo의 다음 알림 계산
+     * @param dueSent 이미 DUE를 보냈으면 true (OVERDUE만 고려)
+     * @return 다음 알림, 없으면 null
+     */
+    private Reminder next(Todo todo, LocalDateTime now, boolean dueSent) {
+        LocalDate due = todo.getDueDate();
+        if (todo.isCompleted() || due == null) {
+            return null;
+        }
+        if (!dueSent) {
+            LocalDateTime dueAt = due.atTime(remindAt);
+            if (now.isBefore(dueAt)) {
+                return new Reminder(todo, Reminder.Kind.DUE, dueAt);
+            }
+            if (now.toLocalDate().equals(due)) {
+                return new Reminder(todo, Reminder.Kind.DUE, now);  // 당일 알림 시각이 지난 뒤 알게 됨
+            }
+        }
+        LocalDateTime overdueAt = due.plusDays(1).atTime(remindAt);
+        return now.isBefore(overdueAt) ? new Reminder(todo, Reminder.Kind.OVERDUE, overdueAt) : null;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private long tick(LocalDateTime time) {
+        return time.atZone(clock.getZone()).toInstant().toEpochMilli() / TICK_MILLIS;
+    }
+}
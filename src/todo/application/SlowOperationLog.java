@@ -0,0 +1,156 @@
+package todo.application;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 임계값보다 오래 걸렸거나 오류가 난 작업을 한 줄씩 기록하는 순환 로그 파일
+ *
+ * 한 줄은 공백으로 구분한 key=value 형식입니다.
+ * 예: 2026-10-19T15:35:45.765 op=repository.save duration=2034.1ms rows=1000000 bytes=48213511 encode=812.3ms write=1200.2ms
+ * 오류가 있으면 끝에 error="예외 클래스: 메시지"를 붙이며, 오류가 난 작업은 임계값과 관계없이 기록합니다.
+ *
+ * 파일이 최대 크기를 넘으면 log → log.1 → log.2 ... 로 밀어내고 가장 오래된 파일은 지웁니다.
+ * 로그 쓰기 실패는 작업에 영향을 주지 않고 실패 수만 셉니다.
+ */
+public final class SlowOperationLog {
+    public static final long DEFAULT_MAX_BYTES = 1 << 20;
+    public static final int DEFAULT_MAX_FILES = 3;
+
+    private final Path file;
+    private final long maxBytes;
+    private final int maxFiles;
+    private final long defaultThreshold;  // 나노초
+    private final Map<String, Long> thresholds = new ConcurrentHashMap<>();  // 작업 이름 → 나노초
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * 기본 크기(1MB × 3개)로 순환하는 로그
+     * @param file 로그 파일 경로
+     * @param thresholdMillis 모든 작업에 적용할 기본 임계값 (밀리초)
+     */
+    public SlowOperationLog(Path file, long thresholdMillis) {
+        this(file, thresholdMillis, DEFAULT_MAX_BYTES, DEFAULT_MAX_FILES);
+    }
+
+    /**
+     * @param file 로그 파일 경로
+     * @param thresholdMillis 모든 작업에 적용할 기본 임계값 (밀리초)
+     * @param maxBytes 파일 하나의 최대 크기
+     * @param maxFiles 현재 파일을 포함해 남길 파일 수
+     */
+    public SlowOperationLog(Path file, long thresholdMillis, long maxBytes, int maxFiles) {
+        this.file = file;
+        this.defaultThreshold = thresholdMillis * 1_000_000;
+        this.maxBytes = maxBytes;
+        this.maxFiles = Math.max(1, maxFiles);
+    }
+
+    /**
+     * 작업 하나의 임계값을 따로 지정
+     * @param operation 작업 이름 (예: "repository.load")
+     * @param thresholdMillis 임계값 (밀리초)
+     * @return 이 로그
+     */
+    public SlowOperationLog threshold(String operation, long thresholdMillis) {
+        thresholds.put(operation, thresholdMillis * 1_000_000);
+        return this;
+    }
+
+    /**
+     * @return 로그 파일 경로
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return 지금까지 기록한 줄 수
+     */
+    public long getWritten() {
+        return written.sum();
+    }
+
+    /**
+     * @return 로그 파일에 쓰지 못한 횟수
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * 끝난 작업을 임계값과 비교하여 필요하면 기록
+     * @param operation 작업 이름
+     * @param nanos 소요 시간 (나노초)
+     * @param trace 작업 중 모은 세부 내용
+     * @param failure 작업이 던진 예외, 없으면 null
+     */
+    void record(String operation, long nanos, OperationTrace trace, Throwable failure) {
+        Throwable error = failure != null ? failure : trace.getError();
+        if (error == null && nanos < thresholds.getOrDefault(operation, defaultThreshold)) {
+            return;
+        }
+        StringBuilder line = new StringBuilder(160);
+        line.append(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+                .append(" op=").append(operation)
+                .append(" duration=").append(millis(nanos)).append("ms")
+                .append(" rows=").append(trace.getRows())
+                .append(" bytes=").append(trace.getBytes());
+        trace.getPhases().forEach((phase, phaseNanos) ->
+                line.append(' ').append(phase).append('=').append(millis(phaseNanos)).append("ms"));
+        if (error != null) {
+            String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+            line.append(" error=\"").append(message.replace('"', '\'').replace('\n', ' ')).append('"');
+        }
+        line.append(System.lineSeparator());
+        write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private synchronized void write(byte[] line) {
+        try {
+            if (Files.exists(file) && Files.size(file) + line.length > maxBytes) {
+                rotate();
+            }
+            Files.write(file, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            written.increment();
+        } catch (IOException e) {
+            failures.increment();  // 로그 실패는 작업에 영향을 주지 않음
+        }
+    }
+
+    /**
+     * log.(n-2) → log.(n-1), ..., log → log.1 순서로 밀어냄 (가장 오래된 파일은 덮어씀)
+     */
+    private void rotate() throws IOException {
+        if (maxFiles == 1) {
+            Files.delete(file);
+            return;
+        }
+        for (int i = maxFiles - 2; i >= 1; i--) {
+            Path older = rotated(i);
+            if (Files.exists(older)) {
+                Files.move(older, rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path rotated(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1e6);
+    }
+}
@@ -0,0 +1,192 @@
+package todo.application;
+
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (정수 틱 단위의 예약 타이머)
+ *
+ * 단계마다 64칸을 두고, 단계 L의 한 칸은 64^L 틱을 덮습니다. (5단계면 64^5 틱, 1초 틱으로 약 34년)
+ * 예약은 남은 틱 수로 단계와 칸을 바로 계산해 칸의 이중 연결 리스트에 넣고, 취소는 리스트에서 떼어내므로
+ * 둘 다 O(1)입니다. 시간이 흘러 아래 단계가 한 바퀴 돌 때마다 위 단계의 한 칸을 아래로 내려 다시 넣습니다.
+ * 아래 단계가 비어 있으면 그 단계의 틱은 하나씩 세지 않고 위 단계의 다음 경계까지 건너뜁니다.
+ *
+ * 동기화하지 않으므로 호출자가 락으로 보호해야 합니다.
+ */
+final class TimingWheel<T> {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+    private static final long SPAN = 1L << (BITS * LEVELS);  // 휠 전체가 덮는 틱 수
+
+    /**
+     * 예약된 타이머 하나 (schedule이 반환하며 cancel에 넘김)
+     */
+    static final class Timer<T> {
+        final long deadline;
+        final T value;
+        private int level;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(long deadline, T value) {
+            this.deadline = deadline;
+            this.value = value;
+        }
+
+        /**
+         * @return 아직 만료되거나 취소되지 않았으면 true
+         */
+        boolean isScheduled() {
+            return prev != null;
+        }
+    }
+
+    private final Timer<T>[][] slots;  // 단계별 칸의 원형 리스트 머리 (빈 칸은 자기 자신을 가리킴)
+    private final int[] counts = new int[LEVELS];  // 단계별 타이머 수
+    private long current;  // 마지막으로 처리한 틱
+    private int size;
+
+    /**
+     * @param startTick 현재 틱 (이 틱까지는 처리된 것으로 봄)
+     */
+    TimingWheel(long startTick) {
+        this.current = startTick;
+        this.slots = newSlots();
+        for (Timer<T>[] level : slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                Timer<T> head = new Timer<>(0, null);
+                head.prev = head;
+                head.next = head;
+                level[i] = head;
+            }
+        }
+    }
+
+    /**
+     * 제네릭 배열은 직접 만들 수 없으므로 와일드카드 배열을 만들어 변환 (칸에는 Timer<T>만 넣음)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Timer<T>[][] newSlots() {
+        return (Timer<T>[][]) new Timer<?>[LEVELS][SLOTS];
+    }
+
+    /**
+     * 타이머 예약 (O(1))
+     * @param deadline 만료 틱 (이미 지났으면 다음 틱에 만료)
+     * @param value 만료될 때 돌려줄 값
+     * @return 취소할 때 쓸 타이머
+     */
+    Timer<T> schedule(long deadline, T value) {
+        Timer<T> timer = new Timer<>(deadline, value);
+        place(timer, current + 1);
+        size++;
+        return timer;
+    }
+
+    /**
+     * 타이머 취소 (O(1))
+     * @return 예약되어 있던 타이머를 취소했으면 true
+     */
+    boolean cancel(Timer<T> timer) {
+        if (timer == null || !timer.isScheduled()) {
+            return false;
+        }
+        unlink(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * 주어진 틱까지 시간을 진행하며 만료된 타이머의 값을 만료 순서대로 넘김
+     * 한 틱마다 O(1)에 위 단계 칸을 필요할 때만 내리며, 예약이 하나도 없으면 바로 건너뜁니다.
+     * @param tick 진행할 틱
+     * @param expired 만료된 값을 받을 함수 (이 안에서 휠을 바꾸면 안 됨)
+     */
+    void advance(long tick, Consumer<T> expired) {
+        while (current < tick) {
+            if (size == 0) {
+                current = tick;
+                return;
+            }
+            int lowest = 0;
+            while (counts[lowest] == 0) {
+                lowest++;
+            }
+            if (lowest > 0) {
+                // 아래 단계가 비었으므로 이 단계의 다음 경계 직전까지 건너뜀
+                long boundary = ((current >>> (BITS * lowest)) + 1) << (BITS * lowest);
+                current = Math.min(tick, boundary - 1);
+                if (current == tick) {
+                    return;
+                }
+            }
+            current++;
+            cascade();
+            Timer<T> head = slots[0][(int) (current & MASK)];
+            while (head.next != head) {
+                Timer<T> timer = head.next;
+                unlink(timer);
+                if (timer.deadline > current) {
+                    place(timer, current + 1);  // 휠 범위를 넘어 잘라 넣었던 타이머
+                    continue;
+                }
+                size--;
+                expired.accept(timer.value);
+            }
+        }
+    }
+
+    /**
+     * @return 예약된 타이머 수
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 아래 단계가 한 바퀴 돈 단계들의 현재 칸을 풀어 한 단계 아래로 다시 넣음
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((current & ((1L << (BITS * level)) - 1)) != 0) {
+                return;
+            }
+            Timer<T> head = slots[level][(int) ((current >>> (BITS * level)) & MASK)];
+            while (head.next != head) {
+                Timer<T> timer = head.next;
+                unlink(timer);
+                place(timer, current);  // 이번 틱이 만료인 타이머는 바로 이어서 처리되는 0단계 칸으로
+            }
+        }
+    }
+
+    /**
+     * 남은 틱 수에 맞는 단계의 칸에 넣음
+     * @param earliest 가장 이른 만료 틱 (이미 처리한 칸에 넣지 않도록)
+     */
+    private void place(Timer<T> timer, long earliest) {
+        long deadline = Math.max(timer.deadline, earliest);
+        long delta = Math.min(deadline - current, SPAN - 1);  // 너무 먼 타이머는 휠 끝에 두었다가 다시 넣음
+        deadline = current + delta;
+        int level = 0;
+        while (delta >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        Timer<T> head = slots[level][(int) ((deadline >>> (BITS * level)) & MASK)];
+        timer.level = level;
+        counts[level]++;
+        timer.prev = head.prev;
+        timer.next = head;
+        head.prev.next = timer;
+        head.prev = timer;
+    }
+
+    private void unlink(Timer<T> timer) {
+        counts[timer.level]--;
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+}
@@ -0,0 +1,135 @@
+package todo.application;
+
+import todo.domain.Todo;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * TodoServiceImpl 목록의 집계 카운터
+ *
+ * Todo가 목록에 들어오면 added, 빠지면 removed로 각 카운터에 더하고 뺍니다.
+ * 항목을 바꿀 때는 바꾸기 전에 removed, 바꾼 뒤에 added를 호출하므로 카운터는 항상 목록과 같습니다.
+ * 마감일과 완료일은 날짜별 개수로 두어, 날짜가 지나도 다시 세지 않고 조회 시점의 오늘로 구간 합을 구합니다.
+ * 반복 Todo는 줄이 미완료로 남으므로 완료일 대신 회차를 완료한 날짜들(Recurrence.DONE_KEY)을 셉니다.
+ * (날짜 수만큼의 합이므로 Todo 수와 관계없음)
+ *
+ * 서비스의 쓰기 락 안에서만 변경하며, snapshot은 읽기 락으로 동시에 할 수 있습니다.
+ */
+final class TodoCounters {
+    private int total;
+    private int completed;
+    private final NavigableMap<LocalDate, int[]> openByDue = new TreeMap<>();  // 미완료 Todo의 마감일별 개수
+    private final NavigableMap<String, int[]> doneByDay = new TreeMap<>();  // 완료 Todo의 완료일(yyyy-MM-dd)별 개수
+    private final Map<String, Map<String, int[]>> groups = new LinkedHashMap<>();  // 키 → 값 → {전체, 완료}
+
+    /**
+     * @param todos 처음 목록 (O(N)으로 한 번 셈)
+     */
+    TodoCounters(Iterable<Todo> todos) {
+        for (String key : TodoStats.GROUP_KEYS) {
+            groups.put(key, new HashMap<>());
+        }
+        for (Todo todo : todos) {
+            added(todo);
+        }
+    }
+
+    /**
+     * 목록에 들어온 Todo(또는 바뀐 뒤의 Todo)를 셈
+     */
+    void added(Todo todo) {
+        apply(todo, 1);
+    }
+
+    /**
+     * 목록에서 빠진 Todo(또는 바뀌기 전의 Todo)를 뺌
+     */
+    void removed(Todo todo) {
+        apply(todo, -1);
+    }
+
+    /**
+     * 현재 카운터로 집계를 만듦
+     * @param today 마감 지남/이번 주/완료 추이의 기준 날짜
+     */
+    TodoStats snapshot(LocalDate today) {
+        int overdue = sum(openByDue.headMap(today, false));
+        int dueThisWeek = sum(openByDue.subMap(today, true, today.plusDays(TodoStats.WEEK_DAYS), false));
+        int[] series = new int[TodoStats.SERIES_DAYS];
+        LocalDate first = today.minusDays(TodoStats.SERIES_DAYS - 1);
+        doneByDay.subMap(first.toString(), true, today.toString(), true).forEach((day, count) -> {
+            try {
+                series[(int) (LocalDate.parse(day).toEpochDay() - first.toEpochDay())] = count[0];
+            } catch (DateTimeParseException e) {
+                // 직접 고친 파일의 잘못된 완료일은 추이에서 뺌
+            }
+        });
+        Map<String, Map<String, TodoStats.Count>> counts = new LinkedHashMap<>();
+        groups.forEach((key, values) -> {
+            Map<String, TodoStats.Count> copy = new HashMap<>();
+            values.forEach((value, count) -> copy.put(value, new TodoStats.Count(count[0], count[1])));
+            counts.put(key, copy);
+        });
+        return new TodoStats(today, total, completed, overdue, dueThisWeek, series, counts);
+    }
+
+    private void apply(Todo todo, int delta) {
+        total += delta;
+        boolean done = todo.isCompleted();
+        String occurrences = todo.getMetadataField(Recurrence.DONE_KEY);
+        if (occurrences != null) {
+            // 반복 Todo는 회차를 완료한 날짜마다 셈 (마지막 회차 포함, completedAt은 그중 하나라 다시 세지 않음)
+            for (String day : occurrences.split(",")) {
+                add(doneByDay, day.trim(), delta);
+            }
+        }
+        if (done) {
+            completed += delta;
+            String completedAt = todo.getMetadataField(ArchivePolicy.COMPLETED_AT_KEY);
+            if (completedAt != null && occurrences == null) {
+                add(doneByDay, completedAt, delta);
+            }
+        } else if (todo.getDueDate() != null) {
+            add(openByDue, todo.getDueDate(), delta);
+        }
+        for (Map.Entry<String, Map<String, int[]>> group : groups.entrySet()) {
+            String value = todo.getMetadataField(group.getKey());
+            if (value == null) {
+                continue;
+            }
+            for (String part : value.split(",")) {
+                String name = part.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                int[] count = group.getValue().computeIfAbsent(name, k -> new int[2]);
+                count[1] += done ? delta : 0;
+                add(group.getValue(), name, delta);
+            }
+        }
+    }
+
+    /**
+     * 개수(첫 칸)를 더하고 0이 되면 항목을 지움 (날짜/값이 늘어나기만 하지 않도록)
+     */
+    private static <K> void add(Map<K, int[]> counts, K key, int delta) {
+        int[] count = counts.computeIfAbsent(key, k -> new int[2]);
+        count[0] += delta;
+        if (count[0] == 0) {
+            counts.remove(key);
+        }
+    }
+
+    private static int sum(Map<?, int[]> counts) {
+        int sum = 0;
+        for (int[] count : counts.values()) {
+            sum += count[0];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,357 @@
+package todo.application;
+
+import todo.domain.Todo;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Todo 사이의 선후 관계(의존성 그래프)와 바로 시작할 수 있는 Todo 집합
+ *
+ * 의존성은 메타데이터에 상대 Todo의 ID를 쉼표로 나열합니다.
+ * - "blockedBy": 이 Todo보다 먼저 끝내야 하는 Todo들
+ * - "blocks": 이 Todo를 끝내야 시작할 수 있는 Todo들
+ * ID는 하위 작업과 같은 "id" 키이며, 서비스가 의존성을 추가할 때 없으면 부여합니다.
+ *
+ * 그래프는 Pearce–Kelly 방식으로 위상 순서를 유지합니다. 간선을 넣을 때 순서가 이미 맞으면 O(1)이고,
+ * 어긋나면 두 노드 사이 순서 구간에서 영향받는 노드만 찾아 그 순서 번호들을 다시 나눕니다.
+ * 그 탐색에서 반대쪽 끝에 닿으면 순환이므로 간선을 넣지 않습니다. (파일에서 읽은 순환 간선도 무시)
+ *
+ * 노드마다 미완료 선행 Todo 수를 두어, 0인 미완료 Todo를 ready 집합에 둡니다.
+ * 완료 상태가 바뀌면 후행 Todo의 수만 하나씩 고치므로 간선당 O(1)이고 그래프를 다시 훑지 않습니다.
+ * ready 집합은 위상 순서 번호 순의 TreeSet이라 조회 때 정렬하지 않고 앞에서부터 필요한 만큼만 꺼내며,
+ * 순서를 재배치할 때는 번호가 바뀌는 노드만 집합에서 뺐다가 다시 넣습니다.
+ *
+ * TodoCounters와 같이 서비스의 쓰기 락 안에서만 변경하며, 조회는 읽기 락으로 동시에 할 수 있습니다.
+ */
+public final class TodoDependencies {
+    public static final String BLOCKED_BY_KEY = "blockedBy";
+    public static final String BLOCKS_KEY = "blocks";
+
+    private static final class Node {
+        final Todo todo;
+        String id;
+        int ord;  // 위상 순서 번호 (선행 Todo가 항상 더 작음)
+        boolean completed;  // 마지막으로 센 완료 상태
+        boolean removed;
+        int pending;  // 미완료 선행 Todo 수
+        boolean visited;  // 순서 재배치 탐색 표시
+        final Set<Node> out = new LinkedHashSet<>();  // 이 Todo가 막는 Todo
+        final Set<Node> in = new LinkedHashSet<>();  // 이 Todo를 막는 Todo
+
+        Node(Todo todo) {
+            this.todo = todo;
+        }
+    }
+
+    /**
+     * 아직 목록에 없는 ID를 가리키는 의존성 (그 ID의 Todo가 들어오면 연결)
+     */
+    private static final class Reference {
+        final Node node;
+        final boolean blocked;  // true면 node가 그 ID에 막힘, false면 node가 그 ID를 막음
+
+        Reference(Node node, boolean blocked) {
+            this.node = node;
+            this.blocked = blocked;
+        }
+    }
+
+    private static final Comparator<Node> BY_ORD = Comparator.comparingInt(n -> n.ord);
+
+    private final Map<Todo, Node> nodes = new IdentityHashMap<>();
+    private final Map<String, Node> byId = new HashMap<>();
+    private final Map<String, List<Reference>> waiting = new HashMap<>();
+    private final TreeSet<Node> ready = new TreeSet<>(BY_ORD);  // 위상 순서 번호 순
+    private int nextOrd;
+
+    /**
+     * @param todos 처음 목록 (간선마다 한 번 연결)
+     */
+    TodoDependencies(Iterable<Todo> todos) {
+        for (Todo todo : todos) {
+            added(todo);
+        }
+    }
+
+    /**
+     * 목록에 들어온 Todo를 노드로 만들고 메타데이터의 의존성을 연결
+     */
+    void added(Todo todo) {
+        Node node = new Node(todo);
+        node.ord = nextOrd++;  // 새 노드는 맨 뒤이므로 기존 선행 Todo와의 간선은 재배치가 없음
+        node.completed = todo.isCompleted();
+        nodes.put(todo, node);
+        if (!node.completed) {
+            ready.add(node);
+        }
+        register(node, todo.getMetadataField(TodoOutline.ID_KEY));
+        for (String id : ids(todo.getMetadataField(BLOCKED_BY_KEY))) {
+            Node blocker = byId.get(id);
+            if (blocker != null) {
+                connect(blocker, node);
+            } else {
+                waiting.computeIfAbsent(id, k -> new ArrayList<>()).add(new Reference(node, true));
+            }
+        }
+        for (String id : ids(todo.getMetadataField(BLOCKS_KEY))) {
+            Node blocked = byId.get(id);
+            if (blocked != null) {
+                connect(node, blocked);
+            } else {
+                waiting.computeIfAbsent(id, k -> new ArrayList<>()).add(new Reference(node, false));
+            }
+        }
+    }
+
+    /**
+     * 목록에서 빠진 Todo의 간선을 지움 (이 Todo만 기다리던 Todo는 ready가 됨)
+     */
+    void removed(Todo todo) {
+        Node node = nodes.remove(todo);
+        if (node == null) {
+            return;
+        }
+        node.removed = true;
+        ready.remove(node);
+        for (Node blocked : node.out) {
+            blocked.in.remove(node);
+            if (!node.completed) {
+                release(blocked);
+            }
+        }
+        for (Node blocker : node.in) {
+            blocker.out.remove(node);
+        }
+        if (node.id != null && byId.get(node.id) == node) {
+            byId.remove(node.id);
+        }
+    }
+
+    /**
+     * 완료 상태가 바뀌었을 수 있는 Todo의 후행 Todo만 고침 (O(후행 수))
+     */
+    void updated(Todo todo) {
+        Node node = nodes.get(todo);
+        if (node == null || node.completed == todo.isCompleted()) {
+            return;
+        }
+        node.completed = todo.isCompleted();
+        if (node.completed) {
+            ready.remove(node);
+            for (Node blocked : node.out) {
+                release(blocked);
+            }
+        } else {
+            for (Node blocked : node.out) {
+                block(blocked);
+            }
+            if (node.pending == 0) {
+                ready.add(node);
+            }
+        }
+    }
+
+    /**
+     * Todo에 새로 부여된 ID를 등록 (그 ID를 기다리던 의존성을 연결)
+     */
+    void identified(Todo todo) {
+        Node node = nodes.get(todo);
+        if (node != null && node.id == null) {
+            register(node, todo.getMetadataField(TodoOutline.ID_KEY));
+        }
+    }
+
+    /**
+     * blocker를 끝내야 blocked를 시작할 수 있다는 간선 추가
+     * @return 추가했거나 이미 있으면 true, 순환이 생기면 false (그래프는 그대로)
+     */
+    boolean link(Todo blocker, Todo blocked) {
+        Node from = nodes.get(blocker);
+        Node to = nodes.get(blocked);
+        return from != null && to != null && connect(from, to);
+    }
+
+    /**
+     * @param limit 최대 항목 수
+     * @return 미완료 선행 Todo가 없는 미완료 Todo 중 위상 순서로 앞의 limit개
+     */
+    List<Todo> ready(int limit) {
+        List<Todo> todos = new ArrayList<>(Math.max(0, Math.min(limit, ready.size())));
+        for (Node node : ready) {
+            if (todos.size() >= limit) {
+                break;
+            }
+            todos.add(node.todo);
+        }
+        return todos;
+    }
+
+    /**
+     * @return 미완료 선행 Todo가 없는 미완료 Todo 수
+     */
+    int readyCount() {
+        return ready.size();
+    }
+
+    private void register(Node node, String id) {
+        node.id = id;
+        if (id == null || byId.putIfAbsent(id, node) != null) {
+            return;  // 같은 ID가 이미 있으면 먼저 들어온 Todo로 연결
+        }
+        List<Reference> references = waiting.remove(id);
+        if (references == null) {
+            return;
+        }
+        for (Reference reference : references) {
+            if (!reference.node.removed) {
+                if (reference.blocked) {
+                    connect(node, reference.node);
+                } else {
+                    connect(reference.node, node);
+                }
+            }
+        }
+    }
+
+    /**
+     * 간선을 넣고 위상 순서와 ready 집합을 고침
+     * @return 순환이라 넣지 못했으면 false
+     */
+    private boolean connect(Node from, Node to) {
+        if (from == to) {
+            return false;  // 자기 자신을 막는 간선
+        }
+        if (from.out.contains(to)) {
+            return true;
+        }
+        if (from.ord > to.ord && !reorder(from, to)) {
+            return false;
+        }
+        from.out.add(to);
+        to.in.add(from);
+        if (!from.completed) {
+            block(to);
+        }
+        return true;
+    }
+
+    /**
+     * Pearce–Kelly 재배치: to에서 순서가 from 이하인 후행 노드와 from에서 순서가 to 이상인 선행 노드만 찾아
+     * 그 노드들이 쓰던 순서 번호를 선행 쪽부터 다시 나눔
+     * @return to에서 from에 닿으면(순환) false
+     */
+    private boolean reorder(Node from, Node to) {
+        int lower = to.ord;
+        int upper = from.ord;
+        List<Node> forward = new ArrayList<>();
+        boolean cycle = collect(to, upper, true, forward);
+        List<Node> backward = new ArrayList<>();
+        if (!cycle) {
+            collect(from, lower, false, backward);
+        }
+        for (Node node : forward) {
+            node.visited = false;
+        }
+        for (Node node : backward) {
+            node.visited = false;
+        }
+        if (cycle) {
+            return false;
+        }
+        forward.sort(BY_ORD);
+        backward.sort(BY_ORD);
+        int[] slots = new int[forward.size() + backward.size()];
+        int i = 0;
+        for (Node node : backward) {
+            slots[i++] = node.ord;
+        }
+        for (Node node : forward) {
+            slots[i++] = node.ord;
+        }
+        Arrays.sort(slots);
+        List<Node> moved = new ArrayList<>();
+        for (Node node : backward) {
+            if (ready.remove(node)) {
+                moved.add(node);  // 번호가 바뀌기 전에 빼야 트리에서 찾을 수 있음
+            }
+        }
+        for (Node node : forward) {
+            if (ready.remove(node)) {
+                moved.add(node);
+            }
+        }
+        i = 0;
+        for (Node node : backward) {
+            node.ord = slots[i++];
+        }
+        for (Node node : forward) {
+            node.ord = slots[i++];
+        }
+        ready.addAll(moved);
+        return true;
+    }
+
+    /**
+     * 순서 구간 안의 노드만 따라가는 깊이 우선 탐색
+     * @param bound 전진이면 이 번호 이하, 후진이면 이 번호 이상인 노드만 방문
+     * @param forward true면 후행 방향, false면 선행 방향
+     * @return 전진 탐색이 bound 번호의 노드(간선의 시작점)에 닿으면 true
+     */
+    private static boolean collect(Node start, int bound, boolean forward, List<Node> visited) {
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        start.visited = true;
+        visited.add(start);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            for (Node next : forward ? node.out : node.in) {
+                if (forward && next.ord == bound) {
+                    return true;
+                }
+                boolean inRange = forward ? next.ord < bound : next.ord > bound;
+                if (inRange && !next.visited) {
+                    next.visited = true;
+                    visited.add(next);
+                    stack.push(next);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void block(Node node) {
+        if (node.pending++ == 0) {
+            ready.remove(node);
+        }
+    }
+
+    private void release(Node node) {
+        if (--node.pending == 0 && !node.completed && !node.removed) {
+            ready.add(node);
+        }
+    }
+
+    private static List<String> ids(String value) {
+        List<String> ids = new ArrayList<>();
+        if (value == null) {
+            return ids;
+        }
+        for (String part : value.split(",")) {
+            String id = part.trim();
+            if (!id.isEmpty()) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
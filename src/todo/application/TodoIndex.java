@@ -0,0 +1,566 @@
+package todo.application;
+
+import todo.domain.Todo;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * TodoServiceImpl 목록의 정렬 색인 (마감일/제목/완료 상태 순)과 마감 임박 일정
+ *
+ * 정렬 기준마다 TreeSet(레드-블랙 트리)을 두고 추가/토글/삭제 때 해당 항목만 넣고 빼므로,
+ * 화면마다 전체를 정렬(O(N log N))하지 않고 정렬된 페이지를 얻습니다. 트리는 순위로 바로 찾아가지 못하므로
+ * 앞이나 뒤 중 가까운 끝에서 건너뛰어 O(min(offset, N - offset) + 페이지 크기)가 듭니다.
+ * 트리 항목은 넣을 때의 정렬 키를 복사해 두므로, Todo가 바뀐 뒤에도 트리에서 정확히 찾아 뺄 수 있습니다.
+ *
+ * 각 Todo는 목록 순서와 같은 순서의 순번을 가지며, 살아 있는 순번에 대한 펜윅 트리로
+ * 현재 목록 인덱스를 O(log N)에 구합니다. (삭제로 뒤의 인덱스가 당겨져도 다시 번호를 매기지 않음)
+ *
+ * 일정(agenda)은 마감일이 있는 미완료 Todo만 담은 인덱스 최소 힙으로 따로 관리합니다.
+ * 각 항목이 힙 안의 자리를 기억하므로 토글/삭제/마감일 변경 때 해당 자리만 올리거나 내리거나 빼고(O(log N)),
+ * 가장 가까운 K개는 루트부터 자식을 후보 큐에 넣으며 꺼내 O(K log K)에 얻습니다.
+ *
+ * 기간 조회(occurrences)용으로 미완료 Todo를 반복하지 않는 것과 반복 규칙으로 나눠 마감일 순 트리에 둡니다.
+ * 조회 때는 기간 안의 한 번짜리 항목을 트리에서 차례로 꺼내고, 기간 끝 이전에 시작하는 규칙만 첫 회차를 후보 힙에 넣어
+ * 꺼낸 규칙의 다음 회차만 다시 넣으므로, 목록 전체를 훑지 않고 필요한 K개 회차만 만듭니다.
+ *
+ * 페이지에는 목록의 Todo 대신 Todo.frozen() 복사본을 담으므로, 락을 놓은 뒤 호출자가 읽는 동안 변경과 겹치지 않습니다.
+ *
+ * 정렬 기준별 트리와 일정 힙, 기간 조회 트리는 처음 요청될 때 만듭니다. 서비스의 쓰기 락 안에서만 변경하며,
+ * 조회(page)는 읽기 락으로 동시에 할 수 있습니다.
+ */
+final class TodoIndex {
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * 트리 항목: Todo와 색인에 넣을 때의 정렬 키
+     */
+    private static final class Entry {
+        final Todo todo;
+        int seq;  // 목록 순서와 같은 순서의 순번 (같은 키끼리의 순서)
+        LocalDate due;
+        boolean completed;
+        CollationKey title;  // 제목 트리가 있을 때만 계산
+        int slot = -1;  // 일정 힙 안의 위치, 힙에 없으면 -1
+        Recurrence repeat;  // 기간 조회 트리가 있을 때만 계산, 반복하지 않으면 null
+
+        Entry(Todo todo) {
+            this.todo = todo;
+        }
+    }
+
+    private static final Comparator<Entry> BY_SEQ = Comparator.comparingInt(e -> e.seq);
+    private static final Comparator<Entry> BY_DUE_DATE = Comparator
+            .comparing((Entry e) -> e.due, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(BY_SEQ);
+    private static final Comparator<Entry> BY_TITLE = Comparator
+            .comparing((Entry e) -> e.title)
+            .thenComparing(BY_SEQ);
+    private static final Comparator<Entry> BY_STATUS = Comparator
+            .comparing((Entry e) -> e.completed)
+            .thenComparing(BY_SEQ);
+
+    private final List<Todo> list;  // 서비스의 목록 (같은 락으로 보호)
+    private final Collator collator = Collator.getInstance(Locale.KOREAN);
+    private final Map<Todo, Entry> entries = new IdentityHashMap<>();
+    private final Map<TodoOrder, TreeSet<Entry>> trees = new EnumMap<>(TodoOrder.class);
+    private int[] fenwick;  // 1부터 시작하는 펜윅 트리, 순번 자리마다 살아 있으면 1
+    private int nextSeq;
+    private Entry[] heap;  // 일정 힙 (마감일, 순번 순의 최소 힙), 아직 요청되지 않았으면 null
+    private int heapSize;
+    private TreeSet<Entry> dated;  // 마감일이 있고 반복하지 않는 미완료 항목 (마감일, 순번 순), 아직 요청되지 않았으면 null
+    private TreeSet<Entry> rules;  // 반복하는 미완료 항목 (마감일, 순번 순)
+
+    /**
+     * 목록 전체로 색인 생성 (정렬 트리는 build로 따로 만듦)
+     * @param list 서비스의 목록 (이후 변경은 added/removed/updated로 알려야 함)
+     */
+    TodoIndex(List<Todo> list) {
+        this.list = list;
+        for (Todo todo : list) {
+            entries.put(todo, capture(new Entry(todo)));
+        }
+        renumber();
+    }
+
+    /**
+     * 정렬 기준의 트리가 만들어져 있는지 확인
+     */
+    boolean isBuilt(TodoOrder order) {
+        return trees.containsKey(order);
+    }
+
+    /**
+     * 정렬 기준의 트리를 만듦 (이미 있으면 아무것도 하지 않음)
+     */
+    void build(TodoOrder order) {
+        if (trees.containsKey(order)) {
+            return;
+        }
+        if (order == TodoOrder.TITLE) {
+            for (Entry entry : entries.values()) {
+                entry.title = titleKey(entry.todo);
+            }
+        }
+        TreeSet<Entry> tree = new TreeSet<>(comparator(order));
+        tree.addAll(entries.values());
+        trees.put(order, tree);
+    }
+
+    /**
+     * 일정 힙이 만들어져 있는지 확인
+     */
+    boolean hasAgenda() {
+        return heap != null;
+    }
+
+    /**
+     * 마감일이 있는 미완료 Todo로 일정 힙을 만듦 (이미 있으면 아무것도 하지 않음, O(N))
+     */
+    void buildAgenda() {
+        if (heap != null) {
+            return;
+        }
+        heap = new Entry[Math.max(MIN_CAPACITY, entries.size())];
+        heapSize = 0;
+        for (Entry entry : entries.values()) {
+            if (isScheduled(entry)) {
+                entry.slot = heapSize;
+                heap[heapSize++] = entry;
+            }
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * 마감일이 가장 가까운 미완료 Todo들 (buildAgenda로 힙을 먼저 만들어 두어야 함)
+     * 힙은 그대로 두고, 꺼낸 자리의 두 자식만 후보 큐에 넣어 O(K log K)에 구합니다.
+     * @param limit 최대 항목 수
+     * @return 마감일 순의 페이지 (전체 개수는 마감일이 있는 미완료 Todo 수)
+     */
+    TodoPage agenda(int limit) {
+        int count = Math.max(0, Math.min(limit, heapSize));
+        int[] indices = new int[count];
+        List<Todo> todos = new ArrayList<>(count);
+        PriorityQueue<Entry> frontier = new PriorityQueue<>(Math.max(1, 2 * count), TodoIndex::compareDue);
+        if (count > 0) {
+            frontier.add(heap[0]);
+        }
+        for (int i = 0; i < count; i++) {
+            Entry entry = frontier.poll();
+            indices[i] = rank(entry.seq);
+            todos.add(entry.todo.frozen());
+            for (int child = 2 * entry.slot + 1; child <= 2 * entry.slot + 2 && child < heapSize; child++) {
+                frontier.add(heap[child]);
+            }
+        }
+        return new TodoPage(TodoOrder.DUE_DATE, 0, heapSize, indices, todos);
+    }
+
+    /**
+     * 기간 조회 트리가 만들어져 있는지 확인
+     */
+    boolean hasOccurrences() {
+        return dated != null;
+    }
+
+    /**
+     * 미완료 Todo를 반복하지 않는 것과 반복 규칙으로 나눠 기간 조회 트리를 만듦 (이미 있으면 아무것도 하지 않음)
+     */
+    void buildOccurrences() {
+        if (dated != null) {
+            return;
+        }
+        dated = new TreeSet<>(BY_DUE_DATE);
+        rules = new TreeSet<>(BY_DUE_DATE);
+        for (Entry entry : entries.values()) {
+            entry.repeat = Recurrence.of(entry.todo);
+            occurrenceAdd(entry);
+        }
+    }
+
+    /**
+     * 기간 안의 미완료 Todo 회차 (buildOccurrences로 트리를 먼저 만들어 두어야 함)
+     * 한 번짜리 항목은 트리에서 기간 부분만 차례로 꺼내고, 기간 끝 이전에 시작하는 규칙은 첫 회차만 후보 힙에 넣은 뒤
+     * 꺼낸 회차의 다음 회차를 넣어 가며 limit개만 만듭니다.
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @param limit 최대 회차 수
+     * @return 날짜 순(같으면 목록 순)의 페이지, 반복 회차는 마감일만 회차 날짜인 복사본
+     */
+    TodoPage occurrences(LocalDate from, LocalDate to, int limit) {
+        if (from.isAfter(to)) {
+            return new TodoPage(TodoOrder.DUE_DATE, 0, 0, new int[0], new ArrayList<>());
+        }
+        Entry high = probe(to, Integer.MAX_VALUE);
+        SortedSet<Entry> window = dated.subSet(probe(from, -1), high);
+        long total = window.size();
+        Iterator<Entry> single = window.iterator();
+        PriorityQueue<Occurrence> frontier = new PriorityQueue<>();
+        if (single.hasNext()) {
+            Entry entry = single.next();
+            frontier.add(new Occurrence(entry.due, entry));
+        }
+        for (Entry entry : rules.headSet(high, true)) {
+            // 마감일보다 앞선 회차는 이미 완료됨
+            LocalDate start = entry.due.isAfter(from) ? entry.due : from;
+            LocalDate first = entry.repeat.firstOnOrAfter(start);
+            if (first != null && !first.isAfter(to)) {
+                frontier.add(new Occurrence(first, entry));
+                total += entry.repeat.count(start, to);
+            }
+        }
+        int[] indices = new int[(int) Math.min(Math.max(0, limit), total)];
+        List<Todo> todos = new ArrayList<>(indices.length);
+        while (todos.size() < indices.length) {
+            Occurrence next = frontier.poll();
+            Entry entry = next.entry;
+            indices[todos.size()] = rank(entry.seq);
+            todos.add(next.toTodo());
+            if (entry.repeat == null) {
+                if (single.hasNext()) {
+                    Entry following = single.next();
+                    frontier.add(new Occurrence(following.due, following));
+                }
+            } else {
+                LocalDate following = entry.repeat.firstAfter(next.date);
+                if (following != null && !following.isAfter(to)) {
+                    frontier.add(new Occurrence(following, entry));
+                }
+            }
+        }
+        return new TodoPage(TodoOrder.DUE_DATE, 0, (int) Math.min(Integer.MAX_VALUE, total), indices, todos);
+    }
+
+    /**
+     * 목록 끝에 추가된 Todo를 색인에 넣음 (목록에 먼저 추가한 뒤 호출)
+     */
+    void added(Todo todo) {
+        Entry entry = new Entry(todo);
+        entries.put(todo, capture(entry));
+        if (nextSeq == fenwick.length - 1) {
+            renumber();  // 순번 자리가 모자라면 살아 있는 항목만으로 다시 매김 (순서는 그대로)
+        } else {
+            entry.seq = nextSeq++;
+            add(entry.seq, 1);
+        }
+        for (TreeSet<Entry> tree : trees.values()) {
+            tree.add(entry);
+        }
+        if (heap != null && isScheduled(entry)) {
+            heapInsert(entry);
+        }
+        if (dated != null) {
+            occurrenceAdd(entry);
+        }
+    }
+
+    /**
+     * 목록에서 빠진 Todo를 색인에서 뺌
+     */
+    void removed(Todo todo) {
+        Entry entry = entries.remove(todo);
+        if (entry == null) {
+            return;
+        }
+        for (TreeSet<Entry> tree : trees.values()) {
+            tree.remove(entry);
+        }
+        if (entry.slot >= 0) {
+            heapRemove(entry);
+        }
+        if (dated != null) {
+            occurrenceRemove(entry);
+        }
+        add(entry.seq, -1);
+    }
+
+    /**
+     * 정렬 키(마감일, 제목, 완료 여부)가 바뀌었을 수 있는 Todo를 다시 넣음
+     */
+    void updated(Todo todo) {
+        Entry entry = entries.get(todo);
+        if (entry == null) {
+            return;
+        }
+        for (TreeSet<Entry> tree : trees.values()) {
+            tree.remove(entry);  // 복사해 둔 이전 키로 찾음
+        }
+        if (dated != null) {
+            occurrenceRemove(entry);
+        }
+        capture(entry);
+        for (TreeSet<Entry> tree : trees.values()) {
+            tree.add(entry);
+        }
+        if (dated != null) {
+            occurrenceAdd(entry);
+        }
+        if (heap == null) {
+            return;
+        }
+        boolean scheduled = isScheduled(entry);
+        if (entry.slot >= 0 && scheduled) {
+            siftDown(siftUp(entry.slot));  // 마감일이 당겨졌으면 올리고, 미뤄졌으면 내림
+        } else if (entry.slot >= 0) {
+            heapRemove(entry);  // 완료되었거나 마감일이 지워짐
+        } else if (scheduled) {
+            heapInsert(entry);  // 미완료로 되돌아옴
+        }
+    }
+
+    /**
+     * 정렬된 페이지 조회 (build로 트리를 먼저 만들어 두어야 함)
+     * 건너뛰는 비용이 offset에 비례하므로 뒤쪽 절반의 페이지는 끝에서부터 거꾸로 셉니다.
+     * @param order 정렬 기준
+     * @param offset 건너뛸 개수
+     * @param limit 최대 항목 수
+     * @return 정렬된 페이지
+     */
+    TodoPage page(TodoOrder order, int offset, int limit) {
+        TreeSet<Entry> tree = trees.get(order);
+        int from = Math.max(0, offset);
+        int count = Math.max(0, Math.min(limit, tree.size() - from));
+        int[] indices = new int[count];
+        List<Todo> todos = new ArrayList<>(count);
+        boolean fromEnd = from > tree.size() / 2;
+        Iterator<Entry> it = fromEnd ? tree.descendingIterator() : tree.iterator();
+        int skip = fromEnd ? tree.size() - from - count : from;
+        for (int i = 0; i < skip && it.hasNext(); i++) {
+            it.next();
+        }
+        Entry[] window = new Entry[count];
+        for (int i = 0; i < count; i++) {
+            window[fromEnd ? count - 1 - i : i] = it.next();
+        }
+        for (Entry entry : window) {
+            indices[todos.size()] = rank(entry.seq);
+            todos.add(entry.todo.frozen());
+        }
+        return new TodoPage(order, from, tree.size(), indices, todos);
+    }
+
+    /**
+     * Todo의 현재 목록 인덱스 (O(log N))
+     * @return 인덱스, 색인에 없으면 -1
+     */
+    int indexOf(Todo todo) {
+        Entry entry = entries.get(todo);
+        return entry == null ? -1 : rank(entry.seq);
+    }
+
+    /**
+     * @return 색인에 들어 있는 Todo 수
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private Entry capture(Entry entry) {
+        entry.due = entry.todo.getDueDate();
+        entry.completed = entry.todo.isCompleted();
+        if (trees.containsKey(TodoOrder.TITLE)) {
+            entry.title = titleKey(entry.todo);
+        }
+        if (dated != null) {
+            entry.repeat = Recurrence.of(entry.todo);
+        }
+        return entry;
+    }
+
+    private void occurrenceAdd(Entry entry) {
+        if (isScheduled(entry)) {
+            (entry.repeat == null ? dated : rules).add(entry);
+        }
+    }
+
+    private void occurrenceRemove(Entry entry) {
+        if (isScheduled(entry)) {
+            (entry.repeat == null ? dated : rules).remove(entry);  // 복사해 둔 이전 키와 규칙으로 찾음
+        }
+    }
+
+    /**
+     * 트리 구간의 경계로 쓸 빈 항목 (순번으로 같은 날짜의 맨 앞이나 맨 뒤에 놓임)
+     */
+    private static Entry probe(LocalDate due, int seq) {
+        Entry probe = new Entry(null);
+        probe.due = due;
+        probe.seq = seq;
+        return probe;
+    }
+
+    private CollationKey titleKey(Todo todo) {
+        String title = todo.getTitle();
+        return collator.getCollationKey(title == null ? "" : title);
+    }
+
+    private static boolean isScheduled(Entry entry) {
+        return !entry.completed && entry.due != null;
+    }
+
+    /**
+     * 일정 힙의 순서: 마감일이 이른 순, 같으면 목록 순서
+     */
+    private static int compareDue(Entry a, Entry b) {
+        int byDue = a.due.compareTo(b.due);
+        return byDue != 0 ? byDue : Integer.compare(a.seq, b.seq);
+    }
+
+    private void heapInsert(Entry entry) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        place(entry, heapSize++);
+        siftUp(entry.slot);
+    }
+
+    /**
+     * 힙 중간의 항목을 빼고 마지막 항목을 그 자리로 옮겨 위나 아래로 맞춤
+     */
+    private void heapRemove(Entry entry) {
+        int slot = entry.slot;
+        entry.slot = -1;
+        Entry last = heap[--heapSize];
+        heap[heapSize] = null;
+        if (last != entry) {
+            place(last, slot);
+            siftDown(siftUp(slot));
+        }
+    }
+
+    /**
+     * @return 항목이 멈춘 위치
+     */
+    private int siftUp(int slot) {
+        Entry entry = heap[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) / 2;
+            if (compareDue(heap[parent], entry) <= 0) {
+                break;
+            }
+            place(heap[parent], slot);
+            slot = parent;
+        }
+        place(entry, slot);
+        return slot;
+    }
+
+    private void siftDown(int slot) {
+        Entry entry = heap[slot];
+        while (true) {
+            int child = 2 * slot + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && compareDue(heap[child + 1], heap[child]) < 0) {
+                child++;
+            }
+            if (compareDue(entry, heap[child]) <= 0) {
+                break;
+            }
+            place(heap[child], slot);
+            slot = child;
+        }
+        place(entry, slot);
+    }
+
+    private void place(Entry entry, int slot) {
+        heap[slot] = entry;
+        entry.slot = slot;
+    }
+
+    /**
+     * 기간 조회 후보: 회차 날짜와 그 항목 (날짜, 같은 날이면 목록 순)
+     */
+    private static final class Occurrence implements Comparable<Occurrence> {
+        final LocalDate date;
+        final Entry entry;
+
+        Occurrence(LocalDate date, Entry entry) {
+            this.date = date;
+            this.entry = entry;
+        }
+
+        /**
+         * 회차를 수정할 수 없는 복사본으로 만듦 (반복 회차는 마감일만 회차 날짜)
+         */
+        Todo toTodo() {
+            Todo todo = entry.todo;
+            return date.equals(todo.getDueDate()) ? todo.frozen()
+                    : new Todo(todo.getTitle(), todo.getDescription(), date, todo.getMetadata()).frozen();
+        }
+
+        @Override
+        public int compareTo(Occurrence other) {
+            int byDate = date.compareTo(other.date);
+            return byDate != 0 ? byDate : Integer.compare(entry.seq, other.entry.seq);
+        }
+    }
+
+    private static Comparator<Entry> comparator(TodoOrder order) {
+        switch (order) {
+            case DUE_DATE:
+                return BY_DUE_DATE;
+            case TITLE:
+                return BY_TITLE;
+            case STATUS:
+                return BY_STATUS;
+            default:
+                throw new IllegalArgumentException("정렬 조회에 쓸 수 없는 기준입니다: " + order);
+        }
+    }
+
+    /**
+     * 목록 순서대로 순번을 0부터 다시 매기고 펜윅 트리를 여유 있게 새로 만듦 (O(N))
+     * 순번의 상대 순서는 바뀌지 않으므로 트리와 일정 힙은 그대로 유효합니다.
+     */
+    private void renumber() {
+        fenwick = new int[Math.max(MIN_CAPACITY, list.size() * 2) + 1];
+        nextSeq = 0;
+        for (Todo todo : list) {
+            Entry entry = entries.get(todo);
+            if (entry != null) {
+                entry.seq = nextSeq++;
+                fenwick[entry.seq + 1] = 1;
+            }
+        }
+        for (int i = 1; i < fenwick.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < fenwick.length) {
+                fenwick[parent] += fenwick[i];
+            }
+        }
+    }
+
+    private void add(int seq, int delta) {
+        for (int i = seq + 1; i < fenwick.length; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+
+    /**
+     * 순번 앞에 살아 있는 항목 수 = 현재 목록 인덱스
+     */
+    private int rank(int seq) {
+        int count = 0;
+        for (int i = seq; i > 0; i -= i & -i) {
+            count += fenwick[i];
+        }
+        return count;
+    }
+}
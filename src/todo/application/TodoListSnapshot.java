@@ -0,0 +1,105 @@
+package todo.application;
+
+import todo.domain.Todo;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 특정 시점의 Todo 목록을 담은 버전 붙은 불변 스냅샷
+ *
+ * 서비스는 목록이 바뀔 때마다 버전을 올리고, 다음 조회 때 한 번만 배열로 복사하여(copy-on-write)
+ * 같은 버전 동안에는 같은 스냅샷을 돌려줍니다. 따라서 같은 버전의 조회는 O(1)입니다.
+ *
+ * 항목은 스냅샷을 만들 때 복사한 수정할 수 없는 Todo(Todo.frozen())이므로 목록 구조뿐 아니라
+ * 각 Todo의 내용도 이후 변경의 영향을 받지 않고, 락 없이 여러 스레드가 순회하며 읽을 수 있습니다.
+ * 서비스는 지난 스냅샷 이후 바뀌지 않은 Todo(수정 번호가 같은 Todo)의 복사본을 다시 씁니다.
+ * 항목은 서비스가 관리하는 객체와 다른 인스턴스이므로 ==로 비교하지 말고 인덱스로 가리켜야 합니다.
+ */
+public final class TodoListSnapshot {
+    private final long version;
+    private final Todo[] todos;
+    private final List<Todo> view;
+
+    /**
+     * 스냅샷 생성
+     * @param version 목록 버전 (변경될 때마다 증가)
+     * @param todos 스냅샷이 소유할 수정할 수 없는 Todo 배열 (호출자는 이후 배열을 수정하지 않아야 함)
+     */
+    TodoListSnapshot(long version, Todo[] todos) {
+        this.version = version;
+        this.todos = todos;
+        this.view = new ArrayView(todos);
+    }
+
+    /**
+     * 외부에서 받은 목록으로 스냅샷 생성 (원격 서비스 등에서 사용)
+     * @param version 목록 버전
+     * @param todos 목록 (각 Todo도 수정할 수 없는 복사본으로 바뀜)
+     * @return 스냅샷
+     */
+    public static TodoListSnapshot of(long version, List<Todo> todos) {
+        Todo[] copies = new Todo[todos.size()];
+        for (int i = 0; i < copies.length; i++) {
+            copies[i] = todos.get(i).frozen();
+        }
+        return new TodoListSnapshot(version, copies);
+    }
+
+    /**
+     * 목록 버전
+     * @return 버전 (같으면 같은 목록)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Todo 개수
+     * @return 개수
+     */
+    public int size() {
+        return todos.length;
+    }
+
+    /**
+     * 특정 인덱스의 Todo
+     * @param index 인덱스
+     * @return Todo 객체 또는 null
+     */
+    public Todo get(int index) {
+        if (index >= 0 && index < todos.length) {
+            return todos[index];
+        }
+        return null;
+    }
+
+    /**
+     * 수정할 수 없는 List 뷰 (복사 없음)
+     * @return 목록 뷰
+     */
+    public List<Todo> asList() {
+        return view;
+    }
+
+    /**
+     * 배열을 감싼 읽기 전용 List
+     */
+    private static final class ArrayView extends AbstractList<Todo> implements RandomAccess {
+        private final Todo[] todos;
+
+        ArrayView(Todo[] todos) {
+            this.todos = todos;
+        }
+
+        @Override
+        public Todo get(int index) {
+            return todos[index];
+        }
+
+        @Override
+        public int size() {
+            return todos.length;
+        }
+    }
+}
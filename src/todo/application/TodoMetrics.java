@@ -0,0 +1,222 @@
+package todo.application;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * 서비스/저장소 작업의 계측 결과를 모으는 레지스트리
+ *
+ * 작업 이름(예: "service.addTodo", "repository.save")마다 호출 수, 실패 수, 지연 시간 히스토그램을 두고,
+ * 저장소의 누적 바이트 수 같은 값은 게이지(LongSupplier)로 등록합니다.
+ * 기록 경로는 락이 없으며, 결과는 report() 텍스트와 JMX MBean으로 볼 수 있습니다.
+ * 느린 작업 로그를 설정하면 임계값을 넘거나 입출력 오류를 삼킨 작업을 단계별 시간과 함께 파일에 남깁니다.
+ *
+ * JMX 이름: todo:type=Operation,name=작업이름 / todo:type=Gauge,name=게이지이름
+ */
+public final class TodoMetrics {
+    private static final String JMX_DOMAIN = "todo";
+
+    private final Map<String, Operation> operations = new ConcurrentSkipListMap<>();  // 이름순 보고
+    private final Map<String, LongSupplier> gauges = new ConcurrentSkipListMap<>();
+    private volatile MBeanServer mbeanServer;  // registerMBeans() 이후에만 설정
+    private volatile SlowOperationLog slowLog;  // null이면 기록하지 않음
+
+    /**
+     * 작업 하나의 계측 결과
+     */
+    public static final class Operation implements OperationMXBean {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        @Override
+        public long getCount() {
+            return latency.getCount();
+        }
+
+        @Override
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        @Override
+        public double getMeanMicros() {
+            return latency.getMean() / 1000.0;
+        }
+
+        @Override
+        public double getP50Micros() {
+            return latency.getPercentile(50) / 1000.0;
+        }
+
+        @Override
+        public double getP99Micros() {
+            return latency.getPercentile(99) / 1000.0;
+        }
+
+        @Override
+        public double getMaxMicros() {
+            return latency.getMax() / 1000.0;
+        }
+    }
+
+    /**
+     * 작업별 JMX 속성
+     */
+    public interface OperationMXBean {
+        long getCount();
+
+        long getErrors();
+
+        double getMeanMicros();
+
+        double getP50Micros();
+
+        double getP99Micros();
+
+        double getMaxMicros();
+    }
+
+    /**
+     * 게이지 JMX 속성
+     */
+    public interface GaugeMXBean {
+        long getValue();
+    }
+
+    /**
+     * 작업의 계측 결과를 찾거나 새로 만듦
+     * @param name 작업 이름
+     * @return 계측 결과
+     */
+    public Operation operation(String name) {
+        Operation operation = operations.get(name);
+        if (operation != null) {
+            return operation;
+        }
+        return operations.computeIfAbsent(name, key -> {
+            Operation created = new Operation();
+            register("Operation", key, created, OperationMXBean.class);
+            return created;
+        });
+    }
+
+    /**
+     * 느린 작업 로그 설정
+     * @param slowLog 기록할 로그 (null이면 기록하지 않음)
+     */
+    public void setSlowLog(SlowOperationLog slowLog) {
+        this.slowLog = slowLog;
+    }
+
+    /**
+     * 작업을 실행하며 지연 시간을 기록
+     * 예외가 나거나 저장소가 입출력 오류를 삼켜(RepositoryTrace.error) 빈 결과를 돌려주면 실패 수도 증가합니다.
+     * @param name 작업 이름
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T time(String name, Supplier<T> action) {
+        Operation operation = operation(name);
+        OperationTrace trace = OperationTrace.start();
+        Throwable failure = null;
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            trace.finish();
+            operation.latency.record(elapsed);
+            if (failure != null || trace.getError() != null) {
+                operation.errors.increment();
+            }
+            SlowOperationLog log = slowLog;
+            if (log != null) {
+                log.record(name, elapsed, trace, failure);
+            }
+        }
+    }
+
+    /**
+     * 반환값이 없는 작업을 실행하며 지연 시간을 기록
+     * @param name 작업 이름
+     * @param action 실행할 작업
+     */
+    public void time(String name, Runnable action) {
+        time(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 읽을 때마다 값을 구하는 게이지 등록 (같은 이름이면 교체)
+     * @param name 게이지 이름
+     * @param value 값 공급자
+     */
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+        GaugeMXBean bean = value::getAsLong;
+        register("Gauge", name, bean, GaugeMXBean.class);
+    }
+
+    /**
+     * 지금까지 등록된 작업과 게이지를 플랫폼 MBean 서버에 등록하고, 이후 생기는 것도 등록
+     * 같은 이름의 MBean이 이미 있으면 이 레지스트리의 것으로 바꿉니다.
+     */
+    public void registerMBeans() {
+        mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        operations.forEach((name, operation) -> register("Operation", name, operation, OperationMXBean.class));
+        gauges.forEach((name, value) -> {
+            GaugeMXBean bean = value::getAsLong;
+            register("Gauge", name, bean, GaugeMXBean.class);
+        });
+    }
+
+    /**
+     * 작업별 통계와 게이지를 표 형식의 텍스트 줄로 만듦 (stats 명령용)
+     * @return 출력할 줄들
+     */
+    public String[] report() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-28s %8s %6s %10s %10s %10s %10s",
+                "operation", "count", "errors", "mean(us)", "p50(us)", "p99(us)", "max(us)"));
+        operations.forEach((name, op) -> lines.add(String.format("%-28s %8d %6d %10.1f %10.1f %10.1f %10.1f",
+                name, op.getCount(), op.getErrors(), op.getMeanMicros(), op.getP50Micros(),
+                op.getP99Micros(), op.getMaxMicros())));
+        gauges.forEach((name, value) -> lines.add(String.format("%-28s %8d", name, value.getAsLong())));
+        return lines.toArray(new String[0]);
+    }
+
+    private <T> void register(String type, String name, T bean, Class<T> beanInterface) {
+        MBeanServer server = mbeanServer;
+        if (server == null) {
+            return;
+        }
+        try {
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(new StandardMBean(bean, beanInterface, true), objectName);
+        } catch (JMException e) {
+            // 모니터링 등록 실패는 작업에 영향을 주지 않음
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package todo.application;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * TodoServiceImpl의 변경 작업 한 번을 나타내는 JFR 이벤트
+ * 저장소 이벤트(todo.Load/todo.Save)와 같은 스레드에서 겹쳐 기록되므로 어떤 작업이 쓰기를 일으켰는지 알 수 있습니다.
+ */
+@Name("todo.Mutation")
+@Label("Todo Mutation")
+@Category({"Todo", "Service"})
+@Description("TodoServiceImpl의 추가/토글/삭제/일괄 작업/보관 한 번")
+final class TodoMutationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Affected Rows")
+    int affected;
+
+    @Label("List Size")
+    @Description("작업 후 메모리 목록의 Todo 수")
+    int listSize;
+
+    @Label("Success")
+    boolean success;
+}
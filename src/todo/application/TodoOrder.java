@@ -0,0 +1,28 @@
+package todo.application;
+
+/**
+ * 정렬된 목록 조회에 사용하는 정렬 기준 열거형 (Enum)
+ *
+ * 기준이 같은 Todo끼리는 추가된 순서를 유지합니다.
+ */
+public enum TodoOrder {
+    /**
+     * 마감일이 빠른 순 (마감일이 없는 Todo는 맨 뒤)
+     */
+    DUE_DATE,
+
+    /**
+     * 제목의 한국어 사전 순 (Collator 기준)
+     */
+    TITLE,
+
+    /**
+     * 미완료 Todo 먼저, 그다음 완료된 Todo
+     */
+    STATUS,
+
+    /**
+     * 선행 Todo가 먼저 오는 위상 순서 (바로 시작할 수 있는 Todo 조회의 페이지 표시용, 정렬 조회에는 쓸 수 없음)
+     */
+    TOPOLOGICAL
+}
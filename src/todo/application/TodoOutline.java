@@ -0,0 +1,85 @@
+package todo.application;
+
+import todo.domain.Todo;
+import java.util.List;
+
+/**
+ * 하위 작업을 부모 아래에 들여 쓴 목록 (트리 화면)
+ *
+ * 하위 작업은 메타데이터 "parent"에 부모의 "id"를 가집니다. (id는 샤드 저장소와 같은 키이며,
+ * 단일 CSV에서는 처음 하위 작업을 추가할 때 서비스가 부모에게 부여)
+ * 항목마다 원래 목록 인덱스, 깊이, 모든 자손 중 완료/전체 개수를 담습니다.
+ * 개수는 서비스가 변경마다 조상에만 더하고 빼서 유지하므로, 트리를 만들 때 자손을 다시 세지 않습니다.
+ */
+public final class TodoOutline {
+    public static final String ID_KEY = "id";
+    public static final String PARENT_KEY = "parent";
+
+    private final int[] indices;
+    private final int[] depths;
+    private final int[] done;
+    private final int[] totals;
+    private final List<Todo> todos;
+
+    /**
+     * @param indices 각 항목의 원래 목록 인덱스
+     * @param depths 각 항목의 깊이 (최상위는 0)
+     * @param done 각 항목의 완료된 자손 수
+     * @param totals 각 항목의 전체 자손 수
+     * @param todos 부모 다음에 자식이 오는 순서의 항목들
+     */
+    public TodoOutline(int[] indices, int[] depths, int[] done, int[] totals, List<Todo> todos) {
+        this.indices = indices.clone();
+        this.depths = depths.clone();
+        this.done = done.clone();
+        this.totals = totals.clone();
+        this.todos = List.copyOf(todos);
+    }
+
+    /**
+     * @return 항목 수
+     */
+    public int size() {
+        return todos.size();
+    }
+
+    /**
+     * @param i 트리 안의 위치
+     * @return 해당 위치의 Todo
+     */
+    public Todo get(int i) {
+        return todos.get(i);
+    }
+
+    /**
+     * @param i 트리 안의 위치
+     * @return 해당 Todo의 원래 목록 인덱스
+     */
+    public int getIndex(int i) {
+        return indices[i];
+    }
+
+    /**
+     * @param i 트리 안의 위치
+     * @return 깊이 (최상위는 0)
+     */
+    public int getDepth(int i) {
+        return depths[i];
+    }
+
+    /**
+     * @param i 트리 안의 위치
+     * @return 완료된 자손 수
+     */
+    public int getDone(int i) {
+        return done[i];
+    }
+
+    /**
+     * @param i 트리 안의 위치
+     * @return 전체 자손 수 (하위 작업이 없으면 0)
+     */
+    public int getTotal(int i) {
+        return totals[i];
+    }
+}
@@ -0,0 +1,98 @@
+package todo.application;
+
+import todo.domain.Todo;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 정렬된 목록의 한 페이지
+ *
+ * 각 Todo와 함께 원래 목록에서의 인덱스를 담고 있어, 정렬된 화면에서 고른 항목을
+ * toggleTodo/deleteTodo에 그대로 넘길 수 있습니다.
+ */
+public final class TodoPage {
+    private final TodoOrder order;
+    private final int offset;
+    private final int total;
+    private final int[] indices;
+    private final List<Todo> todos;
+
+    /**
+     * 페이지 생성
+     * @param order 정렬 기준
+     * @param offset 이 페이지 첫 항목의 정렬 순위 (0부터)
+     * @param total 전체 Todo 개수
+     * @param indices 각 항목의 원래 목록 인덱스
+     * @param todos 정렬된 순서의 항목들 (indices와 같은 길이)
+     */
+    public TodoPage(TodoOrder order, int offset, int total, int[] indices, List<Todo> todos) {
+        this.order = order;
+        this.offset = offset;
+        this.total = total;
+        this.indices = indices.clone();
+        this.todos = List.copyOf(todos);
+    }
+
+    /**
+     * @return 정렬 기준
+     */
+    public TodoOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * @return 이 페이지 첫 항목의 정렬 순위 (0부터)
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return 전체 Todo 개수
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @return 이 페이지의 항목 수
+     */
+    public int size() {
+        return todos.size();
+    }
+
+    /**
+     * @param i 페이지 안의 위치
+     * @return 해당 위치의 Todo
+     */
+    public Todo get(int i) {
+        return todos.get(i);
+    }
+
+    /**
+     * @param i 페이지 안의 위치
+     * @return 해당 Todo의 원래 목록 인덱스
+     */
+    public int getIndex(int i) {
+        return indices[i];
+    }
+
+    /**
+     * @return 정렬된 순서의 항목들 (수정할 수 없는 목록)
+     */
+    public List<Todo> getTodos() {
+        return todos;
+    }
+
+    /**
+     * @return 다음 페이지가 있으면 true
+     */
+    public boolean hasNext() {
+        return offset + todos.size() < total;
+    }
+
+    @Override
+    public String toString() {
+        return order + "[" + offset + "+" + todos.size() + "/" + total + "] " + Arrays.toString(indices);
+    }
+}
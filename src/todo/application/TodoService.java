@@ -2,6 +2,7 @@ package todo.application;
 
 import todo.domain.Todo;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,18 +20,96 @@ public interface TodoService {
      */
     void addTodo(String title, String description, LocalDate dueDate);
     
+    /**
+     * 하위 작업 추가 (메타데이터 "parent"에 부모의 ID를 기록, 부모에 ID가 없으면 새로 부여)
+     * @param parentIndex 부모 Todo 인덱스
+     * @param subtask 추가할 하위 작업
+     * @return 성공 여부 (잘못된 인덱스이거나 다른 프로세스의 변경과 충돌하면 false)
+     */
+    boolean addSubtask(int parentIndex, Todo subtask);
+    
+    /**
+     * 선후 관계 추가 (blocker를 끝내야 blocked를 시작할 수 있음, 메타데이터 "blockedBy"에 기록)
+     * @param blockerIndex 먼저 끝내야 하는 Todo 인덱스
+     * @param blockedIndex 기다리는 Todo 인덱스
+     * @return 성공 여부 (잘못된 인덱스, 순환이 생기는 관계, 다른 프로세스의 변경과 충돌하면 false)
+     */
+    boolean addDependency(int blockerIndex, int blockedIndex);
+    
     /**
      * 모든 Todo 조회
-     * @return 전체 Todo 목록
+     * @return 전체 Todo 목록 (수정할 수 없는 목록, 항목도 수정할 수 없는 복사본일 수 있음)
      */
     List<Todo> getAllTodos();
     
+    /**
+     * 현재 목록의 버전 붙은 불변 스냅샷 조회
+     * 버전이 같으면 목록도 같으므로 호출자는 버전으로 캐시를 무효화할 수 있습니다.
+     * @return 목록 스냅샷
+     */
+    TodoListSnapshot getSnapshot();
+    
+    /**
+     * 정렬된 목록의 한 페이지 조회
+     * 정렬 순서는 변경될 때마다 갱신되므로 전체를 다시 정렬하지 않습니다.
+     * @param order 정렬 기준
+     * @param offset 건너뛸 개수 (정렬 순위)
+     * @param limit 최대 항목 수
+     * @return 정렬된 Todo와 각 Todo의 원래 인덱스
+     */
+    TodoPage getSortedTodos(TodoOrder order, int offset, int limit);
+    
+    /**
+     * 마감일이 가장 가까운 미완료 Todo 조회 (일정 화면)
+     * 마감일이 없는 Todo는 포함하지 않으며, 전체를 훑거나 정렬하지 않고 O(K log N)에 구합니다.
+     * @param limit 최대 항목 수 (K)
+     * @return 마감일 순의 Todo와 각 Todo의 원래 인덱스 (전체 개수는 마감일이 있는 미완료 Todo 수)
+     */
+    TodoPage getAgenda(int limit);
+    
+    /**
+     * 기간 안의 미완료 Todo 회차 조회 (반복 Todo는 기간 안의 회차마다 한 항목)
+     * 반복 Todo의 회차는 저장하지 않고 조회할 때 필요한 만큼만 만든 복사본이며, 인덱스는 원래 줄을 가리킵니다.
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @param limit 최대 항목 수
+     * @return 날짜 순의 회차와 각 회차의 원래 인덱스 (전체 개수는 기간 안의 회차 수)
+     */
+    TodoPage getOccurrences(LocalDate from, LocalDate to, int limit);
+    
+    /**
+     * 하위 작업을 부모 아래에 들여 쓴 트리 조회 (트리 화면, 항목마다 자손 완료/전체 개수)
+     * @return 최상위 항목은 목록 순서, 하위 작업은 부모 바로 아래인 트리
+     */
+    TodoOutline getOutline();
+    
+    /**
+     * 바로 시작할 수 있는 Todo 조회 (미완료이고 미완료 선행 Todo가 없는 Todo)
+     * @param limit 최대 항목 수
+     * @return 선후 관계의 위상 순서인 Todo와 각 Todo의 원래 인덱스 (전체 개수는 시작할 수 있는 Todo 수)
+     */
+    TodoPage getReady(int limit);
+    
+    /**
+     * 목록 전체의 집계 조회 (통계 화면)
+     * 전체/완료/마감 지남/이번 주 마감 개수, 태그와 담당자별 개수, 최근 완료 추이를 담습니다.
+     * @return 오늘 기준의 집계
+     */
+    TodoStats getStats();
+    
     /**
      * 완료된 Todo 조회
      * @return 완료된 Todo 목록
      */
     List<Todo> getCompletedTodos();
     
+    /**
+     * 완료된 Todo 조회 (보관된 Todo 포함 여부 선택)
+     * @param includeArchived true이면 작업 목록에서 보관 파일로 옮겨진 Todo도 포함
+     * @return 완료된 Todo 목록
+     */
+    List<Todo> getCompletedTodos(boolean includeArchived);
+    
     /**
      * 미완료 Todo 조회
      * @return 미완료 Todo 목록
@@ -40,17 +119,50 @@ public interface TodoService {
     /**
      * Todo 상태 토글
      * @param index Todo 인덱스
-     * @return 성공 여부
+     * @return 성공 여부 (잘못된 인덱스이거나 다른 프로세스의 변경과 충돌하면 false)
      */
     boolean toggleTodo(int index);
     
     /**
-     * Todo 삭제
+     * Todo 삭제 (하위 작업도 함께 삭제)
      * @param index Todo 인덱스
-     * @return 성공 여부
+     * @return 성공 여부 (잘못된 인덱스이거나 다른 프로세스의 변경과 충돌하면 false)
      */
     boolean deleteTodo(int index);
     
+    /**
+     * 여러 Todo를 한 번에 추가 (저장소에 한 번만 씀)
+     * @param todos 추가할 Todo 목록
+     * @return 추가한 개수
+     */
+    int addAll(List<Todo> todos);
+    
+    /**
+     * 선택한 Todo들의 상태를 한 번에 토글 (저장소에 한 번만 씀)
+     * @param indices 토글할 인덱스들 (범위 밖의 인덱스는 무시)
+     * @return 토글한 개수 (다른 프로세스의 변경과 충돌하면 0)
+     */
+    int toggleAll(Collection<Integer> indices);
+    
+    /**
+     * 선택한 Todo들을 하위 작업과 함께 한 번에 삭제 (저장소에 한 번만 씀)
+     * @param indices 삭제할 인덱스들 (범위 밖의 인덱스는 무시)
+     * @return 삭제한 개수, 하위 작업 포함 (다른 프로세스의 변경과 충돌하면 0)
+     */
+    int deleteAll(Collection<Integer> indices);
+    
+    /**
+     * 모든 미완료 Todo를 완료로 변경 (저장소에 한 번만 씀)
+     * @return 완료로 바꾼 개수 (충돌하면 0)
+     */
+    int completeAll();
+    
+    /**
+     * 완료된 Todo를 모두 삭제 (저장소에 한 번만 씀)
+     * @return 삭제한 개수 (충돌하면 0)
+     */
+    int deleteCompleted();
+    
     /**
      * 전체 Todo 개수
      * @return Todo 개수
@@ -63,4 +175,22 @@ public interface TodoService {
      * @return Todo 객체 또는 null
      */
     Todo getTodoAt(int index);
+    
+    /**
+     * 초기 목록 로드가 끝났는지 확인
+     * 백그라운드에서 로드하는 구현만 false를 반환할 수 있습니다.
+     * @return 목록을 바로 사용할 수 있으면 true
+     */
+    default boolean isReady() {
+        return true;
+    }
+    
+    /**
+     * 초기 목록 로드가 끝날 때까지 최대 timeoutMillis 동안 기다림 (UI 진행 표시용)
+     * @param timeoutMillis 최대 대기 시간 (밀리초)
+     * @return 로드가 끝났으면 true
+     */
+    default boolean awaitReady(long timeoutMillis) {
+        return true;
+    }
 }
\ No newline at end of file
@@ -1,31 +1,155 @@
 package todo.application;
 
 import todo.domain.Todo;
+import todo.domain.TodoChange;
 import todo.domain.TodoFilter;
 import todo.domain.TodoRepository;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 /**
  * TodoService 인터페이스의 구현체
  * 
  * 실제 비즈니스 로직을 구현하며, Repository를 통해 데이터를 관리합니다.
  * 기존 TodoManager의 로직을 서비스 레이어로 이동시켰습니다.
+ * 
+ * 서버 모드에서는 여러 연결이 하나의 인스턴스를 공유하므로 읽기/쓰기 락으로 목록을 보호합니다.
+ * (synchronized는 가상 스레드를 캐리어 스레드에 고정시키므로 ReentrantReadWriteLock을 사용합니다.)
+ * 
+ * 다른 프로세스가 같은 파일을 변경할 수 있으므로, 변경 작업 전과 refresh() 호출 시
+ * 저장소의 외부 변경 내용을 메모리 목록에 반영합니다.
+ * 그 사이에 다시 변경되어 저장이 충돌하면 저장소의 최신 목록을 다시 읽고 false를 반환합니다.
+ * 
+ * 백그라운드 로드를 선택하면 생성자는 바로 반환하고 별도 스레드가 저장소를 읽습니다.
+ * 목록이 필요한 작업은 로드가 끝날 때까지 기다리고, 그 전에 들어온 추가는 대기열에 두었다가
+ * 로드가 끝나면 들어온 순서대로 목록에 넣고 저장합니다.
+ * 
+ * 조회는 TodoListSnapshot으로 제공합니다. 목록을 바꾸는 작업은 버전만 올리고,
+ * 스냅샷 배열은 다음 조회 때 한 번 복사하므로 연속 조회는 복사 없이 같은 스냅샷을 공유합니다.
+ * 스냅샷의 항목은 수정할 수 없는 복사본이며, 그사이 바뀐 Todo만 새로 복사합니다.
+ * 
+ * 일괄 작업(addAll, toggleAll, deleteWhere 등)은 메모리 목록을 한 번 훑어 모두 적용한 뒤
+ * 저장소에 한 번만 씁니다.
+ * 
+ * 정렬된 조회(getSortedTodos)는 처음 요청될 때 TodoIndex를 만들고, 이후 변경마다 바뀐 항목만 옮깁니다.
+ * 일정(getAgenda)도 같은 색인 안의 인덱스 최소 힙으로, 토글/삭제 때 해당 항목의 자리만 고칩니다.
+ * 목록이 통째로 바뀌면(충돌, 외부에서 다시 쓴 파일) 색인을 버리고 다음 요청 때 다시 만듭니다.
+ * 
+ * 통계(getStats)는 로드할 때 한 번 센 TodoCounters를 변경마다 더하고 빼서 유지하므로,
+ * 목록 크기와 관계없이 바로 조회됩니다.
+ * 
+ * 알림 스케줄러를 연결하면(setReminders) 같은 변경 지점에서 해당 Todo의 알림만 다시 예약하거나 취소합니다.
+ * 
+ * 반복 Todo(Recurrence)는 한 줄로만 저장합니다. 완료하면 줄을 완료로 바꾸지 않고 마감일을 다음 회차로 옮기며,
+ * 기간 조회(getOccurrences)는 그 기간에 필요한 회차만 그때그때 만들어 돌려줍니다.
+ * 
+ * 하위 작업의 부모 관계와 자손 완료/전체 개수는 TodoTree로 유지하며, 변경마다 조상만 고칩니다(O(깊이)).
+ * 부모를 삭제하면 자손도 함께 목록을 한 번 훑어 지우고 저장소에 한 번만 씁니다.
+ * 
+ * 선후 관계(blockedBy/blocks)는 TodoDependencies가 위상 순서와 함께 유지하며, 완료 상태가 바뀌면
+ * 후행 Todo의 남은 선행 수만 고쳐 바로 시작할 수 있는 Todo 집합(getReady)을 갱신합니다.
  */
 public class TodoServiceImpl implements TodoService {
     private final TodoRepository repository;
     private final List<Todo> todos;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ArchivePolicy archivePolicy;  // null이면 보관하지 않음
+    private final CountDownLatch loaded = new CountDownLatch(1);
+    private final List<Todo> pending = new ArrayList<>();  // 로드 전에 추가된 Todo (쓰기 락으로 보호)
+    private boolean ready;  // 목록이 로드되었는지 (쓰기 락으로 보호)
+    private volatile RuntimeException loadFailure;
+    private long version;  // 목록이 바뀔 때마다 증가 (쓰기 락으로 보호)
+    private volatile TodoListSnapshot snapshot;  // 현재 버전의 스냅샷, 아직 만들지 않았으면 null
+    private volatile Map<Todo, Todo> frozen = new IdentityHashMap<>();  // 마지막 스냅샷의 Todo별 복사본 (읽기 전용)
+    private TodoIndex sorted;  // 정렬 색인과 일정 힙, 아직 요청되지 않았으면 null (쓰기 락으로 보호)
+    private TodoCounters counters;  // 집계 카운터, 로드가 끝나면 생김 (쓰기 락으로 보호)
+    private TodoTree tree;  // 부모/하위 작업 관계, 로드가 끝나면 생김 (쓰기 락으로 보호)
+    private TodoDependencies dependencies;  // 선후 관계와 ready 집합, 로드가 끝나면 생김 (쓰기 락으로 보호)
+    private ReminderScheduler reminders;  // 마감일 알림, 연결하지 않았으면 null (쓰기 락으로 보호)
     
     /**
      * TodoServiceImpl 생성자
      * @param repository Todo 저장소
      */
     public TodoServiceImpl(TodoRepository repository) {
+        this(repository, null);
+    }
+    
+    /**
+     * 보관 정책을 사용하는 TodoServiceImpl 생성자
+     * 로드 직후 정책에 해당하는 오래된 완료 Todo를 보관 파일로 옮깁니다.
+     * @param repository Todo 저장소
+     * @param archivePolicy 완료 Todo 보관 정책 (null이면 보관하지 않음)
+     */
+    public TodoServiceImpl(TodoRepository repository, ArchivePolicy archivePolicy) {
+        this(repository, archivePolicy, false);
+    }
+    
+    /**
+     * 로드 방식을 선택하는 TodoServiceImpl 생성자
+     * @param repository Todo 저장소
+     * @param archivePolicy 완료 Todo 보관 정책 (null이면 보관하지 않음)
+     * @param background true이면 로드하지 않고 반환 (loadInBackground가 생성이 끝난 뒤 로더를 시작)
+     */
+    private TodoServiceImpl(TodoRepository repository, ArchivePolicy archivePolicy, boolean background) {
         this.repository = repository;
+        this.archivePolicy = archivePolicy;
         this.todos = new ArrayList<>();
-        this.todos.addAll(repository.load());
+        if (!background) {
+            loadInitial();
+            awaitLoaded();  // 로드 실패를 호출자에게 전달
+        }
+    }
+    
+    /**
+     * 백그라운드 스레드에서 초기 목록을 로드하는 서비스를 만들고 바로 반환
+     * 생성자 안에서 다른 스레드에 this를 넘기지 않도록 객체가 다 만들어진 뒤에 로더를 시작합니다.
+     * @param repository Todo 저장소
+     * @param archivePolicy 완료 Todo 보관 정책 (null이면 보관하지 않음)
+     * @return 로드 중인 서비스 (isReady/awaitReady로 완료 확인)
+     */
+    public static TodoServiceImpl loadInBackground(TodoRepository repository, ArchivePolicy archivePolicy) {
+        TodoServiceImpl service = new TodoServiceImpl(repository, archivePolicy, true);
+        Thread loader = new Thread(service::loadInitial, "todo-loader");
+        loader.setDaemon(true);
+        loader.start();
+        return service;
+    }
+    
+    /**
+     * 초기 목록이 로드되었는지 확인
+     * @return 로드가 끝났으면 true (실패한 경우도 포함)
+     */
+    @Override
+    public boolean isReady() {
+        return loaded.getCount() == 0;
+    }
+    
+    /**
+     * 초기 목록 로드를 최대 timeoutMillis 동안 기다림
+     * @return 로드가 끝났으면 true
+     */
+    @Override
+    public boolean awaitReady(long timeoutMillis) {
+        try {
+            return loaded.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
     
     /**
@@ -33,9 +157,122 @@ public class TodoServiceImpl implements TodoService {
      */
     @Override
     public void addTodo(String title, String description, LocalDate dueDate) {
-        Todo todo = new Todo(title, description, dueDate, new HashMap<>());
-        todos.add(todo);
-        repository.save(todo);
+        TodoMutationEvent event = new TodoMutationEvent();
+        event.begin();
+        add(new Todo(title, description, dueDate));
+        commit(event, "addTodo", 1, true);
+    }
+    
+    private void add(Todo todo) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                if (loadFailure != null) {
+                    throw loadFailure;
+                }
+                pending.add(todo);  // 로드가 끝나면 저장
+                return;
+            }
+            syncExternalChanges();
+            todos.add(todo);
+            indexAdded(todo);
+            changed();
+            repository.save(todo);
+            identified(todo);  // 저장하며 ID를 부여하는 저장소도 있음
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 하위 작업 추가
+     * 부모에 ID가 없으면 새 ID를 부여하므로 부모 줄도 바뀌어 목록 전체를 한 번 저장하고,
+     * ID가 이미 있으면 하위 작업 한 줄만 덧붙입니다.
+     */
+    @Override
+    public boolean addSubtask(int parentIndex, Todo subtask) {
+        TodoMutationEvent event = new TodoMutationEvent();
+        event.begin();
+        boolean added = addChild(parentIndex, subtask);
+        commit(event, "addSubtask", added ? 1 : 0, added);
+        return added;
+    }
+    
+    private boolean addChild(int parentIndex, Todo subtask) {
+        awaitLoaded();
+        lock.writeLock().lock();
+        try {
+            if (syncExternalChanges()) {
+                return false;  // 목록이 통째로 바뀌어 인덱스를 신뢰할 수 없음
+            }
+            if (parentIndex < 0 || parentIndex >= todos.size()) {
+                return false;
+            }
+            Todo parent = todos.get(parentIndex);
+            boolean newId = parent.getMetadataField(TodoOutline.ID_KEY) == null;
+            subtask.setMetadataField(TodoOutline.PARENT_KEY, idOf(parent));
+            todos.add(subtask);
+            indexAdded(subtask);
+            changed();
+            if (!newId) {
+                repository.save(subtask);
+                identified(subtask);
+            } else if (!repository.save(todos)) {
+                reloadAfterConflict();
+                return false;
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 선후 관계 추가
+     * 간선을 먼저 그래프에 넣어 보고 순환이면 아무것도 바꾸지 않습니다.
+     * 후행 Todo의 blockedBy(와 ID가 없던 쪽의 id)가 바뀌므로 목록 전체를 한 번 저장합니다.
+     */
+    @Override
+    public boolean addDependency(int blockerIndex, int blockedIndex) {
+        TodoMutationEvent event = new TodoMutationEvent();
+        event.begin();
+        boolean added = link(blockerIndex, blockedIndex);
+        commit(event, "addDependency", added ? 1 : 0, added);
+        return added;
+    }
+    
+    private boolean link(int blockerIndex, int blockedIndex) {
+        awaitLoaded();
+        lock.writeLock().lock();
+        try {
+            if (syncExternalChanges()) {
+                return false;  // 목록이 통째로 바뀌어 인덱스를 신뢰할 수 없음
+            }
+            if (blockerIndex < 0 || blockerIndex >= todos.size() || blockedIndex < 0 || blockedIndex >= todos.size()) {
+                return false;
+            }
+            Todo blocker = todos.get(blockerIndex);
+            Todo blocked = todos.get(blockedIndex);
+            if (!dependencies.link(blocker, blocked)) {
+                return false;  // 순환
+            }
+            String id = idOf(blocker);
+            idOf(blocked);  // 다른 Todo가 이 Todo를 가리킬 수 있도록
+            String blockers = blocked.getMetadataField(TodoDependencies.BLOCKED_BY_KEY);
+            if (blockers == null || blockers.isEmpty()) {
+                blocked.setMetadataField(TodoDependencies.BLOCKED_BY_KEY, id);
+            } else if (!List.of(blockers.split("\\s*,\\s*")).contains(id)) {
+                blocked.setMetadataField(TodoDependencies.BLOCKED_BY_KEY, blockers + "," + id);
+            }
+            changed();
+            if (!repository.save(todos)) {
+                reloadAfterConflict();
+                return false;
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
     
     /**
@@ -43,7 +280,183 @@ public class TodoServiceImpl implements TodoService {
      */
     @Override
     public List<Todo> getAllTodos() {
-        return new ArrayList<>(todos);
+        return getSnapshot().asList();
+    }
+    
+    /**
+     * 현재 목록의 불변 스냅샷 조회
+     * 마지막 변경 이후 처음 조회할 때만 배열을 만들며, 항목은 지난 스냅샷 이후 바뀐 Todo만 새로 복사합니다.
+     */
+    @Override
+    public TodoListSnapshot getSnapshot() {
+        awaitLoaded();
+        TodoListSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.readLock().lock();
+        try {
+            current = snapshot;
+            if (current == null) {
+                // 읽기 락끼리는 동시에 만들 수 있지만 같은 버전의 같은 내용이므로 무해함
+                current = new TodoListSnapshot(version, freeze());
+                snapshot = current;
+            }
+            return current;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 정렬된 목록의 한 페이지 조회
+     * 색인이 없으면 쓰기 락으로 한 번 만들고, 이후에는 읽기 락으로 조회합니다.
+     * 정렬 트리에서 가까운 끝부터 건너뛰므로 O(min(offset, N - offset) + limit)입니다.
+     */
+    @Override
+    public TodoPage getSortedTodos(TodoOrder order, int offset, int limit) {
+        awaitLoaded();
+        lock.readLock().lock();
+        try {
+            if (sorted != null && sorted.isBuilt(order)) {
+                return sorted.page(order, offset, limit);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (sorted == null) {
+                sorted = new TodoIndex(todos);
+            }
+            sorted.build(order);
+            return sorted.page(order, offset, limit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 마감일이 가장 가까운 미완료 Todo 조회
+     * 힙이 없으면 쓰기 락으로 한 번 만들고(O(N)), 이후에는 읽기 락으로 O(K log K)에 조회합니다.
+     */
+    @Override
+    public TodoPage getAgenda(int limit) {
+        awaitLoaded();
+        lock.readLock().lock();
+        try {
+            if (sorted != null && sorted.hasAgenda()) {
+                return sorted.agenda(limit);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (sorted == null) {
+                sorted = new TodoIndex(todos);
+            }
+            sorted.buildAgenda();
+            return sorted.agenda(limit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 기간 안의 미완료 Todo 회차 조회
+     * 정렬 색인의 기간 조회 트리(한 번짜리 항목과 반복 규칙)가 없으면 쓰기 락으로 한 번 만들고,
+     * 이후에는 읽기 락으로 기간 안의 항목과 규칙만 보며 limit개 회차만 만듭니다.
+     */
+    @Override
+    public TodoPage getOccurrences(LocalDate from, LocalDate to, int limit) {
+        awaitLoaded();
+        lock.readLock().lock();
+        try {
+            if (sorted != null && sorted.hasOccurrences()) {
+                return sorted.occurrences(from, to, limit);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (sorted == null) {
+                sorted = new TodoIndex(todos);
+            }
+            sorted.buildOccurrences();
+            return sorted.occurrences(from, to, limit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 하위 작업을 부모 아래에 들여 쓴 트리 조회
+     * 자손 개수는 유지 중인 값을 그대로 쓰므로 O(N)에 만듭니다.
+     */
+    @Override
+    public TodoOutline getOutline() {
+        awaitLoaded();
+        lock.readLock().lock();
+        try {
+            return tree.outline(todos);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 바로 시작할 수 있는 Todo 조회
+     * ready 집합은 변경마다 위상 순서로 유지하므로 앞의 limit개만 꺼내고, 인덱스는 정렬 색인의 순번으로 O(log N)에 구합니다.
+     * 정렬 색인이 없으면 쓰기 락으로 한 번 만듭니다.
+     */
+    @Override
+    public TodoPage getReady(int limit) {
+        awaitLoaded();
+        lock.readLock().lock();
+        try {
+            if (sorted != null) {
+                return readyPage(limit);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (sorted == null) {
+                sorted = new TodoIndex(todos);
+            }
+            return readyPage(limit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private TodoPage readyPage(int limit) {
+        List<Todo> ready = dependencies.ready(limit);
+        List<Todo> page = new ArrayList<>(ready.size());
+        int[] indices = new int[ready.size()];
+        for (int i = 0; i < ready.size(); i++) {
+            indices[i] = sorted.indexOf(ready.get(i));
+            page.add(ready.get(i).frozen());  // 락 밖에서 읽도록 복사본
+        }
+        return new TodoPage(TodoOrder.TOPOLOGICAL, 0, dependencies.readyCount(), indices, page);
+    }
+    
+    /**
+     * 목록 전체의 집계 조회
+     * 변경마다 갱신한 카운터로 만들므로 목록을 훑지 않습니다.
+     */
+    @Override
+    public TodoStats getStats() {
+        awaitLoaded();
+        lock.readLock().lock();
+        try {
+            return counters.snapshot(LocalDate.now());
+        } finally {
+            lock.readLock().unlock();
+        }
     }
     
     /**
@@ -51,14 +464,25 @@ public class TodoServiceImpl implements TodoService {
      */
     @Override
     public List<Todo> getCompletedTodos() {
+        awaitLoaded();
         return repository.load(TodoFilter.COMPLETED);
     }
     
+    /**
+     * 보관된 Todo를 포함하여 완료된 Todo 조회
+     */
+    @Override
+    public List<Todo> getCompletedTodos(boolean includeArchived) {
+        awaitLoaded();
+        return repository.load(TodoFilter.COMPLETED, includeArchived);
+    }
+    
     /**
      * 미완료 Todo 조회
      */
     @Override
     public List<Todo> getIncompleteTodos() {
+        awaitLoaded();
         return repository.load(TodoFilter.INCOMPLETE);
     }
     
@@ -67,13 +491,34 @@ public class TodoServiceImpl implements TodoService {
      */
     @Override
     public boolean toggleTodo(int index) {
-        if (index >= 0 && index < todos.size()) {
-            Todo todo = todos.get(index);
-            todo.setCompleted(!todo.isCompleted());
-            repository.save(todos);
-            return true;
+        TodoMutationEvent event = new TodoMutationEvent();
+        event.begin();
+        boolean toggled = toggle(index);
+        commit(event, "toggleTodo", toggled ? 1 : 0, toggled);
+        return toggled;
+    }
+    
+    private boolean toggle(int index) {
+        awaitLoaded();
+        lock.writeLock().lock();
+        try {
+            if (syncExternalChanges()) {
+                return false;  // 목록이 통째로 바뀌어 인덱스를 신뢰할 수 없음
+            }
+            if (index >= 0 && index < todos.size()) {
+                Todo todo = todos.get(index);
+                setCompleted(todo, !todo.isCompleted(), LocalDate.now().toString());
+                changed();
+                if (!repository.save(todos)) {
+                    reloadAfterConflict();
+                    return false;
+                }
+                return true;
+            }
+            return false;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return false;
     }
     
     /**
@@ -81,12 +526,224 @@ public class TodoServiceImpl implements TodoService {
      */
     @Override
     public boolean deleteTodo(int index) {
-        if (index >= 0 && index < todos.size()) {
-            todos.remove(index);
-            repository.save(todos);
-            return true;
+        TodoMutationEvent event = new TodoMutationEvent();
+        event.begin();
+        boolean deleted = delete(index);
+        commit(event, "deleteTodo", deleted ? 1 : 0, deleted);
+        return deleted;
+    }
+    
+    private boolean delete(int index) {
+        awaitLoaded();
+        lock.writeLock().lock();
+        try {
+            if (syncExternalChanges()) {
+                return false;  // 목록이 통째로 바뀌어 인덱스를 신뢰할 수 없음
+            }
+            if (index >= 0 && index < todos.size()) {
+                Todo removed = todos.get(index);
+                if (tree.descendants(removed).isEmpty()) {
+                    indexRemoved(todos.remove(index));
+                } else {
+                    removeWithDescendants(todos, List.of(removed));
+                }
+                changed();
+                if (!repository.save(todos)) {
+                    reloadAfterConflict();
+                    return false;
+                }
+                return true;
+            }
+            return false;
+        } finally {
+            lock.writeLock().unlock();
         }
-        return false;
+    }
+    
+    /**
+     * 여러 Todo를 한 번에 추가 (파일 끝에 한 번만 덧붙임)
+     */
+    @Override
+    public int addAll(List<Todo> added) {
+        if (added.isEmpty()) {
+            return 0;
+        }
+        TodoMutationEvent event = new TodoMutationEvent();
+        event.begin();
+        add(new ArrayList<>(added));
+        commit(event, "addAll", added.size(), true);
+        return added.size();
+    }
+    
+    private void add(List<Todo> copy) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                if (loadFailure != null) {
+                    throw loadFailure;
+                }
+                pending.addAll(copy);  // 로드가 끝나면 저장
+                return;
+            }
+            syncExternalChanges();
+            todos.addAll(copy);
+            indexAdded(copy);
+            changed();
+            repository.saveAll(copy);
+            copy.forEach(this::identified);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 선택한 인덱스의 Todo들을 한 번에 토글
+     */
+    @Override
+    public int toggleAll(Collection<Integer> indices) {
+        Set<Integer> selected = new HashSet<>(indices);
+        String today = LocalDate.now().toString();
+        return applyBulk("toggleAll", true, list -> {
+            int count = 0;
+            for (int i = 0; i < list.size(); i++) {
+                if (selected.contains(i)) {
+                    Todo todo = list.get(i);
+                    setCompleted(todo, !todo.isCompleted(), today);
+                    count++;
+                }
+            }
+            return count;
+        });
+    }
+    
+    /**
+     * 조건에 맞는 Todo들을 한 번에 토글
+     * @param predicate 토글할 Todo 조건
+     * @return 토글한 개수 (충돌하면 0)
+     */
+    public int toggleAll(Predicate<Todo> predicate) {
+        String today = LocalDate.now().toString();
+        return applyBulk("toggleAll", false, list -> {
+            int count = 0;
+            for (Todo todo : list) {
+                if (predicate.test(todo)) {
+                    setCompleted(todo, !todo.isCompleted(), today);
+                    count++;
+                }
+            }
+            return count;
+        });
+    }
+    
+    /**
+     * 모든 미완료 Todo를 완료로 변경
+     */
+    @Override
+    public int completeAll() {
+        return completeAll(todo -> true);
+    }
+    
+    /**
+     * 조건에 맞는 미완료 Todo를 한 번에 완료로 변경
+     * @param filter 완료할 Todo 조건
+     * @return 완료로 바꾼 개수 (충돌하면 0)
+     */
+    public int completeAll(Predicate<Todo> filter) {
+        String today = LocalDate.now().toString();
+        return applyBulk("completeAll", false, list -> {
+            int count = 0;
+            for (Todo todo : list) {
+                if (!todo.isCompleted() && filter.test(todo)) {
+                    setCompleted(todo, true, today);
+                    count++;
+                }
+            }
+            return count;
+        });
+    }
+    
+    /**
+     * 선택한 인덱스의 Todo들을 한 번에 삭제
+     */
+    @Override
+    public int deleteAll(Collection<Integer> indices) {
+        Set<Integer> selected = new HashSet<>(indices);
+        return applyBulk("deleteAll", true, list -> {
+            List<Todo> roots = new ArrayList<>(selected.size());
+            for (int i = 0; i < list.size(); i++) {
+                if (selected.contains(i)) {
+                    roots.add(list.get(i));
+                }
+            }
+            return removeWithDescendants(list, roots);
+        });
+    }
+    
+    /**
+     * 완료된 Todo를 모두 삭제
+     */
+    @Override
+    public int deleteCompleted() {
+        return deleteWhere(Todo::isCompleted);
+    }
+    
+    /**
+     * 조건에 맞는 Todo를 한 번에 삭제
+     * @param predicate 삭제할 Todo 조건
+     * @return 삭제한 개수 (충돌하면 0)
+     */
+    public int deleteWhere(Predicate<Todo> predicate) {
+        return applyBulk("deleteWhere", false, list -> {
+            List<Todo> roots = new ArrayList<>();
+            for (Todo todo : list) {
+                if (predicate.test(todo)) {
+                    roots.add(todo);
+                }
+            }
+            return removeWithDescendants(list, roots);
+        });
+    }
+    
+    /**
+     * Todo의 ID (없으면 저장소가 발급한 ID를 부여하고 선후 관계 그래프에도 알림, 쓰기 락을 잡은 상태에서 호출)
+     */
+    private String idOf(Todo todo) {
+        String id = tree.idOf(todo, repository::newId);
+        dependencies.identified(todo);
+        return id;
+    }
+    
+    /**
+     * 저장소가 저장하며 부여한 ID를 하위 작업 트리와 선후 관계 그래프에 등록 (쓰기 락을 잡은 상태에서 호출)
+     */
+    private void identified(Todo todo) {
+        tree.identified(todo);
+        dependencies.identified(todo);
+    }
+    
+    /**
+     * 지울 Todo들과 그 자손을 목록을 한 번 훑어 제거 (쓰기 락을 잡은 상태에서 호출)
+     * @return 제거한 개수
+     */
+    private int removeWithDescendants(List<Todo> list, List<Todo> roots) {
+        if (roots.isEmpty()) {
+            return 0;
+        }
+        Set<Todo> doomed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Todo root : roots) {
+            if (doomed.add(root)) {
+                doomed.addAll(tree.descendants(root));
+            }
+        }
+        int before = list.size();
+        list.removeIf(todo -> {  // 한 번 훑으며 제거
+            if (!doomed.contains(todo)) {
+                return false;
+            }
+            indexRemoved(todo);
+            return true;
+        });
+        return before - list.size();
     }
     
     /**
@@ -94,7 +751,13 @@ public class TodoServiceImpl implements TodoService {
      */
     @Override
     public int getTodoCount() {
-        return todos.size();
+        awaitLoaded();
+        lock.readLock().lock();
+        try {
+            return todos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
     
     /**
@@ -102,9 +765,353 @@ public class TodoServiceImpl implements TodoService {
      */
     @Override
     public Todo getTodoAt(int index) {
-        if (index >= 0 && index < todos.size()) {
-            return todos.get(index);
+        awaitLoaded();
+        lock.readLock().lock();
+        try {
+            if (index >= 0 && index < todos.size()) {
+                return todos.get(index);
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 다른 프로세스가 저장소를 변경했다면 메모리 목록에 반영
+     * 파일 감시자(TodoFileWatcher)의 콜백으로 사용됩니다.
+     */
+    public void refresh() {
+        awaitLoaded();
+        lock.writeLock().lock();
+        try {
+            syncExternalChanges();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 마감일 알림 스케줄러 연결
+     * 로드가 끝났으면 지금 목록 전체를, 아니면 로드가 끝날 때 예약하고, 이후 변경마다 해당 Todo만 다시 예약합니다.
+     * @param reminders 알림 스케줄러
+     */
+    public void setReminders(ReminderScheduler reminders) {
+        lock.writeLock().lock();
+        try {
+            this.reminders = reminders;
+            if (ready) {
+                reminders.reset(todos);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 보관 정책에 해당하는 완료 Todo를 보관 파일로 옮김
+     * 보관된 Todo는 작업 목록에서 빠지며 getCompletedTodos(true)로만 조회됩니다.
+     * @return 보관한 Todo 개수 (정책이 없거나 저장이 충돌하면 0)
+     */
+    public int archiveCompleted() {
+        return archiveRecorded();
+    }
+    
+    /**
+     * archiveCompleted()의 본체 (초기 로드에서도 재정의할 수 있는 메서드를 거치지 않고 호출)
+     */
+    private int archiveRecorded() {
+        if (archivePolicy == null) {
+            return 0;
         }
-        return null;
+        TodoMutationEvent event = new TodoMutationEvent();
+        event.begin();
+        int archived = archive();
+        commit(event, "archiveCompleted", archived, archived > 0);
+        return archived;
+    }
+    
+    private int archive() {
+        awaitLoaded();
+        lock.writeLock().lock();
+        try {
+            syncExternalChanges();
+            LocalDate today = LocalDate.now();
+            List<Todo> archived = new ArrayList<>();
+            List<Todo> remaining = new ArrayList<>();
+            for (Todo todo : todos) {
+                (archivePolicy.isArchivable(todo, today) ? archived : remaining).add(todo);
+            }
+            if (archived.isEmpty()) {
+                return 0;
+            }
+            if (!repository.archive(archived, remaining)) {
+                reloadAfterConflict();
+                return 0;
+            }
+            todos.clear();
+            todos.addAll(remaining);
+            archived.forEach(this::indexRemoved);
+            changed();
+            return archived.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 일괄 작업을 메모리 목록에 적용하고 바뀐 것이 있으면 저장소에 한 번만 저장
+     * @param name JFR 이벤트에 기록할 작업 이름
+     * @param byIndex 인덱스로 고른 작업이면 true (목록이 통째로 바뀌면 적용하지 않음)
+     * @param operation 목록을 바꾸고 바뀐 Todo 개수를 반환하는 작업
+     * @return 바뀐 개수 (충돌하면 0)
+     */
+    private int applyBulk(String name, boolean byIndex, ToIntFunction<List<Todo>> operation) {
+        TodoMutationEvent event = new TodoMutationEvent();
+        event.begin();
+        int count = applyBulk(byIndex, operation);
+        commit(event, name, count, count > 0);
+        return count;
+    }
+    
+    private int applyBulk(boolean byIndex, ToIntFunction<List<Todo>> operation) {
+        awaitLoaded();
+        lock.writeLock().lock();
+        try {
+            if (syncExternalChanges() && byIndex) {
+                return 0;  // 목록이 통째로 바뀌어 인덱스를 신뢰할 수 없음
+            }
+            int count = operation.applyAsInt(todos);
+            if (count == 0) {
+                return 0;
+            }
+            changed();
+            if (!repository.save(todos)) {
+                reloadAfterConflict();
+                return 0;
+            }
+            return count;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 변경 작업 JFR 이벤트를 마무리 (기록 중이 아니면 아무것도 하지 않음)
+     * 락 밖에서 호출하므로 목록 크기는 그 시점의 근사값입니다.
+     */
+    private void commit(TodoMutationEvent event, String operation, int affected, boolean success) {
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.affected = affected;
+            event.listSize = todos.size();
+            event.success = success;
+            event.commit();
+        }
+    }
+    
+    /**
+     * 완료 상태와 완료 시각을 함께 변경하고 정렬 색인, 집계 카운터, 하위 작업 개수, ready 집합을 고침
+     * 반복 Todo를 완료하면 다음 회차가 남아 있는 한 미완료로 두고 마감일만 다음 회차로 옮기며,
+     * 완료 추이가 회차마다 한 번씩 세도록 완료한 날짜를 Recurrence.DONE_KEY에 남깁니다.
+     * (놓친 회차는 쌓아 두지 않고 오늘 이후의 첫 회차로 건너뜀)
+     * @param today 완료 시각으로 기록할 날짜 (yyyy-MM-dd)
+     */
+    private void setCompleted(Todo todo, boolean completed, String today) {
+        Recurrence repeat = completed ? Recurrence.of(todo) : null;
+        LocalDate next = null;
+        if (repeat != null) {
+            LocalDate date = LocalDate.parse(today);
+            next = date.isAfter(todo.getDueDate()) ? repeat.firstOnOrAfter(date) : repeat.firstAfter(todo.getDueDate());
+        }
+        counters.removed(todo);  // 바뀌기 전 상태로 뺌
+        if (next != null) {
+            repeat.anchor(todo);
+            Recurrence.recordDone(todo, today);
+            todo.setDueDate(next);
+            todo.setMetadataField(ArchivePolicy.COMPLETED_AT_KEY, today);  // 마지막으로 끝낸 회차의 완료일
+        } else if (completed) {
+            if (repeat != null) {
+                Recurrence.recordDone(todo, today);  // 마지막 회차
+            }
+            todo.setCompleted(true);
+            todo.setMetadataField(ArchivePolicy.COMPLETED_AT_KEY, today);
+        } else {
+            if (todo.isCompleted() && Recurrence.of(todo) != null) {
+                Recurrence.forgetDone(todo);  // 되돌린 마지막 회차
+            }
+            todo.setCompleted(false);
+            todo.getMetadata().remove(ArchivePolicy.COMPLETED_AT_KEY);
+        }
+        if (sorted != null) {
+            sorted.updated(todo);
+        }
+        counters.added(todo);
+        tree.updated(todo);
+        dependencies.updated(todo);
+        if (reminders != null) {
+            reminders.schedule(todo);  // 완료되면 취소, 미완료로 돌아오면 다시 예약
+        }
+    }
+    
+    /**
+     * 목록 끝에 추가된 Todo들을 정렬 색인, 집계 카운터, 하위 작업 트리, 선후 관계 그래프에 넣고 알림을 예약 (쓰기 락을 잡은 상태에서 호출)
+     */
+    private void indexAdded(List<Todo> added) {
+        added.forEach(this::indexAdded);
+    }
+    
+    private void indexAdded(Todo todo) {
+        if (sorted != null) {
+            sorted.added(todo);
+        }
+        counters.added(todo);
+        tree.added(todo);
+        dependencies.added(todo);
+        if (reminders != null) {
+            reminders.schedule(todo);
+        }
+    }
+    
+    /**
+     * 목록에서 빠진 Todo를 정렬 색인, 집계 카운터, 하위 작업 트리, 선후 관계 그래프에서 빼고 알림을 취소 (쓰기 락을 잡은 상태에서 호출)
+     */
+    private void indexRemoved(Todo todo) {
+        if (sorted != null) {
+            sorted.removed(todo);
+        }
+        counters.removed(todo);
+        tree.removed(todo);
+        dependencies.removed(todo);
+        if (reminders != null) {
+            reminders.cancel(todo);
+        }
+    }
+    
+    /**
+     * 목록이 통째로 바뀌었을 때 정렬 색인을 버리고(다음 조회 때 다시 만듦) 카운터, 하위 작업 트리, 선후 관계 그래프, 알림을 다시 만듦
+     */
+    private void reindex() {
+        sorted = null;
+        counters = new TodoCounters(todos);
+        tree = new TodoTree(todos);
+        dependencies = new TodoDependencies(todos);
+        if (reminders != null) {
+            reminders.reset(todos);
+        }
+    }
+    
+    /**
+     * 저장소에서 초기 목록을 읽고, 그동안 대기열에 쌓인 추가를 반영한 뒤 보관 정책을 적용
+     */
+    private void loadInitial() {
+        List<Todo> initial;
+        try {
+            initial = repository.load();
+        } catch (RuntimeException e) {
+            loadFailure = e;
+            loaded.countDown();
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            todos.addAll(initial);
+            if (!pending.isEmpty()) {
+                todos.addAll(pending);
+                repository.saveAll(pending);
+                pending.clear();
+            }
+            reindex();
+            changed();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+            loaded.countDown();
+        }
+        if (archivePolicy != null) {
+            archiveRecorded();
+        }
+    }
+    
+    /**
+     * 목록의 수정할 수 없는 복사본 배열 (읽기 락 안에서 호출)
+     * 지난 스냅샷의 복사본 중 수정 번호가 그대로인 것은 다시 씁니다.
+     * 복사본 표는 매번 새로 만들어 교체하므로 동시에 만드는 다른 읽기 스레드와 표를 같이 수정하지 않습니다.
+     */
+    private Todo[] freeze() {
+        Map<Todo, Todo> previous = frozen;
+        Map<Todo, Todo> next = new IdentityHashMap<>(todos.size() * 2);
+        Todo[] copies = new Todo[todos.size()];
+        for (int i = 0; i < copies.length; i++) {
+            Todo todo = todos.get(i);
+            Todo copy = previous.get(todo);
+            if (copy == null || copy.getRevision() != todo.getRevision()) {
+                copy = todo.frozen();
+            }
+            next.put(todo, copy);
+            copies[i] = copy;
+        }
+        frozen = next;
+        return copies;
+    }
+
+    /**
+     * 초기 로드가 끝날 때까지 기다림 (로드가 실패했으면 그 예외를 던짐)
+     */
+    private void awaitLoaded() {
+        boolean interrupted = false;
+        while (loaded.getCount() > 0) {
+            try {
+                loaded.await();
+            } catch (InterruptedException e) {
+                interrupted = true;  // 작업을 끝까지 수행하고 인터럽트 상태만 복원
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (loadFailure != null) {
+            throw loadFailure;
+        }
+    }
+    
+    /**
+     * 저장 충돌 시 메모리의 변경을 버리고 저장소의 최신 목록으로 교체
+     */
+    private void reloadAfterConflict() {
+        todos.clear();
+        todos.addAll(repository.load());
+        reindex();
+        changed();
+    }
+    
+    /**
+     * 목록이 바뀌었음을 기록 (쓰기 락을 잡은 상태에서 호출)
+     * 이전 스냅샷은 그대로 두고, 새 스냅샷은 다음 조회 때 만듭니다.
+     */
+    private void changed() {
+        version++;
+        snapshot = null;
+    }
+    
+    /**
+     * 외부 변경 내용을 반영 (쓰기 락을 잡은 상태에서 호출)
+     * @return 목록이 통째로 교체되었으면 true, 변경이 없거나 추가만 되었으면 false
+     */
+    private boolean syncExternalChanges() {
+        TodoChange change = repository.pollChanges();
+        if (change == null) {
+            return false;
+        }
+        changed();
+        if (change.isReloaded()) {
+            todos.clear();
+            todos.addAll(change.getTodos());
+            reindex();
+            return true;
+        }
+        todos.addAll(change.getTodos());
+        indexAdded(change.getTodos());
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,142 @@
+package todo.application;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 목록 전체의 집계 (통계 화면용)
+ *
+ * 서비스가 변경마다 갱신하는 카운터에서 만든 값이므로 조회할 때 목록을 훑지 않습니다.
+ * 마감 지남/이번 주 마감은 만든 날(today)을 기준으로 합니다.
+ */
+public final class TodoStats {
+    /** 값별로 개수를 세는 메타데이터 키 (값은 쉼표로 여러 개를 쓸 수 있음, 예: tag=work,home) */
+    public static final List<String> GROUP_KEYS = List.of("tag", "owner");
+    /** 완료 추이를 보여줄 날 수 (오늘 포함) */
+    public static final int SERIES_DAYS = 14;
+    /** "이번 주 마감"에 들어가는 날 수 (오늘부터) */
+    public static final int WEEK_DAYS = 7;
+
+    /**
+     * 메타데이터 값 하나의 개수
+     */
+    public static final class Count {
+        private final int total;
+        private final int completed;
+
+        public Count(int total, int completed) {
+            this.total = total;
+            this.completed = completed;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getCompleted() {
+            return completed;
+        }
+
+        public int getIncomplete() {
+            return total - completed;
+        }
+    }
+
+    private final LocalDate today;
+    private final int total;
+    private final int completed;
+    private final int overdue;
+    private final int dueThisWeek;
+    private final int[] completedPerDay;
+    private final Map<String, Map<String, Count>> groups;
+
+    /**
+     * @param today 기준 날짜
+     * @param total 전체 Todo 수
+     * @param completed 완료된 Todo 수
+     * @param overdue 마감일이 지난 미완료 Todo 수
+     * @param dueThisWeek 오늘부터 WEEK_DAYS일 안에 마감인 미완료 Todo 수
+     * @param completedPerDay 최근 SERIES_DAYS일 동안 날마다 완료된 수 (마지막이 오늘)
+     * @param groups 메타데이터 키 → 값 → 개수
+     */
+    public TodoStats(LocalDate today, int total, int completed, int overdue, int dueThisWeek,
+                     int[] completedPerDay, Map<String, Map<String, Count>> groups) {
+        this.today = today;
+        this.total = total;
+        this.completed = completed;
+        this.overdue = overdue;
+        this.dueThisWeek = dueThisWeek;
+        this.completedPerDay = completedPerDay.clone();
+        Map<String, Map<String, Count>> copy = new LinkedHashMap<>();
+        groups.forEach((key, counts) -> copy.put(key, Collections.unmodifiableMap(new TreeMap<>(counts))));
+        this.groups = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * @return 집계 기준 날짜
+     */
+    public LocalDate getToday() {
+        return today;
+    }
+
+    /**
+     * @return 전체 Todo 수
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @return 완료된 Todo 수
+     */
+    public int getCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return 미완료 Todo 수
+     */
+    public int getIncomplete() {
+        return total - completed;
+    }
+
+    /**
+     * @return 마감일이 지난 미완료 Todo 수
+     */
+    public int getOverdue() {
+        return overdue;
+    }
+
+    /**
+     * @return 오늘부터 7일 안에 마감인 미완료 Todo 수
+     */
+    public int getDueThisWeek() {
+        return dueThisWeek;
+    }
+
+    /**
+     * 최근 날짜별 완료 수 (완료 시각이 기록된, 아직 목록에 있는 Todo 기준)
+     * @return 길이 SERIES_DAYS의 배열, 마지막 칸이 오늘
+     */
+    public int[] getCompletedPerDay() {
+        return completedPerDay.clone();
+    }
+
+    /**
+     * @param key 메타데이터 키 (GROUP_KEYS 중 하나)
+     * @return 값 → 개수 (값 이름순), 없으면 빈 맵
+     */
+    public Map<String, Count> getGroup(String key) {
+        return groups.getOrDefault(key, Collections.emptyMap());
+    }
+
+    @Override
+    public String toString() {
+        return "TodoStats{total=" + total + ", completed=" + completed + ", overdue=" + overdue
+                + ", dueThisWeek=" + dueThisWeek + "}";
+    }
+}
@@ -0,0 +1,262 @@
+package todo.application;
+
+import todo.domain.Todo;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * TodoServiceImpl 목록의 부모/하위 작업 관계
+ *
+ * Todo마다 노드를 두고 부모 노드의 자식 집합과 모든 자손 중 완료/전체 개수를 유지합니다.
+ * 추가, 삭제, 완료 상태 변경은 부모 쪽으로 조상만 따라 올라가며 개수를 고치므로 O(깊이)입니다.
+ * 부모가 목록에 없는 하위 작업(부모보다 앞에 있거나 부모가 보관/삭제됨)은 최상위로 두고,
+ * 같은 ID의 부모가 들어오면 그 아래로 옮깁니다. 부모 링크가 순환하면 순환을 만드는 링크를 무시합니다.
+ *
+ * TodoCounters와 같이 서비스의 쓰기 락 안에서만 변경하며, outline은 읽기 락으로 동시에 할 수 있습니다.
+ */
+final class TodoTree {
+    private static final class Node {
+        final Todo todo;
+        String id;  // 메타데이터 "id", 없으면 null
+        Node parent;  // 목록에 있는 부모, 최상위면 null
+        final Set<Node> children = new LinkedHashSet<>();  // 추가된 순서
+        boolean completed;  // 마지막으로 센 완료 상태
+        int done;  // 완료된 자손 수
+        int total;  // 전체 자손 수
+
+        Node(Todo todo) {
+            this.todo = todo;
+        }
+    }
+
+    private final Map<Todo, Node> nodes = new IdentityHashMap<>();
+    private final Map<String, Node> byId = new HashMap<>();
+    private final Map<String, Set<Node>> orphans = new HashMap<>();  // 부모 ID → 부모를 찾지 못한 하위 작업
+
+    /**
+     * @param todos 처음 목록 (O(N)으로 한 번 연결)
+     */
+    TodoTree(Iterable<Todo> todos) {
+        for (Todo todo : todos) {
+            added(todo);
+        }
+    }
+
+    /**
+     * 목록에 들어온 Todo를 부모 아래에 연결하고, 이 Todo를 기다리던 하위 작업을 데려옴
+     */
+    void added(Todo todo) {
+        Node node = new Node(todo);
+        node.completed = todo.isCompleted();
+        nodes.put(todo, node);
+        register(node, todo.getMetadataField(TodoOutline.ID_KEY));
+        String parentId = todo.getMetadataField(TodoOutline.PARENT_KEY);
+        if (parentId != null) {
+            Node parent = byId.get(parentId);
+            if (parent != null && !isAncestorOrSelf(node, parent)) {
+                attach(node, parent);
+            } else {
+                orphans.computeIfAbsent(parentId, k -> new LinkedHashSet<>()).add(node);
+            }
+        }
+    }
+
+    /**
+     * 목록에서 빠진 Todo를 부모에서 떼어냄 (자식은 최상위로 남고 부모가 돌아오면 다시 연결됨)
+     */
+    void removed(Todo todo) {
+        Node node = nodes.remove(todo);
+        if (node == null) {
+            return;
+        }
+        if (node.parent != null) {
+            detach(node);
+        } else {
+            String parentId = todo.getMetadataField(TodoOutline.PARENT_KEY);
+            Set<Node> waiting = parentId == null ? null : orphans.get(parentId);
+            if (waiting != null && waiting.remove(node) && waiting.isEmpty()) {
+                orphans.remove(parentId);
+            }
+        }
+        for (Node child : new ArrayList<>(node.children)) {
+            detach(child);
+            orphans.computeIfAbsent(node.id, k -> new LinkedHashSet<>()).add(child);
+        }
+        if (node.id != null && byId.get(node.id) == node) {
+            byId.remove(node.id);
+        }
+    }
+
+    /**
+     * 완료 상태가 바뀌었을 수 있는 Todo의 조상 개수를 고침
+     */
+    void updated(Todo todo) {
+        Node node = nodes.get(todo);
+        if (node == null || node.completed == todo.isCompleted()) {
+            return;
+        }
+        node.completed = todo.isCompleted();
+        propagate(node.parent, 0, node.completed ? 1 : -1);
+    }
+
+    /**
+     * Todo에 새로 부여된 ID를 등록 (저장소가 저장하며 부여했을 수 있음, 그 ID를 기다리던 하위 작업을 데려옴)
+     */
+    void identified(Todo todo) {
+        Node node = nodes.get(todo);
+        if (node != null && node.id == null) {
+            register(node, todo.getMetadataField(TodoOutline.ID_KEY));
+        }
+    }
+
+    /**
+     * Todo의 ID (메타데이터에도 없으면 저장소가 발급한 새 ID를 부여)
+     * @param source 새 ID 발급처 (다시 쓰지 않는 ID여야 보관/삭제된 부모를 가리키던 링크가 엉뚱하게 붙지 않음)
+     */
+    String idOf(Todo todo, Supplier<String> source) {
+        Node node = nodes.get(todo);
+        if (node.id == null) {
+            String id = todo.getMetadataField(TodoOutline.ID_KEY);
+            if (id == null) {
+                id = source.get();
+                todo.setMetadataField(TodoOutline.ID_KEY, id);
+            }
+            register(node, id);
+        }
+        return node.id;
+    }
+
+    /**
+     * @return 모든 자손 (자신은 제외, 부모 다음에 자식 순서)
+     */
+    List<Todo> descendants(Todo todo) {
+        Node node = nodes.get(todo);
+        if (node == null || node.children.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Todo> result = new ArrayList<>(node.total);
+        Deque<Node> stack = new ArrayDeque<>(node.children);
+        while (!stack.isEmpty()) {
+            Node next = stack.pollFirst();
+            result.add(next.todo);
+            pushChildren(stack, next);
+        }
+        return result;
+    }
+
+    /**
+     * 최상위 항목은 목록 순서로, 하위 작업은 부모 바로 아래에 들여 쓴 트리 (O(N))
+     * @param todos 서비스의 현재 목록 (원래 인덱스를 구하는 데 사용)
+     */
+    TodoOutline outline(List<Todo> todos) {
+        int size = todos.size();
+        Map<Todo, Integer> positions = new IdentityHashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            positions.put(todos.get(i), i);
+        }
+        int[] indices = new int[size];
+        int[] depths = new int[size];
+        int[] done = new int[size];
+        int[] totals = new int[size];
+        List<Todo> ordered = new ArrayList<>(size);
+        Deque<Node> stack = new ArrayDeque<>();
+        Map<Node, Integer> depthOf = new IdentityHashMap<>();
+        for (Todo todo : todos) {
+            Node root = nodes.get(todo);
+            if (root == null || root.parent != null) {
+                continue;
+            }
+            stack.push(root);
+            depthOf.put(root, 0);
+            while (!stack.isEmpty()) {
+                Node node = stack.pollFirst();
+                int row = ordered.size();
+                ordered.add(node.todo.frozen());  // 락 밖에서 읽도록 복사본
+                indices[row] = positions.get(node.todo);
+                depths[row] = depthOf.remove(node);
+                done[row] = node.done;
+                totals[row] = node.total;
+                for (Node child : node.children) {
+                    depthOf.put(child, depths[row] + 1);
+                }
+                pushChildren(stack, node);
+            }
+        }
+        return new TodoOutline(indices, depths, done, totals, ordered);
+    }
+
+    /**
+     * 자식들을 추가된 순서대로 꺼내지도록 스택 앞에 넣음
+     */
+    private static void pushChildren(Deque<Node> stack, Node node) {
+        List<Node> children = new ArrayList<>(node.children);
+        for (int i = children.size() - 1; i >= 0; i--) {
+            stack.push(children.get(i));
+        }
+    }
+
+    private void register(Node node, String id) {
+        node.id = id;
+        if (id == null) {
+            return;
+        }
+        if (byId.putIfAbsent(id, node) != null) {
+            return;  // 같은 ID가 이미 있으면 먼저 들어온 Todo가 부모
+        }
+        Set<Node> waiting = orphans.remove(id);
+        if (waiting == null) {
+            return;
+        }
+        for (Node child : waiting) {
+            if (isAncestorOrSelf(child, node)) {
+                orphans.computeIfAbsent(id, k -> new LinkedHashSet<>()).add(child);  // 순환이면 계속 기다림
+            } else {
+                attach(child, node);
+            }
+        }
+    }
+
+    /**
+     * @return candidate가 node 자신이거나 node의 조상이면 true (O(깊이))
+     */
+    private static boolean isAncestorOrSelf(Node candidate, Node node) {
+        for (Node n = node; n != null; n = n.parent) {
+            if (n == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void attach(Node child, Node parent) {
+        parent.children.add(child);
+        child.parent = parent;
+        propagate(parent, child.total + 1, child.done + (child.completed ? 1 : 0));
+    }
+
+    private void detach(Node child) {
+        Node parent = child.parent;
+        parent.children.remove(child);
+        child.parent = null;
+        propagate(parent, -(child.total + 1), -(child.done + (child.completed ? 1 : 0)));
+    }
+
+    /**
+     * 조상을 따라 올라가며 자손 개수를 더함 (O(깊이))
+     */
+    private static void propagate(Node from, int total, int done) {
+        for (Node n = from; n != null; n = n.parent) {
+            n.total += total;
+            n.done += done;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package todo.domain;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Todo 메타데이터용 작은 맵
+ *
+ * 대부분의 Todo는 메타데이터가 없거나 몇 개뿐이므로 항목마다 HashMap과 테이블을
+ * 만드는 대신 크기에 따라 표현을 바꿉니다.
+ * - 비어 있을 때: 공유하는 빈 배열 (추가 할당 없음)
+ * - 8개 이하: 키/값을 번갈아 담은 평평한 배열 하나 (선형 탐색)
+ * - 그보다 많을 때: HashMap으로 승격
+ *
+ * 일반 Map처럼 수정할 수 있으며 동기화되지 않습니다.
+ * 값만 바꾸는 것을 포함한 실제 수정만 revision()으로 셉니다. (조회나 같은 값 쓰기는 세지 않음)
+ */
+class CompactMetadata extends AbstractMap<String, String> {
+    static final int MAX_FLAT_ENTRIES = 8;
+    private static final String[] EMPTY = new String[0];
+
+    private String[] flat = EMPTY;  // [키0, 값0, 키1, 값1, ...]
+    private int size;
+    private HashMap<String, String> promoted;  // 승격된 경우에만 사용
+    private int modCount;  // 구조 변경 횟수 (반복자 검사용)
+    private long revision;  // 값 변경을 포함한 실제 수정 횟수
+
+    CompactMetadata() {
+    }
+
+    /**
+     * 다른 맵의 내용을 복사하여 생성
+     * @param source 복사할 맵 (null이면 빈 맵)
+     */
+    CompactMetadata(Map<String, String> source) {
+        if (source != null && !source.isEmpty()) {
+            if (source.size() > MAX_FLAT_ENTRIES) {
+                promoted = new HashMap<>(source);
+            } else {
+                flat = new String[source.size() * 2];
+                for (Map.Entry<String, String> e : source.entrySet()) {
+                    flat[size * 2] = e.getKey();
+                    flat[size * 2 + 1] = e.getValue();
+                    size++;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return promoted != null ? promoted.size() : size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return promoted != null ? promoted.containsKey(key) : indexOf(key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (promoted != null) {
+            return promoted.get(key);
+        }
+        int i = indexOf(key);
+        return i < 0 ? null : flat[i + 1];
+    }
+
+    /**
+     * 값 변경을 포함한 수정 횟수
+     * entrySet()의 항목과 반복자를 통한 수정도 setValue/remove가 호출될 때 셉니다.
+     */
+    long revision() {
+        return revision;
+    }
+
+    @Override
+    public String put(String key, String value) {
+        if (promoted != null) {
+            boolean present = promoted.containsKey(key);
+            String old = promoted.put(key, value);
+            if (!present || !Objects.equals(old, value)) {
+                revision++;
+            }
+            return old;
+        }
+        int i = indexOf(key);
+        if (i >= 0) {
+            String old = flat[i + 1];
+            if (!Objects.equals(old, value)) {
+                revision++;
+                flat[i + 1] = value;
+            }
+            return old;
+        }
+        modCount++;
+        revision++;
+        if (size == MAX_FLAT_ENTRIES) {
+            promoted = new HashMap<>();
+            for (int j = 0; j < size; j++) {
+                promoted.put(flat[j * 2], flat[j * 2 + 1]);
+            }
+            promoted.put(key, value);
+            flat = EMPTY;
+            size = 0;
+            return null;
+        }
+        if (size * 2 == flat.length) {
+            String[] grown = new String[Math.max(2, Math.min(flat.length * 2, MAX_FLAT_ENTRIES * 2))];
+            System.arraycopy(flat, 0, grown, 0, flat.length);
+            flat = grown;
+        }
+        flat[size * 2] = key;
+        flat[size * 2 + 1] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public String remove(Object key) {
+        if (promoted != null) {
+            if (!promoted.containsKey(key)) {
+                return null;
+            }
+            revision++;
+            return promoted.remove(key);
+        }
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        String old = flat[i + 1];
+        removeAt(i);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        if (size() == 0) {
+            return;
+        }
+        modCount++;
+        revision++;
+        promoted = null;
+        flat = EMPTY;
+        size = 0;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return new AbstractSet<Map.Entry<String, String>>() {
+            @Override
+            public Iterator<Map.Entry<String, String>> iterator() {
+                return promoted != null ? new PromotedIterator(promoted.entrySet().iterator()) : new FlatIterator();
+            }
+
+            @Override
+            public int size() {
+                return CompactMetadata.this.size();
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size * 2; i += 2) {
+            if (Objects.equals(flat[i], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int i) {
+        modCount++;
+        revision++;
+        int last = (size - 1) * 2;
+        flat[i] = flat[last];  // 순서는 보장하지 않으므로 마지막 항목으로 메움
+        flat[i + 1] = flat[last + 1];
+        flat[last] = null;
+        flat[last + 1] = null;
+        size--;
+    }
+
+    /**
+     * 평평한 배열을 순회하는 반복자 (remove 지원)
+     */
+    private class FlatIterator implements Iterator<Map.Entry<String, String>> {
+        private int next;
+        private int current = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            current = next++;
+            return new FlatEntry(current * 2);
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(current * 2);
+            next = current;  // 마지막 항목이 현재 자리로 옮겨졌으므로 다시 방문
+            current = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * 승격된 맵의 반복자 (remove와 항목의 setValue를 수정으로 셈)
+     */
+    private class PromotedIterator implements Iterator<Map.Entry<String, String>> {
+        private final Iterator<Map.Entry<String, String>> delegate;
+
+        PromotedIterator(Iterator<Map.Entry<String, String>> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            return new PromotedEntry(delegate.next());
+        }
+
+        @Override
+        public void remove() {
+            delegate.remove();
+            revision++;
+        }
+    }
+
+    /**
+     * 승격된 맵의 항목을 감싼 항목 (setValue가 맵에 반영됨)
+     */
+    private class PromotedEntry extends AbstractMap.SimpleEntry<String, String> {
+        private static final long serialVersionUID = 1L;
+        private final transient Map.Entry<String, String> entry;
+
+        PromotedEntry(Map.Entry<String, String> entry) {
+            super(entry);
+            this.entry = entry;
+        }
+
+        @Override
+        public String setValue(String value) {
+            if (!Objects.equals(entry.getValue(), value)) {
+                revision++;
+            }
+            entry.setValue(value);
+            return super.setValue(value);
+        }
+    }
+
+    /**
+     * 배열 위치를 가리키는 항목 (setValue가 맵에 반영됨)
+     */
+    private class FlatEntry extends AbstractMap.SimpleEntry<String, String> {
+        private static final long serialVersionUID = 1L;
+        private final int index;
+
+        FlatEntry(int index) {
+            super(flat[index], flat[index + 1]);
+            this.index = index;
+        }
+
+        @Override
+        public String setValue(String value) {
+            if (!Objects.equals(flat[index + 1], value)) {
+                revision++;
+            }
+            flat[index + 1] = value;
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package todo.domain;
+
+/**
+ * 저장소 구현체가 작업의 세부 내용을 알리는 통로
+ *
+ * 저장소는 단계별 소요 시간(read/parse/encode/write/snapshot), 처리한 행 수와 바이트 수,
+ * 삼킨 입출력 오류를 정적 메서드로 알리기만 하고, 그 내용을 어디에 모을지는 바깥 계층이
+ * install()로 연결한 Listener가 정합니다. (저장소가 응용 계층의 계측 코드를 알지 않도록 함)
+ * 연결된 Listener가 없으면 아무것도 하지 않습니다.
+ */
+public final class RepositoryTrace {
+    /**
+     * 저장소가 알린 내용을 받는 쪽 (호출한 스레드에서 바로 불림)
+     */
+    public interface Listener {
+        /**
+         * @param name 단계 이름
+         * @param nanos 단계 소요 시간 (나노초)
+         */
+        void phase(String name, long nanos);
+
+        /**
+         * @param count 처리한 행 수
+         */
+        void rows(long count);
+
+        /**
+         * @param count 읽거나 쓴 바이트 수
+         */
+        void bytes(long count);
+
+        /**
+         * @param e 빈 목록이나 false로 바꿔 반환한 오류
+         */
+        void error(Exception e);
+    }
+
+    private static volatile Listener listener;
+
+    private RepositoryTrace() {
+    }
+
+    /**
+     * 저장소가 알린 내용을 받을 Listener 연결 (null이면 연결 해제)
+     */
+    public static void install(Listener next) {
+        listener = next;
+    }
+
+    /**
+     * 단계 하나의 소요 시간을 알림
+     * 이어지는 단계는 반환값을 다음 단계의 시작 시각으로 넘기면 됩니다.
+     * @param name 단계 이름
+     * @param since 단계 시작 시각 (System.nanoTime())
+     * @return 현재 시각 (System.nanoTime())
+     */
+    public static long phase(String name, long since) {
+        long now = System.nanoTime();
+        Listener current = listener;
+        if (current != null) {
+            current.phase(name, now - since);
+        }
+        return now;
+    }
+
+    /**
+     * 처리한 행 수를 알림
+     * @param count 행 수
+     */
+    public static void rows(long count) {
+        Listener current = listener;
+        if (current != null) {
+            current.rows(count);
+        }
+    }
+
+    /**
+     * 읽거나 쓴 바이트 수를 알림
+     * @param count 바이트 수
+     */
+    public static void bytes(long count) {
+        Listener current = listener;
+        if (current != null) {
+            current.bytes(count);
+        }
+    }
+
+    /**
+     * 빈 목록이나 false로 바꿔 반환한 오류를 알림
+     * @param e 삼킨 오류
+     */
+    public static void error(Exception e) {
+        Listener current = listener;
+        if (current != null) {
+            current.error(e);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package todo.domain;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.time.LocalDate;
 
@@ -18,8 +18,9 @@ public class Todo {
     private String description; // 할 일의 상세 설명
     private boolean completed;  // 완료 여부
     private LocalDate dueDate;  // 마감일 (선택사항)
-    // 추가 정보를 저장할 수 있는 메타데이터 (키/값 쌍)
-    private Map<String, String> metadata;
+    // 추가 정보를 저장할 수 있는 메타데이터 (키/값 쌍, 크기에 따라 표현이 바뀌는 작은 맵)
+    private final CompactMetadata metadata;
+    private long revision;  // 필드 변경 횟수 (메타데이터 변경은 메타데이터가 셈)
 
     /**
      * 기본 생성자: 제목과 설명만으로 Todo 생성
@@ -27,7 +28,7 @@ public class Todo {
      * @param description 할 일 설명
      */
     public Todo(String title, String description) {
-        this(title, description, null, new HashMap<>());
+        this(title, description, null, null);
     }
 
     /**
@@ -37,7 +38,7 @@ public class Todo {
      * @param dueDate 마감일
      */
     public Todo(String title, String description, LocalDate dueDate) {
-        this(title, description, dueDate, new HashMap<>());
+        this(title, description, dueDate, null);
     }
 
     /**
@@ -45,17 +46,22 @@ public class Todo {
      * @param title 할 일 제목
      * @param description 할 일 설명
      * @param dueDate 마감일
-     * @param metadata 추가 메타데이터
+     * @param metadata 추가 메타데이터 (복사되며 null이면 빈 메타데이터)
      */
     public Todo(String title, String description, LocalDate dueDate, Map<String, String> metadata) {
         this.title = title;
         this.description = description;
         this.completed = false; // 새로 생성된 할 일은 미완료 상태
         this.dueDate = dueDate;
-        this.metadata = new HashMap<>();
-        if (metadata != null) {
-            this.metadata.putAll(metadata);
-        }
+        this.metadata = new CompactMetadata(metadata);
+    }
+
+    /**
+     * 다른 Todo의 현재 상태를 복사 (frozen()에서 사용)
+     */
+    private Todo(Todo source) {
+        this(source.title, source.description, source.dueDate, source.metadata);
+        this.completed = source.completed;
     }
 
     /**
@@ -80,6 +86,7 @@ public class Todo {
 
     public void setDueDate(LocalDate dueDate) {
         this.dueDate = dueDate;
+        revision++;
     }
 
     /**
@@ -96,6 +103,17 @@ public class Todo {
      */
     public void setCompleted(boolean completed) {
         this.completed = completed;
+        revision++;
+    }
+
+    /**
+     * 변경할 때마다 늘어나는 수정 번호
+     * 저장소가 마지막으로 저장한 뒤에 바뀐 항목만 골라낼 때 사용합니다.
+     * (getMetadata()로 꺼낸 맵을 직접 수정한 것도 포함)
+     * @return 수정 번호
+     */
+    public long getRevision() {
+        return revision + metadata.revision();
     }
 
     public Map<String, String> getMetadata() {
@@ -110,6 +128,16 @@ public class Todo {
         return metadata.get(key);
     }
 
+    /**
+     * 지금 상태를 복사한 수정할 수 없는 Todo
+     * 락 없이 다른 스레드에 넘기는 목록 스냅샷에 사용합니다. 수정 메서드는 UnsupportedOperationException을 던지고
+     * 수정 번호는 복사할 때의 원본 번호를 그대로 돌려주므로, 원본이 그 뒤에 바뀌었는지 비교할 수 있습니다.
+     * @return 복사본 (이미 수정할 수 없는 Todo면 자기 자신)
+     */
+    public Todo frozen() {
+        return new Frozen(this);
+    }
+
     /**
      * Todo를 문자열로 표현 (이모지 사용)
      * @return 포맷된 문자열
@@ -122,4 +150,46 @@ public class Todo {
         }
         return base;
     }
+
+    /**
+     * frozen()이 만드는 수정할 수 없는 복사본
+     */
+    private static final class Frozen extends Todo {
+        private final long revision;  // 복사할 때의 원본 수정 번호
+
+        Frozen(Todo source) {
+            super(source);
+            this.revision = source.getRevision();
+        }
+
+        @Override
+        public Todo frozen() {
+            return this;
+        }
+
+        @Override
+        public long getRevision() {
+            return revision;
+        }
+
+        @Override
+        public void setDueDate(LocalDate dueDate) {
+            throw new UnsupportedOperationException("스냅샷의 Todo는 수정할 수 없습니다");
+        }
+
+        @Override
+        public void setCompleted(boolean completed) {
+            throw new UnsupportedOperationException("스냅샷의 Todo는 수정할 수 없습니다");
+        }
+
+        @Override
+        public void setMetadataField(String key, String value) {
+            throw new UnsupportedOperationException("스냅샷의 Todo는 수정할 수 없습니다");
+        }
+
+        @Override
+        public Map<String, String> getMetadata() {
+            return Collections.unmodifiableMap(super.getMetadata());
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package todo.domain;
+
+import java.util.List;
+
+/**
+ * 저장소가 외부(다른 프로세스)에서 변경된 내용을 알려줄 때 사용하는 값 객체
+ *
+ * - 뒤에 줄이 추가되기만 한 경우: 추가된 Todo만 담습니다.
+ * - 파일이 다시 쓰인 경우: 새로 읽은 전체 목록을 담습니다.
+ */
+public final class TodoChange {
+    private final boolean reloaded;
+    private final List<Todo> todos;
+
+    private TodoChange(boolean reloaded, List<Todo> todos) {
+        this.reloaded = reloaded;
+        this.todos = todos;
+    }
+
+    /**
+     * 끝에 추가된 Todo만 있는 변경
+     * @param appended 추가된 Todo 목록
+     * @return 변경 객체
+     */
+    public static TodoChange appended(List<Todo> appended) {
+        return new TodoChange(false, appended);
+    }
+
+    /**
+     * 전체 목록이 교체된 변경
+     * @param all 새로 읽은 전체 Todo 목록
+     * @return 변경 객체
+     */
+    public static TodoChange reloaded(List<Todo> all) {
+        return new TodoChange(true, all);
+    }
+
+    /**
+     * 전체 목록이 교체되었는지 확인
+     * @return 교체되었으면 true, 추가만 되었으면 false
+     */
+    public boolean isReloaded() {
+        return reloaded;
+    }
+
+    /**
+     * 추가된 Todo 또는 교체된 전체 목록
+     * @return Todo 목록
+     */
+    public List<Todo> getTodos() {
+        return todos;
+    }
+}
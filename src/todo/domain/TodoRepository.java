@@ -1,6 +1,7 @@
 package todo.domain;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Todo 저장소 인터페이스
@@ -22,6 +23,24 @@ public interface TodoRepository {
      */
     List<Todo> load(TodoFilter filter);
     
+    /**
+     * 필터를 적용하여 Todo 목록을 로드하되, 보관된 완료 Todo를 포함할지 선택
+     * 보관된 Todo는 작업 목록 뒤에 이어 붙습니다.
+     * @param filter 적용할 필터 (ALL, COMPLETED, INCOMPLETE)
+     * @param includeArchived true이면 보관 파일의 Todo도 포함
+     * @return 필터링된 Todo 목록
+     */
+    List<Todo> load(TodoFilter filter, boolean includeArchived);
+    
+    /**
+     * 완료 Todo를 보관 파일로 옮기고 작업 목록을 나머지로 다시 저장
+     * 보관 파일에 먼저 덧붙인 뒤 작업 목록을 저장하므로, 도중에 실패해도 항목을 잃지 않습니다.
+     * @param archived 보관할 완료 Todo 목록
+     * @param remaining 작업 목록에 남길 Todo 목록
+     * @return 작업 목록 저장 성공 여부 (버전 충돌이면 false)
+     */
+    boolean archive(List<Todo> archived, List<Todo> remaining);
+    
     /**
      * 특정 인덱스의 Todo를 가져오기
      * @param index Todo의 인덱스
@@ -31,9 +50,11 @@ public interface TodoRepository {
     
     /**
      * Todo 목록을 저장소에 저장
+     * 저장소가 마지막으로 읽거나 쓴 뒤 다른 프로세스가 먼저 변경했다면 덮어쓰지 않습니다.
      * @param todos 저장할 Todo 목록
+     * @return 저장 성공 여부 (버전 충돌이면 false)
      */
-    void save(List<Todo> todos);
+    boolean save(List<Todo> todos);
     
     /**
      * 단일 Todo를 저장소에 추가
@@ -41,4 +62,34 @@ public interface TodoRepository {
      * @param todo 추가할 Todo 항목
      */
     void save(Todo todo);
+    
+    /**
+     * 여러 Todo를 저장소에 한 번에 추가
+     * 기본 구현은 하나씩 추가하며, 한 번의 쓰기로 덧붙일 수 있는 저장소는 재정의합니다.
+     * @param todos 추가할 Todo 목록 (순서대로 추가)
+     */
+    default void saveAll(List<Todo> todos) {
+        for (Todo todo : todos) {
+            save(todo);
+        }
+    }
+    
+    /**
+     * 하위 작업과 선후 관계가 가리킬 새 Todo ID 발급
+     * 한 번 발급한 ID는 그 Todo가 보관되거나 삭제된 뒤에도 다시 발급하지 않습니다.
+     * 기본 구현은 무작위 UUID를 쓰며, ID를 직접 매기는 저장소는 자기 카운터로 재정의합니다.
+     * @return 새 ID
+     */
+    default String newId() {
+        return UUID.randomUUID().toString();
+    }
+    
+    /**
+     * 마지막 전체 로드/저장 이후 외부에서 변경된 내용을 조회
+     * 변경 감지를 지원하지 않는 저장소는 항상 null을 반환합니다.
+     * @return 변경 내용, 변경이 없으면 null
+     */
+    default TodoChange pollChanges() {
+        return null;
+    }
 }
@@ -0,0 +1,141 @@
+package todo.infrastructure;
+
+import todo.domain.Todo;
+import todo.domain.TodoFilter;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * 큰 CSV를 위한 구조 문자 색인(structural index) 스캐너
+ *
+ * simdjson처럼 두 단계로 나눕니다.
+ * 1단계: 64바이트 블록마다 줄바꿈(\n, \r), 큰따옴표, 콤마 위치를 64비트 비트맵으로 만듭니다.
+ *        8바이트씩 long으로 읽어 SWAR(SIMD within a register) 비교로 바이트 8개를 한 번에 검사합니다.
+ * 2단계: 비트맵에 켜진 위치만 순서대로 방문하며 행 경계와 따옴표 밖의 첫 콤마 세 개를 찾아
+ *        TodoCsvFormat의 행 디코더에 넘깁니다.
+ * 한글처럼 구조 문자가 드문 데이터에서는 대부분의 바이트를 하나씩 보지 않고 건너뜁니다.
+ *
+ * jdk.incubator.vector는 컴파일과 실행 모두 --add-modules가 필요하므로 쓰지 않고,
+ * 어느 JVM에서나 동작하는 long 단위 SWAR로 같은 비트맵을 만듭니다.
+ * 결과는 TodoCsvFormat의 스칼라 경로와 항상 같습니다.
+ */
+final class CsvStructuralScanner {
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+    private static final long MOVEMASK = 0x0102040810204080L;
+
+    // 행 하나를 읽는 동안의 상태
+    private final byte[] data;
+    private final TodoFilter filter;
+    private final List<Todo> out;
+    private final TodoCsvDictionary dictionary;
+    private int rowStart;
+    private int commas;  // 지금 행에서 찾은 따옴표 밖 콤마 수 (최대 3)
+    private int c1;
+    private int c2;
+    private int c3;
+    private boolean quoted;
+
+    private CsvStructuralScanner(byte[] data, int from, TodoFilter filter, List<Todo> out,
+                                 TodoCsvDictionary dictionary) {
+        this.data = data;
+        this.filter = filter;
+        this.out = out;
+        this.dictionary = dictionary;
+        this.rowStart = from;
+    }
+
+    /**
+     * 구조 문자 색인을 사용하여 행을 파싱 (TodoCsvFormat.parseRows와 같은 결과)
+     */
+    static void parseRows(byte[] data, int from, int to, TodoFilter filter, List<Todo> out,
+                          TodoCsvDictionary dictionary) {
+        CsvStructuralScanner scanner = new CsvStructuralScanner(data, from, filter, out, dictionary);
+        int pos = from;
+        for (; pos + 64 <= to; pos += 64) {
+            long lines = 0;   // \n, \r
+            long fields = 0;  // ", ,
+            for (int lane = 0; lane < 8; lane++) {
+                long word = (long) LONGS.get(data, pos + lane * 8);
+                lines |= movemask(equalBytes(word, '\n') | equalBytes(word, '\r')) << (lane * 8);
+                fields |= movemask(equalBytes(word, '"') | equalBytes(word, ',')) << (lane * 8);
+            }
+            long bits = scanner.commas == 3 ? lines : lines | fields;
+            while (bits != 0) {
+                int offset = Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;  // 가장 낮은 비트 제거
+                if ((lines & (1L << offset)) != 0) {
+                    scanner.endRow(pos + offset);
+                    bits = (lines | fields) & -(2L << offset);  // 새 행은 다시 모든 구조 문자를 봄
+                } else {
+                    scanner.field(pos + offset);
+                }
+                if (scanner.commas == 3) {
+                    bits &= lines;  // 나머지는 메타데이터이므로 다음 줄바꿈으로 건너뜀
+                }
+            }
+        }
+        for (; pos < to; pos++) {  // 64바이트가 안 되는 꼬리
+            byte b = data[pos];
+            if (b == '\n' || b == '\r') {
+                scanner.endRow(pos);
+            } else if ((b == '"' || b == ',') && scanner.commas < 3) {
+                scanner.field(pos);
+            }
+        }
+        if (scanner.rowStart < to) {
+            scanner.endRow(to);  // 줄바꿈 없이 끝나는 마지막 행
+        }
+    }
+
+    /**
+     * word의 각 바이트가 target과 같으면 그 바이트의 최상위 비트를 켬 (오탐 없는 SWAR 비교)
+     */
+    private static long equalBytes(long word, char target) {
+        long x = word ^ (ONES * target);  // 같은 바이트는 0이 됨
+        return ~(((x & LOW7) + LOW7) | x | LOW7);
+    }
+
+    /**
+     * 바이트별 최상위 비트 8개를 하위 8비트로 모음
+     */
+    private static long movemask(long highBits) {
+        return ((highBits >>> 7) * MOVEMASK) >>> 56;
+    }
+
+    /**
+     * 행 안의 큰따옴표 또는 콤마 처리: 따옴표 밖의 콤마만 필드 구분자
+     */
+    private void field(int pos) {
+        if (data[pos] == '"') {
+            quoted = !quoted;
+        } else if (!quoted) {
+            if (commas == 0) {
+                c1 = pos;
+            } else if (commas == 1) {
+                c2 = pos;
+            } else {
+                c3 = pos;
+            }
+            commas++;
+        }
+    }
+
+    /**
+     * 행 하나를 디코딩하고 다음 행을 시작 (\r\n의 \n은 빈 행이 되어 건너뜀)
+     * @param end 행 끝 위치 (줄바꿈 위치 또는 데이터 끝)
+     */
+    private void endRow(int end) {
+        Todo todo = TodoCsvFormat.parseRow(data, rowStart, end,
+                commas > 0 ? c1 : end, commas > 1 ? c2 : end, commas > 2 ? c3 : end, filter, dictionary);
+        if (todo != null) {
+            out.add(todo);
+        }
+        commas = 0;
+        quoted = false;
+        rowStart = end + 1;
+    }
+}
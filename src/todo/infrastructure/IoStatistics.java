@@ -0,0 +1,29 @@
+package todo.infrastructure;
+
+/**
+ * 저장소가 누적한 입출력 통계 (계측/모니터링용)
+ *
+ * 행 데이터의 읽기/쓰기 바이트만 셉니다. 버전 스탬프 확인용 지문 읽기나 스냅샷 파일은 포함하지 않습니다.
+ * 저장소는 입출력 오류를 빈 목록이나 저장 실패(false)로 바꿔 반환하므로, 그 횟수를 따로 셉니다.
+ */
+public interface IoStatistics {
+    /**
+     * @return 지금까지 읽은 행 데이터 바이트 수
+     */
+    long getBytesRead();
+
+    /**
+     * @return 지금까지 쓴 행 데이터 바이트 수
+     */
+    long getBytesWritten();
+
+    /**
+     * @return 지금까지 파싱(또는 스냅샷에서 복원)한 Todo 수
+     */
+    long getRowsParsed();
+
+    /**
+     * @return 지금까지 빈 목록이나 저장 실패로 바꿔 반환한 입출력 오류 수
+     */
+    long getIoErrors();
+}
@@ -0,0 +1,143 @@
+package todo.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * 마감일(yyyy-MM-dd) 전용 빠른 파서/포매터
+ *
+ * 로드/저장 루프에서 행마다 LocalDate.parse와 toString을 부르면 DateTimeFormatter를 거치며
+ * 중간 객체와 문자열이 생깁니다. 이 클래스는 문자/바이트 버퍼의 구간을 직접 읽고 써서
+ * 부분 문자열을 만들지 않습니다.
+ *
+ * 마감일은 며칠에 몰려 있는 경우가 많으므로 최근 본 날짜를 작은 직접 사상(direct-mapped)
+ * 캐시에 두고 같은 LocalDate 인스턴스를 돌려줍니다. LocalDate는 불변이므로 여러 스레드가
+ * 동기화 없이 캐시를 읽고 써도 안전합니다 (경쟁 시 캐시 미스가 될 뿐입니다).
+ * 네 자리 연도가 아닌 형식은 LocalDate.parse로 넘깁니다.
+ */
+final class IsoDates {
+    private static final int CACHE_SIZE = 1024;  // 2의 거듭제곱
+    private static final LocalDate[] CACHE = new LocalDate[CACHE_SIZE];
+
+    private IsoDates() {
+    }
+
+    /**
+     * text[from, to) 구간을 날짜로 파싱
+     * @param text 원본 문자열
+     * @param from 시작 위치 (포함)
+     * @param to 끝 위치 (제외)
+     * @return 파싱된 날짜, 올바른 날짜가 아니면 null
+     */
+    static LocalDate parse(CharSequence text, int from, int to) {
+        if (to - from != 10 || text.charAt(from + 4) != '-' || text.charAt(from + 7) != '-') {
+            return parseSlow(text, from, to);
+        }
+        int year = digits(text, from, 4);
+        int month = digits(text, from + 5, 2);
+        int day = digits(text, from + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+        return of(year, month, day);
+    }
+
+    /**
+     * UTF-8(ASCII) 바이트 구간 data[from, to)를 날짜로 파싱
+     * @return 파싱된 날짜, 올바른 날짜가 아니면 null
+     */
+    static LocalDate parse(byte[] data, int from, int to) {
+        if (to - from != 10 || data[from + 4] != '-' || data[from + 7] != '-') {
+            return parseSlow(new String(data, from, to - from, StandardCharsets.UTF_8), 0, to - from);
+        }
+        int year = digits(data, from, 4);
+        int month = digits(data, from + 5, 2);
+        int day = digits(data, from + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+        return of(year, month, day);
+    }
+
+    /**
+     * 연/월/일에 해당하는 날짜를 캐시에서 찾거나 새로 만듦
+     * @return 날짜, 존재하지 않는 날짜면 null
+     */
+    static LocalDate of(int year, int month, int day) {
+        int slot = (year * 372 + month * 31 + day) & (CACHE_SIZE - 1);
+        LocalDate cached = CACHE[slot];
+        if (cached != null && cached.getDayOfMonth() == day
+                && cached.getMonthValue() == month && cached.getYear() == year) {
+            return cached;
+        }
+        try {
+            LocalDate date = LocalDate.of(year, month, day);
+            CACHE[slot] = date;
+            return date;
+        } catch (DateTimeException e) {
+            return null;  // 2월 30일 같은 존재하지 않는 날짜
+        }
+    }
+
+    /**
+     * 날짜를 yyyy-MM-dd 형식으로 덧붙임 (LocalDate.toString과 같은 결과)
+     * @param sb 출력 버퍼
+     * @param date 날짜
+     */
+    static void append(StringBuilder sb, LocalDate date) {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            sb.append(date);  // 부호가 붙는 연도는 표준 형식 사용
+            return;
+        }
+        sb.append((char) ('0' + year / 1000))
+                .append((char) ('0' + year / 100 % 10))
+                .append((char) ('0' + year / 10 % 10))
+                .append((char) ('0' + year % 10))
+                .append('-');
+        appendTwoDigits(sb, date.getMonthValue());
+        sb.append('-');
+        appendTwoDigits(sb, date.getDayOfMonth());
+    }
+
+    private static void appendTwoDigits(StringBuilder sb, int value) {
+        sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    /**
+     * 숫자 count개를 정수로 읽음
+     * @return 값, 숫자가 아닌 문자가 있으면 -1
+     */
+    private static int digits(CharSequence text, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int d = text.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    private static int digits(byte[] data, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int d = data[i] - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    private static LocalDate parseSlow(CharSequence text, int from, int to) {
+        try {
+            return LocalDate.parse(text.subSequence(from, to));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package todo.infrastructure;
+
+import todo.application.Reminder;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 알림마다 로컬 명령을 실행하는 알림 리스너 (예: notify-send, 메신저 전송 스크립트)
+ *
+ * 명령 뒤에 종류(DUE/OVERDUE), 마감일, 제목을 인자로 붙이고 같은 값을 환경 변수
+ * TODO_REMINDER_KIND, TODO_DUE_DATE, TODO_TITLE로도 넘깁니다.
+ * 명령은 가상 스레드에서 실행하므로 알림 스케줄러를 막지 않으며, 제한 시간을 넘기면 강제로 끝냅니다.
+ * 실행 실패나 0이 아닌 종료 코드는 실패 수만 셉니다.
+ */
+public class ReminderHook implements Consumer<Reminder> {
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private final List<String> command;
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * @param command 실행할 명령 (공백으로 인자를 구분)
+     */
+    public ReminderHook(String command) {
+        this.command = Arrays.asList(command.trim().split("\\s+"));
+    }
+
+    @Override
+    public void accept(Reminder reminder) {
+        Thread.ofVirtual().name("todo-reminder-hook").start(() -> run(reminder));
+    }
+
+    /**
+     * @return 실행하지 못했거나 실패로 끝난 횟수
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    private void run(Reminder reminder) {
+        String due = String.valueOf(reminder.getTodo().getDueDate());
+        String title = reminder.getTodo().getTitle();
+        List<String> args = new ArrayList<>(command);
+        args.add(reminder.getKind().name());
+        args.add(due);
+        args.add(title);
+        ProcessBuilder builder = new ProcessBuilder(args)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)  // UI 화면에 섞이지 않도록
+                .redirectError(ProcessBuilder.Redirect.DISCARD);
+        Map<String, String> env = builder.environment();
+        env.put("TODO_REMINDER_KIND", reminder.getKind().name());
+        env.put("TODO_DUE_DATE", due);
+        env.put("TODO_TITLE", title);
+        try {
+            Process process = builder.start();
+            if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                failures.increment();
+            } else if (process.exitValue() != 0) {
+                failures.increment();
+            }
+        } catch (IOException e) {
+            failures.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package todo.infrastructure;
+
+import todo.application.TodoListSnapshot;
+import todo.application.TodoOrder;
+import todo.application.TodoOutline;
+import todo.application.TodoPage;
+import todo.application.TodoService;
+import todo.application.TodoStats;
+import todo.domain.Todo;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버 모드로 실행 중인 TodoServer에 접속하는 얇은 TodoService 구현체
+ *
+ * 모든 호출은 소켓 요청 한 번으로 전달되므로 BasicTodoUI/FancyTodoUI가
+ * 그대로 원격 저장소에 붙을 수 있습니다.
+ * 반환되는 Todo는 서버 상태의 복사본입니다.
+ * 스냅샷은 서버의 목록 버전이 바뀌었을 때만 다시 받아옵니다.
+ */
+public class RemoteTodoService implements TodoService, Closeable {
+    private final Socket socket;
+    private final BufferedReader in;
+    private final BufferedWriter out;
+    private TodoListSnapshot cached;  // 마지막으로 받은 스냅샷 (call과 같은 모니터로 보호)
+
+    /**
+     * localhost의 서버에 접속
+     * @param port 서버 포트
+     * @throws IOException 접속 실패 시
+     */
+    public RemoteTodoService(int port) throws IOException {
+        this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        this.socket.setTcpNoDelay(true);
+        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void addTodo(String title, String description, LocalDate dueDate) {
+        call(TodoProtocol.ADD, title, description, dueDate == null ? "" : dueDate.toString());
+    }
+
+    @Override
+    public List<Todo> getAllTodos() {
+        return callList(TodoProtocol.ALL);
+    }
+
+    /**
+     * 서버의 목록 버전을 먼저 확인하고, 바뀐 경우에만 전체 목록을 받아옴
+     */
+    @Override
+    public synchronized TodoListSnapshot getSnapshot() {
+        long version = Long.parseLong(call(TodoProtocol.VERSION));
+        if (cached != null && cached.getVersion() == version) {
+            return cached;
+        }
+        try {
+            send(TodoProtocol.SNAPSHOT);
+            String[] header = TodoProtocol.split(readValue());
+            int count = Integer.parseInt(header[1]);
+            List<Todo> todos = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                todos.add(TodoProtocol.decodeTodo(in.readLine()));
+            }
+            cached = TodoListSnapshot.of(Long.parseLong(header[0]), todos);
+            return cached;
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버 통신 실패", e);
+        }
+    }
+
+    /**
+     * 서버가 정렬한 페이지만 받아옴 (각 줄 앞에 원래 인덱스가 붙음)
+     */
+    @Override
+    public synchronized TodoPage getSortedTodos(TodoOrder order, int offset, int limit) {
+        try {
+            send(TodoProtocol.SORTED, order.name(), String.valueOf(offset), String.valueOf(limit));
+            return readPage(order, Math.max(0, offset));
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버 통신 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized TodoPage getAgenda(int limit) {
+        try {
+            send(TodoProtocol.AGENDA, String.valueOf(limit));
+            return readPage(TodoOrder.DUE_DATE, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버 통신 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized boolean addSubtask(int parentIndex, Todo subtask) {
+        try {
+            send(TodoProtocol.ADD_SUBTASK, String.valueOf(parentIndex), TodoProtocol.encodeTodo(subtask));
+            return Boolean.parseBoolean(readValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버 통신 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized boolean addDependency(int blockerIndex, int blockedIndex) {
+        try {
+            send(TodoProtocol.DEPEND, String.valueOf(blockerIndex), String.valueOf(blockedIndex));
+            return Boolean.parseBoolean(readValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버 통신 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized TodoPage getReady(int limit) {
+        try {
+            send(TodoProtocol.READY, String.valueOf(limit));
+            return readPage(TodoOrder.TOPOLOGICAL, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버 통신 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized TodoOutline getOutline() {
+        try {
+            send(TodoProtocol.OUTLINE);
+            int count = Integer.parseInt(readValue());
+            int[] indices = new int[count];
+            int[] depths = new int[count];
+            int[] done = new int[count];
+            int[] totals = new int[count];
+            List<Todo> todos = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String line = in.readLine();
+                int start = 0;
+                int[] fields = new int[4];
+                for (int f = 0; f < fields.length; f++) {
+                    int tab = line.indexOf('\t', start);
+                    fields[f] = Integer.parseInt(line.substring(start, tab));
+                    start = tab + 1;
+                }
+                indices[i] = fields[0];
+                depths[i] = fields[1];
+                done[i] = fields[2];
+                totals[i] = fields[3];
+                todos.add(TodoProtocol.decodeTodo(line.substring(start)));
+            }
+            return new TodoOutline(indices, depths, done, totals, todos);
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버 통신 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized TodoPage getOccurrences(LocalDate from, LocalDate to, int limit) {
+        try {
+            send(TodoProtocol.OCCURRENCES, from.toString(), to.toString(), String.valueOf(limit));
+            return readPage(TodoOrder.DUE_DATE, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버 통신 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized TodoStats getStats() {
+        try {
+            send(TodoProtocol.STATS);
+            String[] header = TodoProtocol.split(readValue());
+            String[] series = header[5].split(",");
+            int[] completedPerDay = new int[series.length];
+            for (int i = 0; i < series.length; i++) {
+                completedPerDay[i] = Integer.parseInt(series[i]);
+            }
+            Map<String, Map<String, TodoStats.Count>> groups = new LinkedHashMap<>();
+            int lines = Integer.parseInt(header[6]);
+            for (int i = 0; i < lines; i++) {
+                String[] f = TodoProtocol.split(in.readLine());
+                groups.computeIfAbsent(f[0], key -> new LinkedHashMap<>())
+                        .put(f[1], new TodoStats.Count(Integer.parseInt(f[2]), Integer.parseInt(f[3])));
+            }
+            return new TodoStats(LocalDate.parse(header[0]), Integer.parseInt(header[1]), Integer.parseInt(header[2]),
+                    Integer.parseInt(header[3]), Integer.parseInt(header[4]), completedPerDay, groups);
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버 통신 실패", e);
+        }
+    }
+
+    @Override
+    public List<Todo> getCompletedTodos() {
+        return callList(TodoProtocol.COMPLETED);
+    }
+
+    @Override
+    public List<Todo> getCompletedTodos(boolean includeArchived) {
+        return callList(includeArchived ? TodoProtocol.COMPLETED_WITH_ARCHIVE : TodoProtocol.COMPLETED);
+    }
+
+    @Override
+    public List<Todo> getIncompleteTodos() {
+        return callList(TodoProtocol.INCOMPLETE);
+    }
+
+    @Override
+    public boolean toggleTodo(int index) {
+        return Boolean.parseBoolean(call(TodoProtocol.TOGGLE, String.valueOf(index)));
+    }
+
+    @Override
+    public boolean deleteTodo(int index) {
+        return Boolean.parseBoolean(call(TodoProtocol.DELETE, String.valueOf(index)));
+    }
+
+    @Override
+    public int addAll(List<Todo> todos) {
+        String[] lines = new String[todos.size()];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = TodoProtocol.encodeTodo(todos.get(i));
+        }
+        return Integer.parseInt(call(TodoProtocol.ADD_ALL, lines));
+    }
+
+    @Override
+    public int toggleAll(Collection<Integer> indices) {
+        return Integer.parseInt(call(TodoProtocol.TOGGLE_ALL, toArgs(indices)));
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> indices) {
+        return Integer.parseInt(call(TodoProtocol.DELETE_ALL, toArgs(indices)));
+    }
+
+    @Override
+    public int completeAll() {
+        return Integer.parseInt(call(TodoProtocol.COMPLETE_ALL));
+    }
+
+    @Override
+    public int deleteCompleted() {
+        return Integer.parseInt(call(TodoProtocol.DELETE_COMPLETED));
+    }
+
+    @Override
+    public int getTodoCount() {
+        return Integer.parseInt(call(TodoProtocol.COUNT));
+    }
+
+    @Override
+    public Todo getTodoAt(int index) {
+        String payload = call(TodoProtocol.GET, String.valueOf(index));
+        return payload.isEmpty() ? null : TodoProtocol.decodeTodo(payload);
+    }
+
+    /**
+     * 요청 하나를 보내고 "OK" 응답의 값을 반환
+     * 한 연결의 요청/응답 순서를 지키기 위해 동기화합니다.
+     */
+    private synchronized String call(String command, String... args) {
+        try {
+            send(command, args);
+            return readValue();
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버 통신 실패", e);
+        }
+    }
+
+    private synchronized List<Todo> callList(String command) {
+        try {
+            send(command);
+            int count = Integer.parseInt(readValue());
+            List<Todo> todos = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                todos.add(TodoProtocol.decodeTodo(in.readLine()));
+            }
+            return todos;
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버 통신 실패", e);
+        }
+    }
+
+    private static String[] toArgs(Collection<Integer> indices) {
+        return indices.stream().map(String::valueOf).toArray(String[]::new);
+    }
+
+    private void send(String command, String... args) throws IOException {
+        out.write(TodoProtocol.request(command, args));
+        out.write('\n');
+        out.flush();
+    }
+
+    /**
+     * "OK\t전체개수\t개수" 응답과 이어지는 "인덱스\tTodo 줄"들을 읽음
+     */
+    private TodoPage readPage(TodoOrder order, int offset) throws IOException {
+        String[] header = TodoProtocol.split(readValue());
+        int count = Integer.parseInt(header[1]);
+        int[] indices = new int[count];
+        List<Todo> todos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String line = in.readLine();
+            int tab = line.indexOf('\t');
+            indices[i] = Integer.parseInt(line.substring(0, tab));
+            todos.add(TodoProtocol.decodeTodo(line.substring(tab + 1)));
+        }
+        return new TodoPage(order, offset, Integer.parseInt(header[0]), indices, todos);
+    }
+
+    private String readValue() throws IOException {
+        String line = in.readLine();
+        if (line == null) {
+            throw new EOFException("서버가 연결을 종료했습니다");
+        }
+        int tab = line.indexOf('\t');
+        String status = tab < 0 ? line : line.substring(0, tab);
+        String value = tab < 0 ? "" : line.substring(tab + 1);
+        if (!TodoProtocol.OK.equals(status)) {
+            throw new IllegalStateException("서버 오류: " + TodoProtocol.split(value)[0]);
+        }
+        return value;
+    }
+
+    /**
+     * 서버에 종료를 알리고 연결을 닫음
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            out.write(TodoProtocol.QUIT);
+            out.write('\n');
+            out.flush();
+        } finally {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package todo.infrastructure;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로더가 만든 짧은 문자열을 공유하기 위한 크기 제한 풀
+ *
+ * 메타데이터 키(owner, priority, tag...)와 자주 반복되는 값은 줄마다 새 String으로
+ * 파싱되므로 같은 내용의 인스턴스를 하나로 모읍니다.
+ * String.intern()과 달리 크기가 제한되어 있어 고유한 값이 많아도 풀이 무한히 커지지 않습니다.
+ * 풀이 가득 차면 새 문자열은 그대로 반환합니다. 여러 로더 스레드가 동시에 사용할 수 있습니다.
+ */
+final class StringPool {
+    private final ConcurrentHashMap<String, String> pool = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final int maxLength;
+
+    /**
+     * 풀 생성
+     * @param capacity 보관할 최대 문자열 수
+     * @param maxLength 이보다 긴 문자열은 반복될 가능성이 낮으므로 풀에 넣지 않음
+     */
+    StringPool(int capacity, int maxLength) {
+        this.capacity = capacity;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 같은 내용의 공유 인스턴스를 반환
+     * @param text 원본 문자열 (null 허용)
+     * @return 풀에 있던 인스턴스, 없으면 원본
+     */
+    String intern(String text) {
+        if (text == null || text.length() > maxLength) {
+            return text;
+        }
+        String existing = pool.get(text);
+        if (existing != null) {
+            return existing;
+        }
+        if (pool.size() >= capacity) {
+            return text;
+        }
+        existing = pool.putIfAbsent(text, text);
+        return existing != null ? existing : text;
+    }
+}
@@ -0,0 +1,86 @@
+package todo.infrastructure;
+
+import todo.domain.Todo;
+import todo.domain.TodoFilter;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관(archive)된 완료 Todo를 담는 압축 파일
+ *
+ * 거의 다시 보지 않는 오래된 완료 항목을 작업 목록(hot) 파일에서 빼내
+ * 덧붙이기 전용 gzip 파일에 보관합니다. 보관할 때마다 CSV 줄을 새 gzip 멤버로
+ * 파일 끝에 덧붙이며, GZIPInputStream은 이어 붙은 멤버를 하나의 스트림으로 읽습니다.
+ * 기존 내용은 다시 쓰지 않으므로 보관 비용은 보관하는 항목 수에만 비례합니다.
+ */
+class TodoArchive {
+    private final Path path;
+
+    /**
+     * 보관 파일 생성
+     * @param path gzip 파일 경로
+     */
+    TodoArchive(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Todo들을 새 gzip 멤버로 파일 끝에 덧붙임
+     * @param todos 보관할 Todo 목록
+     * @throws IOException 쓰기 실패 시
+     */
+    void append(List<Todo> todos) throws IOException {
+        if (todos.isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (Todo todo : todos) {
+                writer.write(TodoCsvFormat.formatLine(todo));
+                writer.write('\n');
+            }
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.lock();  // 채널을 닫을 때 함께 풀림
+            channel.write(ByteBuffer.wrap(bytes.toByteArray()));
+        }
+    }
+
+    /**
+     * 보관된 Todo를 필터에 맞게 읽음
+     * @param filter 적용할 필터
+     * @return 보관된 Todo 목록, 파일이 없으면 빈 목록
+     * @throws IOException 읽기 실패 시
+     */
+    List<Todo> load(TodoFilter filter) throws IOException {
+        List<Todo> todos = new ArrayList<>();
+        if (filter == TodoFilter.INCOMPLETE || !Files.exists(path)) {
+            return todos;  // 보관 대상은 모두 완료 항목
+        }
+        // 락을 잡은 동안에는 압축된 바이트만 읽고, 압축 해제와 파싱은 락을 놓은 뒤에 함
+        ByteBuffer compressed;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.lock(0, Long.MAX_VALUE, true);  // 채널을 닫을 때 함께 풀림
+            compressed = ByteBuffer.allocate((int) channel.size());
+            while (compressed.hasRemaining() && channel.read(compressed) >= 0) {
+                // 끝까지 읽음
+            }
+        }
+        try (InputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(compressed.array(), 0, compressed.position()))) {
+            byte[] data = in.readAllBytes();
+            TodoCsvFormat.parseRows(data, 0, data.length, filter, todos, null);
+        }
+        return todos;
+    }
+}
@@ -0,0 +1,175 @@
+package todo.infrastructure;
+
+import todo.domain.Todo;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * todos.csv 사전(dictionary) 모드에서 반복되는 메타데이터 문자열을 코드로 바꾸는 사전
+ *
+ * 사전 항목은 처음 쓰이는 행 바로 앞에 "#d,코드,문자열" 줄로 한 번만 기록되고,
+ * 이후 메타데이터에서는 "@코드"로 참조합니다. 정의가 항상 사용보다 앞에 있으므로
+ * 전체 로드와 꼬리 증분 파싱 모두 파일을 앞에서부터 읽으며 사전을 복원할 수 있습니다.
+ * '@'로 시작하는 실제 문자열은 "@@"로 이스케이프됩니다.
+ *
+ * 메타데이터 키는 항상 사전에 넣고, 값은 전체 저장 시 두 번 이상 나오는 짧은 값만 넣습니다.
+ */
+final class TodoCsvDictionary {
+    static final String DEFINITION_PREFIX = "#d,";
+    private static final int MAX_VALUE_LENGTH = 32;
+
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+    private Set<String> repeatedValues = new HashSet<>();
+
+    TodoCsvDictionary() {
+    }
+
+    /**
+     * 코드 순서대로 정의된 문자열로 사전을 복원 (스냅샷에서 시작할 때 사용)
+     * @param entries 코드 0부터의 문자열
+     */
+    TodoCsvDictionary(List<String> entries) {
+        for (String text : entries) {
+            codes.put(text, strings.size());
+            strings.add(text);
+        }
+    }
+
+    /**
+     * 코드 순서대로 정의된 문자열
+     */
+    List<String> entries() {
+        return new ArrayList<>(strings);
+    }
+
+    /**
+     * 기존 항목을 복사한 사전 (쓰기가 실패해도 원본이 파일과 어긋나지 않도록 사용)
+     */
+    TodoCsvDictionary copy() {
+        TodoCsvDictionary copy = new TodoCsvDictionary();
+        copy.strings.addAll(strings);
+        copy.codes.putAll(codes);
+        return copy;
+    }
+
+    /**
+     * 전체 저장 전에 여러 번 나오는 짧은 값을 찾아 사전에 넣을 후보로 정함
+     * @param todos 저장할 Todo 목록
+     */
+    void planValues(List<Todo> todos) {
+        Set<String> seen = new HashSet<>();
+        repeatedValues = new HashSet<>();
+        for (Todo todo : todos) {
+            for (String value : todo.getMetadata().values()) {
+                if (value.length() <= MAX_VALUE_LENGTH && !seen.add(value)) {
+                    repeatedValues.add(value);
+                }
+            }
+        }
+    }
+
+    /**
+     * 사전 정의 줄이면 항목을 추가
+     * @param line CSV 줄
+     * @return 사전 정의 줄이었으면 true (Todo 행으로 파싱하지 않음)
+     */
+    boolean readDefinition(String line) {
+        if (!line.startsWith(DEFINITION_PREFIX)) {
+            return false;
+        }
+        int comma = line.indexOf(',', DEFINITION_PREFIX.length());
+        if (comma > 0) {
+            try {
+                int code = Integer.parseInt(line.substring(DEFINITION_PREFIX.length(), comma));
+                if (code == strings.size()) {  // 코드는 0부터 차례로 정의됨
+                    String text = TodoCsvFormat.intern(line.substring(comma + 1));
+                    strings.add(text);
+                    codes.put(text, code);
+                }
+            } catch (NumberFormatException ignored) {
+                // 잘못된 정의 줄은 무시
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 메타데이터 토큰을 원래 문자열로 복원
+     * @param token 파일에 기록된 토큰
+     * @return 복원된 문자열 (알 수 없는 코드는 그대로)
+     */
+    String decode(String token) {
+        if (token.isEmpty() || token.charAt(0) != '@') {
+            return token;
+        }
+        if (token.startsWith("@@")) {
+            return token.substring(1);
+        }
+        try {
+            int code = Integer.parseInt(token.substring(1));
+            if (code >= 0 && code < strings.size()) {
+                return strings.get(code);
+            }
+        } catch (NumberFormatException ignored) {
+            // 코드가 아니면 원래 문자열
+        }
+        return token;
+    }
+
+    /**
+     * UTF-8 바이트 구간의 토큰을 원래 문자열로 복원
+     * 코드("@숫자")는 문자열을 만들지 않고 사전에서 바로 찾습니다.
+     * @return 복원된 문자열 (코드가 아니면 공유 풀을 거친 문자열)
+     */
+    String decode(byte[] data, int from, int to) {
+        if (to - from > 1 && data[from] == '@' && data[from + 1] != '@') {
+            int code = 0;
+            int i = from + 1;
+            for (; i < to && i - from <= 9; i++) {
+                int d = data[i] - '0';
+                if (d < 0 || d > 9) {
+                    break;
+                }
+                code = code * 10 + d;
+            }
+            if (i == to && code < strings.size()) {
+                return strings.get(code);
+            }
+        }
+        return TodoCsvFormat.intern(decode(new String(data, from, to - from, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 메타데이터 키를 코드로 변환 (처음 쓰는 키는 정의 줄을 out에 추가)
+     */
+    String encodeKey(String key, StringBuilder out, boolean define) {
+        return encode(key, define, out);
+    }
+
+    /**
+     * 메타데이터 값을 코드로 변환 (반복되는 값만 새로 정의)
+     */
+    String encodeValue(String value, StringBuilder out, boolean define) {
+        return encode(value, define && repeatedValues.contains(value), out);
+    }
+
+    private String encode(String text, boolean define, StringBuilder out) {
+        Integer code = codes.get(text);
+        if (code == null && define && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            code = strings.size();
+            strings.add(text);
+            codes.put(text, code);
+            out.append(DEFINITION_PREFIX).append(code).append(',').append(text).append(System.lineSeparator());
+        }
+        if (code != null) {
+            return "@" + code;
+        }
+        return text.startsWith("@") ? "@" + text : text;
+    }
+}
@@ -0,0 +1,297 @@
+package todo.infrastructure;
+
+import todo.domain.Todo;
+import todo.domain.TodoFilter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * todos.csv 한 줄과 Todo 사이의 변환을 담당하는 클래스
+ *
+ * 전체 로드와 꼬리(tail) 증분 파싱이 같은 규칙을 쓰도록 한 곳에 모았습니다.
+ * CSV 형식: "제목","설명",완료여부,메타데이터
+ * 파일 인코딩은 플랫폼 기본값과 관계없이 항상 UTF-8입니다.
+ */
+final class TodoCsvFormat {
+    // 모든 로더가 공유하는 메타데이터 키/값 풀
+    private static final StringPool POOL = new StringPool(4096, 32);
+    // 이보다 큰 구간은 구조 문자 색인(CsvStructuralScanner)으로 파싱
+    private static final int STRUCTURAL_THRESHOLD = 64 * 1024;
+    // true로 설정하면 항상 바이트 단위 스칼라 경로를 사용 (비교 측정용)
+    static final String SCALAR_PROPERTY = "todo.csv.scalar";
+
+    private TodoCsvFormat() {
+    }
+
+    /**
+     * 로더가 공유하는 풀에서 같은 내용의 문자열 인스턴스를 반환
+     */
+    static String intern(String text) {
+        return POOL.intern(text);
+    }
+
+    /**
+     * CSV 한 줄을 Todo로 변환
+     * @param line CSV 줄
+     * @return 변환된 Todo, 빈 줄이거나 필드가 부족하면 null
+     */
+    static Todo parseLine(String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        List<Todo> todos = new ArrayList<>(1);
+        parseRows(bytes, 0, bytes.length, TodoFilter.ALL, todos, null);
+        return todos.isEmpty() ? null : todos.get(0);
+    }
+
+    /**
+     * UTF-8 바이트 구간을 줄 단위로 파싱하여 필터에 맞는 Todo를 추가
+     *
+     * 구분자(콤마, 큰따옴표, 세미콜론, 등호, 줄바꿈)는 모두 ASCII이고 UTF-8의 멀티바이트 문자는
+     * ASCII 범위의 바이트를 포함하지 않으므로, 문자로 디코딩하지 않고 바이트에서 바로 찾습니다.
+     * 완료 여부를 바이트 비교로 먼저 확인하여 필터에 맞지 않는 행은 문자열을 하나도 만들지 않고,
+     * 실제로 Todo에 담는 필드만 디코딩합니다.
+     * @param data UTF-8 바이트
+     * @param from 시작 위치 (포함)
+     * @param to 끝 위치 (제외)
+     * @param filter 적용할 필터
+     * @param out 결과를 추가할 목록
+     * @param dictionary 사전 정의 줄을 쌓고 코드를 해석할 사전 (null이면 해석하지 않음)
+     */
+    static void parseRows(byte[] data, int from, int to, TodoFilter filter, List<Todo> out,
+                          TodoCsvDictionary dictionary) {
+        if (to - from >= STRUCTURAL_THRESHOLD && !Boolean.getBoolean(SCALAR_PROPERTY)) {
+            CsvStructuralScanner.parseRows(data, from, to, filter, out, dictionary);
+            return;
+        }
+        int pos = from;
+        while (pos < to) {
+            int end = pos;
+            while (end < to && data[end] != '\n' && data[end] != '\r') {
+                end++;
+            }
+            Todo todo = parseRow(data, pos, end, filter, dictionary);
+            if (todo != null) {
+                out.add(todo);
+            }
+            pos = end + 1;
+            if (end < to && data[end] == '\r' && pos < to && data[pos] == '\n') {
+                pos++;  // \r\n
+            }
+        }
+    }
+
+    private static Todo parseRow(byte[] data, int from, int to, TodoFilter filter, TodoCsvDictionary dictionary) {
+        // 큰따옴표 밖의 콤마로 분리: 제목, 설명, 완료여부, 메타데이터(나머지 전체)
+        int c1 = nextDelimiter(data, from, to);
+        int c2 = c1 < to ? nextDelimiter(data, c1 + 1, to) : to;
+        int c3 = c2 < to ? nextDelimiter(data, c2 + 1, to) : to;
+        return parseRow(data, from, to, c1, c2, c3, filter, dictionary);
+    }
+
+    /**
+     * 구분 콤마 위치를 이미 아는 행을 Todo로 변환
+     * @param c1 첫 번째 구분 콤마 위치 (없으면 to)
+     * @param c2 두 번째 구분 콤마 위치 (없으면 to)
+     * @param c3 세 번째 구분 콤마 위치 (없으면 to)
+     * @return 변환된 Todo, 빈 줄, '#' 줄이거나 필드가 부족하거나 필터에 맞지 않으면 null
+     */
+    static Todo parseRow(byte[] data, int from, int to, int c1, int c2, int c3,
+                         TodoFilter filter, TodoCsvDictionary dictionary) {
+        if (isBlank(data, from, to)) return null;
+        if (data[from] == '#') {
+            if (dictionary != null) {
+                dictionary.readDefinition(new String(data, from, to - from, StandardCharsets.UTF_8));
+            }
+            return null;
+        }
+        if (c2 >= to) return null;  // 필드가 3개 미만
+        boolean completed = isTrue(data, c2 + 1, c3);
+        if ((filter == TodoFilter.COMPLETED && !completed) || (filter == TodoFilter.INCOMPLETE && completed)) {
+            return null;
+        }
+        Todo todo = new Todo(unquote(data, from, c1), unquote(data, c1 + 1, c2), null, null);
+        todo.setCompleted(completed);
+        if (c3 < to) {
+            parseMetadata(todo, data, c3 + 1, to, dictionary);
+        }
+        return todo;
+    }
+
+    /**
+     * 메타데이터 구간(키=값;키=값...)을 파싱하여 Todo에 담음 (마감일 포함)
+     */
+    private static void parseMetadata(Todo todo, byte[] data, int from, int to, TodoCsvDictionary dictionary) {
+        int pos = from;
+        while (pos < to) {
+            int end = indexOf(data, (byte) ';', pos, to);
+            int eq = indexOf(data, (byte) '=', pos, end);
+            if (eq < end) {
+                if (eq - pos == 3 && data[pos] == 'd' && data[pos + 1] == 'u' && data[pos + 2] == 'e') {
+                    LocalDate parsed = IsoDates.parse(data, eq + 1, end);  // 마감일 파싱
+                    if (parsed != null) todo.setDueDate(parsed);
+                } else {
+                    // 중간 맵 없이 바로 담고, 반복되는 키/값은 공유 인스턴스로 교체
+                    todo.setMetadataField(token(data, pos, eq, dictionary), token(data, eq + 1, end, dictionary));
+                }
+            }
+            pos = end + 1;
+        }
+    }
+
+    private static String token(byte[] data, int from, int to, TodoCsvDictionary dictionary) {
+        if (dictionary != null) {
+            return dictionary.decode(data, from, to);
+        }
+        return POOL.intern(new String(data, from, to - from, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 큰따옴표 밖의 다음 콤마 위치
+     * @return 콤마 위치, 없으면 to
+     */
+    private static int nextDelimiter(byte[] data, int from, int to) {
+        boolean quoted = false;
+        for (int i = from; i < to; i++) {
+            byte b = data[i];
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == ',' && !quoted) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private static int indexOf(byte[] data, byte target, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data[i] == target) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private static boolean isBlank(byte[] data, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if ((data[i] & 0xFF) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Boolean.parseBoolean과 같은 규칙 (대소문자 무시 "true")을 바이트로 확인
+     */
+    private static boolean isTrue(byte[] data, int from, int to) {
+        return to - from == 4
+                && (data[from] | 0x20) == 't' && (data[from + 1] | 0x20) == 'r'
+                && (data[from + 2] | 0x20) == 'u' && (data[from + 3] | 0x20) == 'e';
+    }
+
+    /**
+     * Todo를 CSV 한 줄로 변환 (줄바꿈 제외)
+     * @param todo 변환할 Todo
+     * @return CSV 줄
+     */
+    static String formatLine(Todo todo) {
+        StringBuilder sb = new StringBuilder();
+        appendRow(sb, todo, null, null, false);
+        return sb.toString();
+    }
+
+    /**
+     * Todo를 CSV 행으로 out에 추가 (줄바꿈 포함)
+     * 저장 루프에서 행마다 중간 문자열을 만들지 않도록 버퍼에 바로 씁니다.
+     * @param out 출력 버퍼
+     * @param todo 변환할 Todo
+     */
+    static void appendLine(StringBuilder out, Todo todo) {
+        appendRow(out, todo, null, null, false);
+        out.append(System.lineSeparator());
+    }
+
+    /**
+     * Todo를 사전 모드의 CSV 행으로 out에 추가 (필요한 사전 정의 줄과 줄바꿈 포함)
+     * @param out 출력 버퍼
+     * @param todo 변환할 Todo
+     * @param dictionary 메타데이터 코드 사전
+     * @param define false이면 새 항목을 정의하지 않고 기존 코드와 이스케이프만 사용
+     */
+    static void appendLine(StringBuilder out, Todo todo, TodoCsvDictionary dictionary, boolean define) {
+        StringBuilder row = new StringBuilder();
+        appendRow(row, todo, dictionary, out, define);  // 정의 줄은 out에 먼저 쓰임
+        out.append(row).append(System.lineSeparator());
+    }
+
+    private static void appendRow(StringBuilder out, Todo todo, TodoCsvDictionary dictionary,
+                                  StringBuilder definitions, boolean define) {
+        appendQuoted(out, todo.getTitle());
+        out.append(',');
+        appendQuoted(out, todo.getDescription());
+        out.append(',').append(todo.isCompleted());
+        // 메타데이터 (마감일 포함)
+        boolean first = true;
+        if (todo.getDueDate() != null) {
+            out.append(",due=");
+            IsoDates.append(out, todo.getDueDate());  // 마감일 추가
+            first = false;
+        }
+        for (Map.Entry<String, String> e : todo.getMetadata().entrySet()) {
+            out.append(first ? ',' : ';');
+            first = false;
+            if (dictionary == null) {
+                out.append(e.getKey()).append('=').append(e.getValue());
+            } else {
+                out.append(dictionary.encodeKey(e.getKey(), definitions, define)).append('=')
+                        .append(dictionary.encodeValue(e.getValue(), definitions, define));
+            }
+        }
+    }
+
+    /**
+     * 문자열을 CSV용 큰따옴표로 감싸 덧붙이기
+     * @param out 출력 버퍼
+     * @param text 원본 문자열
+     */
+    private static void appendQuoted(StringBuilder out, String text) {
+        out.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') out.append('"');  // 큰따옴표 이스케이프
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    /**
+     * CSV용 큰따옴표를 제거하고 원본 문자열로 디코딩
+     * @param data UTF-8 바이트
+     * @param from 필드 시작 위치
+     * @param to 필드 끝 위치
+     * @return 원본 문자열
+     */
+    private static String unquote(byte[] data, int from, int to) {
+        if (to - from < 2 || data[from] != '"' || data[to - 1] != '"') {
+            return new String(data, from, to - from, StandardCharsets.UTF_8);
+        }
+        from++;
+        to--;
+        int quote = indexOf(data, (byte) '"', from, to);
+        if (quote == to) {
+            return new String(data, from, to - from, StandardCharsets.UTF_8);
+        }
+        // 이스케이프된 큰따옴표("")가 있을 때만 복사하며 복원
+        byte[] buf = new byte[to - from];
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            buf[n++] = data[i];
+            if (data[i] == '"' && i + 1 < to && data[i + 1] == '"') {
+                i++;
+            }
+        }
+        return new String(buf, 0, n, StandardCharsets.UTF_8);
+    }
+}
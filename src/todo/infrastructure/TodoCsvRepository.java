@@ -1,23 +1,115 @@
 package todo.infrastructure;
 import todo.domain.*;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
 
 /**
  * CSV 파일을 사용하여 Todo를 저장하고 로드하는 저장소 구현체
- * 
+ *
  * TodoRepository 인터페이스를 구현하여 파일 기반의 영속성을 제공합니다.
  * CSV 형식: "제목","설명",완료여부,메타데이터
+ *
+ * 전체 로드/저장 시점의 파일 길이, 수정 시각, 첫 블록/끝 블록 지문(버전 스탬프)과 그 길이까지의 전체 CRC32를
+ * 기억해 두었다가 pollChanges()에서 외부 변경을 감지합니다. 파일이 늘었고 기억해 둔 길이 위치의 지문이
+ * 그대로라면(앞부분은 그대로이고 뒤에 줄이 추가되기만 함) 기억해 둔 위치부터의 꼬리 바이트만 파싱하고
+ * 전체 CRC는 꼬리만큼 이어서 계산하며, 그렇지 않으면 전체를 다시 읽습니다.
+ *
+ * 여러 프로세스가 같은 파일을 쓰는 경우를 위해 모든 파일 접근은 FileChannel.lock으로 보호합니다.
+ * 전체 다시 쓰기만 파일 전체에 배타 락을 잡고, 한 줄 추가는 파일 끝 뒤쪽 범위에만 배타 락을,
+ * 읽기는 현재 길이까지만 공유 락을 잡으므로 덧붙이기와 앞부분 읽기는 서로 기다리지 않습니다.
+ * 직렬화는 락을 잡기 전에 끝내 두고, 락 안에서는 스탬프 확인과 쓰기만 하여 임계 구역을 짧게 유지합니다.
+ * 전체 다시 쓰기는 스탬프가 기억해 둔 것과 다르면 쓰지 않고 충돌(false)을 반환하며,
+ * 한 줄 추가는 파일 끝에 덧붙이기만 하므로 충돌 없이 항상 성공합니다.
+ *
+ * 사전 모드로 만들면 반복되는 메타데이터 키와 값을 TodoCsvDictionary 코드로 한 번만 기록합니다.
+ * 읽기는 모드와 관계없이 사전 정의 줄을 해석하므로 두 형식의 파일을 모두 읽을 수 있습니다.
+ *
+ * 스냅샷을 켜면 전체 로드/저장한 목록을 이진 스냅샷(경로 + ".snapshot")으로 남겨 두고,
+ * 다음 전체 로드에서 CSV의 앞부분 전체 CRC가 스냅샷을 만들 때와 같다면(그 뒤에 줄만 덧붙었어도)
+ * CSV 파싱 없이 스냅샷에서 목록을 복원합니다 (덧붙은 꼬리만 파싱).
+ * 저장 후의 스냅샷은 저장을 기다리게 하지 않도록 백그라운드 스레드가 잠시 뒤에 한 번만 기록하며,
+ * 그사이 다시 저장하면 마지막 저장 내용만 기록합니다.
  */
-public class TodoCsvRepository implements TodoRepository {
-    private final String filePath;  // CSV 파일 경로
+public class TodoCsvRepository implements TodoRepository, IoStatistics {
+    private static final int FINGERPRINT_BYTES = 64;  // 추가 여부 판별에 쓰는 첫 블록/끝 블록 길이
+    private static final int CHUNK_ROWS = 16_384;  // 병렬 직렬화 단위 (행 수)
+    private static final int MAX_READ_BYTES = Integer.MAX_VALUE - 8;  // 배열 하나로 읽을 수 있는 최대 크기
+    private static final int CHECKSUM_BLOCK = 1 << 16;  // 앞부분 CRC를 계산할 때 한 번에 읽는 크기
+    private static final long SNAPSHOT_DELAY_MILLIS = 500;  // 저장 후 스냅샷을 기록하기까지 모으는 시간
+
+    // 저장 후 스냅샷 기록 (데몬 스레드: 종료 직전 저장의 스냅샷은 잃을 수 있으며 다음 시작은 전체 파싱)
+    private static final ScheduledExecutorService SNAPSHOT_WRITER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "todo-snapshot-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 같은 JVM 안의 채널끼리는 파일 락이 겹치면 예외가 나므로 경로별로 먼저 직렬화
+    private static final ConcurrentHashMap<Path, ReentrantLock> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path path;  // CSV 파일 경로
+    private final TodoArchive archive;  // 보관된 완료 Todo (경로 + ".archive.gz")
+    private final boolean dictionaryMode;  // 저장 시 메타데이터를 사전 코드로 기록할지 여부
+    private TodoCsvDictionary dictionary = new TodoCsvDictionary();  // 기준점까지 파일에 정의된 사전
+    private final TodoSnapshot snapshot;  // 시작용 이진 스냅샷 (null이면 사용하지 않음)
+    private final AtomicReference<Rewrite> pendingSnapshot = new AtomicReference<>();  // 기록 예약된 마지막 저장
+
+    // 마지막으로 메모리 목록과 일치했던 파일 상태 (버전 스탬프)
+    private long knownLength = -1;  // -1: 아직 읽거나 쓴 적 없음
+    private long knownModified;
+    private long knownFingerprint;  // 첫 블록과 끝 블록의 지문 (저장 전과 외부 추가 확인용)
+    private CRC32 knownChecksum = new CRC32();  // [0, knownLength) 전체의 CRC (덧붙인 바이트로 이어서 갱신)
+
+    // 누적 입출력 통계
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder rowsParsed = new LongAdder();
+    private final LongAdder ioErrors = new LongAdder();
 
     public TodoCsvRepository(String filePath) {
-        this.filePath = filePath;
+        this(filePath, false);
+    }
+
+    /**
+     * 저장 형식을 선택하는 생성자
+     * @param filePath CSV 파일 경로
+     * @param dictionaryMode true이면 반복되는 메타데이터 문자열을 사전 코드로 한 번만 기록
+     */
+    public TodoCsvRepository(String filePath, boolean dictionaryMode) {
+        this(filePath, dictionaryMode, false);
+    }
+
+    /**
+     * 저장 형식과 시작용 스냅샷 사용 여부를 선택하는 생성자
+     * @param filePath CSV 파일 경로
+     * @param dictionaryMode true이면 반복되는 메타데이터 문자열을 사전 코드로 한 번만 기록
+     * @param useSnapshot true이면 전체 로드/저장 후 이진 스냅샷을 남기고 다음 로드에 사용
+     */
+    public TodoCsvRepository(String filePath, boolean dictionaryMode, boolean useSnapshot) {
+        this.path = Paths.get(filePath).toAbsolutePath().normalize();
+        this.archive = new TodoArchive(Paths.get(path + ".archive.gz"));
+        this.dictionaryMode = dictionaryMode;
+        this.snapshot = useSnapshot ? new TodoSnapshot(Paths.get(path + ".snapshot")) : null;
     }
 
     /**
@@ -31,57 +123,204 @@ public class TodoCsvRepository implements TodoRepository {
 
     /**
      * 완료 상태에 따라 필터링된 Todo를 로드
+     * ALL 로드만 변경 감지 기준점을 갱신합니다.
      * @param filter 로드할 Todo의 필터 (ALL, COMPLETED, INCOMPLETE)
      * @return 필터링된 Todo 목록
      */
     public List<Todo> load(TodoFilter filter) {
+        TodoLoadEvent event = new TodoLoadEvent();
+        event.begin();
+        List<Todo> todos = read(filter, event);
+        if (event.shouldCommit()) {
+            event.file = path.toString();
+            event.filter = filter.name();
+            event.rows = todos.size();
+            event.commit();
+        }
+        return todos;
+    }
+
+    /**
+     * load(TodoFilter)의 본체 (읽은 파일 크기와 스냅샷 사용 여부를 이벤트에 기록)
+     */
+    private List<Todo> read(TodoFilter filter, TodoLoadEvent event) {
         List<Todo> todos = new ArrayList<>();
-        File file = new File(filePath);
-        if (!file.exists()) {
+        if (!Files.exists(path)) {
+            if (filter == TodoFilter.ALL) {
+                remember(0, 0, 0, new CRC32());
+                dictionary = new TodoCsvDictionary();
+            }
             return todos;  // 파일이 없으면 빈 목록 반환
         }
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-                // 콤마로 분리 (큰따옴표 내부의 콤마는 무시): 제목, 설명, 완료여부, 메타데이터
-                String[] parts = line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", 4);
-                if (parts.length >= 3) {
-                    String title = unquote(parts[0]);
-                    String description = unquote(parts[1]);
-                    boolean completed = Boolean.parseBoolean(parts[2]);
-                    Map<String, String> metadata = new HashMap<>();
-                    LocalDate dueDate = null;
-                    
-                    // 메타데이터 파싱 (마감일 포함)
-                    if (parts.length == 4) {
-                        for (String entry : parts[3].split(";")) {
-                            if (entry.isEmpty()) continue;
-                            String[] kv = entry.split("=", 2);
-                            if (kv.length == 2) {
-                                if ("due".equals(kv[0])) {
-                                    try {
-                                        dueDate = LocalDate.parse(kv[1]);  // 마감일 파싱
-                                    } catch (Exception ignored) {}
-                                } else {
-                                    metadata.put(kv[0], kv[1]);
-                                }
-                            }
-                        }
-                    }
-                    Todo todo = new Todo(title, description, dueDate, metadata);
-                    todo.setCompleted(completed);
-                    
-                    // 필터 적용
-                    if (filter == TodoFilter.ALL
-                            || (filter == TodoFilter.COMPLETED && todo.isCompleted())
-                            || (filter == TodoFilter.INCOMPLETE && !todo.isCompleted())) {
-                        todos.add(todo);
-                    }
+        if (filter == TodoFilter.ALL && snapshot != null) {
+            List<Todo> restored = loadFromSnapshot();
+            if (restored != null) {
+                event.fromSnapshot = true;
+                event.fileSize = knownLength;
+                return restored;
+            }
+        }
+        try {
+            // 한 번에 읽어 파싱한 바이트 수와 기준점이 정확히 일치하도록 함 (Reader 디코딩 없이 바이트로 파싱)
+            long phase = System.nanoTime();
+            long[] stamp = new long[2];  // 락 안에서 본 수정 시각과 CRC (스냅샷 기록용)
+            byte[] data = withLock(LockMode.READ, (channel, length) -> {
+                byte[] bytes = readFully(channel, 0, length);
+                if (filter == TodoFilter.ALL) {
+                    CRC32 checksum = new CRC32();
+                    checksum.update(bytes);
+                    stamp[0] = Files.getLastModifiedTime(path).toMillis();
+                    stamp[1] = checksum.getValue();
+                    remember(bytes.length, stamp[0], fingerprint(bytes, bytes.length), checksum);
                 }
+                return bytes;
+            });
+            phase = RepositoryTrace.phase("read", phase);
+            TodoCsvDictionary loaded = new TodoCsvDictionary();
+            TodoCsvFormat.parseRows(data, 0, data.length, filter, todos, loaded);  // 필터는 파싱 중에 적용
+            RepositoryTrace.phase("parse", phase);
+            bytesRead.add(data.length);
+            event.fileSize = data.length;
+            rowsParsed.add(todos.size());
+            RepositoryTrace.bytes(data.length);
+            RepositoryTrace.rows(todos.size());
+            if (filter == TodoFilter.ALL) {
+                dictionary = loaded;
+                writeSnapshot(data.length, stamp[0], stamp[1], loaded.entries(), todos);  // 아직 호출자에게 넘기기 전
             }
         } catch (IOException e) {
-            // 파일 읽기 오류는 무시하고 빈 목록 반환
+            failed(e);  // 읽기 오류는 빈 목록으로 반환
+        }
+        return todos;
+    }
+
+    /**
+     * 스냅샷이 현재 CSV와 맞으면 스냅샷에서 목록을 복원
+     * 스냅샷을 만들 때의 길이까지 CSV를 읽어 CRC가 같은지 확인합니다 (파싱보다 훨씬 싸고,
+     * 끝부분만 비교하면 놓치는 앞부분 수정이나 같은 길이로 덮어쓴 것도 잡아냄).
+     * 스냅샷 이후 CSV 끝에 줄만 덧붙었다면 그 꼬리만 파싱하여 이어 붙이고 스냅샷을 새로 씁니다.
+     * @return 복원한 목록, 스냅샷이 없거나 CSV가 다시 쓰였으면 null
+     */
+    private List<Todo> loadFromSnapshot() {
+        long phase = System.nanoTime();
+        TodoSnapshot.Image image = snapshot.read();
+        phase = RepositoryTrace.phase("snapshot", phase);
+        if (image == null) {
+            return null;
+        }
+        try {
+            long[] stamp = new long[2];  // 락 안에서 본 수정 시각과 CRC (스냅샷 기록용)
+            byte[] tail = withLock(LockMode.READ, (channel, length) -> {
+                long modified = Files.getLastModifiedTime(path).toMillis();
+                if (length < image.length || (length == image.length && modified != image.modified)) {
+                    return null;  // 스냅샷 이후 줄었거나 같은 길이로 다시 쓰인 파일
+                }
+                CRC32 checksum = checksum(channel, image.length);
+                if (checksum.getValue() != image.checksum) {
+                    return null;  // 스냅샷이 본 앞부분이 바뀜
+                }
+                byte[] bytes = readFully(channel, image.length, length);
+                checksum.update(bytes);
+                stamp[0] = modified;
+                stamp[1] = checksum.getValue();
+                remember(length, modified, fingerprint(channel, length), checksum);
+                return bytes;
+            });
+            phase = RepositoryTrace.phase("read", phase);
+            if (tail == null) {
+                return null;
+            }
+            TodoCsvDictionary restored = new TodoCsvDictionary(image.dictionary);
+            List<Todo> todos = image.todos;
+            TodoCsvFormat.parseRows(tail, 0, tail.length, TodoFilter.ALL, todos, restored);
+            RepositoryTrace.phase("parse", phase);
+            bytesRead.add(tail.length);
+            rowsParsed.add(todos.size());
+            RepositoryTrace.bytes(tail.length);
+            RepositoryTrace.rows(todos.size());
+            dictionary = restored;
+            if (tail.length > 0) {
+                writeSnapshot(image.length + tail.length, stamp[0], stamp[1], restored.entries(), todos);
+            }
+            return todos;
+        } catch (IOException e) {
+            failed(e);
+            return null;  // CSV 전체 파싱으로 다시 시도
+        }
+    }
+
+    /**
+     * CSV의 [0, length) 상태와 일치하는 목록을 바로 스냅샷으로 기록
+     * 예약되어 있던 저장 후 기록은 이보다 오래된 내용이므로 버립니다.
+     * @param checksum CSV [0, length)의 CRC
+     */
+    private void writeSnapshot(long length, long modified, long checksum, List<String> dictionary, List<Todo> todos) {
+        if (snapshot == null) {
+            return;
+        }
+        long phase = System.nanoTime();
+        synchronized (snapshot) {
+            pendingSnapshot.set(null);
+            snapshot.write(length, modified, checksum, dictionary, todos);
+        }
+        RepositoryTrace.phase("snapshot", phase);
+    }
+
+    /**
+     * 저장한 내용의 스냅샷 기록을 백그라운드에 예약
+     * 이미 예약되어 있으면 기록할 내용만 이번 저장으로 바꿉니다.
+     * 저장한 목록은 저장 뒤에도 계속 바뀌므로 목록 대신 저장한 CSV 바이트를 넘겨 두고 기록할 때 파싱합니다.
+     */
+    private void scheduleSnapshot(Rewrite rewrite) {
+        if (snapshot != null && pendingSnapshot.getAndSet(rewrite) == null) {
+            SNAPSHOT_WRITER.schedule(this::writePendingSnapshot, SNAPSHOT_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 예약된 저장 후 스냅샷이 있으면 기록
+     */
+    private void writePendingSnapshot() {
+        synchronized (snapshot) {
+            Rewrite rewrite = pendingSnapshot.getAndSet(null);
+            if (rewrite == null) {
+                return;
+            }
+            List<Todo> todos = new ArrayList<>();
+            TodoCsvDictionary parsed = new TodoCsvDictionary();
+            for (ByteBuffer chunk : rewrite.chunks) {
+                TodoCsvFormat.parseRows(chunk.array(), 0, chunk.limit(), TodoFilter.ALL, todos, parsed);
+            }
+            snapshot.write(rewrite.total, rewrite.modified, rewrite.crc, parsed.entries(), todos);
+        }
+    }
+
+    /**
+     * 예약된 스냅샷 기록을 기다리지 않고 바로 실행 (백그라운드에서 기록 중이면 끝날 때까지 기다림)
+     * 종료 직전이나 스냅샷을 바로 확인해야 하는 테스트에서 사용합니다.
+     */
+    public void flushSnapshot() {
+        if (snapshot != null) {
+            writePendingSnapshot();
+        }
+    }
+
+    /**
+     * 작업 목록을 로드하고 필요하면 보관된 Todo를 뒤에 이어 붙임
+     * @param filter 로드할 Todo의 필터 (ALL, COMPLETED, INCOMPLETE)
+     * @param includeArchived true이면 보관 파일의 Todo도 포함
+     * @return 필터링된 Todo 목록
+     */
+    public List<Todo> load(TodoFilter filter, boolean includeArchived) {
+        List<Todo> todos = load(filter);
+        if (includeArchived) {
+            try {
+                long phase = System.nanoTime();
+                todos.addAll(archive.load(filter));
+                RepositoryTrace.phase("archive", phase);
+            } catch (IOException e) {
+                failed(e);  // 보관 파일을 읽지 못하면 작업 목록만 반환
+            }
         }
         return todos;
     }
@@ -101,70 +340,598 @@ public class TodoCsvRepository implements TodoRepository {
 
     /**
      * Todo 목록을 CSV 파일로 저장
+     * 이 저장소가 마지막으로 본 뒤에 다른 프로세스가 파일을 바꿨다면 덮어쓰지 않습니다.
+     * (한 번도 읽거나 쓴 적 없는 저장소는 확인 없이 저장합니다.)
+     * 큰 목록은 여러 조각으로 나누어 병렬로 직렬화한 뒤 조각 순서대로 한 번에 씁니다.
+     * @param todos 저장할 Todo 목록
+     * @return 저장했으면 true, 버전 충돌이나 쓰기 오류로 저장하지 못했으면 false
+     */
+    public boolean save(List<Todo> todos) {
+        return save(todos, null);
+    }
+
+    /**
+     * 스탬프를 확인한 뒤 쓰기 직전에 beforeWrite를 실행하고 저장
+     * @param beforeWrite 같은 락 안에서 먼저 할 작업 (null이면 없음)
+     */
+    private boolean save(List<Todo> todos, BeforeWrite beforeWrite) {
+        TodoSaveEvent event = new TodoSaveEvent();
+        event.begin();
+        boolean saved = write(todos, beforeWrite);
+        if (event.shouldCommit()) {
+            event.file = path.toString();
+            event.kind = TodoSaveEvent.FULL;
+            event.rows = todos.size();
+            event.bytesWritten = saved ? knownLength : 0;
+            event.fileSize = knownLength;
+            event.saved = saved;
+            event.commit();
+        }
+        return saved;
+    }
+
+    /**
+     * save(List)의 본체
+     */
+    private boolean write(List<Todo> todos, BeforeWrite beforeWrite) {
+        Rewrite rewrite = prepare(todos);
+        long phase = System.nanoTime();
+        try {
+            boolean saved = commit(List.of(rewrite), beforeWrite);
+            RepositoryTrace.phase("write", phase);
+            if (saved) {
+                RepositoryTrace.bytes(rewrite.total);
+                scheduleSnapshot(rewrite);  // 스냅샷은 CRC로 검증하므로 늦게 기록되어도 안전
+            }
+            return saved;
+        } catch (IOException e) {
+            failed(e);  // 쓰기 오류는 저장 실패로 반환
+            return false;
+        }
+    }
+
+    /**
+     * 전체 다시 쓰기를 락 밖에서 미리 직렬화 (사전 모드는 새 사전으로 처음부터 다시 씀)
+     * 여러 파일을 함께 쓰려면 각 저장소에서 준비한 뒤 commit(List)에 한꺼번에 넘깁니다.
      * @param todos 저장할 Todo 목록
+     * @return 이 저장소에 쓸 준비가 된 내용
+     */
+    Rewrite prepare(List<Todo> todos) {
+        long phase = System.nanoTime();
+        TodoCsvDictionary written = new TodoCsvDictionary();
+        long[] revisions = new long[todos.size()];
+        ByteBuffer[] chunks;
+        if (dictionaryMode) {
+            // 사전 정의는 처음 쓰이는 행 앞에 와야 하므로 순서대로 한 번에 직렬화
+            written.planValues(todos);
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < todos.size(); i++) {
+                revisions[i] = todos.get(i).getRevision();
+                TodoCsvFormat.appendLine(sb, todos.get(i), written, true);
+            }
+            chunks = new ByteBuffer[] {ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8))};
+        } else {
+            chunks = encodeChunks(todos, revisions);
+        }
+        long length = 0;
+        for (ByteBuffer chunk : chunks) {
+            length += chunk.remaining();
+        }
+        long tail = fingerprint(chunks);
+        CRC32 checksum = new CRC32();
+        for (ByteBuffer chunk : chunks) {
+            checksum.update(chunk.duplicate());
+        }
+        RepositoryTrace.phase("encode", phase);
+        RepositoryTrace.rows(todos.size());
+        return new Rewrite(this, chunks, length, tail, checksum, written, revisions);
+    }
+
+    /**
+     * 준비한 다시 쓰기를 모두 쓰거나 하나도 쓰지 않음
+     * 경로 순으로 모든 파일의 락을 잡고 모든 스탬프를 확인한 뒤에야 쓰기 시작하므로,
+     * 한 파일이라도 다른 프로세스가 먼저 바꿨으면 어느 파일도 건드리지 않습니다.
+     * (락을 항상 같은 순서로 잡으므로 서로 다른 파일 묶음을 쓰는 프로세스끼리 교착되지 않음)
+     * @param rewrites 파일마다 하나씩 준비한 다시 쓰기
+     * @param beforeWrite 스탬프를 모두 확인한 뒤 락을 쥔 채 쓰기 직전에 할 작업 (null이면 없음).
+     *                    예외를 던지면 아무 파일도 쓰지 않습니다.
+     * @return 모두 썼으면 true, 충돌이 있어 아무것도 쓰지 않았으면 false
+     * @throws IOException 락이나 쓰기 오류 (쓰는 도중의 오류는 일부 파일만 쓰였을 수 있음)
+     */
+    static boolean commit(List<Rewrite> rewrites, BeforeWrite beforeWrite) throws IOException {
+        List<Rewrite> ordered = new ArrayList<>(rewrites);
+        ordered.sort(Comparator.comparing((Rewrite rewrite) -> rewrite.repository.path));
+        return commit(ordered, 0, new FileChannel[ordered.size()], beforeWrite);
+    }
+
+    /**
+     * next번째 파일의 락을 잡고 스탬프를 확인한 뒤 다음 파일로 넘어가고, 모두 확인되면 씀
+     */
+    private static boolean commit(List<Rewrite> rewrites, int next, FileChannel[] channels,
+            BeforeWrite beforeWrite) throws IOException {
+        if (next == rewrites.size()) {
+            if (beforeWrite != null) {
+                beforeWrite.run();
+            }
+            for (int i = 0; i < rewrites.size(); i++) {
+                rewrites.get(i).writeTo(channels[i]);
+            }
+            return true;
+        }
+        TodoCsvRepository repository = rewrites.get(next).repository;
+        return repository.withLock(LockMode.REWRITE, (channel, length) -> {
+            if (repository.knownLength >= 0 && !repository.matchesKnown(channel, length)) {
+                return false;  // 충돌: 다른 프로세스가 먼저 변경함 (아직 아무 파일도 쓰지 않음)
+            }
+            channels[next] = channel;
+            return commit(rewrites, next + 1, channels, beforeWrite);
+        });
+    }
+
+    /**
+     * commit이 스탬프 확인과 쓰기 사이에 실행하는 작업
+     */
+    @FunctionalInterface
+    interface BeforeWrite {
+        void run() throws IOException;
+    }
+
+    /**
+     * 직렬화를 마친 한 파일의 전체 내용과 쓴 뒤의 버전 스탬프
      */
-    public void save(List<Todo> todos) {
-        File file = new File(filePath);
-        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+    static final class Rewrite {
+        private final TodoCsvRepository repository;
+        private final ByteBuffer[] chunks;
+        private final long total;
+        private final long tail;  // 끝부분 지문
+        private final CRC32 checksum;  // 전체 내용의 CRC
+        private final long crc;  // checksum의 값 (checksum은 기준점이 된 뒤 덧붙이기로 이어서 갱신됨)
+        private final TodoCsvDictionary dictionary;  // 쓴 뒤 파일에 정의된 사전
+        private final long[] revisions;  // 행마다 직렬화 직전에 읽은 Todo 수정 번호
+        private long modified;  // 쓴 뒤의 수정 시각
+
+        private Rewrite(TodoCsvRepository repository, ByteBuffer[] chunks, long total, long tail,
+                CRC32 checksum, TodoCsvDictionary dictionary, long[] revisions) {
+            this.repository = repository;
+            this.chunks = chunks;
+            this.total = total;
+            this.tail = tail;
+            this.checksum = checksum;
+            this.crc = checksum.getValue();
+            this.dictionary = dictionary;
+            this.revisions = revisions;
+        }
+
+        /**
+         * 준비한 목록의 i번째 행을 직렬화할 때의 수정 번호 (그 뒤에 바뀌었으면 Todo의 현재 번호와 다름)
+         */
+        long revision(int i) {
+            return revisions[i];
+        }
+
+        /**
+         * 락을 잡은 채널에 내용을 쓰고 저장소의 기준점을 옮김
+         */
+        private void writeTo(FileChannel channel) throws IOException {
+            channel.truncate(0);
+            channel.position(0);
+            long remaining = total;
+            while (remaining > 0) {
+                remaining -= channel.write(chunks);  // 조각들을 순서대로 한 번에 씀 (gathering write)
+            }
+            repository.bytesWritten.add(total);
+            modified = Files.getLastModifiedTime(repository.path).toMillis();
+            repository.remember(total, modified, tail, checksum);
+            repository.dictionary = dictionary;
+        }
+    }
+
+    /**
+     * Todo 목록을 CHUNK_ROWS개씩 나누어 공용 ForkJoinPool에서 병렬로 UTF-8 바이트로 직렬화
+     * 조각 순서는 목록 순서와 같습니다. 작은 목록은 호출한 스레드에서 바로 처리합니다.
+     */
+    private static ByteBuffer[] encodeChunks(List<Todo> todos, long[] revisions) {
+        int count = (todos.size() + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        if (count <= 1) {
+            return new ByteBuffer[] {encodeChunk(todos, 0, todos.size(), revisions)};
+        }
+        return IntStream.range(0, count).parallel()
+                .mapToObj(i -> encodeChunk(todos, i * CHUNK_ROWS, Math.min(todos.size(), (i + 1) * CHUNK_ROWS), revisions))
+                .toArray(ByteBuffer[]::new);
+    }
+
+    /**
+     * [from, to) 행을 직렬화하며 각 행의 수정 번호를 직렬화 직전에 기록
+     */
+    private static ByteBuffer encodeChunk(List<Todo> todos, int from, int to, long[] revisions) {
+        StringBuilder sb = new StringBuilder((to - from) * 64);
+        for (int i = from; i < to; i++) {
+            revisions[i] = todos.get(i).getRevision();
+            TodoCsvFormat.appendLine(sb, todos.get(i));
+        }
+        return ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 완료 Todo를 보관 파일에 덧붙이고 작업 목록을 나머지로 다시 저장
+     * 작업 목록의 락을 잡고 스탬프를 확인한 다음에 보관 파일에 덧붙이므로,
+     * 충돌로 저장하지 못하면 보관 파일도 그대로입니다 (다시 시도해도 중복 보관되지 않음).
+     * @param archived 보관할 완료 Todo 목록
+     * @param remaining 작업 목록에 남길 Todo 목록
+     * @return 작업 목록 저장 성공 여부 (보관하지 못했으면 작업 목록도 건드리지 않고 false)
+     */
+    public boolean archive(List<Todo> archived, List<Todo> remaining) {
+        return save(remaining, () -> archive.append(archived));
+    }
+
+    /**
+     * 단일 Todo를 저장소에 추가
+     * 파일 전체를 다시 쓰지 않고 끝에 한 줄만 덧붙입니다.
+     * @param todo 추가할 Todo 항목
+     */
+    public void save(Todo todo) {
+        saveAll(List.of(todo));
+    }
+
+    /**
+     * 여러 Todo를 한 번의 쓰기로 파일 끝에 덧붙임
+     * 덧붙이기 전 파일이 기억해 둔 상태 그대로였을 때만 기준점을 앞으로 옮기고,
+     * 그렇지 않으면 pollChanges()가 외부 변경을 감지할 수 있도록 그대로 둡니다.
+     * 사전 모드에서는 파일이 기억해 둔 상태일 때만 사전 코드를 쓰고, 아니면 문자열 그대로 씁니다.
+     * @param todos 추가할 Todo 목록
+     */
+    @Override
+    public void saveAll(List<Todo> todos) {
+        appendAll(todos);
+    }
+
+    /**
+     * saveAll(List)과 같되 덧붙였는지 반환 (샤드 저장소가 샤드별 행 수를 맞추는 데 사용)
+     * @param todos 추가할 Todo 목록
+     * @return 덧붙였거나 추가할 것이 없으면 true, 쓰기 오류면 false
+     */
+    boolean appendAll(List<Todo> todos) {
+        if (todos.isEmpty()) {
+            return true;
+        }
+        TodoSaveEvent event = new TodoSaveEvent();
+        event.begin();
+        long written = append(todos);
+        if (event.shouldCommit()) {
+            event.file = path.toString();
+            event.kind = TodoSaveEvent.APPEND;
+            event.rows = todos.size();
+            event.bytesWritten = Math.max(0, written);
+            event.fileSize = knownLength;
+            event.saved = written >= 0;
+            event.commit();
+        }
+        return written >= 0;
+    }
+
+    /**
+     * saveAll(List)의 본체
+     * @return 덧붙인 바이트 수, 쓰기 오류면 -1
+     */
+    private long append(List<Todo> todos) {
+        long phase = System.nanoTime();
+        byte[] plain = null;
+        if (!dictionaryMode) {
+            StringBuilder sb = new StringBuilder();
             for (Todo todo : todos) {
-                // 메타데이터 문자열 구성
-                StringBuilder metadata = new StringBuilder();
-                if (todo.getDueDate() != null) {
-                    metadata.append("due=").append(todo.getDueDate());  // 마감일 추가
+                TodoCsvFormat.appendLine(sb, todo);
+            }
+            plain = sb.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] encoded = plain;
+        phase = RepositoryTrace.phase("encode", phase);
+        RepositoryTrace.rows(todos.size());
+        try {
+            long appended = withLock(LockMode.APPEND, (channel, end) -> {
+                boolean unchanged = knownLength >= 0 && matchesKnown(channel, end);
+                byte[] lines = encoded;
+                TodoCsvDictionary extended = null;
+                if (dictionaryMode) {
+                    // 파일의 사전을 알고 있을 때만 코드를 사용 (모르면 이스케이프만 적용)
+                    extended = unchanged ? dictionary.copy() : new TodoCsvDictionary();
+                    StringBuilder sb = new StringBuilder();
+                    for (Todo todo : todos) {
+                        TodoCsvFormat.appendLine(sb, todo, extended, unchanged);
+                    }
+                    lines = sb.toString().getBytes(StandardCharsets.UTF_8);
+                }
+                ByteBuffer buffer;
+                if (end > 0 && readFully(channel, end - 1, end)[0] != '\n') {
+                    // 마지막 줄에 줄바꿈이 없으면 이어 붙지 않도록 보정
+                    byte[] separator = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+                    buffer = ByteBuffer.allocate(separator.length + lines.length).put(separator).put(lines).flip();
+                } else {
+                    buffer = ByteBuffer.wrap(lines);
+                }
+                long size = buffer.remaining();
+                bytesWritten.add(size);
+                ByteBuffer written = buffer.duplicate();
+                writeFully(channel, buffer, end);
+                if (unchanged) {
+                    knownChecksum.update(written);  // 덧붙인 바이트만큼 이어서 계산
+                    long length = channel.size();
+                    remember(length, Files.getLastModifiedTime(path).toMillis(), fingerprint(channel, length),
+                            knownChecksum);
+                    if (extended != null) {
+                        dictionary = extended;
+                    }
+                }
+                return size;
+            });
+            RepositoryTrace.phase("write", phase);
+            RepositoryTrace.bytes(appended);
+            return appended;
+        } catch (IOException e) {
+            failed(e);  // 쓰기 오류는 -1로 반환
+            return -1;
+        }
+    }
+
+    /**
+     * 마지막 전체 로드/저장 이후 외부에서 변경된 내용을 조회
+     * - 길이가 늘었고 기억해 둔 길이 위치의 첫 블록/끝 블록 지문이 같으면: 늘어난 꼬리에서 완성된 줄만 파싱
+     * - 길이가 줄었거나, 같은 길이인데 수정 시각이 다르거나, 지문이 다르면: 전체 다시 로드
+     * 변경마다 파일 전체를 읽지 않도록 앞부분 전체 대신 두 블록만 확인합니다 (O(꼬리 크기)).
+     * 중간만 같은 길이로 고친 손 편집은 여기서 놓칠 수 있지만, 스냅샷은 로드 때 앞부분 전체 CRC로 확인하므로
+     * 그런 파일에서 오래된 스냅샷을 쓰지는 않습니다.
+     * @return 변경 내용, 변경이 없거나 아직 로드한 적이 없으면 null
+     */
+    @Override
+    public TodoChange pollChanges() {
+        if (knownLength < 0) {
+            return null;
+        }
+        try {
+            if (!Files.exists(path)) {
+                return knownLength == 0 ? null : TodoChange.reloaded(load());
+            }
+            byte[] tail = withLock(LockMode.READ, (channel, length) -> {
+                long modified = Files.getLastModifiedTime(path).toMillis();
+                if (length == knownLength && (modified == knownModified || length == 0)) {
+                    return new byte[0];
+                }
+                if (length <= knownLength) {
+                    return null;  // 줄었거나 같은 길이로 덮어씀: 전체 다시 로드 필요
                 }
-                for (Map.Entry<String, String> e : todo.getMetadata().entrySet()) {
-                    if (metadata.length() > 0) metadata.append(';');
-                    metadata.append(e.getKey()).append('=').append(e.getValue());
+                if (fingerprint(channel, knownLength) != knownFingerprint) {
+                    return null;  // 늘어났지만 앞부분도 바뀜: 전체 다시 로드 필요
                 }
-                String metaString = metadata.toString();
-                String line = String.format("%s,%s,%b",
-                        quote(todo.getTitle()),
-                        quote(todo.getDescription()),
-                        todo.isCompleted());
-                if (!metaString.isEmpty()) {
-                    line = line + "," + metaString;
+                // 완성된 줄까지만 읽고 미완성 줄은 다음 호출에서 처리
+                byte[] bytes = readFully(channel, knownLength, length);
+                int end = bytes.length;
+                while (end > 0 && bytes[end - 1] != '\n') {
+                    end--;
                 }
-                writer.println(line);
+                CRC32 checksum = knownChecksum;
+                checksum.update(bytes, 0, end);  // 앞부분은 그대로라고 보고 덧붙은 바이트만 이어서 계산
+                long newLength = knownLength + end;
+                remember(newLength, end == bytes.length ? modified : -1, fingerprint(channel, newLength), checksum);
+                return end == bytes.length ? bytes : Arrays.copyOf(bytes, end);
+            });
+            if (tail == null) {
+                return TodoChange.reloaded(load());
             }
+            if (tail.length == 0) {
+                return null;
+            }
+            long phase = System.nanoTime();
+            List<Todo> appended = new ArrayList<>();
+            TodoCsvFormat.parseRows(tail, 0, tail.length, TodoFilter.ALL, appended, dictionary);
+            RepositoryTrace.phase("parse", phase);
+            bytesRead.add(tail.length);
+            rowsParsed.add(appended.size());
+            RepositoryTrace.bytes(tail.length);
+            RepositoryTrace.rows(appended.size());
+            return TodoChange.appended(appended);
         } catch (IOException e) {
-            // 파일 쓰기 오류는 무시
+            failed(e);
+            return null;
+        }
+    }
+
+    @Override
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    @Override
+    public long getRowsParsed() {
+        return rowsParsed.sum();
+    }
+
+    @Override
+    public long getIoErrors() {
+        return ioErrors.sum();
+    }
+
+    /**
+     * 빈 목록이나 false로 바꿔 반환하는 입출력 오류를 집계하고 진행 중인 계측 작업에 알림
+     */
+    private void failed(IOException e) {
+        ioErrors.increment();
+        RepositoryTrace.error(e);
+    }
+
+    /**
+     * 락을 잡은 채널의 상태(길이 length)가 기억해 둔 버전 스탬프와 같은지 확인
+     */
+    private boolean matchesKnown(FileChannel channel, long length) throws IOException {
+        if (length == 0 && knownLength == 0) {
+            return true;  // 비어 있던(또는 없던) 파일은 수정 시각과 관계없이 같은 상태
+        }
+        return length == knownLength
+                && Files.getLastModifiedTime(path).toMillis() == knownModified
+                && fingerprint(channel, length) == knownFingerprint;
+    }
+
+    private void remember(long length, long modified, long fingerprint, CRC32 checksum) {
+        knownLength = length;
+        knownModified = modified;
+        knownFingerprint = fingerprint;
+        knownChecksum = checksum;
+    }
+
+    /**
+     * 파일 락을 잡는 방식
+     * - READ: 지금 길이까지만 공유 락 (뒤에 덧붙이는 프로세스와 동시에 읽음)
+     * - APPEND: 지금 파일 끝부터 뒤쪽만 배타 락 (앞부분을 읽는 프로세스와 동시에 덧붙임)
+     * - REWRITE: 파일 전체 배타 락
+     */
+    private enum LockMode { READ, APPEND, REWRITE }
+
+    /**
+     * 프로세스 내 락과 파일 락을 잡은 상태에서 작업 실행
+     * 작업에는 락을 잡은 뒤의 파일 길이를 넘기며, 읽기 작업은 그 길이까지만 읽어야 합니다.
+     * (그 뒤쪽은 다른 프로세스가 덧붙이는 중일 수 있음)
+     */
+    private <T> T withLock(LockMode mode, LockedAction<T> action) throws IOException {
+        ReentrantLock processLock = PROCESS_LOCKS.computeIfAbsent(path, p -> new ReentrantLock());
+        processLock.lock();
+        try (FileChannel channel = mode == LockMode.READ
+                ? FileChannel.open(path, StandardOpenOption.READ)
+                : FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return action.run(channel, lock(channel, mode));  // 파일 락은 채널을 닫을 때 함께 풀림
+        } finally {
+            processLock.unlock();
+        }
+    }
+
+    /**
+     * 방식에 맞는 범위에 파일 락을 잡고 락을 잡은 뒤의 파일 길이를 반환
+     * 범위를 정한 뒤 락을 기다리는 사이 파일이 다시 쓰였을 수 있으므로 길이를 다시 확인합니다.
+     * 읽기는 길이가 바뀌었으면 파일 전체 공유 락으로 다시 잡고 (덧붙이기가 끝날 때까지 기다림),
+     * 덧붙이기는 파일이 줄었으면 새 끝에서 다시 잡습니다 (늘어난 것은 이미 락 범위 안).
+     */
+    private static long lock(FileChannel channel, LockMode mode) throws IOException {
+        switch (mode) {
+            case READ: {
+                long length = channel.size();
+                if (length > 0) {
+                    FileLock prefix = channel.lock(0, length, true);
+                    if (channel.size() == length) {
+                        return length;
+                    }
+                    prefix.release();
+                }
+                channel.lock(0, Long.MAX_VALUE, true);
+                return channel.size();
+            }
+            case APPEND:
+                while (true) {
+                    long end = channel.size();
+                    FileLock tail = channel.lock(end, Long.MAX_VALUE - end, false);
+                    long length = channel.size();
+                    if (length >= end) {
+                        return length;
+                    }
+                    tail.release();
+                }
+            default:
+                channel.lock(0, Long.MAX_VALUE, false);
+                return channel.size();
+        }
+    }
+
+    @FunctionalInterface
+    private interface LockedAction<T> {
+        T run(FileChannel channel, long length) throws IOException;
+    }
+
+    /**
+     * [from, to) 구간을 배열 하나로 읽음
+     * @throws IOException 구간이 배열 하나에 담을 수 없을 만큼 크면 (2GB 이상)
+     */
+    private static byte[] readFully(FileChannel channel, long from, long to) throws IOException {
+        if (to - from > MAX_READ_BYTES) {
+            throw new IOException("한 번에 읽기에는 너무 큰 구간입니다: " + (to - from) + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, from + buffer.position()) < 0) {
+                break;
+            }
+        }
+        return buffer.array();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
         }
     }
 
     /**
-     * 문자열을 CSV용 큰따옴표로 감싸기
-     * @param text 원본 문자열
-     * @return 큰따옴표로 감싼 문자열
+     * [0, length)의 첫 블록과 끝 블록(각 FINGERPRINT_BYTES)으로 계산한 CRC32 지문
+     * 두 블록만 읽으므로 파일 크기와 관계없이 싸며, 끝에 덧붙이기만 했다면 기억해 둔 길이 위치의 지문은 그대로입니다.
      */
-    private String quote(String text) {
-        String escaped = text.replace("\"", "\"\"");  // 큰따옴표 이스케이프
-        return "\"" + escaped + "\"";
+    private static long fingerprint(byte[] data, int length) {
+        int from = Math.max(0, length - FINGERPRINT_BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, Math.min(length, FINGERPRINT_BYTES));
+        crc.update(data, from, length - from);
+        return crc.getValue();
     }
 
     /**
-     * CSV용 큰따옴표를 제거하고 원본 문자열 반환
-     * @param text 큰따옴표로 감싼 문자열
-     * @return 원본 문자열
+     * 여러 조각을 이어 붙인 내용의 첫 블록/끝 블록 지문 (조각의 위치는 바꾸지 않음)
      */
-    private String unquote(String text) {
-        if (text.startsWith("\"") && text.endsWith("\"")) {
-            String inner = text.substring(1, text.length() - 1);
-            return inner.replace("\"\"", "\"");  // 이스케이프된 큰따옴표 복원
+    private static long fingerprint(ByteBuffer[] chunks) {
+        byte[] head = new byte[FINGERPRINT_BYTES];
+        int headFilled = 0;
+        for (int i = 0; i < chunks.length && headFilled < head.length; i++) {
+            ByteBuffer chunk = chunks[i];
+            int take = Math.min(chunk.remaining(), head.length - headFilled);
+            chunk.get(chunk.position(), head, headFilled, take);
+            headFilled += take;
+        }
+        byte[] tail = new byte[FINGERPRINT_BYTES];
+        int filled = 0;
+        for (int i = chunks.length - 1; i >= 0 && filled < tail.length; i--) {
+            ByteBuffer chunk = chunks[i];
+            int take = Math.min(chunk.remaining(), tail.length - filled);
+            chunk.get(chunk.limit() - take, tail, tail.length - filled - take, take);
+            filled += take;
         }
-        return text;
+        CRC32 crc = new CRC32();
+        crc.update(head, 0, headFilled);
+        crc.update(tail, tail.length - filled, filled);
+        return crc.getValue();
+    }
+
+    private static long fingerprint(FileChannel channel, long length) throws IOException {
+        byte[] head = readFully(channel, 0, Math.min(length, FINGERPRINT_BYTES));
+        byte[] tail = readFully(channel, Math.max(0, length - FINGERPRINT_BYTES), length);
+        CRC32 crc = new CRC32();
+        crc.update(head);
+        crc.update(tail);
+        return crc.getValue();
     }
-    
+
     /**
-     * 단일 Todo를 저장소에 추가
-     * 기존 Todo 목록을 읽고, 새 Todo를 추가한 후 전체를 다시 저장합니다.
-     * @param todo 추가할 Todo 항목
+     * 파일 앞부분 [0, length) 전체의 CRC32 (블록 단위로 읽어 계산하며 이어서 update할 수 있음)
      */
-    public void save(Todo todo) {
-        // 기존 Todo 목록을 읽어옴
-        List<Todo> todos = load();
-        // 새 Todo 추가
-        todos.add(todo);
-        // 전체 목록을 다시 저장
-        save(todos);
+    private static CRC32 checksum(FileChannel channel, long length) throws IOException {
+        CRC32 crc = new CRC32();
+        ByteBuffer block = ByteBuffer.allocate((int) Math.min(CHECKSUM_BLOCK, Math.max(1, length)));
+        for (long position = 0; position < length; ) {
+            block.clear().limit((int) Math.min(block.capacity(), length - position));
+            int read = channel.read(block, position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+            crc.update(block.flip());
+        }
+        return crc;
     }
 }
@@ -0,0 +1,100 @@
+package todo.infrastructure;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * todos.csv(또는 샤드 디렉터리)의 외부 변경을 감지하는 파일 감시자
+ *
+ * java.nio.file.WatchService로 CSV 파일이 있는 디렉터리를 감시하다가
+ * 해당 파일이 생성/수정/삭제되면 콜백을 실행합니다.
+ * 디렉터리를 넘기면 그 안의 모든 파일(임시 파일 *.tmp 제외)을 감시 대상으로 봅니다.
+ * 쓰기 한 번에도 이벤트가 여러 개 올 수 있으므로 짧게 모아서 한 번만 알립니다.
+ * 실제로 무엇이 바뀌었는지는 콜백(보통 TodoServiceImpl.refresh)이 저장소에 물어봅니다.
+ */
+public class TodoFileWatcher implements Closeable {
+    private static final long DEBOUNCE_MILLIS = 50;
+
+    private final Path file;
+    private final boolean directory;  // true이면 file은 감시할 디렉터리
+    private final Runnable onChange;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * 파일 감시자 생성
+     * @param filePath 감시할 CSV 파일 또는 샤드 디렉터리 경로
+     * @param onChange 변경이 감지되었을 때 실행할 콜백
+     * @throws IOException 감시 등록 실패 시
+     */
+    public TodoFileWatcher(String filePath, Runnable onChange) throws IOException {
+        this.file = Paths.get(filePath).toAbsolutePath();
+        this.directory = Files.isDirectory(file);
+        this.onChange = onChange;
+        this.watchService = file.getFileSystem().newWatchService();
+        (directory ? file : file.getParent()).register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        this.thread = new Thread(this::run, "todo-file-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * 백그라운드 감시 스레드 시작
+     */
+    public void start() {
+        thread.start();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean relevant = drain(key);
+                // 연달아 오는 이벤트를 잠시 모음
+                WatchKey more;
+                while ((more = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    relevant |= drain(more);
+                }
+                if (relevant) {
+                    try {
+                        onChange.run();
+                    } catch (RuntimeException e) {
+                        System.err.println("외부 변경 반영 실패: " + e.getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // 감시 종료
+        }
+    }
+
+    /**
+     * 키에 쌓인 이벤트 중 감시 대상 파일에 대한 것이 있는지 확인하고 키를 재설정
+     */
+    private boolean drain(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                relevant = true;
+            } else if (directory ? !event.context().toString().endsWith(".tmp")
+                    : file.getFileName().equals(event.context())) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    /**
+     * 감시 종료
+     */
+    @Override
+    public void close() throws IOException {
+        thread.interrupt();
+        watchService.close();
+    }
+}
@@ -0,0 +1,35 @@
+package todo.infrastructure;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * CSV 저장소 로드 한 번을 나타내는 JFR 이벤트
+ * 기록이 꺼져 있으면 begin/commit은 거의 비용이 없습니다.
+ */
+@Name("todo.Load")
+@Label("Todo Load")
+@Category({"Todo", "Repository"})
+@Description("TodoCsvRepository.load(TodoFilter) 한 번")
+final class TodoLoadEvent extends Event {
+    @Label("File")
+    String file;
+
+    @Label("Filter")
+    String filter;
+
+    @Label("File Size")
+    @DataAmount
+    long fileSize;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("From Snapshot")
+    @Description("CSV를 파싱하지 않고 이진 스냅샷에서 복원했는지 여부")
+    boolean fromSnapshot;
+}
@@ -0,0 +1,219 @@
+package todo.infrastructure;
+
+import todo.domain.Todo;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버 모드에서 사용하는 한 줄 단위 텍스트 프로토콜
+ *
+ * 요청: 명령어와 인자를 탭으로 구분한 한 줄 (예: "TOGGLE\t3")
+ * 응답: "OK\t값" 또는 "ERR\t메시지" 한 줄.
+ *       목록 응답은 "OK\t개수" 다음에 Todo 한 줄씩 이어집니다.
+ *       스냅샷 응답은 "OK\t버전\t개수" 다음에 Todo 한 줄씩 이어집니다.
+ *       정렬 페이지, 일정, 회차, 시작 가능 목록 응답은 "OK\t전체개수\t개수" 다음에 "인덱스\tTodo 줄"이 한 줄씩 이어집니다.
+ *       통계 응답은 "OK\t기준일\t전체\t완료\t마감지남\t이번주\t날짜별완료(쉼표 구분)\t줄수" 다음에
+ *       "키\t값\t전체\t완료"가 한 줄씩 이어집니다.
+ *       트리 응답은 "OK\t개수" 다음에 "인덱스\t깊이\t완료자손\t전체자손\tTodo 줄"이 한 줄씩 이어집니다.
+ * Todo 줄 형식: 제목\t설명\t완료여부\t마감일\t키=값\t키=값...
+ *       메타데이터 키 안의 '='와 역슬래시는 \=, \\ 로 한 번 더 이스케이프하며, 값이 null이면 "=값" 없이 키만 씁니다.
+ *
+ * 필드 안의 탭, 줄바꿈, 역슬래시는 \t, \n, \\ 로 이스케이프되고, null 필드는 빈 문자열과 구분해 \0 으로 씁니다.
+ * 응답은 요청 순서대로 돌아오므로 클라이언트는 여러 요청을 한 번에 보내고(파이프라이닝)
+ * 나중에 응답을 순서대로 읽을 수 있습니다.
+ */
+public final class TodoProtocol {
+    public static final int DEFAULT_PORT = 7070;
+
+    public static final String ADD = "ADD";
+    public static final String ALL = "ALL";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String COMPLETED_WITH_ARCHIVE = "COMPLETED_WITH_ARCHIVE";
+    public static final String INCOMPLETE = "INCOMPLETE";
+    public static final String TOGGLE = "TOGGLE";
+    public static final String DELETE = "DELETE";
+    public static final String COUNT = "COUNT";
+    public static final String GET = "GET";
+    public static final String ADD_ALL = "ADD_ALL";          // 인자: Todo 줄들
+    public static final String TOGGLE_ALL = "TOGGLE_ALL";    // 인자: 인덱스들
+    public static final String DELETE_ALL = "DELETE_ALL";    // 인자: 인덱스들
+    public static final String COMPLETE_ALL = "COMPLETE_ALL";
+    public static final String DELETE_COMPLETED = "DELETE_COMPLETED";
+    public static final String VERSION = "VERSION";
+    public static final String SNAPSHOT = "SNAPSHOT";
+    public static final String SORTED = "SORTED";            // 인자: 정렬 기준, offset, limit
+    public static final String AGENDA = "AGENDA";            // 인자: limit
+    public static final String OCCURRENCES = "OCCURRENCES";  // 인자: 시작일, 종료일, limit
+    public static final String STATS = "STATS";
+    public static final String ADD_SUBTASK = "ADD_SUBTASK";  // 인자: 부모 인덱스, Todo 줄
+    public static final String OUTLINE = "OUTLINE";
+    public static final String DEPEND = "DEPEND";            // 인자: 먼저 끝낼 Todo 인덱스, 기다리는 Todo 인덱스
+    public static final String READY = "READY";              // 인자: limit
+    public static final String PING = "PING";
+    public static final String QUIT = "QUIT";
+
+    public static final String OK = "OK";
+    public static final String ERR = "ERR";
+
+    private TodoProtocol() {
+    }
+
+    /**
+     * 명령어와 인자들을 한 줄로 인코딩
+     * @param command 명령어
+     * @param args 인자 목록
+     * @return 줄바꿈을 포함하지 않는 요청 줄
+     */
+    public static String request(String command, String... args) {
+        StringBuilder sb = new StringBuilder(command);
+        for (String arg : args) {
+            sb.append('\t');
+            escape(sb, arg == null ? "" : arg);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 필드들을 이스케이프하여 탭으로 이은 한 줄 (split의 반대)
+     * @param fields 필드 목록
+     * @return 줄바꿈을 포함하지 않는 줄
+     */
+    public static String join(String... fields) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                sb.append('\t');
+            }
+            escape(sb, fields[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한 줄을 탭 기준으로 나누고 이스케이프를 복원
+     * @param line 요청 또는 응답 줄
+     * @return 필드 목록 (첫 번째는 명령어 또는 상태, \0 으로 쓴 필드는 null)
+     */
+    public static String[] split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean nullField = false;  // 필드가 \0 하나뿐이면 null
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\t') {
+                fields.add(nullField && current.length() == 0 ? null : current.toString());
+                current.setLength(0);
+                nullField = false;
+            } else if (c == '\\' && i + 1 < line.length()) {
+                char next = line.charAt(++i);
+                if (next == '0') {
+                    nullField = true;
+                } else if (next == 't') {
+                    current.append('\t');
+                } else if (next == 'n') {
+                    current.append('\n');
+                } else if (next == 'r') {
+                    current.append('\r');
+                } else {
+                    current.append(next);
+                }
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(nullField && current.length() == 0 ? null : current.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * Todo를 한 줄로 인코딩
+     * @param todo 인코딩할 Todo
+     * @return Todo 줄
+     */
+    public static String encodeTodo(Todo todo) {
+        StringBuilder sb = new StringBuilder();
+        escape(sb, todo.getTitle());
+        sb.append('\t');
+        escape(sb, todo.getDescription());
+        sb.append('\t').append(todo.isCompleted()).append('\t');
+        if (todo.getDueDate() != null) {
+            sb.append(todo.getDueDate());
+        }
+        for (Map.Entry<String, String> e : todo.getMetadata().entrySet()) {
+            sb.append('\t');
+            StringBuilder pair = new StringBuilder();
+            for (int i = 0; i < e.getKey().length(); i++) {
+                char c = e.getKey().charAt(i);
+                if (c == '=' || c == '\\') {
+                    pair.append('\\');
+                }
+                pair.append(c);
+            }
+            if (e.getValue() != null) {
+                pair.append('=').append(e.getValue());
+            }
+            escape(sb, pair.toString());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Todo 줄을 디코딩
+     * @param line encodeTodo로 만든 줄
+     * @return 복원된 Todo
+     */
+    public static Todo decodeTodo(String line) {
+        String[] f = split(line);
+        if (f.length < 4) {
+            throw new IllegalArgumentException("잘못된 Todo 줄: " + line);
+        }
+        LocalDate dueDate = f[3] == null || f[3].isEmpty() ? null : LocalDate.parse(f[3]);
+        Todo todo = new Todo(f[0], f[1], dueDate, null);
+        for (int i = 4; i < f.length; i++) {
+            decodeMetadata(todo, f[i]);
+        }
+        todo.setCompleted(Boolean.parseBoolean(f[2]));
+        return todo;
+    }
+
+    /**
+     * "키=값" 필드를 메타데이터에 넣음 (키의 \=, \\ 를 복원하고, 이스케이프되지 않은 첫 '=' 뒤가 값)
+     */
+    private static void decodeMetadata(Todo todo, String field) {
+        if (field == null) {
+            return;
+        }
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '\\' && i + 1 < field.length()) {
+                key.append(field.charAt(++i));
+            } else if (c == '=') {
+                todo.setMetadataField(key.toString(), field.substring(i + 1));
+                return;
+            } else {
+                key.append(c);
+            }
+        }
+        todo.setMetadataField(key.toString(), null);  // 값이 null인 항목
+    }
+
+    private static void escape(StringBuilder sb, String text) {
+        if (text == null) {
+            sb.append("\\0");
+            return;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\t': sb.append("\\t"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\\': sb.append("\\\\"); break;
+                default: sb.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package todo.infrastructure;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * CSV 저장소 쓰기 한 번(전체 저장 또는 끝에 덧붙이기)을 나타내는 JFR 이벤트
+ */
+@Name("todo.Save")
+@Label("Todo Save")
+@Category({"Todo", "Repository"})
+@Description("TodoCsvRepository.save(List) 또는 save(Todo)/saveAll(List) 한 번")
+final class TodoSaveEvent extends Event {
+    static final String FULL = "full";
+    static final String APPEND = "append";
+
+    @Label("File")
+    String file;
+
+    @Label("Kind")
+    @Description("full: 파일 전체 다시 쓰기, append: 끝에 덧붙이기")
+    String kind;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+
+    @Label("File Size")
+    @DataAmount
+    long fileSize;
+
+    @Label("Saved")
+    @Description("false이면 버전 충돌이나 쓰기 오류로 저장하지 못함")
+    boolean saved;
+}
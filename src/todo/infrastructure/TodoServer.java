@@ -0,0 +1,269 @@
+package todo.infrastructure;
+
+import todo.application.TodoListSnapshot;
+import todo.application.TodoOrder;
+import todo.application.TodoOutline;
+import todo.application.TodoPage;
+import todo.application.TodoService;
+import todo.application.TodoStats;
+import todo.domain.Todo;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * TodoService를 localhost 소켓으로 제공하는 서버
+ *
+ * 여러 터미널과 스크립트가 todos.csv를 각자 다시 읽지 않고
+ * 하나의 메모리 저장소를 공유할 수 있도록 합니다.
+ * 연결마다 가상 스레드 하나를 사용하며, 프로토콜은 TodoProtocol을 따릅니다.
+ */
+public class TodoServer implements Closeable {
+    private final TodoService service;
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 루프백 주소에 바인딩된 서버 생성
+     * @param service 공유할 서비스
+     * @param port 포트 (0이면 임의 포트)
+     * @throws IOException 바인딩 실패 시
+     */
+    public TodoServer(TodoService service, int port) throws IOException {
+        this.service = service;
+        this.serverSocket = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * 실제로 바인딩된 포트 반환
+     * @return 포트 번호
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * 연결을 수락하는 루프 실행 (close()가 호출될 때까지 블로킹)
+     */
+    public void serve() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.submit(() -> handle(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("연결 수락 실패: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 하나의 연결을 처리
+     * 입력 버퍼에 남은 요청이 없을 때만 flush하여 파이프라이닝된 요청의 응답을 모아 보냅니다.
+     */
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] req = TodoProtocol.split(line);
+                if (TodoProtocol.QUIT.equals(req[0])) {
+                    break;
+                }
+                try {
+                    dispatch(req, out);
+                } catch (RuntimeException e) {
+                    out.write(TodoProtocol.request(TodoProtocol.ERR, String.valueOf(e.getMessage())));
+                    out.write('\n');
+                }
+                if (!in.ready()) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            // 클라이언트 연결 종료
+        }
+    }
+
+    private void dispatch(String[] req, BufferedWriter out) throws IOException {
+        switch (req[0]) {
+            case TodoProtocol.ADD:
+                LocalDate dueDate = req.length > 3 && !req[3].isEmpty() ? LocalDate.parse(req[3]) : null;
+                service.addTodo(req[1], req[2], dueDate);
+                ok(out, "");
+                break;
+            case TodoProtocol.ALL:
+                writeList(out, service.getAllTodos());
+                break;
+            case TodoProtocol.COMPLETED:
+                writeList(out, service.getCompletedTodos());
+                break;
+            case TodoProtocol.COMPLETED_WITH_ARCHIVE:
+                writeList(out, service.getCompletedTodos(true));
+                break;
+            case TodoProtocol.INCOMPLETE:
+                writeList(out, service.getIncompleteTodos());
+                break;
+            case TodoProtocol.TOGGLE:
+                ok(out, String.valueOf(service.toggleTodo(Integer.parseInt(req[1]))));
+                break;
+            case TodoProtocol.DELETE:
+                ok(out, String.valueOf(service.deleteTodo(Integer.parseInt(req[1]))));
+                break;
+            case TodoProtocol.COUNT:
+                ok(out, String.valueOf(service.getTodoCount()));
+                break;
+            case TodoProtocol.GET:
+                Todo todo = service.getTodoAt(Integer.parseInt(req[1]));
+                ok(out, todo == null ? "" : TodoProtocol.encodeTodo(todo));
+                break;
+            case TodoProtocol.ADD_ALL:
+                List<Todo> added = new ArrayList<>(req.length - 1);
+                for (int i = 1; i < req.length; i++) {
+                    added.add(TodoProtocol.decodeTodo(req[i]));
+                }
+                ok(out, String.valueOf(service.addAll(added)));
+                break;
+            case TodoProtocol.TOGGLE_ALL:
+                ok(out, String.valueOf(service.toggleAll(indices(req))));
+                break;
+            case TodoProtocol.DELETE_ALL:
+                ok(out, String.valueOf(service.deleteAll(indices(req))));
+                break;
+            case TodoProtocol.COMPLETE_ALL:
+                ok(out, String.valueOf(service.completeAll()));
+                break;
+            case TodoProtocol.DELETE_COMPLETED:
+                ok(out, String.valueOf(service.deleteCompleted()));
+                break;
+            case TodoProtocol.VERSION:
+                ok(out, String.valueOf(service.getSnapshot().getVersion()));
+                break;
+            case TodoProtocol.SNAPSHOT:
+                TodoListSnapshot snapshot = service.getSnapshot();
+                ok(out, snapshot.getVersion() + "\t" + snapshot.size());
+                writeTodos(out, snapshot.asList());
+                break;
+            case TodoProtocol.SORTED:
+                writePage(out, service.getSortedTodos(TodoOrder.valueOf(req[1]),
+                        Integer.parseInt(req[2]), Integer.parseInt(req[3])));
+                break;
+            case TodoProtocol.AGENDA:
+                writePage(out, service.getAgenda(Integer.parseInt(req[1])));
+                break;
+            case TodoProtocol.OCCURRENCES:
+                writePage(out, service.getOccurrences(LocalDate.parse(req[1]), LocalDate.parse(req[2]),
+                        Integer.parseInt(req[3])));
+                break;
+            case TodoProtocol.ADD_SUBTASK:
+                ok(out, String.valueOf(service.addSubtask(Integer.parseInt(req[1]), TodoProtocol.decodeTodo(req[2]))));
+                break;
+            case TodoProtocol.DEPEND:
+                ok(out, String.valueOf(service.addDependency(Integer.parseInt(req[1]), Integer.parseInt(req[2]))));
+                break;
+            case TodoProtocol.READY:
+                writePage(out, service.getReady(Integer.parseInt(req[1])));
+                break;
+            case TodoProtocol.OUTLINE:
+                writeOutline(out, service.getOutline());
+                break;
+            case TodoProtocol.STATS:
+                writeStats(out, service.getStats());
+                break;
+            case TodoProtocol.PING:
+                ok(out, "PONG");
+                break;
+            default:
+                throw new IllegalArgumentException("알 수 없는 명령어: " + req[0]);
+        }
+    }
+
+    private static List<Integer> indices(String[] req) {
+        List<Integer> indices = new ArrayList<>(req.length - 1);
+        for (int i = 1; i < req.length; i++) {
+            indices.add(Integer.parseInt(req[i]));
+        }
+        return indices;
+    }
+
+    private void ok(BufferedWriter out, String value) throws IOException {
+        // 값은 이미 인코딩된 Todo 줄일 수 있으므로 다시 이스케이프하지 않음
+        out.write(TodoProtocol.OK);
+        out.write('\t');
+        out.write(value);
+        out.write('\n');
+    }
+
+    private void writePage(BufferedWriter out, TodoPage page) throws IOException {
+        ok(out, page.getTotal() + "\t" + page.size());
+        for (int i = 0; i < page.size(); i++) {
+            out.write(String.valueOf(page.getIndex(i)));
+            out.write('\t');
+            out.write(TodoProtocol.encodeTodo(page.get(i)));
+            out.write('\n');
+        }
+    }
+
+    private void writeOutline(BufferedWriter out, TodoOutline outline) throws IOException {
+        ok(out, String.valueOf(outline.size()));
+        for (int i = 0; i < outline.size(); i++) {
+            out.write(outline.getIndex(i) + "\t" + outline.getDepth(i) + "\t" + outline.getDone(i) + "\t"
+                    + outline.getTotal(i) + "\t");
+            out.write(TodoProtocol.encodeTodo(outline.get(i)));
+            out.write('\n');
+        }
+    }
+
+    private void writeStats(BufferedWriter out, TodoStats stats) throws IOException {
+        StringJoiner series = new StringJoiner(",");
+        for (int count : stats.getCompletedPerDay()) {
+            series.add(String.valueOf(count));
+        }
+        List<String> groups = new ArrayList<>();
+        for (String key : TodoStats.GROUP_KEYS) {
+            stats.getGroup(key).forEach((value, count) -> groups.add(TodoProtocol.join(key, value,
+                    String.valueOf(count.getTotal()), String.valueOf(count.getCompleted()))));
+        }
+        ok(out, stats.getToday() + "\t" + stats.getTotal() + "\t" + stats.getCompleted() + "\t" + stats.getOverdue()
+                + "\t" + stats.getDueThisWeek() + "\t" + series + "\t" + groups.size());
+        for (String line : groups) {
+            out.write(line);
+            out.write('\n');
+        }
+    }
+
+    private void writeList(BufferedWriter out, List<Todo> todos) throws IOException {
+        ok(out, String.valueOf(todos.size()));
+        writeTodos(out, todos);
+    }
+
+    private void writeTodos(BufferedWriter out, List<Todo> todos) throws IOException {
+        for (Todo todo : todos) {
+            out.write(TodoProtocol.encodeTodo(todo));
+            out.write('\n');
+        }
+    }
+
+    /**
+     * 서버 소켓과 연결 스레드를 종료
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.shutdownNow();
+    }
+}
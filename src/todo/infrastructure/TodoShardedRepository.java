@@ -0,0 +1,482 @@
+package todo.infrastructure;
+
+import todo.domain.RepositoryTrace;
+import todo.domain.Todo;
+import todo.domain.TodoChange;
+import todo.domain.TodoFilter;
+import todo.domain.TodoRepository;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Todo를 여러 샤드 파일에 나누어 저장하는 저장소 구현체
+ *
+ * 하나의 todos.csv는 다시 쓸 때마다 모든 바이트를 건드리므로,
+ * 디렉터리 안의 여러 CSV 샤드로 나누고 변경된 샤드만 다시 씁니다.
+ * - ID_HASH: 안정적인 ID의 해시로 N개 샤드에 분배
+ * - DUE_MONTH: 마감일의 연-월별로 분배 (마감일이 없으면 별도 샤드)
+ *
+ * 각 Todo는 메타데이터 "id"에 단조 증가하는 ID를 가지며, 로드 시 ID 순으로 합쳐
+ * 기존 저장소와 같은 순서(추가된 순서)를 유지합니다.
+ * 샤드 목록, 분배 방식, 다음 ID는 작은 manifest.properties 파일에 기록합니다.
+ * 각 샤드는 TodoCsvRepository가 관리하므로 파일 락과 충돌 감지를 그대로 사용합니다.
+ *
+ * 어느 샤드가 바뀌었는지는 행을 직렬화해 비교하지 않고, 마지막 로드/저장 때 각 Todo가 놓인 샤드와
+ * 수정 번호(Todo.getRevision)를 기억해 두었다가 저장할 때 달라진 Todo가 있는 샤드만 고릅니다.
+ * 여러 샤드를 다시 쓸 때는 모든 샤드의 스탬프를 먼저 확인하고 하나라도 충돌하면 아무 샤드도 쓰지 않습니다.
+ */
+public class TodoShardedRepository implements TodoRepository, IoStatistics {
+    public static final String ID_KEY = "id";
+
+    /**
+     * 샤드 분배 방식
+     */
+    public enum Strategy {
+        ID_HASH,
+        DUE_MONTH
+    }
+
+    private static final String MANIFEST = "manifest.properties";
+    private static final String NO_DUE_SHARD = "no-due.csv";
+    private static final String ARCHIVE = "archive.csv.gz";
+
+    private final Path directory;
+    private final TodoArchive archive;
+    private final Strategy strategy;
+    private final int shardCount;
+    private final boolean dictionaryMode;  // 각 샤드를 사전 코드로 기록할지 여부
+    private final Map<String, TodoCsvRepository> shards = new ConcurrentHashMap<>();
+    // 마지막 로드/저장 때 파일과 일치했던 상태: Todo별 샤드와 수정 번호, 샤드별 행 수
+    private Map<Todo, Placement> placements = new IdentityHashMap<>();
+    private final Map<String, Integer> rowCounts = new HashMap<>();
+    private long nextId = 1;
+    private final LongAdder ioErrors = new LongAdder();  // manifest/보관 파일 오류 (샤드 오류는 각 샤드가 셈)
+
+    /**
+     * 샤드 저장소 생성
+     * 디렉터리에 manifest가 있으면 기록된 분배 방식과 샤드 수를 따릅니다.
+     * @param directory 샤드 파일을 둘 디렉터리
+     * @param strategy 새로 만들 때의 분배 방식
+     * @param shardCount ID_HASH 방식의 샤드 수
+     */
+    public TodoShardedRepository(String directory, Strategy strategy, int shardCount) {
+        this(directory, strategy, shardCount, false);
+    }
+
+    /**
+     * 샤드의 저장 형식을 선택하는 생성자
+     * @param directory 샤드 파일을 둘 디렉터리
+     * @param strategy 새로 만들 때의 분배 방식
+     * @param shardCount ID_HASH 방식의 샤드 수
+     * @param dictionaryMode true이면 각 샤드에 반복되는 메타데이터 문자열을 사전 코드로 한 번만 기록
+     */
+    public TodoShardedRepository(String directory, Strategy strategy, int shardCount, boolean dictionaryMode) {
+        this.directory = Paths.get(directory);
+        this.dictionaryMode = dictionaryMode;
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("샤드 디렉터리를 만들 수 없습니다: " + directory, e);
+        }
+        this.archive = new TodoArchive(this.directory.resolve(ARCHIVE));
+        Properties manifest = readManifest();
+        this.strategy = Strategy.valueOf(manifest.getProperty("strategy", strategy.name()));
+        this.shardCount = Integer.parseInt(manifest.getProperty("shardCount", String.valueOf(shardCount)));
+        if (this.shardCount <= 0) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다: " + this.shardCount);
+        }
+        this.nextId = Long.parseLong(manifest.getProperty("nextId", "1"));
+        for (String name : manifest.getProperty("shards", "").split(",")) {
+            if (!name.isEmpty()) {
+                shard(name);
+            }
+        }
+    }
+
+    /**
+     * 모든 샤드에서 Todo를 로드
+     * @return 전체 Todo 목록 (ID 순)
+     */
+    @Override
+    public List<Todo> load() {
+        return load(TodoFilter.ALL);
+    }
+
+    /**
+     * 모든 샤드를 병렬로 로드한 뒤 ID 순으로 합침
+     * @param filter 적용할 필터 (ALL, COMPLETED, INCOMPLETE)
+     * @return 필터링된 Todo 목록
+     */
+    @Override
+    public synchronized List<Todo> load(TodoFilter filter) {
+        Map<String, List<Todo>> loaded = new ConcurrentHashMap<>();
+        shards.entrySet().parallelStream()
+                .forEach(e -> loaded.put(e.getKey(), e.getValue().load(filter)));
+        List<Todo> todos = new ArrayList<>();
+        if (filter == TodoFilter.ALL) {
+            placements = new IdentityHashMap<>();
+            rowCounts.clear();
+        }
+        for (Map.Entry<String, List<Todo>> e : loaded.entrySet()) {
+            todos.addAll(e.getValue());
+            if (filter == TodoFilter.ALL) {
+                placed(e.getKey(), e.getValue(), null);
+            }
+        }
+        todos.sort(Comparator.comparingLong(TodoShardedRepository::idOf));
+        return todos;
+    }
+
+    /**
+     * 샤드를 로드하고 필요하면 보관된 Todo를 뒤에 이어 붙임
+     * @param filter 적용할 필터 (ALL, COMPLETED, INCOMPLETE)
+     * @param includeArchived true이면 보관 파일의 Todo도 포함
+     * @return 필터링된 Todo 목록
+     */
+    @Override
+    public List<Todo> load(TodoFilter filter, boolean includeArchived) {
+        List<Todo> todos = load(filter);
+        if (includeArchived) {
+            try {
+                todos.addAll(archive.load(filter));
+            } catch (IOException e) {
+                failed(e);  // 보관 파일을 읽지 못하면 작업 목록만 반환
+            }
+        }
+        return todos;
+    }
+
+    /**
+     * 완료 Todo를 보관 파일에 덧붙이고, 보관된 항목이 있던 샤드만 다시 저장
+     * 다시 쓸 샤드의 스탬프를 모두 확인한 뒤 샤드 락을 쥔 채로 덧붙이므로,
+     * 충돌로 저장하지 못하면 보관 파일도 그대로입니다.
+     * @param archived 보관할 완료 Todo 목록
+     * @param remaining 작업 목록에 남길 Todo 목록
+     * @return 샤드 저장 성공 여부 (보관하지 못했으면 샤드도 건드리지 않고 false)
+     */
+    @Override
+    public synchronized boolean archive(List<Todo> archived, List<Todo> remaining) {
+        return save(remaining, () -> archive.append(archived));
+    }
+
+    /**
+     * 인덱스로 특정 Todo를 가져오기
+     * @param index 0부터 시작하는 인덱스
+     * @return 해당 인덱스의 Todo 또는 범위를 벗어나면 null
+     */
+    @Override
+    public Todo get(int index) {
+        // 기억해 둔 배치를 바꾸지 않도록 load()를 거치지 않고 읽음 (반환한 Todo는 저장 대상이 아님)
+        List<Todo> all = new ArrayList<>();
+        for (TodoCsvRepository shard : shards.values()) {
+            all.addAll(shard.load());
+        }
+        all.sort(Comparator.comparingLong(TodoShardedRepository::idOf));
+        if (index >= 0 && index < all.size()) {
+            return all.get(index);
+        }
+        return null;
+    }
+
+    /**
+     * Todo 목록을 샤드별로 나누어 저장
+     * 마지막 로드/저장 이후 수정되었거나 새로 들어왔거나 빠져나간 Todo가 있는 샤드만 다시 씁니다.
+     * 다시 쓸 샤드의 스탬프를 모두 확인한 뒤에 쓰므로 충돌하면 어느 샤드도 바뀌지 않습니다.
+     * @param todos 저장할 Todo 목록
+     * @return 모든 샤드 저장에 성공했으면 true, 하나라도 충돌하면 false
+     */
+    @Override
+    public synchronized boolean save(List<Todo> todos) {
+        return save(todos, null);
+    }
+
+    private boolean save(List<Todo> todos, TodoCsvRepository.BeforeWrite beforeWrite) {
+        boolean idsAssigned = false;
+        Map<String, List<Todo>> partitions = new LinkedHashMap<>();
+        for (String name : shards.keySet()) {
+            partitions.put(name, new ArrayList<>());
+        }
+        Map<Todo, Placement> next = new IdentityHashMap<>(todos.size() * 2);
+        Set<String> dirty = new TreeSet<>();
+        for (Todo todo : todos) {
+            idsAssigned |= ensureId(todo);  // ID 부여도 수정이므로 수정 번호는 그 뒤에 읽음
+            String name = shardNameFor(todo);
+            partitions.computeIfAbsent(name, k -> new ArrayList<>()).add(todo);
+            Placement previous = placements.get(todo);
+            if (previous != null && previous.revision == todo.getRevision() && previous.shard.equals(name)) {
+                next.put(todo, previous);
+                continue;
+            }
+            dirty.add(name);  // 기록할 수정 번호는 행을 직렬화할 때 읽음
+            if (previous != null) {
+                dirty.add(previous.shard);  // 다른 샤드에서 옮겨 옴 (마감일 변경)
+            }
+        }
+        for (Map.Entry<String, List<Todo>> e : partitions.entrySet()) {
+            Integer count = rowCounts.get(e.getKey());
+            if (count == null || count != e.getValue().size()) {
+                dirty.add(e.getKey());  // 삭제된 Todo가 있거나 아직 파일 내용을 모르는 샤드
+            }
+        }
+        boolean newShard = dirty.stream().anyMatch(name -> !shards.containsKey(name));
+
+        List<String> names = new ArrayList<>(dirty);
+        List<TodoCsvRepository.Rewrite> rewrites = names.parallelStream()
+                .map(name -> shard(name).prepare(partitions.getOrDefault(name, List.of())))
+                .toList();
+        for (int i = 0; i < names.size(); i++) {
+            // 직렬화 뒤에 바뀐 Todo는 파일과 번호가 달라 다음 저장에서 다시 씀
+            List<Todo> rows = partitions.getOrDefault(names.get(i), List.of());
+            for (int row = 0; row < rows.size(); row++) {
+                next.put(rows.get(row), new Placement(names.get(i), rewrites.get(i).revision(row)));
+            }
+        }
+        boolean ok;
+        try {
+            ok = TodoCsvRepository.commit(rewrites, beforeWrite);
+        } catch (IOException e) {
+            failed(e);
+            ok = false;
+        }
+        if (ok) {
+            placements = next;
+            for (String name : dirty) {
+                rowCounts.put(name, partitions.getOrDefault(name, List.of()).size());
+            }
+        }
+        if (idsAssigned || newShard) {
+            writeManifest();
+        }
+        return ok;
+    }
+
+    /**
+     * 단일 Todo를 해당 샤드 끝에 추가
+     * @param todo 추가할 Todo 항목
+     */
+    @Override
+    public synchronized void save(Todo todo) {
+        saveAll(List.of(todo));
+    }
+
+    /**
+     * 여러 Todo를 샤드별로 모아 샤드마다 한 번씩 덧붙임 (매니페스트도 한 번만 기록)
+     * @param todos 추가할 Todo 목록
+     */
+    @Override
+    public synchronized void saveAll(List<Todo> todos) {
+        if (todos.isEmpty()) {
+            return;
+        }
+        Map<String, List<Todo>> partitions = new LinkedHashMap<>();
+        for (Todo todo : todos) {
+            ensureId(todo);
+            partitions.computeIfAbsent(shardNameFor(todo), k -> new ArrayList<>()).add(todo);
+        }
+        for (Map.Entry<String, List<Todo>> e : partitions.entrySet()) {
+            // 직렬화 전에 번호를 읽어, 덧붙이는 사이에 바뀐 Todo는 다음 저장에서 다시 씀
+            long[] revisions = e.getValue().stream().mapToLong(Todo::getRevision).toArray();
+            if (shard(e.getKey()).appendAll(e.getValue()) && rowCounts.containsKey(e.getKey())) {
+                placed(e.getKey(), e.getValue(), revisions);
+            }
+        }
+        writeManifest();  // nextId와 새 샤드 기록
+    }
+
+    /**
+     * manifest의 다음 ID를 발급하고 바로 기록 (저장 때 부여하는 ID와 같은 카운터라 겹치지 않음)
+     * 다른 프로세스가 먼저 올린 값이 있으면 그 뒤에서 발급하며, 카운터는 줄어들지 않습니다.
+     * @return 새 ID
+     */
+    @Override
+    public synchronized String newId() {
+        nextId = Math.max(nextId, Long.parseLong(readManifest().getProperty("nextId", "1")));
+        String id = String.valueOf(nextId++);
+        writeManifest();
+        return id;
+    }
+
+    /**
+     * 각 샤드에서 외부 변경을 조회하여 합침
+     * manifest를 다시 읽어 다른 프로세스가 만든 샤드와 부여한 ID를 반영합니다.
+     * - 새 샤드가 생겼거나 한 샤드라도 다시 쓰였으면: 모든 샤드를 다시 로드
+     * - 샤드 끝에 줄만 덧붙었으면: 덧붙은 Todo만 ID 순으로 합쳐 반환
+     * @return 변경 내용, 변경이 없으면 null
+     */
+    @Override
+    public synchronized TodoChange pollChanges() {
+        Properties manifest = readManifest();
+        nextId = Math.max(nextId, Long.parseLong(manifest.getProperty("nextId", "1")));
+        boolean discovered = false;
+        for (String name : manifest.getProperty("shards", "").split(",")) {
+            if (!name.isEmpty() && !shards.containsKey(name)) {
+                shard(name);
+                discovered = true;
+            }
+        }
+        if (discovered) {
+            return TodoChange.reloaded(load());
+        }
+        List<Todo> appended = new ArrayList<>();
+        for (Map.Entry<String, TodoCsvRepository> e : shards.entrySet()) {
+            TodoChange change = e.getValue().pollChanges();
+            if (change == null) {
+                continue;
+            }
+            if (change.isReloaded()) {
+                return TodoChange.reloaded(load());
+            }
+            for (Todo todo : change.getTodos()) {
+                ensureId(todo);  // 다른 프로세스가 부여한 ID 뒤에서 다음 ID를 이어 감
+            }
+            if (rowCounts.containsKey(e.getKey())) {
+                placed(e.getKey(), change.getTodos(), null);
+            }
+            appended.addAll(change.getTodos());
+        }
+        if (appended.isEmpty()) {
+            return null;
+        }
+        appended.sort(Comparator.comparingLong(TodoShardedRepository::idOf));
+        return TodoChange.appended(appended);
+    }
+
+    @Override
+    public long getBytesRead() {
+        return shards.values().stream().mapToLong(TodoCsvRepository::getBytesRead).sum();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return shards.values().stream().mapToLong(TodoCsvRepository::getBytesWritten).sum();
+    }
+
+    @Override
+    public long getRowsParsed() {
+        return shards.values().stream().mapToLong(TodoCsvRepository::getRowsParsed).sum();
+    }
+
+    @Override
+    public long getIoErrors() {
+        return ioErrors.sum() + shards.values().stream().mapToLong(TodoCsvRepository::getIoErrors).sum();
+    }
+
+    /**
+     * Todo가 속할 샤드 파일 이름
+     */
+    private String shardNameFor(Todo todo) {
+        if (strategy == Strategy.DUE_MONTH) {
+            LocalDate due = todo.getDueDate();
+            if (due == null) {
+                return NO_DUE_SHARD;
+            }
+            return String.format("due-%04d-%02d.csv", due.getYear(), due.getMonthValue());
+        }
+        long id = idOf(todo);
+        // 연속된 ID가 고르게 퍼지도록 섞은 뒤 나머지 연산
+        long mixed = id * 0x9E3779B97F4A7C15L;
+        int index = (int) Math.floorMod(mixed ^ (mixed >>> 32), (long) shardCount);
+        return String.format("shard-%02d.csv", index);
+    }
+
+    /**
+     * ID가 없는 Todo에 다음 ID를 부여
+     * @return 새로 부여했으면 true
+     */
+    private boolean ensureId(Todo todo) {
+        if (todo.getMetadataField(ID_KEY) != null) {
+            long id = idOf(todo);
+            if (id != Long.MAX_VALUE) {
+                nextId = Math.max(nextId, id + 1);
+            }
+            return false;
+        }
+        todo.setMetadataField(ID_KEY, String.valueOf(nextId++));
+        return true;
+    }
+
+    private static long idOf(Todo todo) {
+        String id = todo.getMetadataField(ID_KEY);
+        if (id == null) {
+            return Long.MAX_VALUE;  // ID가 없으면 맨 뒤
+        }
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * 샤드 파일에 들어 있는 것으로 확인된 Todo를 기억 (행 수도 함께 늘림)
+     * @param revisions 행을 쓸 때 읽어 둔 수정 번호 (null이면 방금 읽어 만든 Todo라 현재 번호)
+     */
+    private void placed(String name, List<Todo> todos, long[] revisions) {
+        for (int i = 0; i < todos.size(); i++) {
+            Todo todo = todos.get(i);
+            placements.put(todo, new Placement(name, revisions != null ? revisions[i] : todo.getRevision()));
+        }
+        rowCounts.merge(name, todos.size(), Integer::sum);
+    }
+
+    /**
+     * 마지막으로 파일과 일치했을 때 Todo가 놓인 샤드와 수정 번호
+     */
+    private static final class Placement {
+        private final String shard;
+        private final long revision;
+
+        Placement(String shard, long revision) {
+            this.shard = shard;
+            this.revision = revision;
+        }
+    }
+
+    private TodoCsvRepository shard(String name) {
+        return shards.computeIfAbsent(name, n -> new TodoCsvRepository(directory.resolve(n).toString(), dictionaryMode));
+    }
+
+    private Properties readManifest() {
+        Properties manifest = new Properties();
+        Path file = directory.resolve(MANIFEST);
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                manifest.load(reader);
+            } catch (IOException e) {
+                failed(e);  // manifest를 읽지 못하면 기본값으로 시작
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * manifest를 임시 파일에 쓴 뒤 원자적으로 교체
+     */
+    private void writeManifest() {
+        Properties manifest = new Properties();
+        manifest.setProperty("strategy", strategy.name());
+        manifest.setProperty("shardCount", String.valueOf(shardCount));
+        manifest.setProperty("nextId", String.valueOf(nextId));
+        manifest.setProperty("shards", String.join(",", new TreeSet<>(shards.keySet())));
+        try {
+            Path temp = directory.resolve(MANIFEST + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                manifest.store(writer, "todo shards");
+            }
+            Files.move(temp, directory.resolve(MANIFEST),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            failed(e);  // 다음 저장에서 다시 기록
+        }
+    }
+
+    private void failed(IOException e) {
+        ioErrors.increment();
+        RepositoryTrace.error(e);
+    }
+}
@@ -0,0 +1,293 @@
+package todo.infrastructure;
+
+import todo.domain.Todo;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 시작 속도를 위한 Todo 목록의 이진 스냅샷 (todos.csv 옆의 .snapshot 파일)
+ *
+ * 전체 로드나 저장이 끝난 직후의 메모리 목록을 CSV 파싱 없이 바로 복원할 수 있는 형태로 기록합니다.
+ * 스냅샷에는 그 시점 CSV의 길이, 수정 시각, [0, 길이) 전체의 CRC32가 함께 들어 있어
+ * 저장소가 현재 CSV와 비교한 뒤에만 사용합니다. 스냅샷 내용 전체에도 CRC32를 붙여 잘린 파일은 버립니다.
+ *
+ * 형식 (빅 엔디언): 매직, 버전, 길이, 수정 시각, CSV CRC, 사전 문자열들, Todo들, CRC32
+ * 제목/설명은 UTF-8 바이트 수(-1은 null)와 바이트로, 마감일은 yyyyMMdd 정수(0은 없음)로 기록합니다.
+ * 네 자리가 아닌 연도의 마감일은 -1 뒤에 epoch day로 기록합니다.
+ * 메타데이터 키/값은 처음 나올 때만 바이트로 쓰고 이후에는 번호로 참조하므로,
+ * 복원할 때 반복되는 문자열을 다시 디코딩하지 않고 같은 인스턴스를 공유합니다.
+ */
+final class TodoSnapshot {
+    private static final int MAGIC = 0x54445331;  // "TDS1"
+    private static final int VERSION = 3;  // 3: 끝부분 지문 대신 CSV 전체 CRC
+    private static final int MAX_SHARED = 65_536;   // 번호로 참조할 메타데이터 문자열 최대 수
+    private static final int MAX_SHARED_LENGTH = 32;
+    // 메타데이터 문자열 태그: 0 = 그대로, 1 = 그대로 + 다음 번호로 기억, 2 이상 = (태그 - 2)번 문자열
+    private static final int INLINE = 0;
+    private static final int INLINE_SHARED = 1;
+
+    /**
+     * 스냅샷에서 읽은 내용
+     */
+    static final class Image {
+        final long length;
+        final long modified;
+        final long checksum;  // CSV [0, length)의 CRC32
+        final List<String> dictionary;
+        final List<Todo> todos;
+
+        Image(long length, long modified, long checksum, List<String> dictionary, List<Todo> todos) {
+            this.length = length;
+            this.modified = modified;
+            this.checksum = checksum;
+            this.dictionary = dictionary;
+            this.todos = todos;
+        }
+    }
+
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[256]);
+
+    private final Path path;
+
+    /**
+     * 스냅샷 파일 생성
+     * @param path 스냅샷 파일 경로
+     */
+    TodoSnapshot(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 스냅샷을 메모리 매핑하여 읽음
+     * @return 읽은 내용, 파일이 없거나 손상되었으면 null
+     */
+    Image read() {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 8 || size > Integer.MAX_VALUE) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, (int) size - 8));
+            if (buffer.getLong((int) size - 8) != crc.getValue()) {
+                return null;  // 잘렸거나 손상됨
+            }
+            buffer.limit((int) size - 8);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            long length = buffer.getLong();
+            long modified = buffer.getLong();
+            long checksum = buffer.getLong();
+            int dictionarySize = buffer.getInt();
+            List<String> dictionary = new ArrayList<>(dictionarySize);
+            for (int i = 0; i < dictionarySize; i++) {
+                dictionary.add(TodoCsvFormat.intern(readString(buffer)));
+            }
+            int count = buffer.getInt();
+            List<Todo> todos = new ArrayList<>(count);
+            List<String> shared = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                todos.add(readTodo(buffer, shared));
+            }
+            return new Image(length, modified, checksum, dictionary, todos);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 목록을 스냅샷으로 기록 (임시 파일에 쓴 뒤 원자적으로 교체)
+     * 기록에 실패하면 조용히 포기하며, 다음 시작은 CSV 전체 파싱으로 돌아갑니다.
+     * @param length 목록과 일치하는 CSV의 길이
+     * @param modified 목록과 일치하는 CSV의 수정 시각
+     * @param checksum 목록과 일치하는 CSV [0, length)의 CRC32
+     * @param dictionary CSV에 정의된 사전 문자열
+     * @param todos 기록할 Todo 목록
+     */
+    void write(long length, long modified, long checksum, List<String> dictionary, List<Todo> todos) {
+        Path temp = path.resolveSibling(path.getFileName() + "." + ProcessHandle.current().pid() + ".tmp");
+        try {
+            Buffer out = new Buffer(Math.max(1024, todos.size() * 96));
+            out.putInt(MAGIC).putInt(VERSION).putLong(length).putLong(modified).putLong(checksum);
+            out.putInt(dictionary.size());
+            for (String text : dictionary) {
+                out.putString(text);
+            }
+            out.putInt(todos.size());
+            Map<String, Integer> shared = new HashMap<>();
+            for (Todo todo : todos) {
+                writeTodo(out, todo, shared);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(out.bytes, 0, out.size);
+            out.putLong(crc.getValue());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer data = ByteBuffer.wrap(out.bytes, 0, out.size);
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // 임시 파일 정리 실패는 무시
+            }
+        }
+    }
+
+    private static Todo readTodo(ByteBuffer buffer, List<String> shared) {
+        String title = readString(buffer);
+        String description = readString(buffer);
+        boolean completed = buffer.get() != 0;
+        int due = buffer.getInt();
+        LocalDate dueDate = null;
+        if (due == -1) {
+            dueDate = LocalDate.ofEpochDay(buffer.getLong());
+        } else if (due != 0) {
+            dueDate = IsoDates.of(due / 10000, due / 100 % 100, due % 100);  // 같은 날짜는 인스턴스 공유
+        }
+        Todo todo = new Todo(title, description, dueDate, null);
+        todo.setCompleted(completed);
+        int metadataSize = buffer.getInt();
+        for (int i = 0; i < metadataSize; i++) {
+            String key = readShared(buffer, shared);
+            todo.setMetadataField(key, readShared(buffer, shared));
+        }
+        return todo;
+    }
+
+    private static void writeTodo(Buffer out, Todo todo, Map<String, Integer> shared) {
+        out.putString(todo.getTitle());
+        out.putString(todo.getDescription());
+        out.putByte(todo.isCompleted() ? 1 : 0);
+        LocalDate due = todo.getDueDate();
+        if (due == null) {
+            out.putInt(0);
+        } else if (due.getYear() > 0 && due.getYear() <= 9999) {
+            out.putInt(due.getYear() * 10000 + due.getMonthValue() * 100 + due.getDayOfMonth());
+        } else {
+            out.putInt(-1).putLong(due.toEpochDay());  // 네 자리가 아닌 연도
+        }
+        Map<String, String> metadata = todo.getMetadata();
+        out.putInt(metadata.size());
+        for (Map.Entry<String, String> e : metadata.entrySet()) {
+            writeShared(out, e.getKey(), shared);
+            writeShared(out, e.getValue(), shared);
+        }
+    }
+
+    private static void writeShared(Buffer out, String text, Map<String, Integer> shared) {
+        Integer index = shared.get(text);
+        if (index != null) {
+            out.putInt(index + 2);
+        } else if (text.length() <= MAX_SHARED_LENGTH && shared.size() < MAX_SHARED) {
+            shared.put(text, shared.size());
+            out.putInt(INLINE_SHARED);
+            out.putString(text);
+        } else {
+            out.putInt(INLINE);
+            out.putString(text);
+        }
+    }
+
+    private static String readShared(ByteBuffer buffer, List<String> shared) {
+        int tag = buffer.getInt();
+        if (tag >= 2) {
+            return shared.get(tag - 2);
+        }
+        String text = TodoCsvFormat.intern(readString(buffer));
+        if (tag == INLINE_SHARED) {
+            shared.add(text);
+        }
+        return text;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            String text = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return text;
+        }
+        byte[] bytes = SCRATCH.get();
+        if (bytes.length < length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+            SCRATCH.set(bytes);
+        }
+        buffer.get(bytes, 0, length);  // 매핑된 버퍼에서 임시 배열 하나를 재사용하여 복사
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 크기가 늘어나는 빅 엔디언 쓰기 버퍼
+     */
+    private static final class Buffer {
+        private byte[] bytes;
+        private int size;
+
+        Buffer(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        Buffer putInt(int value) {
+            ensure(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+            return this;
+        }
+
+        Buffer putLong(long value) {
+            return putInt((int) (value >>> 32)).putInt((int) value);
+        }
+
+        void putByte(int value) {
+            ensure(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void putString(String text) {
+            if (text == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+            putInt(encoded.length);
+            ensure(encoded.length);
+            System.arraycopy(encoded, 0, bytes, size, encoded.length);
+            size += encoded.length;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package todo.presentation;
+import todo.application.Recurrence;
+import todo.application.Reminder;
+import todo.application.TodoMetrics;
+import todo.application.TodoOrder;
+import todo.application.TodoOutline;
+import todo.application.TodoPage;
 import todo.application.TodoService;
+import todo.application.TodoStats;
 import todo.domain.Todo;
 import java.util.*;
 import java.time.LocalDate;
@@ -11,14 +18,29 @@ import java.time.LocalDate;
  */
 public class BasicTodoUI implements ITodoUI {
     private final TodoService todoService;
+    private final TodoMetrics metrics;  // null이면 통계 메뉴에서 안내만 표시
     private final Scanner scanner;
+    
+    private static final int PAGE_SIZE = 20;  // 정렬된 목록의 한 화면 항목 수
+    private static final int AGENDA_SIZE = 10;  // 일정 화면에 보여줄 항목 수
+    private static final int WEEK_DAYS = 7;  // 일정 화면의 회차 목록 기간
 
     /**
      * BasicTodoUI 생성자
      * @param todoService 비즈니스 로직을 처리할 서비스
      */
     public BasicTodoUI(TodoService todoService) {
+        this(todoService, null);
+    }
+
+    /**
+     * 작업 통계를 보여줄 수 있는 BasicTodoUI 생성자
+     * @param todoService 비즈니스 로직을 처리할 서비스
+     * @param metrics 통계 메뉴에 표시할 계측 결과 (null이면 표시하지 않음)
+     */
+    public BasicTodoUI(TodoService todoService, TodoMetrics metrics) {
         this.todoService = todoService;
+        this.metrics = metrics;
         this.scanner = new Scanner(System.in);
     }
 
@@ -52,7 +74,7 @@ public class BasicTodoUI implements ITodoUI {
 
     /**
      * 메인 메뉴를 표시합니다.
-     * 사용자가 선택할 수 있는 5가지 옵션을 보여줍니다.
+     * 사용자가 선택할 수 있는 8가지 옵션을 보여줍니다.
      */
     public void displayMenu() {
         System.out.println("\n📋 Please select a menu:");
@@ -60,7 +82,13 @@ public class BasicTodoUI implements ITodoUI {
         System.out.println("2. 📃 View Todo List");
         System.out.println("3. 🔄 Toggle Todo Status");
         System.out.println("4. ❌ Delete Todo");
-        System.out.println("5. 🚪 Exit Program");
+        System.out.println("5. ☑️ Bulk Actions");
+        System.out.println("6. 📊 Statistics");
+        System.out.println("7. 📅 Agenda (next due)");
+        System.out.println("8. 🚪 Exit Program");
+        if (!todoService.isReady()) {
+            System.out.println("⏳ Loading todos in the background...");
+        }
         System.out.print("Choice: ");
     }
 
@@ -70,6 +98,10 @@ public class BasicTodoUI implements ITodoUI {
      * @return 프로그램을 종료해야 하면 true, 계속 실행하면 false
      */
     private boolean handleChoice(String choice) {
+        if ("2".equals(choice) || "3".equals(choice) || "4".equals(choice) || "5".equals(choice)
+                || "6".equals(choice) || "stats".equals(choice) || "7".equals(choice) || "agenda".equals(choice)) {
+            waitForLoad();  // 추가(1)는 로드 중에도 대기열에 넣을 수 있음
+        }
         switch (choice) {
             case "1":
                 handleAddTodo();
@@ -84,9 +116,20 @@ public class BasicTodoUI implements ITodoUI {
                 handleDeleteTodo();
                 break;
             case "5":
+                handleBulkActions();
+                break;
+            case "6":
+            case "stats":
+                handleStats();
+                break;
+            case "7":
+            case "agenda":
+                handleAgenda();
+                break;
+            case "8":
                 return true;
             default:
-                System.out.println("❌ Invalid choice. Please enter a number between 1-5.\n");
+                System.out.println("❌ Invalid choice. Please enter a number between 1-8.\n");
         }
         return false;
     }
@@ -114,7 +157,33 @@ public class BasicTodoUI implements ITodoUI {
                 System.out.println("Invalid date format. Ignoring due date.");
             }
         }
-        todoService.addTodo(title, todoDescription, dueDate);
+        String repeat = "";
+        if (dueDate != null) {
+            System.out.print("🔁 Repeat (daily, weekly, monthly, yearly, 2w...) or leave blank: ");
+            repeat = scanner.nextLine().trim();
+            if (!repeat.isEmpty() && !Recurrence.isValid(repeat)) {
+                System.out.println("Invalid repeat rule. Adding a one-off todo.");
+                repeat = "";
+            }
+        }
+        System.out.print("🌳 Parent todo number (for a subtask) or leave blank: ");
+        Integer parent = parseIndex(scanner.nextLine());
+        Todo todo = new Todo(title, todoDescription, dueDate);
+        if (!repeat.isEmpty()) {
+            todo.setMetadataField(Recurrence.KEY, repeat);  // 회차마다 줄을 만들지 않고 규칙 하나로 저장
+        }
+        if (parent != null) {
+            if (!todoService.addSubtask(parent, todo)) {
+                System.out.println("❌ No todo with that number. Nothing added.");
+                System.out.println("\nPress Enter to continue...");
+                scanner.nextLine();
+                return;
+            }
+        } else if (repeat.isEmpty()) {
+            todoService.addTodo(title, todoDescription, dueDate);
+        } else {
+            todoService.addAll(List.of(todo));
+        }
         System.out.println("🎉 Todo added successfully! 🎉");
         System.out.println("\nPress Enter to continue...");
         scanner.nextLine();
@@ -142,13 +211,154 @@ public class BasicTodoUI implements ITodoUI {
         if (todoService.getTodoCount() == 0) {
             System.out.println("🌟 No todos yet! Add some new ones! 🌟");
         } else {
-            displayTodoList(todoService.getAllTodos());
+            System.out.print("Sort by (Enter: as added, d: due date, t: title, s: status, o: outline, r: ready): ");
+            String choice = scanner.nextLine();
+            TodoOrder order = parseOrder(choice);
+            if ("o".equalsIgnoreCase(choice.trim())) {
+                displayOutline(todoService.getOutline());
+            } else if ("r".equalsIgnoreCase(choice.trim())) {
+                handleReady();
+            } else if (order == null) {
+                displayTodoList(todoService.getAllTodos());
+            } else {
+                displaySortedPages(order);
+            }
         }
         
         System.out.println("\nPress Enter to continue...");
         scanner.nextLine();
     }
 
+    /**
+     * 하위 작업을 부모 아래에 들여 쓰고, 하위 작업이 있는 항목에는 완료/전체 개수를 붙여 표시합니다.
+     */
+    private void displayOutline(TodoOutline outline) {
+        for (int i = 0; i < outline.size(); i++) {
+            String badge = outline.getTotal(i) == 0 ? ""
+                    : String.format(" [%d/%d done]", outline.getDone(i), outline.getTotal(i));
+            System.out.printf("[%2d] %s%s%s%n", outline.getIndex(i), "  ".repeat(outline.getDepth(i)),
+                    outline.get(i), badge);
+        }
+    }
+
+    /**
+     * 먼저 끝내야 할 Todo가 모두 끝나 바로 시작할 수 있는 Todo를 표시하고, 선후 관계를 추가받습니다.
+     */
+    private void handleReady() {
+        TodoPage ready = todoService.getReady(PAGE_SIZE);
+        for (int i = 0; i < ready.size(); i++) {
+            System.out.printf("[%2d] %s%n", ready.getIndex(i), ready.get(i));
+        }
+        System.out.printf("-- %d of %d todos ready to work on --%n", ready.size(), ready.getTotal());
+        System.out.print("⛓ Make a todo wait for another (e.g. 3>5: 5 waits for 3) or leave blank: ");
+        String[] link = scanner.nextLine().split(">");
+        Integer blocker = link.length == 2 ? parseIndex(link[0]) : null;
+        Integer blocked = link.length == 2 ? parseIndex(link[1]) : null;
+        if (blocker == null || blocked == null) {
+            return;
+        }
+        if (todoService.addDependency(blocker, blocked)) {
+            System.out.printf("✅ [%d] now waits for [%d].%n", blocked, blocker);
+        } else {
+            System.out.println("❌ Invalid numbers, or that would create a cycle.");
+        }
+    }
+
+    /**
+     * 마감일이 가장 가까운 미완료 Todo를 표시합니다. (메뉴 7 또는 "agenda" 입력)
+     * 번호는 원래 목록의 인덱스이므로 토글/삭제에 그대로 쓸 수 있습니다.
+     */
+    private void handleAgenda() {
+        clearScreen();
+        System.out.println("================================");
+        System.out.println("        📅 AGENDA");
+        System.out.println("================================");
+
+        TodoPage agenda = todoService.getAgenda(AGENDA_SIZE);
+        if (agenda.size() == 0) {
+            System.out.println("🌴 Nothing due! No incomplete todos have a due date. 🌴");
+        } else {
+            LocalDate today = LocalDate.now();
+            for (int i = 0; i < agenda.size(); i++) {
+                Todo todo = agenda.get(i);
+                System.out.printf("%-10s [%2d] %s%n", dueLabel(todo.getDueDate(), today), agenda.getIndex(i), todo);
+            }
+            System.out.printf("-- %d of %d todos with a due date --%n", agenda.size(), agenda.getTotal());
+
+            TodoPage week = todoService.getOccurrences(today, today.plusDays(WEEK_DAYS - 1), AGENDA_SIZE);
+            System.out.println("\nNext " + WEEK_DAYS + " days:");
+            for (int i = 0; i < week.size(); i++) {
+                Todo todo = week.get(i);
+                String repeat = todo.getMetadataField(Recurrence.KEY) == null ? "" : " 🔁";
+                System.out.printf("%-10s [%2d] %s%s%n", todo.getDueDate(), week.getIndex(i), todo.getTitle(), repeat);
+            }
+            System.out.printf("-- %d of %d occurrences --%n", week.size(), week.getTotal());
+        }
+        System.out.println("\nPress Enter to continue...");
+        scanner.nextLine();
+    }
+
+    /**
+     * 마감까지 남은 날을 짧게 표시합니다. (예: "D-3", "Today", "3d late")
+     */
+    private static String dueLabel(LocalDate due, LocalDate today) {
+        long days = due.toEpochDay() - today.toEpochDay();
+        if (days == 0) {
+            return "Today";
+        }
+        return days > 0 ? "D-" + days : (-days) + "d late";
+    }
+
+    /**
+     * 정렬된 목록을 한 페이지씩 표시합니다. 번호는 원래 목록의 인덱스입니다.
+     */
+    private void displaySortedPages(TodoOrder order) {
+        int offset = 0;
+        while (true) {
+            TodoPage page = todoService.getSortedTodos(order, offset, PAGE_SIZE);
+            for (int i = 0; i < page.size(); i++) {
+                System.out.printf("[%2d] %s%n", page.getIndex(i), page.get(i));
+            }
+            if (!page.hasNext()) {
+                return;
+            }
+            offset += page.size();
+            System.out.printf("-- %d/%d -- Enter: next page, q: stop ", offset, page.getTotal());
+            if ("q".equalsIgnoreCase(scanner.nextLine().trim())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 번호 입력을 해석합니다.
+     * @return 번호, 빈 입력이나 숫자가 아니면 null
+     */
+    private static Integer parseIndex(String input) {
+        try {
+            return input.trim().isEmpty() ? null : Integer.valueOf(input.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 정렬 기준 입력을 해석합니다.
+     * @return 정렬 기준, 빈 입력이나 알 수 없는 입력이면 null (추가된 순서)
+     */
+    private static TodoOrder parseOrder(String input) {
+        switch (input.trim().toLowerCase()) {
+            case "d":
+                return TodoOrder.DUE_DATE;
+            case "t":
+                return TodoOrder.TITLE;
+            case "s":
+                return TodoOrder.STATUS;
+            default:
+                return null;
+        }
+    }
+
     /**
      * Todo의 완료 상태를 변경하는 기능을 처리합니다.
      * 미완료 Todo를 완료로, 완료된 Todo를 미완료로 변경할 수 있습니다.
@@ -226,7 +436,12 @@ public class BasicTodoUI implements ITodoUI {
             return;
         }
 
-        todoService.toggleTodo(todoIndex);
+        if (!todoService.toggleTodo(todoIndex)) {
+            System.out.println("⚠️ The list was changed by another process. Please check it and try again.");
+            System.out.println("\nPress Enter to continue...");
+            scanner.nextLine();
+            return;
+        }
         System.out.println("🎉 Todo marked as completed! 🎉");
         System.out.println("\nPress Enter to continue...");
         scanner.nextLine();
@@ -271,7 +486,12 @@ public class BasicTodoUI implements ITodoUI {
             return;
         }
 
-        todoService.toggleTodo(todoIndex);
+        if (!todoService.toggleTodo(todoIndex)) {
+            System.out.println("⚠️ The list was changed by another process. Please check it and try again.");
+            System.out.println("\nPress Enter to continue...");
+            scanner.nextLine();
+            return;
+        }
         System.out.println("🔄 Todo marked as incomplete! 🔄");
         System.out.println("\nPress Enter to continue...");
         scanner.nextLine();
@@ -307,12 +527,136 @@ public class BasicTodoUI implements ITodoUI {
             return;
         }
 
-        todoService.deleteTodo(todoIndex);
+        if (!todoService.deleteTodo(todoIndex)) {
+            System.out.println("⚠️ The list was changed by another process. Please check it and try again.");
+            System.out.println("\nPress Enter to continue...");
+            scanner.nextLine();
+            return;
+        }
         System.out.println("🎉 Todo deleted! 🎉");
         System.out.println("\nPress Enter to continue...");
         scanner.nextLine();
     }
 
+    /**
+     * 여러 Todo를 한 번에 처리하는 기능을 처리합니다.
+     * 번호 목록이나 범위(예: 0,2,5-7)로 여러 Todo를 골라 토글/삭제하거나,
+     * 전체 완료와 완료 항목 정리를 한 번의 저장으로 수행합니다.
+     */
+    private void handleBulkActions() {
+        clearScreen();
+        System.out.println("================================");
+        System.out.println("        ☑️ BULK ACTIONS");
+        System.out.println("================================");
+
+        int count = todoService.getTodoCount();
+        if (count == 0) {
+            System.out.println("❌ No todos available!");
+            System.out.println("\nPress Enter to continue...");
+            scanner.nextLine();
+            return;
+        }
+
+        displayTodoList(todoService.getAllTodos());
+        System.out.println("================================");
+        System.out.println("1. 🔄 Toggle selected todos");
+        System.out.println("2. ❌ Delete selected todos");
+        System.out.println("3. ✅ Complete all todos");
+        System.out.println("4. 🧹 Delete all completed todos");
+        System.out.print("Choice (1-4): ");
+        String choice = scanner.nextLine();
+
+        int changed;
+        switch (choice) {
+            case "1":
+            case "2":
+                System.out.print("Enter todo numbers (e.g. 0,2,5-7 or all): ");
+                Set<Integer> selected = Selection.parse(scanner.nextLine(), count);
+                if (selected == null) {
+                    System.out.println("Please enter valid numbers.");
+                    System.out.println("\nPress Enter to continue...");
+                    scanner.nextLine();
+                    return;
+                }
+                changed = "1".equals(choice) ? todoService.toggleAll(selected) : todoService.deleteAll(selected);
+                break;
+            case "3":
+                changed = todoService.completeAll();
+                break;
+            case "4":
+                changed = todoService.deleteCompleted();
+                break;
+            default:
+                System.out.println("❌ Invalid choice. Please enter a number between 1-4.");
+                System.out.println("\nPress Enter to continue...");
+                scanner.nextLine();
+                return;
+        }
+
+        if (changed == 0) {
+            System.out.println("⚠️ No todos were changed. The list may have been changed by another process.");
+        } else {
+            System.out.println("🎉 " + changed + " todo(s) updated! 🎉");
+        }
+        System.out.println("\nPress Enter to continue...");
+        scanner.nextLine();
+    }
+
+    /**
+     * 목록 집계와 서비스/저장소 작업별 호출 수, 지연 시간 통계를 표시합니다. (메뉴 6 또는 "stats" 입력)
+     */
+    private void handleStats() {
+        clearScreen();
+        System.out.println("================================");
+        System.out.println("        📊 STATISTICS");
+        System.out.println("================================");
+        TodoStats stats = todoService.getStats();
+        System.out.printf("Total: %d  Completed: %d  Incomplete: %d%n",
+                stats.getTotal(), stats.getCompleted(), stats.getIncomplete());
+        System.out.printf("Overdue: %d  Due in %d days: %d%n",
+                stats.getOverdue(), TodoStats.WEEK_DAYS, stats.getDueThisWeek());
+        System.out.println("Completed per day (last " + TodoStats.SERIES_DAYS + " days): "
+                + Arrays.toString(stats.getCompletedPerDay()));
+        for (String key : TodoStats.GROUP_KEYS) {
+            stats.getGroup(key).forEach((value, count) -> System.out.printf("  %s %s: %d open / %d%n",
+                    key, value, count.getIncomplete(), count.getTotal()));
+        }
+        if (metrics != null) {
+            System.out.println();
+            for (String line : metrics.report()) {
+                System.out.println(line);
+            }
+        }
+        System.out.println("\nPress Enter to continue...");
+        scanner.nextLine();
+    }
+
+    /**
+     * 백그라운드 로드가 끝날 때까지 경과 시간과 함께 진행 표시를 보여줍니다.
+     */
+    private void waitForLoad() {
+        if (todoService.isReady()) {
+            return;
+        }
+        String spinner = "|/-\\";
+        long start = System.nanoTime();
+        for (int i = 0; !todoService.awaitReady(100); i++) {
+            System.out.printf("\r⏳ Loading todos... %c %.1fs", spinner.charAt(i % spinner.length()),
+                    (System.nanoTime() - start) / 1e9);
+            System.out.flush();
+        }
+        System.out.println("\r✅ Todos loaded.                ");
+    }
+
+    /**
+     * 마감일 알림을 입력 줄 위에 한 줄로 표시합니다.
+     */
+    @Override
+    public void showReminder(Reminder reminder) {
+        System.out.println();
+        System.out.println((reminder.getKind() == Reminder.Kind.OVERDUE ? "⏰ " : "🔔 ") + reminder);
+    }
+
     /**
      * 종료 메시지를 표시합니다.
      */
@@ -1,8 +1,16 @@
 package todo.presentation;
+import todo.application.Recurrence;
+import todo.application.Reminder;
+import todo.application.TodoMetrics;
+import todo.application.TodoOrder;
+import todo.application.TodoOutline;
+import todo.application.TodoPage;
 import todo.application.TodoService;
+import todo.application.TodoStats;
 import todo.domain.Todo;
 import java.util.*;
 import java.time.LocalDate;
+import java.time.format.TextStyle;
 
 /**
  * 고급 Todo UI 구현 클래스
@@ -11,6 +19,7 @@ import java.time.LocalDate;
  */
 public class FancyTodoUI implements ITodoUI {
     private final TodoService todoService;
+    private final TodoMetrics metrics;  // null이면 통계 메뉴에서 안내만 표시
     private final Scanner scanner;
     
     // ANSI 색상 코드 상수들
@@ -24,13 +33,28 @@ public class FancyTodoUI implements ITodoUI {
     private static final String BLUE = "\033[94m";    // 파란색
     
     private static final int DEFAULT_WIDTH = 80;      // 기본 터미널 너비
+    private static final int PAGE_SIZE = 20;          // 정렬된 목록의 한 화면 항목 수
+    private static final int AGENDA_SIZE = 10;        // 일정 화면에 보여줄 항목 수
+    private static final int WEEK_DAYS = 7;           // 일정 화면의 회차 목록 기간
+    private static final int DASHBOARD_GROUPS = 5;    // 통계 화면에 보여줄 태그/담당자 수 (많은 순)
+    private static final String SPARKS = "▁▂▃▄▅▆▇█";   // 완료 추이 막대
 
     /**
      * FancyTodoUI 생성자
      * @param todoService 비즈니스 로직을 처리할 서비스
      */
     public FancyTodoUI(TodoService todoService) {
+        this(todoService, null);
+    }
+
+    /**
+     * 작업 통계를 보여줄 수 있는 FancyTodoUI 생성자
+     * @param todoService 비즈니스 로직을 처리할 서비스
+     * @param metrics 통계 메뉴에 표시할 계측 결과 (null이면 표시하지 않음)
+     */
+    public FancyTodoUI(TodoService todoService, TodoMetrics metrics) {
         this.todoService = todoService;
+        this.metrics = metrics;
         this.scanner = new Scanner(System.in);
     }
 
@@ -80,6 +104,8 @@ public class FancyTodoUI implements ITodoUI {
     }
 
     public void displayMenu() {
+        RenderFrameEvent frame = new RenderFrameEvent();
+        frame.begin();
         clearScreen();
         int width = getTerminalWidth();
         String topBorder = createBorder("╔", "═", "╗", width);
@@ -101,22 +127,34 @@ public class FancyTodoUI implements ITodoUI {
             "📋 2. View Todo List",
             "🔄 3. Toggle Todo Status",
             "❌ 4. Delete Todo",
-            "🚪 5. Exit Program"
+            "☑️ 5. Bulk Actions",
+            "📊 6. Statistics",
+            "📅 7. Agenda (next due)",
+            "🚪 8. Exit Program"
         };
 
-        String[] colors = {GREEN, YELLOW, PURPLE, RED, RED};
+        String[] colors = {GREEN, YELLOW, PURPLE, RED, BLUE, CYAN, YELLOW, RED};
         
         for (int i = 0; i < menuItems.length; i++) {
             String menuLine = createLeftAlignedLine("║", menuItems[i], "║", width, 4);
             System.out.println(BOLD + BLUE + "║" + BOLD + colors[i] + menuLine.substring(1, menuLine.length() - 1) + RESET + BLUE + "║" + RESET);
         }
         
+        if (!todoService.isReady()) {
+            String loadingLine = createLeftAlignedLine("║", "⏳ Loading todos in the background...", "║", width, 4);
+            System.out.println(BOLD + BLUE + "║" + YELLOW + loadingLine.substring(1, loadingLine.length() - 1) + BLUE + "║" + RESET);
+        }
         System.out.println(BOLD + BLUE + emptyLine + RESET);
         System.out.println(BOLD + BLUE + bottomBorder + RESET);
-        System.out.print(BOLD + CYAN + "✨ Choose (1-5): " + RESET);
+        System.out.print(BOLD + CYAN + "✨ Choose (1-8): " + RESET);
+        commitFrame(frame, "menu", menuItems.length, width);
     }
 
     private boolean handleChoice(String choice) {
+        if ("2".equals(choice) || "3".equals(choice) || "4".equals(choice) || "5".equals(choice)
+                || "6".equals(choice) || "stats".equals(choice) || "7".equals(choice) || "agenda".equals(choice)) {
+            waitForLoad();  // 추가(1)는 로드 중에도 대기열에 넣을 수 있음
+        }
         switch (choice) {
             case "1":
                 handleAddTodo();
@@ -131,9 +169,20 @@ public class FancyTodoUI implements ITodoUI {
                 handleDeleteTodo();
                 break;
             case "5":
+                handleBulkActions();
+                break;
+            case "6":
+            case "stats":
+                handleStats();
+                break;
+            case "7":
+            case "agenda":
+                handleAgenda();
+                break;
+            case "8":
                 return true;
             default:
-                System.out.println(RED + "❌ Invalid choice! Please enter 1-5." + RESET);
+                System.out.println(RED + "❌ Invalid choice! Please enter 1-8." + RESET);
                 pause();
         }
         return false;
@@ -166,7 +215,32 @@ public class FancyTodoUI implements ITodoUI {
                 System.out.println(BOLD + RED + "Invalid date format. Ignoring due date." + RESET);
             }
         }
-        todoService.addTodo(titleInput, todoDescription, dueDate);
+        String repeat = "";
+        if (dueDate != null) {
+            System.out.print(BOLD + YELLOW + "🔁 Repeat (daily, weekly, monthly, yearly, 2w...) or leave blank: " + RESET);
+            repeat = scanner.nextLine().trim();
+            if (!repeat.isEmpty() && !Recurrence.isValid(repeat)) {
+                System.out.println(BOLD + RED + "Invalid repeat rule. Adding a one-off todo." + RESET);
+                repeat = "";
+            }
+        }
+        System.out.print(BOLD + YELLOW + "🌳 Parent todo number (for a subtask) or leave blank: " + RESET);
+        Integer parent = parseIndex(scanner.nextLine());
+        Todo todo = new Todo(titleInput, todoDescription, dueDate);
+        if (!repeat.isEmpty()) {
+            todo.setMetadataField(Recurrence.KEY, repeat);  // 회차마다 줄을 만들지 않고 규칙 하나로 저장
+        }
+        if (parent != null) {
+            if (!todoService.addSubtask(parent, todo)) {
+                System.out.println(BOLD + RED + "❌ No todo with that number. Nothing added." + RESET);
+                pause();
+                return;
+            }
+        } else if (repeat.isEmpty()) {
+            todoService.addTodo(titleInput, todoDescription, dueDate);
+        } else {
+            todoService.addAll(List.of(todo));
+        }
         System.out.println(BOLD + GREEN + "🎉 Todo added successfully! 🎉" + RESET);
         pause();
     }
@@ -189,7 +263,18 @@ public class FancyTodoUI implements ITodoUI {
         if (todoService.getTodoCount() == 0) {
             System.out.println(BOLD + CYAN + "🌟 No todos yet! Add some new ones! 🌟" + RESET);
         } else {
-            displayFormattedTodos(width);
+            System.out.print(BOLD + YELLOW + "🔀 Sort by (Enter: as added, d: due date, t: title, s: status, o: outline, r: ready): " + RESET);
+            String choice = scanner.nextLine();
+            TodoOrder order = parseOrder(choice);
+            if ("o".equalsIgnoreCase(choice.trim())) {
+                displayFormattedOutline(width);
+            } else if ("r".equalsIgnoreCase(choice.trim())) {
+                displayFormattedReady(width);
+            } else if (order == null) {
+                displayFormattedTodos(width);
+            } else {
+                displayFormattedPages(order, width);
+            }
         }
         System.out.println();
         pause();
@@ -288,7 +373,11 @@ public class FancyTodoUI implements ITodoUI {
             return;
         }
 
-        todoService.toggleTodo(todoIndex);
+        if (!todoService.toggleTodo(todoIndex)) {
+            System.out.println(BOLD + RED + "⚠️ The list was changed by another process. Please check it and try again." + RESET);
+            pause();
+            return;
+        }
         System.out.println(BOLD + GREEN + "🎉 Todo marked as completed! 🎉" + RESET);
         pause();
     }
@@ -326,7 +415,11 @@ public class FancyTodoUI implements ITodoUI {
             return;
         }
 
-        todoService.toggleTodo(todoIndex);
+        if (!todoService.toggleTodo(todoIndex)) {
+            System.out.println(BOLD + RED + "⚠️ The list was changed by another process. Please check it and try again." + RESET);
+            pause();
+            return;
+        }
         System.out.println(BOLD + PURPLE + "🔄 Todo marked as incomplete! 🔄" + RESET);
         pause();
     }
@@ -355,11 +448,242 @@ public class FancyTodoUI implements ITodoUI {
             return;
         }
 
-        todoService.deleteTodo(todoIndex);
+        if (!todoService.deleteTodo(todoIndex)) {
+            System.out.println(BOLD + RED + "⚠️ The list was changed by another process. Please check it and try again." + RESET);
+            pause();
+            return;
+        }
         System.out.println(BOLD + GREEN + "🎉 Todo deleted! 🎉" + RESET);
         pause();
     }
 
+    private void handleBulkActions() {
+        clearScreen();
+        int width = getTerminalWidth();
+        String topBorder = createBorder("╔", "═", "╗", width);
+        String bottomBorder = createBorder("╚", "═", "╝", width);
+
+        System.out.println(BOLD + BLUE + topBorder + RESET);
+        String title = "☑️ BULK ACTIONS ☑️";
+        String titleLine = createCenteredLine("║", title, "║", width);
+        System.out.println(BOLD + BLUE + "║" + titleLine.substring(1, titleLine.length() - 1) + "║" + RESET);
+        System.out.println(BOLD + BLUE + bottomBorder + RESET);
+
+        int count = todoService.getTodoCount();
+        if (count == 0) {
+            System.out.println(BOLD + RED + "❌ No todos available!" + RESET);
+            pause();
+            return;
+        }
+
+        displayFormattedTodos(width);
+        System.out.println();
+        System.out.println(BOLD + BLUE + topBorder + RESET);
+        String[] actions = {
+            "🔄 1. Toggle selected todos",
+            "❌ 2. Delete selected todos",
+            "✅ 3. Complete all todos",
+            "🧹 4. Delete all completed todos"
+        };
+        String[] actionColors = {PURPLE, RED, GREEN, YELLOW};
+        for (int i = 0; i < actions.length; i++) {
+            String actionLine = createLeftAlignedLine("║", actions[i], "║", width, 4);
+            System.out.println(BOLD + BLUE + "║" + BOLD + actionColors[i] + actionLine.substring(1, actionLine.length() - 1) + RESET + BLUE + "║" + RESET);
+        }
+        System.out.println(BOLD + BLUE + bottomBorder + RESET);
+        System.out.print(BOLD + CYAN + "✨ Choose (1-4): " + RESET);
+        String choice = scanner.nextLine();
+
+        int changed;
+        switch (choice) {
+            case "1":
+            case "2":
+                System.out.print(BOLD + YELLOW + "⚡ Enter todo numbers (e.g. 0,2,5-7 or all): " + RESET);
+                Set<Integer> selected = Selection.parse(scanner.nextLine(), count);
+                if (selected == null) {
+                    System.out.println(BOLD + RED + "❌ Please enter valid numbers!" + RESET);
+                    pause();
+                    return;
+                }
+                changed = "1".equals(choice) ? todoService.toggleAll(selected) : todoService.deleteAll(selected);
+                break;
+            case "3":
+                changed = todoService.completeAll();
+                break;
+            case "4":
+                changed = todoService.deleteCompleted();
+                break;
+            default:
+                System.out.println(BOLD + RED + "❌ Invalid choice. Please enter 1-4." + RESET);
+                pause();
+                return;
+        }
+
+        if (changed == 0) {
+            System.out.println(BOLD + YELLOW + "⚠️ No todos were changed. The list may have been changed by another process." + RESET);
+        } else {
+            System.out.println(BOLD + GREEN + "🎉 " + changed + " todo(s) updated! 🎉" + RESET);
+        }
+        pause();
+    }
+
+    private void handleStats() {
+        clearScreen();
+        int width = getTerminalWidth();
+        String topBorder = createBorder("╔", "═", "╗", width);
+        String bottomBorder = createBorder("╚", "═", "╝", width);
+
+        System.out.println(BOLD + CYAN + topBorder + RESET);
+        String title = "📊 STATISTICS 📊";
+        String titleLine = createCenteredLine("║", title, "║", width);
+        System.out.println(BOLD + CYAN + "║" + titleLine.substring(1, titleLine.length() - 1) + "║" + RESET);
+        System.out.println(BOLD + CYAN + bottomBorder + RESET);
+
+        RenderFrameEvent frame = new RenderFrameEvent();
+        frame.begin();
+        int rows = displayDashboard(todoService.getStats(), width);
+        commitFrame(frame, "stats", rows, width);
+
+        if (metrics != null) {
+            System.out.println();
+            String[] lines = metrics.report();
+            System.out.println(BOLD + PURPLE + lines[0] + RESET);  // 머리글
+            for (int i = 1; i < lines.length; i++) {
+                System.out.println((i % 2 == 0 ? BLUE : GREEN) + lines[i] + RESET);
+            }
+        }
+        System.out.println();
+        pause();
+    }
+
+    /**
+     * 마감일이 가장 가까운 미완료 Todo를 마감까지 남은 날과 함께 표시 (번호는 원래 목록의 인덱스)
+     */
+    private void handleAgenda() {
+        clearScreen();
+        int width = getTerminalWidth();
+        String topBorder = createBorder("╔", "═", "╗", width);
+        String bottomBorder = createBorder("╚", "═", "╝", width);
+        String middleBorder = createBorder("╠", "═", "╣", width);
+
+        System.out.println(BOLD + YELLOW + topBorder + RESET);
+        String title = "📅 AGENDA 📅";
+        String titleLine = createCenteredLine("║", title, "║", width);
+        System.out.println(BOLD + YELLOW + "║" + titleLine.substring(1, titleLine.length() - 1) + "║" + RESET);
+        System.out.println(BOLD + YELLOW + bottomBorder + RESET);
+        System.out.println();
+
+        RenderFrameEvent frame = new RenderFrameEvent();
+        frame.begin();
+        TodoPage agenda = todoService.getAgenda(AGENDA_SIZE);
+        int rows = agenda.size();
+        if (agenda.size() == 0) {
+            System.out.println(BOLD + CYAN + "🌴 Nothing due! No incomplete todos have a due date. 🌴" + RESET);
+        } else {
+            LocalDate today = LocalDate.now();
+            System.out.println(BOLD + GREEN + topBorder + RESET);
+            for (int i = 0; i < agenda.size(); i++) {
+                Todo todo = agenda.get(i);
+                long days = todo.getDueDate().toEpochDay() - today.toEpochDay();
+                String label = days == 0 ? "Today" : days > 0 ? "D-" + days : (-days) + "d late";
+                String todoText = String.format("%-9s [%2d] %s", label, agenda.getIndex(i), todo.toString());
+                String todoLine = createLeftAlignedLine("║", todoText, "║", width, 2);
+                String color = days < 0 ? RED : days == 0 ? YELLOW : GREEN;
+                System.out.println(BOLD + GREEN + "║" + color + todoLine.substring(1, todoLine.length() - 1) + GREEN + "║" + RESET);
+                if (i < agenda.size() - 1) {
+                    System.out.println(BOLD + GREEN + middleBorder + RESET);
+                }
+            }
+            System.out.println(BOLD + GREEN + bottomBorder + RESET);
+            System.out.println(BOLD + CYAN + "📅 " + agenda.size() + " of " + agenda.getTotal() + " todos with a due date" + RESET);
+            rows += displayWeek(today, width);
+        }
+        commitFrame(frame, "agenda", rows, width);
+        System.out.println();
+        pause();
+    }
+
+    /**
+     * 앞으로 일주일의 회차를 날짜별로 그림 (반복 Todo는 회차마다 한 줄, 🔁 표시)
+     * @return 그린 회차 수
+     */
+    private int displayWeek(LocalDate today, int width) {
+        TodoPage week = todoService.getOccurrences(today, today.plusDays(WEEK_DAYS - 1), AGENDA_SIZE);
+        System.out.println();
+        System.out.println(BOLD + PURPLE + "🗓  Next " + WEEK_DAYS + " days" + RESET);
+        System.out.println(BOLD + PURPLE + createBorder("╔", "═", "╗", width) + RESET);
+        for (int i = 0; i < week.size(); i++) {
+            Todo todo = week.get(i);
+            String repeat = todo.getMetadataField(Recurrence.KEY) == null ? "" : " 🔁 " + todo.getMetadataField(Recurrence.KEY);
+            String text = String.format("%s %-3s [%2d] %s%s", todo.getDueDate(),
+                    todo.getDueDate().getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH),
+                    week.getIndex(i), todo.getTitle(), repeat);
+            String line = createLeftAlignedLine("║", text, "║", width, 2);
+            System.out.println(BOLD + PURPLE + "║" + RESET + line.substring(1, line.length() - 1) + BOLD + PURPLE + "║" + RESET);
+        }
+        System.out.println(BOLD + PURPLE + createBorder("╚", "═", "╝", width) + RESET);
+        System.out.println(BOLD + CYAN + "🗓  " + week.size() + " of " + week.getTotal() + " occurrences" + RESET);
+        return week.size();
+    }
+
+    /**
+     * 집계 카드(전체/완료/미완료/마감 지남/이번 주), 완료율 막대, 최근 완료 추이, 태그/담당자별 개수를 그림
+     * @return 그린 표의 줄 수
+     */
+    private int displayDashboard(TodoStats stats, int width) {
+        String topBorder = createBorder("╔", "═", "╗", width);
+        String middleBorder = createBorder("╠", "═", "╣", width);
+        String bottomBorder = createBorder("╚", "═", "╝", width);
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("📋 Total %d   ✅ Completed %d   ⏳ Incomplete %d",
+                stats.getTotal(), stats.getCompleted(), stats.getIncomplete()));
+        lines.add(String.format("🔥 Overdue %d   📅 Due in %d days %d",
+                stats.getOverdue(), TodoStats.WEEK_DAYS, stats.getDueThisWeek()));
+        int percent = stats.getTotal() == 0 ? 0 : (int) (100L * stats.getCompleted() / stats.getTotal());
+        int barWidth = Math.max(10, Math.min(40, width - 30));
+        int filled = barWidth * percent / 100;
+        lines.add("Done " + repeatString("█", filled) + repeatString("░", barWidth - filled) + " " + percent + "%");
+        int[] series = stats.getCompletedPerDay();
+        int peak = Arrays.stream(series).max().orElse(0);
+        StringBuilder spark = new StringBuilder();
+        for (int count : series) {
+            spark.append(count == 0 ? '·' : SPARKS.charAt((SPARKS.length() - 1) * count / Math.max(1, peak)));
+        }
+        lines.add("Completed, last " + series.length + " days  " + spark + "  (today " + series[series.length - 1] + ")");
+        int separator = lines.size();
+        for (String key : TodoStats.GROUP_KEYS) {
+            Map<String, TodoStats.Count> group = stats.getGroup(key);
+            List<Map.Entry<String, TodoStats.Count>> top = new ArrayList<>(group.entrySet());
+            top.sort((a, b) -> Integer.compare(b.getValue().getTotal(), a.getValue().getTotal()));
+            for (Map.Entry<String, TodoStats.Count> e : top.subList(0, Math.min(DASHBOARD_GROUPS, top.size()))) {
+                lines.add(String.format("%-6s %-20s %5d open / %5d", key, e.getKey(),
+                        e.getValue().getIncomplete(), e.getValue().getTotal()));
+            }
+        }
+
+        System.out.println(BOLD + GREEN + topBorder + RESET);
+        for (int i = 0; i < lines.size(); i++) {
+            if (i == separator) {
+                System.out.println(BOLD + GREEN + middleBorder + RESET);
+            }
+            String line = createLeftAlignedLine("║", lines.get(i), "║", width, 2);
+            String color = i == 1 && stats.getOverdue() > 0 ? RED : i < separator ? YELLOW : CYAN;
+            System.out.println(BOLD + GREEN + "║" + color + line.substring(1, line.length() - 1) + GREEN + "║" + RESET);
+        }
+        System.out.println(BOLD + GREEN + bottomBorder + RESET);
+        return lines.size();
+    }
+
+    /**
+     * 마감일 알림을 종소리와 함께 눈에 띄게 표시 (마감 지남은 빨강, 당일은 노랑)
+     */
+    @Override
+    public void showReminder(Reminder reminder) {
+        boolean overdue = reminder.getKind() == Reminder.Kind.OVERDUE;
+        System.out.println();
+        System.out.println("\007" + BOLD + (overdue ? RED + "⏰ " : YELLOW + "🔔 ") + reminder + RESET);
+    }
+
     public void displayGoodbye() {
         clearScreen();
         int width = getTerminalWidth();
@@ -387,7 +711,32 @@ public class FancyTodoUI implements ITodoUI {
         System.out.println();
     }
 
+    /**
+     * 백그라운드 로드가 끝날 때까지 진행 막대와 경과 시간을 보여줍니다.
+     * 전체 크기를 모르므로 막대는 좌우로 움직이는 표시입니다.
+     */
+    private void waitForLoad() {
+        if (todoService.isReady()) {
+            return;
+        }
+        int barWidth = 20;
+        long start = System.nanoTime();
+        for (int i = 0; !todoService.awaitReady(100); i++) {
+            int position = i % (2 * (barWidth - 3));
+            if (position > barWidth - 3) {
+                position = 2 * (barWidth - 3) - position;  // 끝에 닿으면 되돌아감
+            }
+            String bar = repeatString("░", position) + "███" + repeatString("░", barWidth - 3 - position);
+            System.out.printf("\r" + BOLD + CYAN + "⏳ Loading todos " + PURPLE + "%s" + CYAN + " %.1fs" + RESET,
+                    bar, (System.nanoTime() - start) / 1e9);
+            System.out.flush();
+        }
+        System.out.println("\r" + BOLD + GREEN + "✅ Todos loaded!" + repeatString(" ", barWidth + 16) + RESET);
+    }
+
     private void displayFormattedTodos(int width) {
+        RenderFrameEvent frame = new RenderFrameEvent();
+        frame.begin();
         List<Todo> todos = todoService.getAllTodos();
         String topBorder = createBorder("╔", "═", "╗", width);
         String bottomBorder = createBorder("╚", "═", "╝", width);
@@ -406,9 +755,135 @@ public class FancyTodoUI implements ITodoUI {
         }
         
         System.out.println(BOLD + GREEN + bottomBorder + RESET);
+        commitFrame(frame, "todos", todos.size(), width);
+    }
+    
+    /**
+     * 하위 작업을 트리 선으로 들여 쓰고, 하위 작업이 있는 항목에 "3/7 done" 배지와 진행 막대를 붙여 표시
+     * 배지는 서비스가 유지하는 자손 개수를 그대로 쓰므로 자손을 다시 세지 않습니다.
+     */
+    private void displayFormattedOutline(int width) {
+        RenderFrameEvent frame = new RenderFrameEvent();
+        frame.begin();
+        TodoOutline outline = todoService.getOutline();
+        String topBorder = createBorder("╔", "═", "╗", width);
+        String bottomBorder = createBorder("╚", "═", "╝", width);
+        System.out.println(BOLD + GREEN + topBorder + RESET);
+        for (int i = 0; i < outline.size(); i++) {
+            int depth = outline.getDepth(i);
+            String branch = depth == 0 ? "" : repeatString("   ", depth - 1) + "└─ ";
+            String badge = "";
+            String color = GREEN;
+            if (outline.getTotal(i) > 0) {
+                int done = outline.getDone(i);
+                int total = outline.getTotal(i);
+                int filled = 5 * done / total;
+                badge = String.format("  %s %d/%d done", repeatString("■", filled) + repeatString("□", 5 - filled), done, total);
+                color = done == total ? CYAN : YELLOW;
+            }
+            String text = String.format("[%2d] %s%s%s", outline.getIndex(i), branch, outline.get(i), badge);
+            String line = createLeftAlignedLine("║", text, "║", width, 2);
+            System.out.println(BOLD + GREEN + "║" + color + line.substring(1, line.length() - 1) + GREEN + "║" + RESET);
+        }
+        System.out.println(BOLD + GREEN + bottomBorder + RESET);
+        commitFrame(frame, "outline", outline.size(), width);
+    }
+    
+    /**
+     * 바로 시작할 수 있는 Todo(미완료 선행 Todo가 없음)를 선후 순서로 표시하고, 선후 관계를 추가받음
+     */
+    private void displayFormattedReady(int width) {
+        RenderFrameEvent frame = new RenderFrameEvent();
+        frame.begin();
+        TodoPage ready = todoService.getReady(PAGE_SIZE);
+        String topBorder = createBorder("╔", "═", "╗", width);
+        String bottomBorder = createBorder("╚", "═", "╝", width);
+        System.out.println(BOLD + CYAN + topBorder + RESET);
+        for (int i = 0; i < ready.size(); i++) {
+            String line = createLeftAlignedLine("║", String.format("▶ [%2d] %s", ready.getIndex(i), ready.get(i)), "║", width, 2);
+            System.out.println(BOLD + CYAN + "║" + GREEN + line.substring(1, line.length() - 1) + CYAN + "║" + RESET);
+        }
+        System.out.println(BOLD + CYAN + bottomBorder + RESET);
+        commitFrame(frame, "ready", ready.size(), width);
+        System.out.println(BOLD + CYAN + "▶ " + ready.size() + " of " + ready.getTotal() + " todos ready to work on" + RESET);
+        System.out.print(BOLD + YELLOW + "⛓ Make a todo wait for another (e.g. 3>5: 5 waits for 3) or leave blank: " + RESET);
+        String[] link = scanner.nextLine().split(">");
+        Integer blocker = link.length == 2 ? parseIndex(link[0]) : null;
+        Integer blocked = link.length == 2 ? parseIndex(link[1]) : null;
+        if (blocker == null || blocked == null) {
+            return;
+        }
+        if (todoService.addDependency(blocker, blocked)) {
+            System.out.println(BOLD + GREEN + "✅ [" + blocked + "] now waits for [" + blocker + "]." + RESET);
+        } else {
+            System.out.println(BOLD + RED + "❌ Invalid numbers, or that would create a cycle." + RESET);
+        }
+    }
+    
+    /**
+     * 정렬된 목록을 한 페이지씩 표 형식으로 표시 (번호는 원래 목록의 인덱스)
+     */
+    private void displayFormattedPages(TodoOrder order, int width) {
+        String topBorder = createBorder("╔", "═", "╗", width);
+        String bottomBorder = createBorder("╚", "═", "╝", width);
+        String middleBorder = createBorder("╠", "═", "╣", width);
+        int offset = 0;
+        while (true) {
+            RenderFrameEvent frame = new RenderFrameEvent();
+            frame.begin();
+            TodoPage page = todoService.getSortedTodos(order, offset, PAGE_SIZE);
+            System.out.println(BOLD + GREEN + topBorder + RESET);
+            for (int i = 0; i < page.size(); i++) {
+                String todoText = String.format("[%2d] %s", page.getIndex(i), page.get(i).toString());
+                String todoLine = createLeftAlignedLine("║", todoText, "║", width, 2);
+                System.out.println(BOLD + GREEN + "║" + todoLine.substring(1, todoLine.length() - 1) + "║" + RESET);
+                if (i < page.size() - 1) {
+                    System.out.println(BOLD + GREEN + middleBorder + RESET);
+                }
+            }
+            System.out.println(BOLD + GREEN + bottomBorder + RESET);
+            commitFrame(frame, "sorted", page.size(), width);
+            if (!page.hasNext()) {
+                return;
+            }
+            offset += page.size();
+            System.out.print(BOLD + CYAN + "📄 " + offset + "/" + page.getTotal() + " — Enter: next page, q: stop " + RESET);
+            if ("q".equalsIgnoreCase(scanner.nextLine().trim())) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * 번호 입력 해석 (빈 입력이나 숫자가 아니면 null)
+     */
+    private static Integer parseIndex(String input) {
+        try {
+            return input.trim().isEmpty() ? null : Integer.valueOf(input.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 정렬 기준 입력 해석 (빈 입력이나 알 수 없는 입력이면 null = 추가된 순서)
+     */
+    private static TodoOrder parseOrder(String input) {
+        switch (input.trim().toLowerCase()) {
+            case "d":
+                return TodoOrder.DUE_DATE;
+            case "t":
+                return TodoOrder.TITLE;
+            case "s":
+                return TodoOrder.STATUS;
+            default:
+                return null;
+        }
     }
     
     private void displayFormattedIncompleteTodos(int width) {
+        RenderFrameEvent frame = new RenderFrameEvent();
+        frame.begin();
         List<Todo> allTodos = todoService.getAllTodos();
         String topBorder = createBorder("╔", "═", "╗", width);
         String bottomBorder = createBorder("╚", "═", "╝", width);
@@ -418,6 +893,7 @@ public class FancyTodoUI implements ITodoUI {
         
         boolean hasIncomplete = false;
         boolean firstItem = true;
+        int rows = 0;
         
         for (int i = 0; i < allTodos.size(); i++) {
             Todo todo = allTodos.get(i);
@@ -430,6 +906,7 @@ public class FancyTodoUI implements ITodoUI {
                 System.out.println(BOLD + GREEN + "║" + todoLine.substring(1, todoLine.length() - 1) + "║" + RESET);
                 hasIncomplete = true;
                 firstItem = false;
+                rows++;
             }
         }
         
@@ -440,9 +917,12 @@ public class FancyTodoUI implements ITodoUI {
         }
         
         System.out.println(BOLD + GREEN + bottomBorder + RESET);
+        commitFrame(frame, "incomplete", rows, width);
     }
     
     private void displayFormattedCompletedTodos(int width) {
+        RenderFrameEvent frame = new RenderFrameEvent();
+        frame.begin();
         List<Todo> allTodos = todoService.getAllTodos();
         String topBorder = createBorder("╔", "═", "╗", width);
         String bottomBorder = createBorder("╚", "═", "╝", width);
@@ -452,6 +932,7 @@ public class FancyTodoUI implements ITodoUI {
         
         boolean hasCompleted = false;
         boolean firstItem = true;
+        int rows = 0;
         
         for (int i = 0; i < allTodos.size(); i++) {
             Todo todo = allTodos.get(i);
@@ -464,6 +945,7 @@ public class FancyTodoUI implements ITodoUI {
                 System.out.println(BOLD + GREEN + "║" + todoLine.substring(1, todoLine.length() - 1) + "║" + RESET);
                 hasCompleted = true;
                 firstItem = false;
+                rows++;
             }
         }
         
@@ -474,6 +956,19 @@ public class FancyTodoUI implements ITodoUI {
         }
         
         System.out.println(BOLD + GREEN + bottomBorder + RESET);
+        commitFrame(frame, "completed", rows, width);
+    }
+    
+    /**
+     * 화면 그리기 JFR 이벤트를 마무리 (기록 중이 아니면 아무것도 하지 않음)
+     */
+    private void commitFrame(RenderFrameEvent frame, String screen, int rows, int width) {
+        if (frame.shouldCommit()) {
+            frame.screen = screen;
+            frame.rows = rows;
+            frame.width = width;
+            frame.commit();
+        }
     }
     
     private String getTodoAt(int index) {
@@ -1,5 +1,7 @@
 package todo.presentation;
 
+import todo.application.Reminder;
+
 /**
  * Todo 사용자 인터페이스의 공통 계약을 정의하는 인터페이스
  * 
@@ -41,4 +43,10 @@ public interface ITodoUI {
      * Todo 상태 토글 기능을 처리
      */
     void handleToggleTodo();
+    
+    /**
+     * 마감일 알림을 표시 (알림 스케줄러 스레드에서 호출되므로 입력을 기다리는 중에도 바로 출력)
+     * @param reminder 전달된 알림
+     */
+    void showReminder(Reminder reminder);
 }
\ No newline at end of file
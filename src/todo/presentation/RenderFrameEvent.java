@@ -0,0 +1,28 @@
+package todo.presentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * FancyTodoUI가 화면(메뉴 또는 Todo 목록 표) 하나를 그리는 데 걸린 시간을 나타내는 JFR 이벤트
+ * 터미널 너비 조회(tput 실행)와 목록 조회도 포함하므로, 느린 화면이 어디서 시간을 쓰는지 함께 볼 수 있습니다.
+ */
+@Name("todo.Render")
+@Label("Todo Render Frame")
+@Category({"Todo", "UI"})
+@Description("FancyTodoUI 화면 하나 그리기")
+final class RenderFrameEvent extends Event {
+    @Label("Screen")
+    String screen;
+
+    @Label("Rows")
+    @Description("그린 Todo 줄 수 (메뉴는 메뉴 항목 수)")
+    int rows;
+
+    @Label("Width")
+    @Description("터미널 너비 (문자 수)")
+    int width;
+}
@@ -0,0 +1,50 @@
+package todo.presentation;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 여러 Todo를 고르는 입력("0,2,5-7" 또는 "all")을 인덱스 집합으로 해석하는 도우미
+ * 두 UI의 다중 선택 메뉴가 함께 사용합니다.
+ */
+final class Selection {
+    private Selection() {
+    }
+
+    /**
+     * 선택 입력을 해석
+     * @param input 콤마로 구분한 인덱스와 범위(a-b), 또는 전체를 뜻하는 "all"
+     * @param size 목록 크기 (범위 밖의 인덱스는 오류)
+     * @return 선택한 인덱스들 (입력 순서 유지), 잘못된 입력이면 null
+     */
+    static Set<Integer> parse(String input, int size) {
+        Set<Integer> selected = new LinkedHashSet<>();
+        String trimmed = input.trim();
+        if ("all".equalsIgnoreCase(trimmed)) {
+            for (int i = 0; i < size; i++) {
+                selected.add(i);
+            }
+            return selected;
+        }
+        try {
+            for (String part : trimmed.split(",")) {
+                String token = part.trim();
+                if (token.isEmpty()) {
+                    continue;
+                }
+                int dash = token.indexOf('-', 1);
+                int from = Integer.parseInt((dash < 0 ? token : token.substring(0, dash)).trim());
+                int to = dash < 0 ? from : Integer.parseInt(token.substring(dash + 1).trim());
+                if (from < 0 || to < from || to >= size) {
+                    return null;
+                }
+                for (int i = from; i <= to; i++) {
+                    selected.add(i);
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return selected.isEmpty() ? null : selected;
+    }
+}